@@ -0,0 +1,80 @@
+package benchmark;
+
+import interface_adapter.outbound.calendar.IcsCalendarRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import use_case.dto.CalendarExportRequest;
+import use_case.dto.CalendarExportResponse;
+import use_case.dto.CalendarRenderRequest;
+import use_case.dto.CalendarRenderResult;
+import use_case.port.outgoing.CalendarExportOutputPort;
+import use_case.service.CalendarExportService;
+import use_case.service.PreviewType;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calendar export of every course: the whole use case (repository reads, event conversion and
+ * ICS rendering), the preview lines, and the renderer on its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarExportBenchmark {
+    private static final String TIMEZONE = "America/Toronto";
+
+    private CalendarExportService service;
+    private IcsCalendarRenderer renderer;
+    private CalendarExportRequest exportRequest;
+    private CalendarRenderRequest renderRequest;
+
+    @Setup
+    public void setUp(CourseLoadFixture fixture) {
+        renderer = new IcsCalendarRenderer();
+        service = new CalendarExportService(fixture.assessmentRepository, fixture.scheduleEventRepository,
+                renderer, new CalendarExportOutputPort() {
+                    @Override
+                    public void presentExport(CalendarExportResponse response) {
+                        // Nothing is saved, so nothing is recorded as exported
+                        service.discardExport(response);
+                    }
+
+                    @Override
+                    public void presentError(String errorMessage) {
+                        throw new IllegalStateException(errorMessage);
+                    }
+                });
+        exportRequest = new CalendarExportRequest(CourseLoadFixture.USER_ID, TIMEZONE, fixture.courseIds,
+                null, null, List.of(), "benchmark");
+        renderRequest = new CalendarRenderRequest("-//MARBLE//Benchmark//EN", ZoneId.of(TIMEZONE), "benchmark",
+                fixture.events);
+    }
+
+    @Benchmark
+    public CalendarExportResponse exportCalendar() {
+        return service.exportCalendar(exportRequest);
+    }
+
+    @Benchmark
+    public List<String> generatePreviewTexts() {
+        return service.generatePreviewTexts(exportRequest, PreviewType.ALL);
+    }
+
+    @Benchmark
+    public CalendarRenderResult render() {
+        return renderer.render(renderRequest);
+    }
+}
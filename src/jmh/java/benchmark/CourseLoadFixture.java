@@ -0,0 +1,190 @@
+package benchmark;
+
+import data_access.persistence.sqlite.MigrationRunner;
+import data_access.persistence.sqlite.Signup;
+import data_access.persistence.sqlite.SqliteConnectionProvider;
+import entity.Assessment;
+import entity.AssessmentType;
+import entity.Course;
+import entity.ScheduleEvent;
+import entity.SourceKind;
+import entity.TaskStatus;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import use_case.repository.AssessmentRepository;
+import use_case.repository.CourseRepository;
+import use_case.repository.InMemoryAssessmentRepository;
+import use_case.repository.InMemoryCourseRepository;
+import use_case.repository.ScheduleEventRepository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One user's courses, assessments and schedule events, loaded into the chosen storage before
+ * each trial.
+ *
+ * <p>Core functionalities:
+ * <ul>
+ *   <li>courses x assessmentsPerCourse assessments; half of each course is graded, the rest are
+ *       still open, and the task statuses cycle through every {@link TaskStatus}</li>
+ *   <li>storage=memory: the in-memory repositories</li>
+ *   <li>storage=sqlite: the SQLite repositories on a migrated temp database file, without the
+ *       assessment cache so that every call reaches the database</li>
+ *   <li>One schedule event per assessment, both stored and kept in {@link #events}</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class CourseLoadFixture {
+    static final String USER_ID = "bench-user";
+    private static final Instant TERM_START = Instant.parse("2026-01-05T14:00:00Z");
+    private static final AssessmentType[] TYPES = AssessmentType.values();
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    @Param({"5", "20"})
+    public int courses;
+
+    @Param({"10", "50"})
+    public int assessmentsPerCourse;
+
+    @Param({"memory", "sqlite"})
+    public String storage;
+
+    CourseRepository courseRepository;
+    AssessmentRepository assessmentRepository;
+    ScheduleEventRepository scheduleEventRepository;
+    List<String> courseIds;
+    List<Assessment> assessments;
+    List<ScheduleEvent> events;
+
+    private SqliteConnectionProvider connectionProvider;
+    private Path databaseFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        if ("sqlite".equals(storage)) {
+            databaseFile = Files.createTempFile("benchmark", ".db");
+            connectionProvider = new SqliteConnectionProvider("jdbc:sqlite:" + databaseFile);
+            new MigrationRunner(connectionProvider).migrate();
+            new Signup(connectionProvider).saveUser(USER_ID, "bench", "bench@example.com", "UTC", "x");
+            courseRepository = new data_access.persistence.sqlite.Course(connectionProvider);
+            assessmentRepository = new data_access.persistence.sqlite.Assessment(connectionProvider);
+            scheduleEventRepository = new data_access.persistence.sqlite.ScheduleEvent(connectionProvider);
+        } else if ("memory".equals(storage)) {
+            courseRepository = new InMemoryCourseRepository();
+            assessmentRepository = new InMemoryAssessmentRepository();
+            scheduleEventRepository = new InMemoryScheduleEvents();
+        } else {
+            throw new IllegalArgumentException("Unknown storage: " + storage);
+        }
+
+        courseIds = new ArrayList<>();
+        assessments = new ArrayList<>();
+        events = new ArrayList<>();
+        for (int c = 0; c < courses; c++) {
+            String courseId = "course-" + c;
+            courseIds.add(courseId);
+            Course course = new Course(courseId, USER_ID, "CSC" + (100 + c), "Course " + c, "Winter 2026", "Prof. " + c);
+            quietly(() -> courseRepository.save(course));
+            List<Assessment> courseAssessments = new ArrayList<>();
+            for (int i = 0; i < assessmentsPerCourse; i++) {
+                courseAssessments.add(assessment(courseId, c, i));
+            }
+            quietly(() -> assessmentRepository.saveAll(courseAssessments));
+            assessments.addAll(courseAssessments);
+        }
+        for (Assessment assessment : assessments) {
+            ScheduleEvent event = new ScheduleEvent("event-" + assessment.getAssessmentId(), USER_ID,
+                    assessment.getTitle(), assessment.getStartsAt(), assessment.getEndsAt(),
+                    assessment.getLocation(), assessment.getNotes(), SourceKind.ASSESSMENT,
+                    assessment.getAssessmentId());
+            quietly(() -> scheduleEventRepository.save(event));
+            events.add(event);
+        }
+
+        // The SQLite repositories only log failed writes, so make sure everything actually landed
+        int stored = assessmentRepository.findByCourseIds(courseIds).size();
+        if (stored != assessments.size()) {
+            throw new IllegalStateException("Stored " + stored + " of " + assessments.size() + " assessments");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (connectionProvider != null) {
+            connectionProvider.close();
+            connectionProvider = null;
+        }
+        if (databaseFile != null) {
+            Files.deleteIfExists(databaseFile);
+            Files.deleteIfExists(Path.of(databaseFile + "-wal"));
+            Files.deleteIfExists(Path.of(databaseFile + "-shm"));
+            databaseFile = null;
+        }
+    }
+
+    /** The first course, used by benchmarks that work on a single course. */
+    String firstCourseId() {
+        return courseIds.get(0);
+    }
+
+    private Assessment assessment(String courseId, int course, int index) {
+        Instant startsAt = TERM_START.plus(Duration.ofDays(course + 3L * index));
+        boolean graded = index < assessmentsPerCourse / 2;
+        return new Assessment(
+                courseId + "-a" + index,
+                courseId,
+                "Assessment " + index,
+                TYPES[index % TYPES.length],
+                graded ? 55 + (index * 7) % 45 : -1,
+                startsAt.toString(),
+                startsAt.plus(Duration.ofMinutes(90)).toString(),
+                90L,
+                1.0 / assessmentsPerCourse,
+                "Room " + (index % 12),
+                "[Status: " + STATUSES[index % STATUSES.length] + "]");
+    }
+
+    /** The repositories log every save; that output is not part of what is measured. */
+    private static void quietly(Runnable work) {
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            work.run();
+        } finally {
+            System.setOut(out);
+        }
+    }
+
+    private static class InMemoryScheduleEvents implements ScheduleEventRepository {
+        private final List<ScheduleEvent> events = new ArrayList<>();
+
+        @Override
+        public List<ScheduleEvent> findByUserId(String userId) {
+            List<ScheduleEvent> result = new ArrayList<>();
+            for (ScheduleEvent event : events) {
+                if (event.getUserId().equals(userId)) {
+                    result.add(event);
+                }
+            }
+            return Collections.unmodifiableList(result);
+        }
+
+        @Override
+        public void save(ScheduleEvent event) {
+            events.add(event);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import use_case.dto.DashboardOutputData;
+import use_case.port.outgoing.LoadDashboardOutputBoundary;
+import use_case.service.LoadDashboardInteractor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading the dashboard: every course of the user with its upcoming assessments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DashboardBenchmark {
+    private LoadDashboardInteractor interactor;
+    private DashboardOutputData lastDashboard;
+
+    @Setup
+    public void setUp(CourseLoadFixture fixture) {
+        interactor = new LoadDashboardInteractor(fixture.courseRepository, fixture.assessmentRepository,
+                new LoadDashboardOutputBoundary() {
+                    @Override
+                    public void presentDashboard(DashboardOutputData outputData) {
+                        lastDashboard = outputData;
+                    }
+
+                    @Override
+                    public void presentError(String errorMessage) {
+                        throw new IllegalStateException(errorMessage);
+                    }
+                });
+    }
+
+    @Benchmark
+    public DashboardOutputData execute() {
+        interactor.execute(CourseLoadFixture.USER_ID);
+        return lastDashboard;
+    }
+}
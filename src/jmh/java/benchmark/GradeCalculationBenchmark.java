@@ -0,0 +1,56 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import use_case.dto.GradeCalculationInputData;
+import use_case.dto.GradeCalculationOutputData;
+import use_case.service.GradeCalculationInteractor;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grade targets for one course: picked out of all of the user's assessments passed in with the
+ * request, and read from the grade totals the repository keeps, the way the grade calculator
+ * asks for them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradeCalculationBenchmark {
+    private GradeCalculationInteractor interactor;
+    private GradeCalculationInputData request;
+    private GradeCalculationInteractor aggregateInteractor;
+    private GradeCalculationInputData aggregateRequest;
+
+    @Setup
+    public void setUp(CourseLoadFixture fixture) {
+        interactor = new GradeCalculationInteractor(List.of());
+        request = new GradeCalculationInputData(fixture.firstCourseId(), CourseLoadFixture.USER_ID, 80.0,
+                fixture.assessmentRepository.findByCourseIds(fixture.courseIds));
+        aggregateInteractor = new GradeCalculationInteractor(fixture.assessmentRepository);
+        aggregateRequest = new GradeCalculationInputData(fixture.firstCourseId(), CourseLoadFixture.USER_ID, 80.0,
+                null);
+    }
+
+    @Benchmark
+    public GradeCalculationOutputData calculateTargets() {
+        return interactor.calculateTargets(request);
+    }
+
+    @Benchmark
+    public GradeCalculationOutputData calculateTargetsFromAggregates() {
+        return aggregateInteractor.calculateTargets(aggregateRequest);
+    }
+}
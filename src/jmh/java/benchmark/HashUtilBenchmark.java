@@ -0,0 +1,50 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import use_case.util.HashUtil;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password hashing and checking as done on every sign-up and login.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashUtilBenchmark {
+    @Param({"8", "64"})
+    public int passwordLength;
+
+    private String password;
+    private String hashed;
+
+    @Setup
+    public void setUp() throws NoSuchAlgorithmException {
+        password = "p".repeat(passwordLength);
+        hashed = HashUtil.hash(password);
+    }
+
+    @Benchmark
+    public String hash() throws NoSuchAlgorithmException {
+        return HashUtil.hash(password);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return HashUtil.matches(password, hashed);
+    }
+}
@@ -0,0 +1,48 @@
+package benchmark;
+
+import entity.Assessment;
+import entity.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import use_case.service.TaskEditingInteractor;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The task list of one course, unfiltered and filtered by status.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskEditingBenchmark {
+    private TaskEditingInteractor interactor;
+    private String courseId;
+
+    @Setup
+    public void setUp(CourseLoadFixture fixture) {
+        interactor = new TaskEditingInteractor(fixture.assessmentRepository);
+        courseId = fixture.firstCourseId();
+    }
+
+    @Benchmark
+    public List<Assessment> listTasksForUser() {
+        return interactor.listTasksForUser(courseId, null);
+    }
+
+    @Benchmark
+    public List<Assessment> listTasksForUserByStatus() {
+        return interactor.listTasksForUser(courseId, TaskStatus.IN_PROGRESS);
+    }
+}
@@ -1,10 +1,25 @@
 package app;
 
+import data_access.ai.AiGateway;
+import data_access.ai.HedgingAiGateway;
 import data_access.ai.gemini.AiExtractorDataAccessObject;
+import data_access.ai.gemini.CircuitBreaker;
+import data_access.ai.gemini.GeminiGateway;
+import data_access.ai.gemini.GeminiHttpClient;
+import data_access.metrics.InMemoryMetricsRegistry;
+import data_access.metrics.JsonMetricsExporter;
+import data_access.metrics.LogMetricsExporter;
+import data_access.metrics.MetricsExporter;
+import data_access.metrics.MetricsSnapshot;
 import data_access.parser.pdf.PdfExtractorDataAccessObject;
+import data_access.parser.rules.CompositeSyllabusExtractor;
+import data_access.parser.section.SectionFilteringExtractor;
+import data_access.persistence.sqlite.ConnectionProvider;
+import data_access.persistence.sqlite.ExtractionCache;
 import data_access.persistence.in_memory.InMemorySessionInfoDataAccessObject;
 import data_access.persistence.sqlite.Login;
 import data_access.persistence.sqlite.Signup;
+import interface_adapter.UseCaseDispatcher;
 import interface_adapter.ViewManagerModel;
 import interface_adapter.calendar_export.CalendarExportController;
 import interface_adapter.calendar_export.CalendarExportPresenter;
@@ -15,6 +30,8 @@ import interface_adapter.dashboard.DashboardViewModel;
 import interface_adapter.login.LoginController;
 import interface_adapter.login.LoginPresenter;
 import interface_adapter.login.LoginViewModel;
+import interface_adapter.outbound.calendar.IcsCalendarRenderer;
+import interface_adapter.outbound.calendar.PlainIcsCalendarRenderer;
 import interface_adapter.sign_up.SignUpController;
 import interface_adapter.sign_up.SignUpPresenter;
 import interface_adapter.sign_up.SignUpViewModel;
@@ -35,6 +52,7 @@ import use_case.port.incoming.LoginUseCase;
 import use_case.port.incoming.SignUpUseCase;
 import use_case.port.incoming.TaskEditingUseCase;
 import use_case.port.incoming.GradeCalculationUseCase;
+import use_case.port.incoming.BatchUploadSyllabusInputBoundary;
 import use_case.port.incoming.UploadSyllabusInputBoundary;
 import use_case.port.incoming.WelcomeUseCase;
 import use_case.port.outgoing.AiExtractionDataAccessInterface;
@@ -43,17 +61,20 @@ import use_case.port.outgoing.LoadDashboardOutputBoundary;
 import use_case.port.outgoing.LoginOutputPort;
 import use_case.port.outgoing.PdfExtractionDataAccessInterface;
 import use_case.port.outgoing.SignUpPort;
-import use_case.port.outgoing.SyllabusUploadOutputBoundary;
 import use_case.port.outgoing.WelcomePort;
 import use_case.repository.AssessmentRepository;
+import use_case.repository.CachingAssessmentRepository;
+import use_case.repository.CalendarExportStateRepository;
 import use_case.repository.CourseRepository;
 import use_case.repository.LoginRepository;
 import use_case.repository.ScheduleEventRepository;
 import use_case.repository.SignUpRepository;
+import use_case.repository.SyllabusImportUnitOfWork;
 import use_case.repository.SyllabusRepository;
 import use_case.service.LoadDashboardInteractor;
 import use_case.service.LoginInteractor;
 import use_case.service.SignUpInteractor;
+import use_case.service.BatchSyllabusUploadInteractor;
 import use_case.service.SyllabusUploadInteractor;
 import use_case.service.TaskEditingInteractor;
 import use_case.service.GradeCalculationInteractor;
@@ -72,6 +93,10 @@ import view.WelcomeView;
 import javax.swing.*;
 import java.awt.*;
 import java.io.InputStream;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 public class AppBuilder {
@@ -83,17 +108,31 @@ public class AppBuilder {
     // Session management (in-memory for session state)
     private final InMemorySessionInfoDataAccessObject sessionDB = new InMemorySessionInfoDataAccessObject();
 
+    // Per-stage timings of the ingestion pipeline, exported when the application exits
+    private final InMemoryMetricsRegistry metrics = new InMemoryMetricsRegistry();
+
     // Data Access Objects
-    private final PdfExtractionDataAccessInterface pdfExtractor = new PdfExtractorDataAccessObject();
+    private final PdfExtractionDataAccessInterface pdfExtractor = new PdfExtractorDataAccessObject(
+            PdfExtractorDataAccessObject.DEFAULT_PAGES_PER_CHUNK,
+            Runtime.getRuntime().availableProcessors(),
+            PdfExtractorDataAccessObject.DEFAULT_MAX_MAIN_MEMORY_BYTES,
+            metrics);
     private final AiExtractionDataAccessInterface aiExtractor;
+    private final CalendarRenderPort calendarRenderer;
 
     // Repositories - Using SQLite implementations for persistence
-    private final SyllabusRepository syllabusRepository = new data_access.persistence.sqlite.Syllabus();
-    private final AssessmentRepository assessmentRepository = new data_access.persistence.sqlite.Assessment();
-    private final CourseRepository courseRepository = new data_access.persistence.sqlite.Course();
-    private final ScheduleEventRepository scheduleEventRepository = new data_access.persistence.sqlite.ScheduleEvent();
-    private final LoginRepository loginRepository = new Login();
-    private final SignUpRepository signUpRepository = new Signup();
+    private final SyllabusRepository syllabusRepository;
+    private final AssessmentRepository assessmentRepository;
+    private final CourseRepository courseRepository;
+    private final ScheduleEventRepository scheduleEventRepository;
+    private final CalendarExportStateRepository calendarExportStateRepository;
+    private final data_access.persistence.sqlite.CalendarExportQuery calendarExportQuery;
+    private final LoginRepository loginRepository;
+    private final SignUpRepository signUpRepository;
+    private final SyllabusImportUnitOfWork syllabusImportUnitOfWork;
+
+    // Runs use cases off the Swing event thread
+    private final UseCaseDispatcher dispatcher = new UseCaseDispatcher();
 
     // Views
     private LoginView loginView;
@@ -113,30 +152,110 @@ public class AppBuilder {
     private GradeCalculatorView gradeCalculatorView;
     private GradeCalculatorViewModel gradeCalculatorViewModel;
 
-    public AppBuilder() {
+    public AppBuilder(ConnectionProvider connectionProvider) {
         cardPanel.setLayout(cardLayout);
+
+        syllabusRepository = new data_access.persistence.sqlite.Syllabus(connectionProvider);
+        assessmentRepository = new CachingAssessmentRepository(
+                new data_access.persistence.sqlite.Assessment(connectionProvider));
+        courseRepository = new data_access.persistence.sqlite.Course(connectionProvider);
+        scheduleEventRepository = new data_access.persistence.sqlite.ScheduleEvent(connectionProvider);
+        calendarExportStateRepository = new data_access.persistence.sqlite.CalendarExportState(connectionProvider);
+        calendarExportQuery = new data_access.persistence.sqlite.CalendarExportQuery(connectionProvider);
+        loginRepository = new Login(connectionProvider);
+        signUpRepository = new Signup(connectionProvider);
+        syllabusImportUnitOfWork = new data_access.persistence.sqlite.SyllabusImport(connectionProvider);
         
         // Load Gemini API key from config
-        String apiKey = loadApiKey();
-        aiExtractor = new AiExtractorDataAccessObject(apiKey);
+        Properties config = loadConfig();
+        String apiKey = loadApiKey(config);
+        registerMetricsExport(config);
+
+        // Re-imports of the same syllabus are answered from the database instead of Gemini
+        AiExtractorDataAccessObject geminiExtractor = new AiExtractorDataAccessObject(
+                createAiGateway(config, apiKey), metrics);
+        ExtractionCache extractionCache = new ExtractionCache(
+                geminiExtractor,
+                connectionProvider,
+                geminiExtractor.getPromptVersion());
+        extractionCache.setBypass(Boolean.parseBoolean(config.getProperty("gemini.cache.bypass", "false")));
+        // Templated syllabi are parsed locally; the rest go to Gemini with only the header and
+        // grading-related sections of the text
+        aiExtractor = new CompositeSyllabusExtractor(new SectionFilteringExtractor(extractionCache, metrics), metrics);
+        calendarRenderer = createCalendarRenderer(config);
     }
 
-    private String loadApiKey() {
+    private Properties loadConfig() {
         Properties config = new Properties();
         try (InputStream input = getClass().getClassLoader().getResourceAsStream("config.properties")) {
             if (input == null) {
                 throw new RuntimeException("config.properties not found in resources folder");
             }
             config.load(input);
-            String key = config.getProperty("gemini.api.key");
-            if (key == null || key.trim().isEmpty()) {
-                throw new RuntimeException("gemini.api.key not found in config.properties");
-            }
-            return key;
+            return config;
         } catch (Exception e) {
             throw new RuntimeException("Failed to load API key: " + e.getMessage(), e);
         }
     }
+
+    private AiGateway createAiGateway(Properties config, String apiKey) {
+        // gemini.base.url can point at a MockGeminiServer to run the pipeline offline
+        AiGateway gateway = new GeminiGateway(
+                config.getProperty("gemini.base.url", GeminiGateway.DEFAULT_BASE_URL),
+                config.getProperty("gemini.model", GeminiGateway.DEFAULT_MODEL),
+                apiKey,
+                createGeminiClient(config));
+        if (Boolean.parseBoolean(config.getProperty("gemini.hedge.enabled", "true"))) {
+            gateway = new HedgingAiGateway(gateway, metrics);
+        }
+        return gateway;
+    }
+
+    private GeminiHttpClient createGeminiClient(Properties config) {
+        Duration requestTimeout = Duration.ofSeconds(Long.parseLong(config.getProperty(
+                "gemini.timeout.seconds", String.valueOf(GeminiHttpClient.DEFAULT_REQUEST_TIMEOUT.getSeconds()))));
+        int maxAttempts = Integer.parseInt(config.getProperty(
+                "gemini.max.attempts", String.valueOf(GeminiHttpClient.DEFAULT_MAX_ATTEMPTS)));
+        return new GeminiHttpClient(GeminiHttpClient.DEFAULT_CONNECT_TIMEOUT, requestTimeout, maxAttempts,
+                GeminiHttpClient.DEFAULT_BASE_BACKOFF, GeminiHttpClient.DEFAULT_MAX_BACKOFF, new CircuitBreaker(), metrics);
+    }
+
+    private CalendarRenderPort createCalendarRenderer(Properties config) {
+        // calendar.renderer=plain writes ICS text directly instead of building an iCal4j model
+        String renderer = config.getProperty("calendar.renderer", "ical4j").trim();
+        switch (renderer) {
+            case "ical4j":
+                return new IcsCalendarRenderer();
+            case "plain":
+                return new PlainIcsCalendarRenderer();
+            default:
+                throw new RuntimeException("Unknown calendar.renderer: " + renderer);
+        }
+    }
+
+    private void registerMetricsExport(Properties config) {
+        List<MetricsExporter> exporters = new ArrayList<>();
+        exporters.add(new LogMetricsExporter());
+        // metrics.json.path writes the same numbers as JSON, e.g. for comparing runs
+        String jsonPath = config.getProperty("metrics.json.path");
+        if (jsonPath != null && !jsonPath.trim().isEmpty()) {
+            exporters.add(new JsonMetricsExporter(Paths.get(jsonPath.trim())));
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            MetricsSnapshot snapshot = metrics.snapshot();
+            for (MetricsExporter exporter : exporters) {
+                exporter.export(snapshot);
+            }
+        }, "metrics-export"));
+    }
+
+    private String loadApiKey(Properties config) {
+        String key = config.getProperty("gemini.api.key");
+        if (key == null || key.trim().isEmpty()) {
+            throw new RuntimeException("Failed to load API key: gemini.api.key not found in config.properties");
+        }
+        return key;
+    }
     
     public AppBuilder addLoginView() {
         loginViewModel = new LoginViewModel();
@@ -194,7 +313,7 @@ public class AppBuilder {
     }
 
     public AppBuilder addSyllabusUploadUseCase() {
-        final SyllabusUploadOutputBoundary outputBoundary = new SyllabusUploadPresenter(
+        final SyllabusUploadPresenter outputBoundary = new SyllabusUploadPresenter(
             viewManagerModel,
             syllabusUploadViewModel
         );
@@ -202,13 +321,26 @@ public class AppBuilder {
         final UploadSyllabusInputBoundary interactor = new SyllabusUploadInteractor(
             pdfExtractor,
             aiExtractor,
-            courseRepository,
-            syllabusRepository,
-            assessmentRepository,
-            outputBoundary
+            syllabusImportUnitOfWork,
+            outputBoundary,
+            metrics
         );
 
-        final SyllabusUploadController controller = new SyllabusUploadController(interactor);
+        final BatchUploadSyllabusInputBoundary batchInteractor = new BatchSyllabusUploadInteractor(
+            pdfExtractor,
+            aiExtractor,
+            syllabusImportUnitOfWork,
+            outputBoundary,
+            Runtime.getRuntime().availableProcessors(),
+            BatchSyllabusUploadInteractor.DEFAULT_MAX_CONCURRENT_AI_CALLS,
+            metrics
+        );
+
+        final SyllabusUploadController controller = new SyllabusUploadController(
+            interactor,
+            batchInteractor,
+            dispatcher
+        );
         syllabusUploadView.setSyllabusUploadController(controller);
         return this;
     }
@@ -233,7 +365,7 @@ public class AppBuilder {
             outputBoundary
         );
 
-        final DashboardController controller = new DashboardController(interactor);
+        final DashboardController controller = new DashboardController(interactor, dispatcher);
         dashboardView.setDashboardController(controller);
         return this;
     }
@@ -262,9 +394,6 @@ public class AppBuilder {
     }
 
     public AppBuilder addCalendarExportUseCase() {
-        // Calendar render port
-        final CalendarRenderPort calendarRenderer = new interface_adapter.outbound.calendar.IcsCalendarRenderer();
-        
         // Presenter
         final CalendarExportPresenter presenter = new CalendarExportPresenter(calendarExportViewModel);
         
@@ -273,7 +402,10 @@ public class AppBuilder {
             assessmentRepository,
             scheduleEventRepository,
             calendarRenderer,
-            presenter
+            presenter,
+            calendarExportStateRepository,
+            calendarExportQuery,
+            calendarExportQuery
         );
         
         // Controller
@@ -281,13 +413,15 @@ public class AppBuilder {
             service,
             courseRepository,
             sessionDB,
-            presenter
+            presenter,
+            dispatcher
         );
         
         // Wire controller to view
         controller.setView(calendarExportView);
         calendarExportView.setListener(controller);
         calendarExportView.setController(controller);
+        presenter.setSaveListener(controller);
         
         // Load initial courses
         return this;
@@ -319,7 +453,8 @@ public class AppBuilder {
             assessmentRepository,
             courseRepository,
             sessionDB,
-            presenter
+            presenter,
+            dispatcher
         );
         
         // Wire controller to view
@@ -345,8 +480,8 @@ public class AppBuilder {
         // Presenter
         final GradeCalculatorPresenter presenter = new GradeCalculatorPresenter(gradeCalculatorViewModel);
         
-        // Service (uses AssessmentRepository)
-        final GradeCalculationUseCase service = new GradeCalculationInteractor(null); // null means it will use request assessments
+        // Service (reads the grade totals kept by the AssessmentRepository)
+        final GradeCalculationUseCase service = new GradeCalculationInteractor(assessmentRepository);
         
         // Controller
         final GradeCalculatorController controller = new GradeCalculatorController(
@@ -354,7 +489,8 @@ public class AppBuilder {
             assessmentRepository,
             courseRepository,
             sessionDB,
-            presenter
+            presenter,
+            dispatcher
         );
         
         // Wire controller to view
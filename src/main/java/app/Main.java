@@ -1,5 +1,9 @@
 package app;
 
+import data_access.persistence.sqlite.ConnectionProvider;
+import data_access.persistence.sqlite.MigrationRunner;
+import data_access.persistence.sqlite.SqliteConnectionProvider;
+
 import javax.swing.*;
 import java.sql.*;
 
@@ -7,18 +11,14 @@ import java.sql.*;
 
 public class Main {
     private static final String DB_URL = "jdbc:sqlite:src/main/resources/db/syllabus_assistant.db";
-    private static Connection currentConnection;
-
-    public static Connection getConnection() {
-        return currentConnection;
-    }
 
     public static void main(String[] args) {
         /**
-         * This creates a DB connection
+         * This creates the DB connection pool shared by every repository
          */
+        final ConnectionProvider connectionProvider;
         try {
-            currentConnection = DriverManager.getConnection(DB_URL);
+            connectionProvider = new SqliteConnectionProvider(DB_URL);
             System.out.println("Database connection established successfully");
         } catch (SQLException e) {
             System.err.println("Database connection failed: " + e.getMessage());
@@ -26,18 +26,22 @@ public class Main {
             return; // Exit if database connection fails
         }
 
+        try {
+            new MigrationRunner(connectionProvider).migrate();
+        } catch (SQLException e) {
+            connectionProvider.close();
+            System.err.println("Database migration failed: " + e.getMessage());
+            e.printStackTrace();
+            return; // Exit if the schema cannot be brought up to date
+        }
+
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            try {
-                if (currentConnection != null && !currentConnection.isClosed()) {
-                    currentConnection.close();
-                    System.out.println("Database connection closed");
-                }
-            } catch (SQLException e) {
-            }
+            connectionProvider.close();
+            System.out.println("Database connection closed");
         }));
 
         SwingUtilities.invokeLater(() -> {
-            AppBuilder appBuilder = new AppBuilder();
+            AppBuilder appBuilder = new AppBuilder(connectionProvider);
             JFrame application = appBuilder
                     .addWelcomeView()
                     .addWelcomeUseCase()
@@ -0,0 +1,25 @@
+package data_access.ai;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Sends a prompt to a text-generation model. Implementations own everything provider-specific:
+ * endpoint, authentication, request shape and how the generated text is unwrapped from the response.
+ */
+public interface AiGateway {
+
+    /** Completes with the text the model generated for {@code prompt}. */
+    CompletableFuture<String> generate(String prompt);
+
+    /**
+     * Completes as soon as the model starts answering, with the generated text as a lazy stream of
+     * fragments. The caller must close the stream. By default the whole answer is one fragment.
+     */
+    default CompletableFuture<Stream<String>> generateStream(String prompt) {
+        return generate(prompt).thenApply(Stream::of);
+    }
+
+    /** Names the model answering the prompts, e.g. for cache keys. */
+    String getModel();
+}
@@ -0,0 +1,145 @@
+package data_access.ai;
+
+import use_case.port.outgoing.MetricsRegistry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Cuts tail latency by hedging slow calls: if a call has not answered by the time most calls
+ * have (the p95 of recent latencies), the same prompt is sent again and whichever answer arrives
+ * first is used.
+ *
+ * <p>Core functionalities:
+ * <ul>
+ *   <li>Latencies of the last {@code window} successful calls are kept; no call is hedged until
+ *       {@code minSamples} of them are known</li>
+ *   <li>At most one hedge per call, and only while the first call is still running; a call that
+ *       fails before its hedge is sent fails as usual</li>
+ *   <li>Streams are not hedged, since their fragments are consumed as they arrive</li>
+ *   <li>Each hedge is counted as {@code ai.hedged}</li>
+ * </ul>
+ */
+public class HedgingAiGateway implements AiGateway {
+    public static final double DEFAULT_PERCENTILE = 0.95;
+    public static final int DEFAULT_WINDOW = 100;
+    public static final int DEFAULT_MIN_SAMPLES = 20;
+
+    private final AiGateway delegate;
+    private final double percentile;
+    private final int minSamples;
+    private final long[] latencyNanos;
+    private int samples;
+    private int next;
+    private final AtomicLong hedgedCalls = new AtomicLong();
+    private final MetricsRegistry metrics;
+
+    public HedgingAiGateway(AiGateway delegate) {
+        this(delegate, MetricsRegistry.NOOP);
+    }
+
+    public HedgingAiGateway(AiGateway delegate, MetricsRegistry metrics) {
+        this(delegate, DEFAULT_PERCENTILE, DEFAULT_WINDOW, DEFAULT_MIN_SAMPLES, metrics);
+    }
+
+    public HedgingAiGateway(AiGateway delegate, double percentile, int window, int minSamples) {
+        this(delegate, percentile, window, minSamples, MetricsRegistry.NOOP);
+    }
+
+    public HedgingAiGateway(AiGateway delegate, double percentile, int window, int minSamples,
+                            MetricsRegistry metrics) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("percentile must be between 0 and 1");
+        }
+        if (window < 1 || minSamples < 1 || minSamples > window) {
+            throw new IllegalArgumentException("need 1 <= minSamples <= window");
+        }
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.latencyNanos = new long[window];
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    @Override
+    public CompletableFuture<String> generate(String prompt) {
+        Duration deadline = getHedgeDeadline();
+        if (deadline == null) {
+            return timed(prompt);
+        }
+
+        CompletableFuture<String> result = new CompletableFuture<>();
+        AtomicBoolean hedged = new AtomicBoolean();
+        AtomicInteger running = new AtomicInteger(2);
+        BiConsumer<String, Throwable> onAnswer = (text, error) -> {
+            if (error == null) {
+                result.complete(text);
+            } else if (!hedged.get() || running.decrementAndGet() == 0) {
+                result.completeExceptionally(error);
+            }
+        };
+        timed(prompt).whenComplete(onAnswer);
+
+        Executor afterDeadline = CompletableFuture.delayedExecutor(deadline.toNanos(), TimeUnit.NANOSECONDS);
+        afterDeadline.execute(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            hedged.set(true);
+            hedgedCalls.incrementAndGet();
+            metrics.increment("ai.hedged");
+            timed(prompt).whenComplete(onAnswer);
+        });
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<Stream<String>> generateStream(String prompt) {
+        return delegate.generateStream(prompt);
+    }
+
+    @Override
+    public String getModel() {
+        return delegate.getModel();
+    }
+
+    /** The latency after which a call is hedged, or null while too few calls have been seen. */
+    public synchronized Duration getHedgeDeadline() {
+        if (samples < minSamples) {
+            return null;
+        }
+        long[] sorted = Arrays.copyOf(latencyNanos, samples);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * samples) - 1;
+        return Duration.ofNanos(sorted[Math.max(index, 0)]);
+    }
+
+    /** How many calls have been hedged so far. */
+    public long getHedgedCalls() {
+        return hedgedCalls.get();
+    }
+
+    private CompletableFuture<String> timed(String prompt) {
+        long start = System.nanoTime();
+        return delegate.generate(prompt).whenComplete((text, error) -> {
+            if (error == null) {
+                record(System.nanoTime() - start);
+            }
+        });
+    }
+
+    private synchronized void record(long nanos) {
+        latencyNanos[next] = nanos;
+        next = (next + 1) % latencyNanos.length;
+        samples = Math.min(samples + 1, latencyNanos.length);
+    }
+}
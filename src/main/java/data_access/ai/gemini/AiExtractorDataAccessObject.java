@@ -1,114 +1,284 @@
 package data_access.ai.gemini;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonSyntaxException;
 
+import data_access.ai.AiGateway;
+import use_case.dto.AssessmentDraftData;
 import use_case.dto.SyllabusParseResultData;
 import use_case.port.outgoing.AiExtractionDataAccessInterface;
+import use_case.port.outgoing.MetricsRegistry;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.util.Map;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 public class AiExtractorDataAccessObject implements AiExtractionDataAccessInterface {
-    
-    private final String apiKey;
-    private final HttpClient httpClient;
-    private final Gson gson;
+    private static final Logger LOGGER = Logger.getLogger(AiExtractorDataAccessObject.class.getName());
+
+    /**
+     * Bump whenever {@link #buildPrompt} changes so cached extractions from the old prompt are no
+     * longer used; it is part of {@link #getPromptVersion()}.
+     */
+    private static final int PROMPT_REVISION = 1;
+
     private static final int MAX_RETRIES = 3;
+    /** Course code and name are always near the top, so header-only repairs send just this much text. */
+    private static final int HEADER_CHARS = 4000;
+
+    private final AiGateway gateway;
+    private final Gson gson;
+    private final GeminiStreamParser streamParser;
+    private final GeminiResponseRepair responseRepair;
+    private final MetricsRegistry metrics;
 
     public AiExtractorDataAccessObject(String apiKey) {
-        this.apiKey = apiKey;
-        this.httpClient = HttpClient.newHttpClient();
+        this(new GeminiGateway(apiKey));
+    }
+
+    public AiExtractorDataAccessObject(String apiKey, GeminiHttpClient httpClient) {
+        this(new GeminiGateway(GeminiGateway.DEFAULT_BASE_URL, GeminiGateway.DEFAULT_MODEL, apiKey, httpClient));
+    }
+
+    public AiExtractorDataAccessObject(AiGateway gateway) {
+        this(gateway, MetricsRegistry.NOOP);
+    }
+
+    /**
+     * Records {@code ai.prompt.chars}, {@code ai.round_trip}, {@code ai.parse}, {@code ai.retries},
+     * {@code ai.repair.partial} (responses that were cut short or malformed) and
+     * {@code ai.repair.requests}; streamed calls record {@code ai.stream.open} and
+     * {@code ai.stream.parse} instead of the round trip and parse, and {@code ai.stream.fallbacks}
+     * when the stream could not be used.
+     */
+    public AiExtractorDataAccessObject(AiGateway gateway, MetricsRegistry metrics) {
+        this.gateway = Objects.requireNonNull(gateway, "gateway");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
         this.gson = new Gson();
+        this.streamParser = new GeminiStreamParser(gson);
+        this.responseRepair = new GeminiResponseRepair(gson);
+    }
+
+    /** The cache version of results from this extractor: its model plus the prompt revision. */
+    public String getPromptVersion() {
+        return gateway.getModel() + "/" + PROMPT_REVISION;
     }
 
     @Override
     public SyllabusParseResultData extractStructuredData(String syllabusText) {
+        return GeminiHttpClient.await(extractStructuredDataAsync(syllabusText));
+    }
+
+    /**
+     * Streams the response and passes each assessment on as soon as the model has generated it. If
+     * the stream breaks off or its answer is incomplete, the text received so far is repaired and
+     * only the missing parts are requested; the whole syllabus is extracted again with
+     * {@link #extractStructuredData(String)} only when nothing usable arrived. Before either, the
+     * listener is reset and then given the assessments of the result that is returned.
+     */
+    @Override
+    public SyllabusParseResultData extractStructuredData(String syllabusText, AssessmentListener listener) {
         String prompt = buildPrompt(syllabusText);
-        
-        // Retry logic for handling inconsistent AI responses
-        for (int attempt = 1; attempt <= MAX_RETRIES; attempt++) {
+        metrics.recordValue("ai.prompt.chars", prompt.length());
+        long start = System.nanoTime();
+        Stream<String> fragments = GeminiHttpClient.await(gateway.generateStream(prompt));
+        metrics.recordTime("ai.stream.open", System.nanoTime() - start);
+        StringBuilder received = new StringBuilder();
+        try {
+            long parseStart = System.nanoTime();
+            SyllabusParseResultData result = streamParser.parse(fragments.peek(received::append),
+                    listener::onAssessment);
+            metrics.recordTime("ai.stream.parse", System.nanoTime() - parseStart);
+            if (isValidResponse(result)) {
+                return result;
+            }
+            return completeStream(syllabusText, result, true, listener);
+        } catch (GeminiApiException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            // The stream broke off or was not valid JSON; salvage what arrived below
+            metrics.increment("ai.stream.fallbacks");
+        }
+        GeminiResponseRepair.Repaired repaired = metrics.time("ai.parse", () -> responseRepair.repair(received.toString()));
+        if (repaired == null) {
+            return completeStream(syllabusText, null, false, listener);
+        }
+        if (!repaired.isIntact()) {
+            metrics.increment("ai.repair.partial");
+        }
+        return completeStream(syllabusText, repaired.getResult(), repaired.isIntact(), listener);
+    }
+
+    /**
+     * Resets the listener, previews {@code partial} again and requests only what it is missing.
+     * Falls back to a full extraction without streaming when nothing usable arrived or the
+     * missing parts could not be filled in.
+     */
+    private SyllabusParseResultData completeStream(String syllabusText, SyllabusParseResultData partial,
+                                                   boolean assessmentsComplete, AssessmentListener listener) {
+        listener.onReset();
+        if (partial != null) {
+            List<AssessmentDraftData> kept = partial.getAssessments();
+            kept.forEach(listener::onAssessment);
             try {
-                System.out.println("Attempt " + attempt + " of " + MAX_RETRIES + " to extract data from Gemini...");
-                
-                String jsonResponse = callGeminiApi(prompt);
-                SyllabusParseResultData result = parseGeminiResponse(jsonResponse);
-                
-                // Validate the response has required fields
-                if (isValidResponse(result)) {
-                    System.out.println("Successfully extracted and validated data");
-                    return result;
-                } else {
-                    System.err.println("Warning: Response missing required fields, retrying...");
-                    if (attempt == MAX_RETRIES) {
-                        throw new RuntimeException("Failed to get valid response after " + MAX_RETRIES + " attempts");
-                    }
-                }
-                
-            } catch (IOException | InterruptedException e) {
-                if (attempt == MAX_RETRIES) {
-                    throw new RuntimeException("Failed to call Gemini API after " + MAX_RETRIES + " attempts", e);
-                }
-                System.err.println("API call failed, retrying... (" + e.getMessage() + ")");
-            } catch (JsonSyntaxException e) {
-                if (attempt == MAX_RETRIES) {
-                    throw new RuntimeException("Failed to parse Gemini response as JSON after " + MAX_RETRIES + " attempts", e);
-                }
-                System.err.println("JSON parsing failed, retrying... (" + e.getMessage() + ")");
+                SyllabusParseResultData result = GeminiHttpClient.await(
+                        fillMissingParts(syllabusText, partial, assessmentsComplete));
+                // The merge keeps the partial assessments first, so only the ones after them are new
+                result.getAssessments().subList(kept.size(), result.getAssessments().size())
+                        .forEach(listener::onAssessment);
+                return result;
+            } catch (GeminiApiException e) {
+                throw e;
             } catch (RuntimeException e) {
-                if (attempt == MAX_RETRIES) {
-                    throw new RuntimeException("AI extraction failed after " + MAX_RETRIES + " attempts: " + e.getMessage(), e);
-                }
-                System.err.println("Extraction failed, retrying... (" + e.getMessage() + ")");
+                listener.onReset();
             }
-            
-            // Wait a bit before retrying
-            try {
-                Thread.sleep(1000 * attempt); // Exponential backoff
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException("Interrupted while waiting to retry", e);
+        }
+        SyllabusParseResultData result = extractStructuredData(syllabusText);
+        result.getAssessments().forEach(listener::onAssessment);
+        return result;
+    }
+
+    /**
+     * Asynchronous form of {@link #extractStructuredData}. Transport failures are retried by the
+     * {@link GeminiHttpClient}. A truncated or incomplete response is repaired and only its missing
+     * pieces are requested again; if that still does not give a valid result, the whole request is
+     * repeated after a jittered delay, up to {@value #MAX_RETRIES} times.
+     */
+    public CompletableFuture<SyllabusParseResultData> extractStructuredDataAsync(String syllabusText) {
+        return attemptExtraction(syllabusText, buildPrompt(syllabusText), 1);
+    }
+
+    private CompletableFuture<SyllabusParseResultData> attemptExtraction(String syllabusText, String prompt,
+                                                                          int attempt) {
+        return generate(prompt)
+                .thenCompose(modelText -> repairResponse(syllabusText, modelText))
+                .handle((result, error) -> {
+                    if (error == null) {
+                        return CompletableFuture.completedFuture(result);
+                    }
+                    Throwable cause = GeminiHttpClient.unwrap(error);
+                    if (cause instanceof GeminiApiException) {
+                        // Already retried as far as it makes sense by the HTTP client
+                        return CompletableFuture.<SyllabusParseResultData>failedFuture(cause);
+                    }
+                    if (attempt >= MAX_RETRIES) {
+                        return CompletableFuture.<SyllabusParseResultData>failedFuture(new RuntimeException(
+                                "AI extraction failed after " + MAX_RETRIES + " attempts: " + cause.getMessage(), cause));
+                    }
+                    metrics.increment("ai.retries");
+                    Duration delay = GeminiHttpClient.fullJitter(attempt, GeminiHttpClient.DEFAULT_BASE_BACKOFF,
+                            GeminiHttpClient.DEFAULT_MAX_BACKOFF);
+                    return GeminiHttpClient.retryAfter(delay, ignored -> attemptExtraction(syllabusText, prompt, attempt + 1));
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<String> generate(String prompt) {
+        metrics.recordValue("ai.prompt.chars", prompt.length());
+        long start = System.nanoTime();
+        return gateway.generate(prompt)
+                .whenComplete((modelText, error) -> metrics.recordTime("ai.round_trip", System.nanoTime() - start));
+    }
+
+    private CompletableFuture<SyllabusParseResultData> repairResponse(String syllabusText, String modelText) {
+        GeminiResponseRepair.Repaired repaired = metrics.time("ai.parse", () -> responseRepair.repair(modelText));
+        if (repaired == null) {
+            throw new RuntimeException("No valid JSON object found in response");
+        }
+        if (!repaired.isIntact()) {
+            metrics.increment("ai.repair.partial");
+        }
+        return fillMissingParts(syllabusText, repaired.getResult(), repaired.isIntact());
+    }
+
+    /**
+     * Asks Gemini for only the parts of {@code partial} that are missing: the course code and name,
+     * and, if the assessment list is empty or was cut short, the assessments not yet in it.
+     */
+    private CompletableFuture<SyllabusParseResultData> fillMissingParts(String syllabusText,
+                                                                        SyllabusParseResultData partial,
+                                                                        boolean assessmentsComplete) {
+        boolean headerMissing = isBlank(partial.getCourseCode()) || isBlank(partial.getCourseName());
+        boolean assessmentsMissing = !assessmentsComplete || partial.getAssessments().isEmpty();
+        if (!headerMissing && !assessmentsMissing) {
+            return CompletableFuture.completedFuture(validated(partial));
+        }
+
+        String prompt = buildRepairPrompt(syllabusText, partial, headerMissing, assessmentsMissing);
+        metrics.increment("ai.repair.requests");
+        return generate(prompt)
+                .thenApply(modelText -> {
+                    GeminiResponseRepair.Repaired patch = metrics.time("ai.parse", () -> responseRepair.repair(modelText));
+                    return validated(patch == null ? partial : merge(partial, patch.getResult()));
+                });
+    }
+
+    private SyllabusParseResultData validated(SyllabusParseResultData result) {
+        if (!isValidResponse(result)) {
+            throw new RuntimeException("Response missing required fields");
+        }
+        return result;
+    }
+
+    private static SyllabusParseResultData merge(SyllabusParseResultData base, SyllabusParseResultData patch) {
+        List<AssessmentDraftData> assessments = new ArrayList<>(base.getAssessments());
+        Set<String> titles = new HashSet<>();
+        for (AssessmentDraftData assessment : assessments) {
+            titles.add(assessment.getTitle().trim().toLowerCase(Locale.ROOT));
+        }
+        for (AssessmentDraftData assessment : patch.getAssessments()) {
+            if (titles.add(assessment.getTitle().trim().toLowerCase(Locale.ROOT))) {
+                assessments.add(assessment);
             }
         }
-        
-        throw new RuntimeException("Unreachable code - all retries exhausted");
+        return new SyllabusParseResultData(
+                isBlank(base.getCourseCode()) ? patch.getCourseCode() : base.getCourseCode(),
+                isBlank(base.getCourseName()) ? patch.getCourseName() : base.getCourseName(),
+                base.getTerm() == null ? patch.getTerm() : base.getTerm(),
+                base.getInstructor() == null ? patch.getInstructor() : base.getInstructor(),
+                assessments);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
     }
     
     private boolean isValidResponse(SyllabusParseResultData result) {
         // Check if the result object exists
         if (result == null) {
-            System.err.println("Validation failed: result is null");
+            LOGGER.fine("Validation failed: result is null");
             return false;
         }
         
         // Course code is required - without it we can't identify the course
         if (result.getCourseCode() == null || result.getCourseCode().trim().isEmpty()) {
-            System.err.println("Validation failed: courseCode is missing");
+            LOGGER.fine("Validation failed: courseCode is missing");
             return false;
         }
         
         // Course name is required - must have a descriptive name for the course
         if (result.getCourseName() == null || result.getCourseName().trim().isEmpty()) {
-            System.err.println("Validation failed: courseName is missing");
+            LOGGER.fine("Validation failed: courseName is missing");
             return false;
         }
         
         // Assessments array must exist (can't be null)
         if (result.getAssessments() == null) {
-            System.err.println("Validation failed: assessments array is null");
+            LOGGER.fine("Validation failed: assessments array is null");
             return false;
         }
         
         // Must have at least one assessment - a syllabus with no assessments is not useful
         if (result.getAssessments().isEmpty()) {
-            System.err.println("Validation failed: no assessments found");
+            LOGGER.fine("Validation failed: no assessments found");
             return false;
         }
         
@@ -116,9 +286,25 @@ public class AiExtractorDataAccessObject implements AiExtractionDataAccessInterf
         return true;
     }
 
+    private static final String ASSESSMENT_FIELDS =
+            "    Each assessment object must have these keys:\n" +
+            "    - \"title\": (String) The name of the assessment (e.g., \"Assignment 1: Logic Puzzles\"). For repeated items, number them.\n" +
+            "    - \"type\": (String) MUST BE ONE OF: TEST, ASSIGNMENT, EXAM, QUIZ, PROJECT, OTHER\n" +
+            "    - \"weight\": (Double) The grade percentage as a decimal (e.g., 0.15 for 15%). For repeated items, divide total weight equally.\n" +
+            "    - \"dueDateIso\": (String) ISO-8601 string. If the syllabus only has month/day, infer the year from the term; if none, use the current year. Default time to 23:59:00 and output as ISO-8601 (e.g., 2025-10-15T23:59:00Z). If no date is present, use null.\n" +
+            "    - \"notes\": (String) Any additional information. Use empty string if none.\n\n";
+
+    private static final String REPEATED_ASSESSMENTS =
+            "    IMPORTANT: If the syllabus mentions repeated assessments (e.g., \"Tutorial Activities 1-5\" or \"5 Assignments\"), create a SEPARATE object for each instance.\n" +
+            "    If the syllabus states that some are dropped (e.g., \"best 5 of 6 tutorials count\"), only create objects for the number that count (5 in this example) and calculate their weighting accordingly.\n";
+
+    private static final String JSON_ONLY =
+            "CRITICAL: Return ONLY the JSON object. No markdown code blocks, no explanations, just the JSON.\n\n" +
+            "Here is the syllabus text:\n" +
+            "---\n";
+
     private String buildPrompt(String syllabusText) {
-        return String.format(
-            "Extract the following information from the syllabus text provided below.\n" +
+        return "Extract the following information from the syllabus text provided below.\n" +
             "Return ONLY a single, valid JSON object. Do not include any explanatory text before or after the JSON.\n\n" +
             "The JSON object must have these top-level keys: courseCode, courseName, term, instructor, assessments.\n\n" +
             "1.  \"courseCode\": (String) The course code (e.g., \"CS101\"). REQUIRED.\n" +
@@ -126,135 +312,46 @@ public class AiExtractorDataAccessObject implements AiExtractionDataAccessInterf
             "3.  \"term\": (String) The academic term (e.g., \"Fall 2023\"). If not found, use null.\n" +
             "4.  \"instructor\": (String) The name of the course instructor (e.g., \"Dr. Jane Smith\"). If not found, use null.\n" +
             "5.  \"assessments\": An array of objects. Each object represents a single graded item. REQUIRED - must have at least one assessment.\n" +
-            "    IMPORTANT: If the syllabus mentions repeated assessments (e.g., \"Tutorial Activities 1-5\" or \"5 Assignments\"), create a SEPARATE object for each instance.\n" +
-            "    If the syllabus states that some are dropped (e.g., \"best 5 of 6 tutorials count\"), only create objects for the number that count (5 in this example) and calculate their weighting accordingly.\n" +
-            "    Each assessment object must have these keys:\n" +
-            "    - \"title\": (String) The name of the assessment (e.g., \"Assignment 1: Logic Puzzles\"). For repeated items, number them.\n" +
-            "    - \"type\": (String) MUST BE ONE OF: TEST, ASSIGNMENT, EXAM, QUIZ, PROJECT, OTHER\n" +
-            "    - \"weight\": (Double) The grade percentage as a decimal (e.g., 0.15 for 15%%). For repeated items, divide total weight equally.\n" +
-            "    - \"dueDateIso\": (String) ISO-8601 string. If the syllabus only has month/day, infer the year from the term; if none, use the current year. Default time to 23:59:00 and output as ISO-8601 (e.g., 2025-10-15T23:59:00Z). If no date is present, use null.\n" +
-            "    - \"notes\": (String) Any additional information. Use empty string if none.\n\n" +
-            "CRITICAL: Return ONLY the JSON object. No markdown code blocks, no explanations, just the JSON.\n\n" +
-            "Here is the syllabus text:\n" +
-            "---\n" +
-            "%s",
-            syllabusText);
+            REPEATED_ASSESSMENTS +
+            ASSESSMENT_FIELDS +
+            JSON_ONLY +
+            syllabusText;
     }
 
-    private String callGeminiApi(String prompt) throws IOException, InterruptedException {
-        String apiEndpoint = "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.0-flash:generateContent?key=" + this.apiKey;
-
-        Map<String, Object> requestBodyMap = Map.of(
-                "contents", new Map[]{
-                        Map.of(
-                                "parts", new Map[]{
-                                        Map.of("text", prompt)
-                                }
-                        )
-                }
-        );
-
-        String requestBody = gson.toJson(requestBodyMap);
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(apiEndpoint))
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                .build();
-
-        // Send request and get response
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-        
-        // Check for any network or API errors
-        if (response.statusCode() != 200) {
-            throw new IOException("API request failed with status " + response.statusCode() + ": " + response.body());
+    /**
+     * A prompt for only the missing parts of an earlier answer. When just the course details are
+     * missing, only the start of the syllabus is sent.
+     */
+    private String buildRepairPrompt(String syllabusText, SyllabusParseResultData partial,
+                                     boolean headerMissing, boolean assessmentsMissing) {
+        List<String> keys = new ArrayList<>();
+        StringBuilder fields = new StringBuilder();
+        if (headerMissing) {
+            keys.add("courseCode");
+            keys.add("courseName");
+            fields.append("- \"courseCode\": (String) The course code (e.g., \"CS101\").\n")
+                    .append("- \"courseName\": (String) The full name of the course (e.g., \"Introduction to Computer Science\").\n");
         }
-
-        return response.body();
-    }
-
-    private SyllabusParseResultData parseGeminiResponse(String rawApiResponse) {
-        try {
-            // Parse the outer API response wrapper
-            JsonObject jsonObject = gson.fromJson(rawApiResponse, JsonObject.class);
-            
-            // Validate the root JSON object exists
-            if (jsonObject == null) {
-                throw new RuntimeException("Response is not valid JSON");
-            }
-            
-            // Navigate to the "candidates" array - Gemini returns multiple candidate responses
-            JsonArray candidates = jsonObject.getAsJsonArray("candidates");
-            if (candidates == null || candidates.isEmpty()) {
-                throw new RuntimeException("No candidates in response. Full response: " + rawApiResponse);
-            }
-            
-            // Get the first (best) candidate response
-            JsonObject candidate = candidates.get(0).getAsJsonObject();
-            if (candidate == null) {
-                throw new RuntimeException("First candidate is null");
-            }
-            
-            // Navigate to the "content" object within the candidate
-            JsonObject content = candidate.getAsJsonObject("content");
-            if (content == null) {
-                throw new RuntimeException("Content is null in candidate");
-            }
-            
-            // Navigate to the "parts" array - content can have multiple parts
-            JsonArray parts = content.getAsJsonArray("parts");
-            if (parts == null || parts.isEmpty()) {
-                throw new RuntimeException("No parts in content");
-            }
-            
-            // Get the first part (should contain our text response)
-            JsonObject part = parts.get(0).getAsJsonObject();
-            if (part == null) {
-                throw new RuntimeException("First part is null");
-            }
-            
-            // Extract the actual text content from the part
-            JsonElement textElement = part.get("text");
-            if (textElement == null || !textElement.isJsonPrimitive()) {
-                throw new RuntimeException("Text element is missing or not a string");
-            }
-            
-            String extracted = textElement.getAsString().trim();
-            
-            // Handle case where AI wraps JSON in markdown code blocks (```json ... ```)
-            if (extracted.startsWith("```")) {
-                System.out.println("Response wrapped in code blocks, extracting...");
-                int start = extracted.indexOf('{');
-                int end = extracted.lastIndexOf('}');
-                if (start == -1 || end == -1 || end <= start) {
-                    throw new RuntimeException("Could not find valid JSON in code block");
+        if (assessmentsMissing) {
+            keys.add("assessments");
+            fields.append("- \"assessments\": An array of objects, one per graded item");
+            if (!partial.getAssessments().isEmpty()) {
+                List<String> known = new ArrayList<>();
+                for (AssessmentDraftData assessment : partial.getAssessments()) {
+                    known.add(assessment.getTitle());
                 }
-                extracted = extracted.substring(start, end + 1).trim();
+                fields.append(", leaving out these already extracted items: ").append(gson.toJson(known))
+                        .append(". Use an empty array if there are no others");
             }
-            
-            // Remove any leading/trailing text before first { and after last }
-            int firstBrace = extracted.indexOf('{');
-            int lastBrace = extracted.lastIndexOf('}');
-            if (firstBrace > 0 || lastBrace < extracted.length() - 1) {
-                System.out.println("Trimming extra text around JSON object...");
-                if (firstBrace == -1 || lastBrace == -1) {
-                    throw new RuntimeException("No valid JSON object found in response");
-                }
-                extracted = extracted.substring(firstBrace, lastBrace + 1);
-            }
-            
-            // Log a preview of the extracted JSON for debugging
-            System.out.println("Extracted JSON: " + extracted);
-            
-            // Parse the cleaned JSON into our DTO
-            return gson.fromJson(extracted, SyllabusParseResultData.class);
-            
-        } catch (JsonSyntaxException e) {
-            System.err.println("Raw response causing parse error: " + rawApiResponse);
-            throw new RuntimeException("Failed to parse JSON: " + e.getMessage(), e);
-        } catch (NullPointerException e) {
-            System.err.println("Unexpected null in response structure: " + rawApiResponse);
-            throw new RuntimeException("Unexpected response structure from Gemini API", e);
+            fields.append(".\n").append(REPEATED_ASSESSMENTS).append(ASSESSMENT_FIELDS);
         }
+
+        String text = assessmentsMissing || syllabusText.length() <= HEADER_CHARS
+                ? syllabusText : syllabusText.substring(0, HEADER_CHARS);
+        return "Part of this syllabus has already been extracted. Return ONLY a single, valid JSON object " +
+            "with these keys: " + String.join(", ", keys) + ".\n\n" +
+            fields +
+            JSON_ONLY +
+            text;
     }
 }
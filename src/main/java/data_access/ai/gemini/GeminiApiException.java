@@ -0,0 +1,36 @@
+package data_access.ai.gemini;
+
+/**
+ * A Gemini call that failed at the HTTP level: an error status, a timeout, a dropped connection or
+ * an open circuit breaker.
+ */
+public class GeminiApiException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /** Status code used when no HTTP response was received. */
+    public static final int NO_RESPONSE = -1;
+
+    private final int statusCode;
+    private final boolean retryable;
+
+    public GeminiApiException(String message, int statusCode, boolean retryable) {
+        super(message);
+        this.statusCode = statusCode;
+        this.retryable = retryable;
+    }
+
+    public GeminiApiException(String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = NO_RESPONSE;
+        this.retryable = true;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /** Whether sending the same request again may succeed. */
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
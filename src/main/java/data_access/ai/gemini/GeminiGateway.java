@@ -0,0 +1,181 @@
+package data_access.ai.gemini;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+
+import data_access.ai.AiGateway;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * {@link AiGateway} for the Gemini {@code generateContent} API, or anything that speaks it (such
+ * as {@link MockGeminiServer}).
+ *
+ * <p>Core functionalities:
+ * <ul>
+ *   <li>Endpoint and model are configurable; the API key goes in the {@code x-goog-api-key}
+ *       header rather than the URL, so it does not end up in logs</li>
+ *   <li>generate: one {@code generateContent} call, unwrapped to the candidate's text</li>
+ *   <li>generateStream: {@code streamGenerateContent?alt=sse}, unwrapped to the text of each event</li>
+ * </ul>
+ */
+public class GeminiGateway implements AiGateway {
+    private static final Logger LOGGER = Logger.getLogger(GeminiGateway.class.getName());
+    public static final String DEFAULT_BASE_URL = "https://generativelanguage.googleapis.com/v1beta";
+    public static final String DEFAULT_MODEL = "gemini-2.0-flash";
+
+    private static final String DATA_PREFIX = "data:";
+
+    private final URI endpoint;
+    private final URI streamEndpoint;
+    private final String model;
+    private final Map<String, String> headers;
+    private final GeminiHttpClient httpClient;
+    private final Gson gson = new Gson();
+
+    public GeminiGateway(String apiKey) {
+        this(DEFAULT_BASE_URL, DEFAULT_MODEL, apiKey, GeminiHttpClient.shared());
+    }
+
+    public GeminiGateway(String baseUrl, String model, String apiKey, GeminiHttpClient httpClient) {
+        String modelUrl = trimTrailingSlash(Objects.requireNonNull(baseUrl, "baseUrl"))
+                + "/models/" + Objects.requireNonNull(model, "model");
+        this.endpoint = URI.create(modelUrl + ":generateContent");
+        this.streamEndpoint = URI.create(modelUrl + ":streamGenerateContent?alt=sse");
+        this.model = model;
+        this.headers = Map.of("x-goog-api-key", Objects.requireNonNull(apiKey, "apiKey"));
+        this.httpClient = Objects.requireNonNull(httpClient, "httpClient");
+    }
+
+    @Override
+    public CompletableFuture<String> generate(String prompt) {
+        return httpClient.postJson(endpoint, buildRequestBody(prompt), headers)
+                .thenApply(this::extractModelText);
+    }
+
+    @Override
+    public CompletableFuture<Stream<String>> generateStream(String prompt) {
+        return httpClient.postJsonForLines(streamEndpoint, buildRequestBody(prompt), headers)
+                .thenApply(lines -> lines
+                        .filter(line -> line.startsWith(DATA_PREFIX))
+                        .map(line -> textOfEvent(line.substring(DATA_PREFIX.length()).trim()))
+                        .filter(text -> !text.isEmpty())
+                        .onClose(lines::close));
+    }
+
+    @Override
+    public String getModel() {
+        return model;
+    }
+
+    private String buildRequestBody(String prompt) {
+        // Gson writes the lists as the JSON arrays Gemini expects
+        Map<String, Object> requestBodyMap = Map.of(
+                "contents", List.of(
+                        Map.of(
+                                "parts", List.of(
+                                        Map.of("text", prompt)
+                                )
+                        )
+                )
+        );
+
+        return gson.toJson(requestBodyMap);
+    }
+
+    private String extractModelText(String rawApiResponse) {
+        try {
+            // Parse the outer API response wrapper
+            JsonObject jsonObject = gson.fromJson(rawApiResponse, JsonObject.class);
+
+            // Validate the root JSON object exists
+            if (jsonObject == null) {
+                throw new RuntimeException("Response is not valid JSON");
+            }
+
+            // Navigate to the "candidates" array - Gemini returns multiple candidate responses
+            JsonArray candidates = jsonObject.getAsJsonArray("candidates");
+            if (candidates == null || candidates.isEmpty()) {
+                throw new RuntimeException("No candidates in response. Full response: " + rawApiResponse);
+            }
+
+            // Get the first (best) candidate response
+            JsonObject candidate = candidates.get(0).getAsJsonObject();
+            if (candidate == null) {
+                throw new RuntimeException("First candidate is null");
+            }
+
+            // Navigate to the "content" object within the candidate
+            JsonObject content = candidate.getAsJsonObject("content");
+            if (content == null) {
+                throw new RuntimeException("Content is null in candidate");
+            }
+
+            // Navigate to the "parts" array - content can have multiple parts
+            JsonArray parts = content.getAsJsonArray("parts");
+            if (parts == null || parts.isEmpty()) {
+                throw new RuntimeException("No parts in content");
+            }
+
+            // Get the first part (should contain our text response)
+            JsonObject part = parts.get(0).getAsJsonObject();
+            if (part == null) {
+                throw new RuntimeException("First part is null");
+            }
+
+            // Extract the actual text content from the part
+            JsonElement textElement = part.get("text");
+            if (textElement == null || !textElement.isJsonPrimitive()) {
+                throw new RuntimeException("Text element is missing or not a string");
+            }
+
+            String extracted = textElement.getAsString().trim();
+
+            // Whole model answers only when debugging; they carry the syllabus contents
+            LOGGER.fine(() -> "Extracted JSON: " + extracted);
+            return extracted;
+
+        } catch (JsonSyntaxException e) {
+            LOGGER.fine(() -> "Raw response causing parse error: " + rawApiResponse);
+            throw new RuntimeException("Failed to parse JSON: " + e.getMessage(), e);
+        } catch (NullPointerException e) {
+            LOGGER.fine(() -> "Unexpected null in response structure: " + rawApiResponse);
+            throw new RuntimeException("Unexpected response structure from Gemini API", e);
+        }
+    }
+
+    /** Returns the text in one server-sent event, or an empty string if it has none. */
+    private String textOfEvent(String eventJson) {
+        JsonObject event = gson.fromJson(eventJson, JsonObject.class);
+        JsonArray candidates = event == null ? null : event.getAsJsonArray("candidates");
+        if (candidates == null || candidates.isEmpty()) {
+            return "";
+        }
+        JsonObject content = candidates.get(0).getAsJsonObject().getAsJsonObject("content");
+        JsonArray parts = content == null ? null : content.getAsJsonArray("parts");
+        if (parts == null) {
+            return "";
+        }
+        StringBuilder text = new StringBuilder();
+        for (JsonElement part : parts) {
+            JsonElement partText = part.getAsJsonObject().get("text");
+            if (partText != null && partText.isJsonPrimitive()) {
+                text.append(partText.getAsString());
+            }
+        }
+        return text.toString();
+    }
+
+    private static String trimTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
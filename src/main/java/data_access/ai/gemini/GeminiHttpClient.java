@@ -0,0 +1,256 @@
+package data_access.ai.gemini;
+
+import use_case.port.outgoing.MetricsRegistry;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * HTTP transport for Gemini calls.
+ *
+ * <p>Core functionalities:
+ * <ul>
+ *   <li>One {@link HttpClient} per instance, so connections are kept alive and reused (over HTTP/2
+ *       when the server supports it) instead of being opened for every request</li>
+ *   <li>A connect timeout and a per-request deadline, so a hung call fails instead of blocking;
+ *       streamed bodies get the same deadline again for reading, since the request timeout
+ *       only covers the wait for the response headers</li>
+ *   <li>Retries of transient failures (timeouts, I/O errors, 408, 429 and 5xx gateway errors)
+ *       with full-jitter exponential backoff, scheduled without blocking a thread</li>
+ *   <li>Other 4xx responses fail immediately since sending the same request again cannot help</li>
+ *   <li>A {@link CircuitBreaker} that fails fast while the service keeps failing</li>
+ * </ul>
+ */
+public class GeminiHttpClient {
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final Duration DEFAULT_BASE_BACKOFF = Duration.ofMillis(500);
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(8);
+
+    private static final Set<Integer> RETRYABLE_STATUS_CODES = Set.of(408, 429, 500, 502, 503, 504);
+    private static GeminiHttpClient shared;
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final CircuitBreaker circuitBreaker;
+    private final MetricsRegistry metrics;
+
+    public GeminiHttpClient() {
+        this(DEFAULT_CONNECT_TIMEOUT, DEFAULT_REQUEST_TIMEOUT, DEFAULT_MAX_ATTEMPTS,
+                DEFAULT_BASE_BACKOFF, DEFAULT_MAX_BACKOFF, new CircuitBreaker());
+    }
+
+    public GeminiHttpClient(Duration connectTimeout, Duration requestTimeout, int maxAttempts,
+                            Duration baseBackoff, Duration maxBackoff, CircuitBreaker circuitBreaker) {
+        this(connectTimeout, requestTimeout, maxAttempts, baseBackoff, maxBackoff, circuitBreaker, MetricsRegistry.NOOP);
+    }
+
+    /**
+     * Counts {@code ai.http.retries}, calls rejected by the breaker as {@code ai.http.circuit_open}
+     * and streamed bodies cut off at their deadline as {@code ai.http.read_timeouts}.
+     */
+    public GeminiHttpClient(Duration connectTimeout, Duration requestTimeout, int maxAttempts,
+                            Duration baseBackoff, Duration maxBackoff, CircuitBreaker circuitBreaker,
+                            MetricsRegistry metrics) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Objects.requireNonNull(connectTimeout, "connectTimeout"))
+                .build();
+        this.requestTimeout = Objects.requireNonNull(requestTimeout, "requestTimeout");
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Objects.requireNonNull(baseBackoff, "baseBackoff");
+        this.maxBackoff = Objects.requireNonNull(maxBackoff, "maxBackoff");
+        this.circuitBreaker = Objects.requireNonNull(circuitBreaker, "circuitBreaker");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    /** Returns the client shared by every Gemini data access object that does not bring its own. */
+    public static synchronized GeminiHttpClient shared() {
+        if (shared == null) {
+            shared = new GeminiHttpClient();
+        }
+        return shared;
+    }
+
+    /**
+     * POSTs a JSON body and completes with the response body of the first 2xx response. Completes
+     * exceptionally with a {@link GeminiApiException} once the error is fatal or all attempts are used.
+     */
+    public CompletableFuture<String> postJson(URI uri, String body) {
+        return postJson(uri, body, Map.of());
+    }
+
+    public CompletableFuture<String> postJson(URI uri, String body, Map<String, String> headers) {
+        return send(buildRequest(uri, body, headers), HttpResponse.BodyHandlers.ofString(), Function.identity(), 1);
+    }
+
+    /**
+     * POSTs a JSON body and completes as soon as a 2xx response starts, with its body as a lazy
+     * stream of lines. Only failures before that point are retried. The caller must close the
+     * stream, and should read it off the HTTP client's threads. If the body has not been read to
+     * the end within the request timeout of the response starting, the stream is closed and the
+     * pending read fails with an {@link java.io.UncheckedIOException}.
+     */
+    public CompletableFuture<Stream<String>> postJsonForLines(URI uri, String body, Map<String, String> headers) {
+        return send(buildRequest(uri, body, headers), HttpResponse.BodyHandlers.ofLines(),
+                lines -> {
+                    try (lines) {
+                        return lines.collect(Collectors.joining("\n"));
+                    }
+                }, 1)
+                .thenApply(this::withReadDeadline);
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Full-jitter exponential backoff: a random delay between zero and
+     * {@code min(maxBackoff, baseBackoff * 2^(attempt - 1))}.
+     */
+    Duration backoff(int attempt) {
+        return fullJitter(attempt, baseBackoff, maxBackoff);
+    }
+
+    static Duration fullJitter(int attempt, Duration baseBackoff, Duration maxBackoff) {
+        long cap = baseBackoff.toMillis() << Math.min(Math.max(attempt - 1, 0), 20);
+        cap = Math.min(cap, maxBackoff.toMillis());
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+    }
+
+    /** Returns a future that completes after {@link #backoff(int)} and then runs {@code next}. */
+    <T> CompletableFuture<T> retryLater(int attempt, Function<Void, CompletableFuture<T>> next) {
+        return retryAfter(backoff(attempt), next);
+    }
+
+    static <T> CompletableFuture<T> retryAfter(Duration delay, Function<Void, CompletableFuture<T>> next) {
+        Executor delayed = CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS);
+        return CompletableFuture.runAsync(() -> { }, delayed).thenCompose(next);
+    }
+
+    static boolean isRetryable(int statusCode) {
+        return RETRYABLE_STATUS_CODES.contains(statusCode);
+    }
+
+    /**
+     * Waits for {@code future} and rethrows its failure as the original runtime exception. The wait
+     * is abandoned, and the future cancelled, if the calling thread is interrupted.
+     */
+    static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new GeminiApiException("Interrupted while waiting for Gemini", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new GeminiApiException("Gemini request failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException)
+                && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    /**
+     * Closes {@code lines} once the request timeout has passed. Closing the body wakes a read that
+     * is blocked waiting for more data, which then fails instead of hanging on a stalled stream.
+     */
+    private Stream<String> withReadDeadline(Stream<String> lines) {
+        Executor deadline = CompletableFuture.delayedExecutor(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        CompletableFuture<Void> expiry = CompletableFuture.runAsync(() -> {
+            metrics.increment("ai.http.read_timeouts");
+            lines.close();
+        }, deadline);
+        return lines.onClose(() -> expiry.cancel(false));
+    }
+
+    private HttpRequest buildRequest(URI uri, String body, Map<String, String> headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(uri)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        headers.forEach(builder::header);
+        return builder.build();
+    }
+
+    private <T> CompletableFuture<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler,
+                                          Function<T, String> errorBody, int attempt) {
+        if (!circuitBreaker.tryAcquire()) {
+            metrics.increment("ai.http.circuit_open");
+            return CompletableFuture.failedFuture(new GeminiApiException(
+                    "Gemini is unavailable after repeated failures; not retrying for now",
+                    GeminiApiException.NO_RESPONSE, false));
+        }
+        return httpClient.sendAsync(request, bodyHandler)
+                .handle((response, error) -> onResponse(request, bodyHandler, errorBody, attempt, response, error))
+                .thenCompose(Function.identity());
+    }
+
+    private <T> CompletableFuture<T> onResponse(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler,
+                                                Function<T, String> errorBody, int attempt,
+                                                HttpResponse<T> response, Throwable error) {
+        GeminiApiException failure;
+        if (error != null) {
+            Throwable cause = unwrap(error);
+            if (!(cause instanceof IOException)) {
+                circuitBreaker.onFailure();
+                return CompletableFuture.failedFuture(cause);
+            }
+            failure = new GeminiApiException("Gemini request failed: " + cause, cause);
+            circuitBreaker.onFailure();
+        } else if (response.statusCode() / 100 == 2) {
+            circuitBreaker.onSuccess();
+            return CompletableFuture.completedFuture(response.body());
+        } else {
+            boolean retryable = isRetryable(response.statusCode());
+            // A rejected request says nothing about the health of the service
+            if (retryable) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            failure = new GeminiApiException("API request failed with status " + response.statusCode()
+                    + ": " + errorBody.apply(response.body()), response.statusCode(), retryable);
+        }
+
+        if (!failure.isRetryable() || attempt >= maxAttempts) {
+            return CompletableFuture.failedFuture(failure);
+        }
+        metrics.increment("ai.http.retries");
+        return retryLater(attempt, ignored -> send(request, bodyHandler, errorBody, attempt + 1));
+    }
+}
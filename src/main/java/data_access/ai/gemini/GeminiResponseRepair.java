@@ -0,0 +1,222 @@
+package data_access.ai.gemini;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
+import use_case.dto.AssessmentDraftData;
+import use_case.dto.SyllabusParseResultData;
+
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Salvages what it can from a model answer that is not a complete, valid syllabus object.
+ *
+ * <p>Core functionalities:
+ * <ul>
+ *   <li>Text around the JSON object, such as a markdown code fence, is ignored</li>
+ *   <li>A truncated answer is cut back to its last complete top-level field or assessment, and
+ *       the arrays and objects still open at that point are closed</li>
+ *   <li>Assessments that cannot be read, or have no title or type, are dropped</li>
+ * </ul>
+ * The result says whether anything was lost, so the caller can ask Gemini for only the missing
+ * pieces instead of repeating the whole request.
+ */
+class GeminiResponseRepair {
+    /**
+     * Cuts are only made between top-level fields (depth 1) or between assessments (depth 2), so
+     * a half-written assessment is dropped rather than kept with missing fields.
+     */
+    private static final int MAX_CUT_DEPTH = 2;
+
+    private final Gson gson;
+
+    GeminiResponseRepair(Gson gson) {
+        this.gson = gson;
+    }
+
+    /** What was salvaged from one answer. */
+    static final class Repaired {
+        private final SyllabusParseResultData result;
+        private final boolean intact;
+
+        private Repaired(SyllabusParseResultData result, boolean intact) {
+            this.result = result;
+            this.intact = intact;
+        }
+
+        public SyllabusParseResultData getResult() {
+            return result;
+        }
+
+        /** Whether the answer parsed as a whole and no assessment had to be dropped. */
+        public boolean isIntact() {
+            return intact;
+        }
+    }
+
+    /**
+     * @param modelText: the text the model generated
+     * @return the salvaged syllabus, or null if the text holds no usable JSON object.
+     */
+    Repaired repair(String modelText) {
+        int start = modelText.indexOf('{');
+        if (start < 0) {
+            return null;
+        }
+        int end = modelText.lastIndexOf('}');
+        if (end > start) {
+            JsonObject whole = parseLeniently(modelText.substring(start, end + 1));
+            if (whole != null) {
+                return toRepaired(whole, true);
+            }
+        }
+
+        String truncated = truncateToLastCompleteValue(modelText.substring(start));
+        if (truncated == null) {
+            return null;
+        }
+        JsonObject partial = parseLeniently(truncated);
+        if (partial == null) {
+            return null;
+        }
+        return toRepaired(partial, false);
+    }
+
+    /**
+     * Returns the longest prefix of {@code json} that ends after a complete value at depth
+     * {@value #MAX_CUT_DEPTH} or less, with the brackets still open there closed again.
+     */
+    static String truncateToLastCompleteValue(String json) {
+        Deque<Character> open = new ArrayDeque<>();
+        boolean inString = false;
+        boolean escaped = false;
+        int cut = -1;
+        String closers = "";
+
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+            switch (c) {
+                case '"':
+                    inString = true;
+                    break;
+                case '{':
+                case '[':
+                    open.push(c);
+                    break;
+                case '}':
+                case ']':
+                    if (open.isEmpty() || open.peek() != (c == '}' ? '{' : '[')) {
+                        return cut < 0 ? null : json.substring(0, cut) + closers;
+                    }
+                    open.pop();
+                    if (open.isEmpty()) {
+                        return json.substring(0, i + 1);
+                    }
+                    if (open.size() <= MAX_CUT_DEPTH) {
+                        cut = i + 1;
+                        closers = closersFor(open);
+                    }
+                    break;
+                case ',':
+                    if (open.size() <= MAX_CUT_DEPTH) {
+                        cut = i;
+                        closers = closersFor(open);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return cut < 0 ? null : json.substring(0, cut) + closers;
+    }
+
+    private static String closersFor(Deque<Character> open) {
+        StringBuilder closers = new StringBuilder();
+        for (char bracket : open) {
+            closers.append(bracket == '{' ? '}' : ']');
+        }
+        return closers.toString();
+    }
+
+    private static JsonObject parseLeniently(String json) {
+        try {
+            JsonReader reader = new JsonReader(new StringReader(json));
+            reader.setLenient(true);
+            JsonElement element = JsonParser.parseReader(reader);
+            return element.isJsonObject() ? element.getAsJsonObject() : null;
+        } catch (JsonParseException | StackOverflowError e) {
+            return null;
+        }
+    }
+
+    private Repaired toRepaired(JsonObject json, boolean parsedWhole) {
+        List<AssessmentDraftData> assessments = new ArrayList<>();
+        int dropped = 0;
+        JsonElement array = json.get("assessments");
+        if (array != null && array.isJsonArray()) {
+            for (JsonElement element : (JsonArray) array) {
+                // A trailing comma reads as null in lenient mode; nothing is lost
+                if (element.isJsonNull()) {
+                    continue;
+                }
+                AssessmentDraftData assessment = toAssessment(element);
+                if (assessment == null) {
+                    dropped++;
+                } else {
+                    assessments.add(assessment);
+                }
+            }
+        }
+
+        SyllabusParseResultData result = new SyllabusParseResultData(
+                stringOf(json, "courseCode"),
+                stringOf(json, "courseName"),
+                stringOf(json, "term"),
+                stringOf(json, "instructor"),
+                assessments);
+        return new Repaired(result, parsedWhole && dropped == 0);
+    }
+
+    private AssessmentDraftData toAssessment(JsonElement element) {
+        if (!element.isJsonObject()) {
+            return null;
+        }
+        try {
+            AssessmentDraftData assessment = gson.fromJson(element, AssessmentDraftData.class);
+            if (assessment.getTitle() == null || assessment.getType() == null) {
+                return null;
+            }
+            return assessment;
+        } catch (JsonParseException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String stringOf(JsonObject json, String key) {
+        JsonElement value = json.get(key);
+        if (value == null || !value.isJsonPrimitive()) {
+            return null;
+        }
+        String text = value.getAsString().trim();
+        return text.isEmpty() ? null : text;
+    }
+}
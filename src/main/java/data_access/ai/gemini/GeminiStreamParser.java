@@ -0,0 +1,146 @@
+package data_access.ai.gemini;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import use_case.dto.AssessmentDraftData;
+import use_case.dto.SyllabusParseResultData;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Parses a streamed model answer while it is still arriving.
+ *
+ * <p>The text fragments from {@link data_access.ai.AiGateway#generateStream} are joined into one
+ * character stream and read with a {@link JsonReader}, so every element of the {@code assessments}
+ * array is handed to the listener as soon as its closing brace arrives rather than after the
+ * whole response.
+ */
+class GeminiStreamParser {
+    private final Gson gson;
+
+    GeminiStreamParser(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * Reads the syllabus object from the generated text, closing the stream when done.
+     * @param fragments: the generated text, in order
+     * @param onAssessment: called with each assessment as soon as it is complete
+     * @return the parsed syllabus; {@code assessments} is empty if the model left it out.
+     */
+    SyllabusParseResultData parse(Stream<String> fragments, Consumer<AssessmentDraftData> onAssessment)
+            throws IOException {
+        String courseCode = null;
+        String courseName = null;
+        String term = null;
+        String instructor = null;
+        List<AssessmentDraftData> assessments = new ArrayList<>();
+
+        try (JsonReader reader = new JsonReader(new FragmentReader(fragments))) {
+            reader.setLenient(true);
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "courseCode":
+                        courseCode = nextNullableString(reader);
+                        break;
+                    case "courseName":
+                        courseName = nextNullableString(reader);
+                        break;
+                    case "term":
+                        term = nextNullableString(reader);
+                        break;
+                    case "instructor":
+                        instructor = nextNullableString(reader);
+                        break;
+                    case "assessments":
+                        if (reader.peek() == JsonToken.NULL) {
+                            reader.nextNull();
+                            break;
+                        }
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            AssessmentDraftData assessment = gson.fromJson(reader, AssessmentDraftData.class);
+                            assessments.add(assessment);
+                            onAssessment.accept(assessment);
+                        }
+                        reader.endArray();
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+        return new SyllabusParseResultData(courseCode, courseName, term, instructor, assessments);
+    }
+
+    private static String nextNullableString(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    /**
+     * The fragments as one character stream, pulled one fragment at a time. Anything before the
+     * first '{' (such as a markdown code fence) is dropped.
+     */
+    private static class FragmentReader extends Reader {
+        private final Stream<String> fragments;
+        private final Iterator<String> iterator;
+        private String fragment = "";
+        private int position;
+        private boolean inObject;
+
+        FragmentReader(Stream<String> fragments) {
+            this.fragments = fragments;
+            this.iterator = fragments.iterator();
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            while (position >= fragment.length()) {
+                if (!nextFragment()) {
+                    return -1;
+                }
+            }
+            int count = Math.min(length, fragment.length() - position);
+            fragment.getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            fragments.close();
+        }
+
+        private boolean nextFragment() {
+            while (iterator.hasNext()) {
+                String text = iterator.next();
+                if (!inObject) {
+                    int start = text.indexOf('{');
+                    if (start < 0) {
+                        continue;
+                    }
+                    text = text.substring(start);
+                    inObject = true;
+                }
+                fragment = text;
+                position = 0;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package data_access.ai.gemini;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Local stand-in for the Gemini API, for running and load-testing the ingestion pipeline offline.
+ *
+ * <p>Core functionalities:
+ * <ul>
+ *   <li>Replays recorded {@code generateContent} response bodies in turn, for any model</li>
+ *   <li>Answers {@code streamGenerateContent?alt=sse} with the same text split over several events</li>
+ *   <li>Adds a configurable latency (base plus random jitter) to every response</li>
+ *   <li>Injects failures: a share of requests answered with an error status</li>
+ * </ul>
+ * Point a {@link GeminiGateway} at {@link #getBaseUrl()}; the API key is ignored.
+ */
+public class MockGeminiServer implements AutoCloseable {
+    private static final int STREAM_FRAGMENT_CHARS = 64;
+
+    private final List<String> recordedResponses;
+    private final Gson gson = new Gson();
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile Duration latency = Duration.ZERO;
+    private volatile Duration latencyJitter = Duration.ZERO;
+    private volatile double failureRate;
+    private volatile int failureStatus = 503;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * @param recordedResponses: full {@code generateContent} response bodies, replayed round-robin
+     */
+    public MockGeminiServer(List<String> recordedResponses) {
+        if (recordedResponses.isEmpty()) {
+            throw new IllegalArgumentException("At least one recorded response is needed");
+        }
+        this.recordedResponses = List.copyOf(recordedResponses);
+    }
+
+    /** Replays every {@code *.json} file in {@code directory}, in file name order. */
+    public static MockGeminiServer fromDirectory(Path directory) throws IOException {
+        List<String> responses = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".json")).sorted()
+                    .collect(Collectors.toList())) {
+                responses.add(Files.readString(file, StandardCharsets.UTF_8));
+            }
+        }
+        return new MockGeminiServer(responses);
+    }
+
+    /** Wraps model text in a {@code generateContent} response body, e.g. to build a recording by hand. */
+    public static String responseFor(String modelText) {
+        return new Gson().toJson(Map.of("candidates", List.of(Map.of(
+                "content", Map.of("role", "model", "parts", List.of(Map.of("text", modelText))),
+                "finishReason", "STOP"))));
+    }
+
+    /** Every response waits {@code latency} plus a random share of {@code jitter}. */
+    public MockGeminiServer setLatency(Duration latency, Duration jitter) {
+        this.latency = latency;
+        this.latencyJitter = jitter;
+        return this;
+    }
+
+    /** Answers this share of requests (0 to 1) with {@code status} instead of a recorded response. */
+    public MockGeminiServer setFailureRate(double failureRate, int status) {
+        if (failureRate < 0 || failureRate > 1) {
+            throw new IllegalArgumentException("failureRate must be between 0 and 1");
+        }
+        this.failureRate = failureRate;
+        this.failureStatus = status;
+        return this;
+    }
+
+    /** Starts on {@code port}, or on a free port if it is 0. */
+    public synchronized MockGeminiServer start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        // Each request sleeps for its latency, so requests need their own threads to overlap
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "mock-gemini");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        return this;
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /** Requests received so far, failed ones included. */
+    public int getRequestCount() {
+        return requests.get();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            exchange.getRequestBody().readAllBytes();
+            int number = requests.incrementAndGet();
+            sleep(latency.plusMillis(latencyJitter.isZero()
+                    ? 0 : ThreadLocalRandom.current().nextLong(latencyJitter.toMillis() + 1)));
+
+            if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+                send(exchange, failureStatus, "{\"error\": {\"code\": " + failureStatus
+                        + ", \"message\": \"Injected failure\"}}");
+                return;
+            }
+
+            String response = recordedResponses.get((number - 1) % recordedResponses.size());
+            String path = exchange.getRequestURI().getPath();
+            if (path.endsWith(":streamGenerateContent")) {
+                stream(exchange, response);
+            } else if (path.endsWith(":generateContent")) {
+                send(exchange, 200, response);
+            } else {
+                send(exchange, 404, "{\"error\": {\"code\": 404, \"message\": \"Unknown method\"}}");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void stream(HttpExchange exchange, String response) throws IOException {
+        String text = modelTextOf(response);
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        for (int i = 0; i < text.length(); i += STREAM_FRAGMENT_CHARS) {
+            String fragment = text.substring(i, Math.min(text.length(), i + STREAM_FRAGMENT_CHARS));
+            out.write(("data: " + responseFor(fragment) + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+    }
+
+    private String modelTextOf(String response) {
+        JsonObject json = gson.fromJson(response, JsonObject.class);
+        JsonArray parts = json.getAsJsonArray("candidates").get(0).getAsJsonObject()
+                .getAsJsonObject("content").getAsJsonArray("parts");
+        StringBuilder text = new StringBuilder();
+        for (JsonElement part : parts) {
+            text.append(part.getAsJsonObject().get("text").getAsString());
+        }
+        return text.toString();
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs the server until the process is stopped.
+     * Usage: MockGeminiServer &lt;recordings-dir&gt; [port] [latency-ms] [jitter-ms] [failure-rate]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: MockGeminiServer <recordings-dir> [port] [latency-ms] [jitter-ms] [failure-rate]");
+            return;
+        }
+        MockGeminiServer server = fromDirectory(Paths.get(args[0]))
+                .setLatency(Duration.ofMillis(args.length > 2 ? Long.parseLong(args[2]) : 0),
+                        Duration.ofMillis(args.length > 3 ? Long.parseLong(args[3]) : 0))
+                .setFailureRate(args.length > 4 ? Double.parseDouble(args[4]) : 0, 503)
+                .start(args.length > 1 ? Integer.parseInt(args[1]) : 8089);
+        System.out.println("Mock Gemini listening on " + server.getBaseUrl()
+                + "; set gemini.base.url to this address");
+    }
+}
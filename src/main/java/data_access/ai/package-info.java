@@ -0,0 +1,4 @@
+/**
+ * Provider-independent access to text-generation models, with providers under subpackages.
+ */
+package data_access.ai;
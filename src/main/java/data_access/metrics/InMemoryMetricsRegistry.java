@@ -0,0 +1,88 @@
+package data_access.metrics;
+
+import use_case.port.outgoing.MetricsRegistry;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps every metric in memory until it is exported.
+ *
+ * <p>Core functionalities:
+ * <ul>
+ *   <li>Counters are plain sums</li>
+ *   <li>Timers and histograms keep count, sum, min and max over all samples, and percentiles
+ *       over the last {@value #RESERVOIR_SIZE} samples</li>
+ *   <li>snapshot(): a consistent copy for {@link MetricsExporter}s</li>
+ * </ul>
+ */
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+    static final int RESERVOIR_SIZE = 1024;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final Map<String, Distribution> timers = new ConcurrentHashMap<>();
+    private final Map<String, Distribution> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordTime(String name, long nanos) {
+        timers.computeIfAbsent(name, key -> new Distribution()).add(nanos);
+    }
+
+    @Override
+    public void increment(String name, long delta) {
+        counters.computeIfAbsent(name, key -> new AtomicLong()).addAndGet(delta);
+    }
+
+    @Override
+    public void recordValue(String name, long value) {
+        histograms.computeIfAbsent(name, key -> new Distribution()).add(value);
+    }
+
+    public MetricsSnapshot snapshot() {
+        Map<String, Long> counterValues = new HashMap<>();
+        counters.forEach((name, value) -> counterValues.put(name, value.get()));
+        Map<String, MetricsSnapshot.Stats> timerStats = new HashMap<>();
+        timers.forEach((name, distribution) -> timerStats.put(name, distribution.stats(NANOS_PER_MILLI)));
+        Map<String, MetricsSnapshot.Stats> histogramStats = new HashMap<>();
+        histograms.forEach((name, distribution) -> histogramStats.put(name, distribution.stats(1)));
+        return new MetricsSnapshot(counterValues, timerStats, histogramStats);
+    }
+
+    public void reset() {
+        counters.clear();
+        timers.clear();
+        histograms.clear();
+    }
+
+    private static final class Distribution {
+        private final long[] recent = new long[RESERVOIR_SIZE];
+        private long count;
+        private long sum;
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+
+        synchronized void add(long value) {
+            recent[(int) (count % RESERVOIR_SIZE)] = value;
+            count++;
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        synchronized MetricsSnapshot.Stats stats(double unit) {
+            long[] sorted = Arrays.copyOf(recent, (int) Math.min(count, RESERVOIR_SIZE));
+            Arrays.sort(sorted);
+            return new MetricsSnapshot.Stats(count, sum / unit, min / unit, max / unit,
+                    percentile(sorted, 0.50) / unit, percentile(sorted, 0.95) / unit, percentile(sorted, 0.99) / unit);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)];
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package data_access.metrics;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the snapshot as a JSON document with {@code counters}, {@code timers} (milliseconds)
+ * and {@code histograms}, replacing the file on every export.
+ */
+public class JsonMetricsExporter implements MetricsExporter {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private final Path file;
+
+    public JsonMetricsExporter(Path file) {
+        this.file = file;
+    }
+
+    public static String toJson(MetricsSnapshot snapshot) {
+        return GSON.toJson(snapshot);
+    }
+
+    @Override
+    public void export(MetricsSnapshot snapshot) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(file, toJson(snapshot), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.out.println(e);
+        }
+    }
+}
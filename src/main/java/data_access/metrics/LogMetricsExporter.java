@@ -0,0 +1,33 @@
+package data_access.metrics;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Prints one line per metric, e.g. {@code timer ai.round_trip count=3 mean=812.4 p95=1290.0 max=1290.0 ms}.
+ */
+public class LogMetricsExporter implements MetricsExporter {
+    private final PrintStream out;
+
+    public LogMetricsExporter() {
+        this(System.out);
+    }
+
+    public LogMetricsExporter(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void export(MetricsSnapshot snapshot) {
+        snapshot.getCounters().forEach((name, value) -> out.println("counter " + name + " " + value));
+        print("timer", snapshot.getTimers(), " ms");
+        print("histogram", snapshot.getHistograms(), "");
+    }
+
+    private void print(String kind, Map<String, MetricsSnapshot.Stats> metrics, String unit) {
+        metrics.forEach((name, stats) -> out.println(String.format(Locale.ROOT,
+                "%s %s count=%d mean=%.1f p50=%.1f p95=%.1f max=%.1f%s",
+                kind, name, stats.getCount(), stats.getMean(), stats.getP50(), stats.getP95(), stats.getMax(), unit)));
+    }
+}
@@ -0,0 +1,8 @@
+package data_access.metrics;
+
+/**
+ * Publishes a {@link MetricsSnapshot} somewhere outside the application.
+ */
+public interface MetricsExporter {
+    void export(MetricsSnapshot snapshot);
+}
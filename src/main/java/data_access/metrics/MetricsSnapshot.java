@@ -0,0 +1,62 @@
+package data_access.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A point-in-time copy of an {@link InMemoryMetricsRegistry}. Timers are reported in milliseconds.
+ */
+public final class MetricsSnapshot {
+    private final Map<String, Long> counters;
+    private final Map<String, Stats> timers;
+    private final Map<String, Stats> histograms;
+
+    MetricsSnapshot(Map<String, Long> counters, Map<String, Stats> timers, Map<String, Stats> histograms) {
+        this.counters = Collections.unmodifiableMap(new TreeMap<>(counters));
+        this.timers = Collections.unmodifiableMap(new TreeMap<>(timers));
+        this.histograms = Collections.unmodifiableMap(new TreeMap<>(histograms));
+    }
+
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+
+    public Map<String, Stats> getTimers() {
+        return timers;
+    }
+
+    public Map<String, Stats> getHistograms() {
+        return histograms;
+    }
+
+    /** Summary of one timer or histogram. Percentiles cover the most recent samples only. */
+    public static final class Stats {
+        private final long count;
+        private final double sum;
+        private final double min;
+        private final double max;
+        private final double p50;
+        private final double p95;
+        private final double p99;
+
+        Stats(long count, double sum, double min, double max, double p50, double p95, double p99) {
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+            this.p50 = p50;
+            this.p95 = p95;
+            this.p99 = p99;
+        }
+
+        public long getCount() { return count; }
+        public double getSum() { return sum; }
+        public double getMean() { return count == 0 ? 0 : sum / count; }
+        public double getMin() { return min; }
+        public double getMax() { return max; }
+        public double getP50() { return p50; }
+        public double getP95() { return p95; }
+        public double getP99() { return p99; }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * In-memory metrics registry and exporters (log lines, JSON) for pipeline instrumentation.
+ */
+package data_access.metrics;
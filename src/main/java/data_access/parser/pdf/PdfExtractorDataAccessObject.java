@@ -1,21 +1,144 @@
 package data_access.parser.pdf;
 
+import use_case.port.outgoing.MetricsRegistry;
 import use_case.port.outgoing.PdfExtractionDataAccessInterface;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
+/**
+ * Extracts PDF text in page chunks.
+ *
+ * <p>Documents longer than one chunk are stripped in parallel: every worker opens its own
+ * {@link PDDocument} (PDFBox documents are not thread-safe) and strips its page range, while the
+ * calling thread strips the first chunk and then hands the chunks on in page order. Each open
+ * document keeps at most {@code maxMainMemoryBytes} in memory and spills the rest to a temp file,
+ * so large scanned course packs do not blow up the heap.
+ *
+ * <p>Records {@code pdf.load} and {@code pdf.strip} timers (one sample per opened document and
+ * per chunk) and {@code pdf.pages} and {@code pdf.chars} histograms.
+ */
 public class PdfExtractorDataAccessObject implements PdfExtractionDataAccessInterface {
+    public static final int DEFAULT_PAGES_PER_CHUNK = 8;
+    public static final long DEFAULT_MAX_MAIN_MEMORY_BYTES = 16L * 1024 * 1024;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final int pagesPerChunk;
+    private final long maxMainMemoryBytes;
+    private final ExecutorService executor;
+    private final MetricsRegistry metrics;
+
+    public PdfExtractorDataAccessObject() {
+        this(DEFAULT_PAGES_PER_CHUNK, Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_MAIN_MEMORY_BYTES);
+    }
+
+    public PdfExtractorDataAccessObject(int pagesPerChunk, int threads, long maxMainMemoryBytes) {
+        this(pagesPerChunk, threads, maxMainMemoryBytes, MetricsRegistry.NOOP);
+    }
+
+    public PdfExtractorDataAccessObject(int pagesPerChunk, int threads, long maxMainMemoryBytes,
+                                        MetricsRegistry metrics) {
+        if (pagesPerChunk < 1 || threads < 1 || maxMainMemoryBytes < 1) {
+            throw new IllegalArgumentException("pagesPerChunk, threads and maxMainMemoryBytes must be positive");
+        }
+        this.pagesPerChunk = pagesPerChunk;
+        this.maxMainMemoryBytes = maxMainMemoryBytes;
+        this.executor = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "pdf-extract-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    /** Joins the chunks of {@link #streamText}; the parallel stripping is what makes this faster. */
     @Override
     public String extractText(String sourceFilePath) {
+        StringBuilder text = new StringBuilder();
+        streamText(sourceFilePath, text::append);
+        metrics.recordValue("pdf.chars", text.length());
+        return text.toString();
+    }
+
+    @Override
+    public void streamText(String sourceFilePath, Consumer<String> chunkConsumer) {
         File file = new File(sourceFilePath);
-        try (PDDocument document = PDDocument.load(file)) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            return stripper.getText(document);
+        List<Future<String>> remaining = new ArrayList<>();
+        try (PDDocument document = load(file)) {
+            int pageCount = document.getNumberOfPages();
+            metrics.recordValue("pdf.pages", pageCount);
+            int firstChunkEnd = lastPageOfChunk(1, pageCount);
+            for (int start = firstChunkEnd + 1; start <= pageCount; ) {
+                int first = start;
+                int last = lastPageOfChunk(first, pageCount);
+                remaining.add(executor.submit(() -> {
+                    try (PDDocument chunk = load(file)) {
+                        return strip(chunk, first, last);
+                    }
+                }));
+                start = last + 1;
+            }
+            chunkConsumer.accept(strip(document, 1, firstChunkEnd));
         } catch (IOException e) {
+            cancel(remaining);
             throw new RuntimeException("Failed to extract text from: " + sourceFilePath, e);
         }
+
+        try {
+            for (Future<String> chunk : remaining) {
+                chunkConsumer.accept(chunk.get());
+            }
+        } catch (ExecutionException e) {
+            cancel(remaining);
+            throw new RuntimeException("Failed to extract text from: " + sourceFilePath, e.getCause());
+        } catch (InterruptedException e) {
+            cancel(remaining);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while extracting text from: " + sourceFilePath, e);
+        }
+    }
+
+    private int lastPageOfChunk(int firstPage, int pageCount) {
+        return (int) Math.min((long) firstPage + pagesPerChunk - 1, pageCount);
+    }
+
+    private PDDocument load(File file) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return PDDocument.load(file, MemoryUsageSetting.setupMixed(maxMainMemoryBytes));
+        } finally {
+            metrics.recordTime("pdf.load", System.nanoTime() - start);
+        }
+    }
+
+    private String strip(PDDocument document, int firstPage, int lastPage) throws IOException {
+        long start = System.nanoTime();
+        try {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setStartPage(firstPage);
+            stripper.setEndPage(lastPage);
+            return stripper.getText(document);
+        } finally {
+            metrics.recordTime("pdf.strip", System.nanoTime() - start);
+        }
+    }
+
+    private static void cancel(List<Future<String>> chunks) {
+        for (Future<String> chunk : chunks) {
+            chunk.cancel(true);
+        }
     }
-}
\ No newline at end of file
+}
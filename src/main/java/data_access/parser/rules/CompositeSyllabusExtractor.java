@@ -0,0 +1,66 @@
+package data_access.parser.rules;
+
+import use_case.dto.SyllabusParseResultData;
+import use_case.port.outgoing.AiExtractionDataAccessInterface;
+import use_case.port.outgoing.MetricsRegistry;
+
+import java.util.Objects;
+
+/**
+ * Tries {@link RuleBasedSyllabusExtractor} first and only calls the fallback extractor (normally
+ * Gemini) when the rules are not confident enough in their result.
+ */
+public class CompositeSyllabusExtractor implements AiExtractionDataAccessInterface {
+    public static final double DEFAULT_MIN_CONFIDENCE = 0.8;
+
+    private final RuleBasedSyllabusExtractor rules;
+    private final AiExtractionDataAccessInterface fallback;
+    private final double minConfidence;
+    private final MetricsRegistry metrics;
+
+    public CompositeSyllabusExtractor(AiExtractionDataAccessInterface fallback) {
+        this(fallback, MetricsRegistry.NOOP);
+    }
+
+    /** Counts syllabi parsed by the rules as {@code parse.local} and the rest as {@code parse.fallback}. */
+    public CompositeSyllabusExtractor(AiExtractionDataAccessInterface fallback, MetricsRegistry metrics) {
+        this(new RuleBasedSyllabusExtractor(), fallback, DEFAULT_MIN_CONFIDENCE, metrics);
+    }
+
+    public CompositeSyllabusExtractor(RuleBasedSyllabusExtractor rules,
+                                      AiExtractionDataAccessInterface fallback,
+                                      double minConfidence) {
+        this(rules, fallback, minConfidence, MetricsRegistry.NOOP);
+    }
+
+    public CompositeSyllabusExtractor(RuleBasedSyllabusExtractor rules,
+                                      AiExtractionDataAccessInterface fallback,
+                                      double minConfidence,
+                                      MetricsRegistry metrics) {
+        if (minConfidence < 0 || minConfidence > 1) {
+            throw new IllegalArgumentException("minConfidence must be between 0 and 1");
+        }
+        this.rules = Objects.requireNonNull(rules, "rules");
+        this.fallback = Objects.requireNonNull(fallback, "fallback");
+        this.minConfidence = minConfidence;
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    @Override
+    public SyllabusParseResultData extractStructuredData(String syllabusText) {
+        return extractStructuredData(syllabusText, assessment -> { });
+    }
+
+    @Override
+    public SyllabusParseResultData extractStructuredData(String syllabusText,
+                                                         AssessmentListener listener) {
+        RuleBasedSyllabusExtractor.Extraction extraction = rules.extract(syllabusText);
+        if (extraction.getConfidence() >= minConfidence) {
+            metrics.increment("parse.local");
+            extraction.getResult().getAssessments().forEach(listener::onAssessment);
+            return extraction.getResult();
+        }
+        metrics.increment("parse.fallback");
+        return fallback.extractStructuredData(syllabusText, listener);
+    }
+}
@@ -0,0 +1,337 @@
+package data_access.parser.rules;
+
+import entity.AssessmentType;
+import use_case.dto.AssessmentDraftData;
+import use_case.dto.SyllabusParseResultData;
+import use_case.port.outgoing.AiExtractionDataAccessInterface;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts course details and the grading scheme from syllabus text with regular expressions,
+ * without any network call.
+ *
+ * <p>It understands the templated layout most departments use: a course code and name near the
+ * top, a term such as "Fall 2025", and a grading table with one assessment per row, where each
+ * row holds a title, a percentage and optionally a due date (cells may be separated by
+ * {@code |}, tabs or plain spaces). Rows like "Quiz (3) 6% each" are expanded into one draft per
+ * instance. Every extraction carries a confidence between 0 and 1, driven mostly by whether the
+ * weights add up to 100%, so callers can decide whether to trust it.
+ */
+public class RuleBasedSyllabusExtractor implements AiExtractionDataAccessInterface {
+    static final int HEADER_LINES = 10;
+    static final int MAX_TITLE_LENGTH = 60;
+    static final int MAX_GAP_LINES = 3;
+
+    private static final Pattern COURSE_CODE = Pattern.compile("\\b([A-Z]{3,4})\\s?(\\d{3}[A-Z0-9]{0,3})\\b");
+    private static final Pattern TERM = Pattern.compile("\\b(Fall|Winter|Summer|Spring)\\s+(\\d{4})\\b",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern INSTRUCTOR = Pattern.compile(
+            "(?i)\\b(?:instructor|professor|lecturer)s?[ \\t]*[:\\-][ \\t]*((?:Prof\\.?|Dr\\.?)?[ \\t]*[A-Z][\\w.'\\-]*(?:[ \\t]+[A-Z][\\w.'\\-]*){0,3})");
+    private static final Pattern GRADING_HEADING = Pattern.compile(
+            "(?i)^\\W*(grading|marking|evaluation|assessments?|grade breakdown|course grade)\\b");
+    private static final Pattern PERCENTAGE = Pattern.compile("(\\d{1,3}(?:\\.\\d+)?)\\s*%");
+    private static final Pattern MONTH_DAY = Pattern.compile(
+            "(?i)\\b(jan|feb|mar|apr|may|jun|jul|aug|sep|oct|nov|dec)[a-z]*\\.?\\s+(\\d{1,2})\\b");
+    private static final Pattern ISO_DATE = Pattern.compile("\\b(\\d{4})-(\\d{2})-(\\d{2})\\b");
+    private static final Pattern COUNT = Pattern.compile("\\((\\d{1,2})\\)");
+    private static final Pattern BEST_OF = Pattern.compile("(?i)\\bbest\\s+(\\d{1,2})\\s+(?:out\\s+)?of\\s+\\d{1,2}\\b");
+    private static final Pattern EACH = Pattern.compile("(?i)^\\s*each\\b");
+    private static final Pattern BONUS = Pattern.compile("(?i)\\bbonus\\b");
+    private static final Pattern YEAR = Pattern.compile("\\b20\\d{2}\\b");
+    // A sentence that runs into the title, as in "see Table 2 of this syllabus.Quiz (3)"
+    private static final Pattern SENTENCE_END = Pattern.compile("^.*\\.\\s*(?=[A-Z])");
+    private static final String[] MONTHS = {"jan", "feb", "mar", "apr", "may", "jun",
+            "jul", "aug", "sep", "oct", "nov", "dec"};
+
+    /**
+     * Core functionalities
+     * extractStructuredData(String syllabusText): Parses the syllabus with rules only.
+     * @param syllabusText: the text extracted from the syllabus PDF
+     * @return the structured syllabus data, however confident the rules are about it.
+     */
+    @Override
+    public SyllabusParseResultData extractStructuredData(String syllabusText) {
+        Extraction extraction = extract(syllabusText);
+        if (extraction.getResult().getAssessments().isEmpty()) {
+            throw new RuntimeException("No grading scheme found in the syllabus text");
+        }
+        return extraction.getResult();
+    }
+
+    /**
+     * Core functionalities
+     * extract(String syllabusText): Parses the syllabus and scores how much the result can be trusted.
+     * @param syllabusText: the text extracted from the syllabus PDF
+     * @return the parsed data together with its confidence.
+     */
+    public Extraction extract(String syllabusText) {
+        String[] lines = syllabusText.split("\\R");
+
+        String courseCode = null;
+        String courseName = null;
+        for (int i = 0; i < Math.min(HEADER_LINES, lines.length) && courseCode == null; i++) {
+            Matcher code = COURSE_CODE.matcher(lines[i]);
+            if (code.find()) {
+                courseCode = code.group(1) + code.group(2);
+                courseName = cleanCourseName(lines[i].substring(code.end()));
+            }
+        }
+
+        Matcher termMatcher = TERM.matcher(syllabusText);
+        Matcher anyYear = YEAR.matcher(syllabusText);
+        String term = null;
+        int termYear = anyYear.find() ? Integer.parseInt(anyYear.group()) : Year.now().getValue();
+        boolean fallTerm = false;
+        if (termMatcher.find()) {
+            String season = termMatcher.group(1);
+            term = Character.toUpperCase(season.charAt(0)) + season.substring(1).toLowerCase(Locale.ROOT)
+                    + " " + termMatcher.group(2);
+            termYear = Integer.parseInt(termMatcher.group(2));
+            fallTerm = season.equalsIgnoreCase("fall");
+        }
+
+        Matcher instructorMatcher = INSTRUCTOR.matcher(syllabusText);
+        String instructor = instructorMatcher.find() ? instructorMatcher.group(1).trim() : null;
+
+        List<AssessmentDraftData> assessments = new ArrayList<>();
+        double countedWeight = 0;
+        Set<String> titles = new LinkedHashSet<>();
+        boolean duplicateTitles = false;
+        for (Row row : gradingRows(lines)) {
+            for (int i = 1; i <= row.count; i++) {
+                String title = row.count > 1 ? row.title + " " + i : row.title;
+                // "Due: Oct. 3, Oct. 24" on a repeated row gives each instance its own date
+                String dueText = row.dueTexts.size() == row.count ? row.dueTexts.get(i - 1)
+                        : row.dueTexts.isEmpty() ? null : row.dueTexts.get(0);
+                String dueDate = dueText == null ? null : toIso(dueText, termYear, fallTerm);
+                duplicateTitles |= !titles.add(title.toLowerCase(Locale.ROOT));
+                assessments.add(new AssessmentDraftData(title, typeOf(row.title), dueDate, row.weight));
+            }
+            if (!row.bonus) {
+                countedWeight += row.weight * row.count;
+            }
+        }
+
+        SyllabusParseResultData result = new SyllabusParseResultData(
+                courseCode, courseName, term, instructor, assessments);
+        return new Extraction(result, confidence(courseCode, courseName, term, assessments.size(),
+                countedWeight, duplicateTitles));
+    }
+
+    static double confidence(String courseCode, String courseName, String term, int assessmentCount,
+                             double countedWeight, boolean duplicateTitles) {
+        if (assessmentCount == 0 || courseCode == null) {
+            return 0;
+        }
+        double confidence = 0.2;
+        if (courseName != null && !courseName.isEmpty()) {
+            confidence += 0.1;
+        }
+        if (assessmentCount >= 2) {
+            confidence += 0.1;
+        }
+        double missing = Math.abs(1.0 - countedWeight);
+        if (missing <= 0.005) {
+            confidence += 0.6;
+        } else if (missing <= 0.05) {
+            confidence += 0.3;
+        }
+        if (term == null) {
+            // Due dates had to guess their year
+            confidence -= 0.1;
+        }
+        if (duplicateTitles) {
+            confidence -= 0.3;
+        }
+        return Math.max(0, Math.min(1, confidence));
+    }
+
+    private List<Row> gradingRows(String[] lines) {
+        int start = 0;
+        for (int i = 0; i < lines.length; i++) {
+            if (GRADING_HEADING.matcher(lines[i]).find()) {
+                start = i;
+                break;
+            }
+        }
+
+        List<Row> rows = new ArrayList<>();
+        int linesSinceRow = 0;
+        for (int i = start; i < lines.length; i++) {
+            String line = lines[i].trim();
+            Row row = parseRow(line);
+            if (row != null) {
+                rows.add(row);
+                linesSinceRow = 0;
+            } else if (!rows.isEmpty() && rows.get(rows.size() - 1).dueTexts.isEmpty() && isDateOnly(line)) {
+                // A due date wrapped onto the line below its row
+                rows.get(rows.size() - 1).dueTexts.addAll(dates(line));
+            } else if (!rows.isEmpty() && (line.isEmpty() || ++linesSinceRow >= MAX_GAP_LINES)) {
+                // The grading table has ended
+                break;
+            }
+        }
+        return rows;
+    }
+
+    private static Row parseRow(String line) {
+        String normalized = line.replace('|', ' ').replace('\t', ' ').replaceAll("\\s{2,}", " ").trim();
+        Matcher percentage = PERCENTAGE.matcher(normalized);
+        if (!percentage.find()) {
+            return null;
+        }
+        String before = normalized.substring(0, percentage.start()).trim();
+        String after = normalized.substring(percentage.end()).trim();
+
+        String rawTitle = before.isEmpty() ? titleAfter(after) : before;
+        String title = cleanTitle(rawTitle);
+        if (rawTitle.length() > MAX_TITLE_LENGTH || title.isEmpty() || !Character.isLetter(title.charAt(0))
+                || title.endsWith(".") || PERCENTAGE.matcher(after).find() && before.isEmpty()) {
+            return null;
+        }
+
+        int count = 1;
+        boolean each = EACH.matcher(after).find();
+        Matcher best = BEST_OF.matcher(before);
+        Matcher explicitCount = COUNT.matcher(before);
+        if (each && best.find()) {
+            count = Integer.parseInt(best.group(1));
+        } else if (each && explicitCount.find()) {
+            count = Integer.parseInt(explicitCount.group(1));
+        }
+
+        double weight = Double.parseDouble(percentage.group(1)) / 100.0;
+        return new Row(title, weight, count, dates(after), BONUS.matcher(normalized).find());
+    }
+
+    private static String titleAfter(String after) {
+        int colon = after.indexOf(':');
+        return colon >= 0 ? after.substring(0, colon) : after;
+    }
+
+    private static String cleanTitle(String title) {
+        return SENTENCE_END.matcher(title).replaceFirst("")
+                .replaceAll("\\(\\*?[^)]*\\)", " ")
+                .replaceAll("(?i)\\bbonus\\s*:\\s*", "")
+                .replaceAll("[\\s:\\-–—]+$", "")
+                .replaceAll("\\s{2,}", " ")
+                .trim();
+    }
+
+    private static String cleanCourseName(String rest) {
+        String name = rest.replaceAll("(?i)\\bsyllabus\\b", "")
+                .replaceAll("^[\\s:\\-–—]+|[\\s:\\-–—]+$", "")
+                .trim();
+        return name.isEmpty() ? null : name;
+    }
+
+    private static List<String> dates(String text) {
+        List<String> dates = new ArrayList<>();
+        Matcher monthDay = MONTH_DAY.matcher(text);
+        while (monthDay.find()) {
+            dates.add(monthDay.group());
+        }
+        Matcher iso = ISO_DATE.matcher(text);
+        while (iso.find()) {
+            dates.add(iso.group());
+        }
+        return dates;
+    }
+
+    private static boolean isDateOnly(String line) {
+        Matcher date = MONTH_DAY.matcher(line);
+        return date.find() && !PERCENTAGE.matcher(line).find() && line.length() <= MAX_TITLE_LENGTH;
+    }
+
+    static AssessmentType typeOf(String title) {
+        String lower = title.toLowerCase(Locale.ROOT);
+        if (lower.contains("midterm") || lower.contains("test")) {
+            return AssessmentType.TEST;
+        }
+        if (lower.contains("exam")) {
+            return AssessmentType.EXAM;
+        }
+        if (lower.contains("quiz") || lower.contains("quizzes")) {
+            return AssessmentType.QUIZ;
+        }
+        if (lower.contains("assignment") || lower.contains("problem set") || lower.contains("homework")) {
+            return AssessmentType.ASSIGNMENT;
+        }
+        if (lower.contains("project")) {
+            return AssessmentType.PROJECT;
+        }
+        return AssessmentType.OTHER;
+    }
+
+    // Dates without a year take it from the term; January to August in a fall term is next year
+    static String toIso(String dueText, int termYear, boolean fallTerm) {
+        Matcher iso = ISO_DATE.matcher(dueText);
+        if (iso.find()) {
+            return iso.group(1) + "-" + iso.group(2) + "-" + iso.group(3) + "T23:59:00Z";
+        }
+        Matcher monthDay = MONTH_DAY.matcher(dueText);
+        if (!monthDay.find()) {
+            return null;
+        }
+        String monthName = monthDay.group(1).toLowerCase(Locale.ROOT);
+        int month = 1;
+        for (int i = 0; i < MONTHS.length; i++) {
+            if (MONTHS[i].equals(monthName)) {
+                month = i + 1;
+            }
+        }
+        int year = fallTerm && month < 9 ? termYear + 1 : termYear;
+        int day = Integer.parseInt(monthDay.group(2));
+        if (day < 1 || day > LocalDate.of(year, month, 1).lengthOfMonth()) {
+            return null;
+        }
+        return LocalDate.of(year, month, day) + "T23:59:00Z";
+    }
+
+    private static final class Row {
+        private final String title;
+        private final double weight;
+        private final int count;
+        private final List<String> dueTexts;
+        private final boolean bonus;
+
+        Row(String title, double weight, int count, List<String> dueTexts, boolean bonus) {
+            this.title = title;
+            this.weight = weight;
+            this.count = count;
+            this.dueTexts = dueTexts;
+            this.bonus = bonus;
+        }
+    }
+
+    /**
+     * A rule-based result together with how much it can be trusted.
+     */
+    public static final class Extraction {
+        private final SyllabusParseResultData result;
+        private final double confidence;
+
+        Extraction(SyllabusParseResultData result, double confidence) {
+            this.result = result;
+            this.confidence = confidence;
+        }
+
+        public SyllabusParseResultData getResult() {
+            return result;
+        }
+
+        /** From 0 (nothing usable) to 1 (complete grading scheme that adds up to 100%). */
+        public double getConfidence() {
+            return confidence;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Offline, rule-based syllabus extraction used before falling back to the AI extractor.
+ */
+package data_access.parser.rules;
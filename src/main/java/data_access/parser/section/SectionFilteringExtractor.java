@@ -0,0 +1,71 @@
+package data_access.parser.section;
+
+import use_case.dto.SyllabusParseResultData;
+import use_case.port.outgoing.AiExtractionDataAccessInterface;
+import use_case.port.outgoing.MetricsRegistry;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs {@link SyllabusSectionFilter} on the syllabus text before handing it to the AI extractor,
+ * so the prompt only carries the header and the grading-related sections. The estimated tokens
+ * of each syllabus before and after filtering are recorded as the histograms
+ * {@code ai.prompt.tokens.original} and {@code ai.prompt.tokens.kept}.
+ */
+public class SectionFilteringExtractor implements AiExtractionDataAccessInterface {
+    private final AiExtractionDataAccessInterface delegate;
+    private final SyllabusSectionFilter filter;
+    private final MetricsRegistry metrics;
+    private final AtomicLong originalTokens = new AtomicLong();
+    private final AtomicLong sentTokens = new AtomicLong();
+
+    public SectionFilteringExtractor(AiExtractionDataAccessInterface delegate) {
+        this(delegate, new SyllabusSectionFilter());
+    }
+
+    public SectionFilteringExtractor(AiExtractionDataAccessInterface delegate, MetricsRegistry metrics) {
+        this(delegate, new SyllabusSectionFilter(), metrics);
+    }
+
+    public SectionFilteringExtractor(AiExtractionDataAccessInterface delegate, SyllabusSectionFilter filter) {
+        this(delegate, filter, MetricsRegistry.NOOP);
+    }
+
+    public SectionFilteringExtractor(AiExtractionDataAccessInterface delegate, SyllabusSectionFilter filter,
+                                     MetricsRegistry metrics) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.filter = Objects.requireNonNull(filter, "filter");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    @Override
+    public SyllabusParseResultData extractStructuredData(String syllabusText) {
+        return delegate.extractStructuredData(filter(syllabusText));
+    }
+
+    @Override
+    public SyllabusParseResultData extractStructuredData(String syllabusText,
+                                                         AssessmentListener listener) {
+        return delegate.extractStructuredData(filter(syllabusText), listener);
+    }
+
+    private String filter(String syllabusText) {
+        SyllabusSectionFilter.Result filtered = filter.filter(syllabusText);
+        originalTokens.addAndGet(filtered.getOriginalTokens());
+        sentTokens.addAndGet(filtered.getKeptTokens());
+        metrics.recordValue("ai.prompt.tokens.original", filtered.getOriginalTokens());
+        metrics.recordValue("ai.prompt.tokens.kept", filtered.getKeptTokens());
+        return filtered.getText();
+    }
+
+    /** Estimated tokens of every syllabus seen so far, before filtering. */
+    public long getOriginalTokens() {
+        return originalTokens.get();
+    }
+
+    /** Estimated tokens actually passed on to the delegate so far. */
+    public long getSentTokens() {
+        return sentTokens.get();
+    }
+}
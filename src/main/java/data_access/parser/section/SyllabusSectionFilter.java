@@ -0,0 +1,155 @@
+package data_access.parser.section;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps only the parts of a syllabus that can contribute to assessment extraction.
+ *
+ * <p>The text is split into blocks at headings, {@code Label:} lines, bullets and blank lines.
+ * Each line scores points for grading signals: a percentage, a date, an assessment keyword. A
+ * block survives when it scores at least {@link #MIN_BLOCK_SCORE} and at least one point per
+ * line, which keeps grading tables and schedules but drops long policy paragraphs that only
+ * mention an exam in passing. The course header (the first lines and any instructor or term
+ * block) is always kept. If nothing that looks like a grading scheme survives, the original
+ * text is returned unchanged so the model still sees everything.
+ */
+public class SyllabusSectionFilter {
+    static final int HEADER_LINES = 3;
+    static final int MIN_BLOCK_SCORE = 2;
+
+    private static final Pattern PERCENTAGE = Pattern.compile("\\d+(\\.\\d+)?\\s*%");
+    private static final Pattern DATE = Pattern.compile(
+            "(?i)\\b(jan|feb|mar|apr|may|jun|jul|aug|sep|sept|oct|nov|dec)[a-z]*\\.?\\s+\\d{1,2}\\b"
+            + "|\\b\\d{4}-\\d{2}-\\d{2}\\b|\\b\\d{1,2}/\\d{1,2}\\b");
+    private static final Pattern KEYWORD = Pattern.compile(
+            "(?i)\\b(assignments?|exams?|midterms?|finals?|quiz(zes)?|tests?|projects?|labs?|tutorials?"
+            + "|essays?|presentations?|reports?|participation|problem sets?|modules?|due|deadlines?"
+            + "|weights?|weighted|worth|grading|marks?)\\b");
+    private static final Pattern HEADER_LABEL = Pattern.compile(
+            "(?i)^\\s*(instructors?|professors?|prof\\.|lecturers?|coordinators?|contact|term|session"
+            + "|class meeting|course code|course title)\\b");
+    private static final Pattern LABEL = Pattern.compile("^[A-Z][\\w &/()'\\-]{1,40}:(\\s|$)");
+    private static final Pattern BULLET = Pattern.compile("^\\s*([?•▪*\\-]|\\d{1,2}\\.)\\s+");
+    private static final Pattern HEADING = Pattern.compile("^[A-Z][A-Za-z &/'\\-]{1,40}$");
+
+    /**
+     * Core functionalities
+     * filter(String syllabusText): Drops the blocks that carry no grading signal.
+     * @param syllabusText: the text extracted from the syllabus PDF
+     * @return the kept text together with its token counts.
+     */
+    public Result filter(String syllabusText) {
+        List<List<String>> blocks = split(syllabusText);
+
+        StringBuilder kept = new StringBuilder();
+        boolean foundGrading = false;
+        int headerLinesLeft = HEADER_LINES;
+        for (List<String> block : blocks) {
+            int score = 0;
+            boolean hasPercentage = false;
+            for (String line : block) {
+                score += score(line);
+                hasPercentage |= PERCENTAGE.matcher(line).find();
+            }
+            boolean relevant = score >= MIN_BLOCK_SCORE && score >= block.size();
+            foundGrading |= relevant && hasPercentage;
+
+            if (relevant || HEADER_LABEL.matcher(block.get(0)).find()) {
+                for (String line : block) {
+                    kept.append(line).append('\n');
+                }
+            } else {
+                // Only the first few lines of the document count as the course header
+                for (int i = 0; i < Math.min(block.size(), headerLinesLeft); i++) {
+                    kept.append(block.get(i)).append('\n');
+                }
+            }
+            headerLinesLeft -= block.size();
+        }
+
+        String filtered = foundGrading ? kept.toString() : syllabusText;
+        return new Result(filtered, estimateTokens(syllabusText), estimateTokens(filtered));
+    }
+
+    static int score(String line) {
+        int score = 0;
+        if (PERCENTAGE.matcher(line).find()) {
+            score += 3;
+        }
+        if (DATE.matcher(line).find()) {
+            score += 2;
+        }
+        if (KEYWORD.matcher(line).find()) {
+            score += 1;
+        }
+        return score;
+    }
+
+    // Roughly four characters per token for English text
+    static int estimateTokens(String text) {
+        return (text.length() + 3) / 4;
+    }
+
+    private static List<List<String>> split(String text) {
+        List<List<String>> blocks = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        for (String line : text.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty()) {
+                current = flush(blocks, current);
+                continue;
+            }
+            boolean startsBlock = HEADING.matcher(trimmed).matches()
+                    || LABEL.matcher(trimmed).find()
+                    || BULLET.matcher(trimmed).find();
+            if (startsBlock) {
+                current = flush(blocks, current);
+            }
+            current.add(trimmed);
+        }
+        flush(blocks, current);
+        return blocks;
+    }
+
+    private static List<String> flush(List<List<String>> blocks, List<String> current) {
+        if (current.isEmpty()) {
+            return current;
+        }
+        blocks.add(current);
+        return new ArrayList<>();
+    }
+
+    /**
+     * The filtered text and how much smaller it is than the original.
+     */
+    public static final class Result {
+        private final String text;
+        private final int originalTokens;
+        private final int keptTokens;
+
+        Result(String text, int originalTokens, int keptTokens) {
+            this.text = text;
+            this.originalTokens = originalTokens;
+            this.keptTokens = keptTokens;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public int getOriginalTokens() {
+            return originalTokens;
+        }
+
+        public int getKeptTokens() {
+            return keptTokens;
+        }
+
+        /** Fraction of the estimated tokens removed, from 0 (nothing removed) to 1. */
+        public double getReduction() {
+            return originalTokens == 0 ? 0 : 1 - (double) keptTokens / originalTokens;
+        }
+    }
+}
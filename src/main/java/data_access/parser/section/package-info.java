@@ -0,0 +1,4 @@
+/**
+ * Local text heuristics applied to extracted syllabus text before it reaches the AI extractor.
+ */
+package data_access.parser.section;
@@ -1,18 +1,58 @@
 package data_access.persistence.sqlite;
 
+import com.google.gson.Gson;
 import entity.AssessmentType;
+import entity.GradeAggregate;
 import use_case.repository.AssessmentRepository;
-import app.Main;
 
-import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
-import java.sql.Statement;
+import java.sql.SQLException;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 public class Assessment implements AssessmentRepository {
 
-    private final Connection connection = Main.getConnection();;
+    private static final String FIND_BY_COURSE_ID =
+            "SELECT * FROM assessments WHERE course_id = ?";
+    // The ids are bound as one JSON array so the SQL text, and its cached statement, never changes
+    private static final String FIND_BY_COURSE_IDS =
+            "SELECT * FROM assessments WHERE course_id IN (SELECT value FROM json_each(?))";
+    private static final String FIND_BY_ID =
+            "SELECT * FROM assessments WHERE assessment_id = ?";
+    private static final String INSERT =
+            "INSERT INTO assessments (assessment_id, course_id, title, type, grade, starts_at, ends_at, " +
+            "duration_minutes, weight, location, notes, starts_at_epoch, ends_at_epoch) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE =
+            "UPDATE assessments SET course_id = ?, title = ?, type = ?, grade = ?, starts_at = ?, " +
+            "ends_at = ?, duration_minutes = ?, weight = ?, location = ?, notes = ?, starts_at_epoch = ?, " +
+            "ends_at_epoch = ? WHERE assessment_id = ?";
+    private static final String DELETE_BY_ID =
+            "DELETE FROM assessments WHERE assessment_id = ?";
+    private static final String FIND_GRADE_AGGREGATE =
+            "SELECT * FROM grade_aggregates WHERE course_id = ?";
+    // Adds to a course's totals, creating its row on first use; a negative delta takes away
+    private static final String ADD_TO_GRADE_AGGREGATE =
+            "INSERT INTO grade_aggregates (course_id, total_weight, graded_weight, weighted_score, remaining_count) " +
+            "VALUES (?, ?, ?, ?, ?) ON CONFLICT(course_id) DO UPDATE SET " +
+            "total_weight = total_weight + excluded.total_weight, " +
+            "graded_weight = graded_weight + excluded.graded_weight, " +
+            "weighted_score = weighted_score + excluded.weighted_score, " +
+            "remaining_count = remaining_count + excluded.remaining_count";
+
+    private static final Gson GSON = new Gson();
+
+    private final ConnectionProvider connectionProvider;
+
+    public Assessment(ConnectionProvider connectionProvider) {
+        this.connectionProvider = Objects.requireNonNull(connectionProvider, "connectionProvider");
+    }
 
     /**
      * Core functionalities
@@ -25,36 +65,46 @@ public class Assessment implements AssessmentRepository {
         List<entity.Assessment> assessmentList = new ArrayList<>();
 
         try {
-            Statement stmt = connection.createStatement();
-            String getAssessment = "select * from assessments WHERE course_id = '" + courseId +
-                    "'";
-            ResultSet result = stmt.executeQuery(getAssessment);
-            while (result.next()) {
-                String assessmentId = result.getString("assessment_id");
-                String courseIdFromDb = result.getString("course_id");
-                String title = result.getString("title");
-                AssessmentType type = AssessmentType.valueOf(result.getString("type"));
-                double grade = result.getDouble("grade");
-                String startsAt = result.getString("starts_at");
-                String endsAt = result.getString("ends_at");
-                Long durationMinutes = result.getLong("duration_minutes");
-                Double weight = result.getDouble("weight");
-                String location = result.getString("location");
-                String notes = result.getString("notes");
-
-                entity.Assessment assessment = new entity.Assessment(
-                        assessmentId, courseIdFromDb, title,
-                        type,
-                        grade,
-                        startsAt,
-                        endsAt,
-                        durationMinutes,
-                        weight,
-                        location,
-                        notes
-                );
-                assessmentList.add(assessment);
-            }
+            connectionProvider.read(statements -> {
+                PreparedStatement stmt = statements.prepare(FIND_BY_COURSE_ID);
+                stmt.setString(1, courseId);
+                try (ResultSet result = stmt.executeQuery()) {
+                    while (result.next()) {
+                        assessmentList.add(toAssessment(result));
+                    }
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            System.out.println(e);
+        }
+        return assessmentList;
+    }
+
+    /**
+     * Core functionalities
+     * findByCourseIds(Collection<String> courseIds): Retrieves the Assessments of several courses in one query.
+     * @param courseIds: the courses
+     * @return a list of Assessment.
+     */
+    @Override
+    public List<entity.Assessment> findByCourseIds(Collection<String> courseIds) {
+        List<entity.Assessment> assessmentList = new ArrayList<>();
+        if (courseIds.isEmpty()) {
+            return assessmentList;
+        }
+
+        try {
+            connectionProvider.read(statements -> {
+                PreparedStatement stmt = statements.prepare(FIND_BY_COURSE_IDS);
+                stmt.setString(1, GSON.toJson(courseIds));
+                try (ResultSet result = stmt.executeQuery()) {
+                    while (result.next()) {
+                        assessmentList.add(toAssessment(result));
+                    }
+                }
+                return null;
+            });
         } catch (Exception e) {
             System.out.println(e);
         }
@@ -66,54 +116,137 @@ public class Assessment implements AssessmentRepository {
      * save(Assessment assessment): Saves a assessment.
      * @param assessment: a Assessment instance
      * @return null.
+     * @throws IllegalStateException if the insert failed; nothing is written then.
      */
     @Override
     public void save(entity.Assessment assessment) {
         try {
-            Statement stmt = connection.createStatement();
-            String saveAssessment = "INSERT INTO assessments VALUES ('" +
-                    assessment.getAssessmentId() + "', '" +
-                    assessment.getCourseId() + "', '" +
-                    assessment.getTitle() + "', '" +
-                    assessment.getType() + "', " +
-                    assessment.getGrade() + ", '" +
-                    assessment.getStartsAt() + "', '" +
-                    assessment.getEndsAt() + "', " +
-                    assessment.getDurationMinutes() + ", " +
-                    assessment.getWeight() + ", '" +
-                    assessment.getLocation() + "', '" +
-                    assessment.getNotes() + "')";
-            int x = stmt.executeUpdate(saveAssessment);
+            connectionProvider.transaction(statements -> {
+                insertAll(statements, List.of(assessment));
+                return null;
+            });
+        } catch (Exception e) {
+            throw writeFailed("save assessment " + assessment.getAssessmentId(), e);
+        }
+    }
+
+    /**
+     * Core functionalities
+     * saveAll(Collection<Assessment> assessments): Saves every assessment in one transaction.
+     * @param assessments: the assessments to insert
+     * @return null.
+     * @throws IllegalStateException if the insert failed; none of them is written then.
+     */
+    @Override
+    public void saveAll(Collection<entity.Assessment> assessments) {
+        if (assessments.isEmpty()) {
+            return;
+        }
+        try {
+            connectionProvider.transaction(statements -> {
+                insertAll(statements, assessments);
+                return null;
+            });
+        } catch (Exception e) {
+            throw writeFailed("save " + assessments.size() + " assessments", e);
+        }
+    }
+
+    /**
+     * Inserts {@code assessments} as one JDBC batch on the given connection and adds them to the
+     * grade totals of their courses. Used by {@link SyllabusImport} to take part in its
+     * transaction.
+     */
+    static void insertAll(StatementCache statements, Collection<entity.Assessment> assessments)
+            throws SQLException {
+        PreparedStatement stmt = statements.prepare(INSERT);
+        try {
+            for (entity.Assessment assessment : assessments) {
+                stmt.setString(1, assessment.getAssessmentId());
+                stmt.setString(2, assessment.getCourseId());
+                stmt.setString(3, assessment.getTitle());
+                stmt.setString(4, assessment.getType().name());
+                stmt.setDouble(5, assessment.getGrade());
+                stmt.setString(6, assessment.getStartsAt());
+                stmt.setString(7, assessment.getEndsAt());
+                stmt.setObject(8, assessment.getDurationMinutes());
+                stmt.setObject(9, assessment.getWeight());
+                stmt.setString(10, assessment.getLocation());
+                stmt.setString(11, assessment.getNotes());
+                stmt.setObject(12, toEpochMillis(assessment.getStartsAtInstant()));
+                stmt.setObject(13, toEpochMillis(assessment.getEndsAtInstant()));
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        } finally {
+            stmt.clearBatch();
+        }
+        addToGradeAggregates(statements, assessments, 1);
+    }
+
+    /**
+     * Adds {@code assessments} to the grade totals of their courses, or takes them away if
+     * {@code sign} is -1, with one statement per course.
+     */
+    private static void addToGradeAggregates(StatementCache statements, Collection<entity.Assessment> assessments, int sign)
+            throws SQLException {
+        Map<String, List<entity.Assessment>> byCourse = new LinkedHashMap<>();
+        for (entity.Assessment assessment : assessments) {
+            byCourse.computeIfAbsent(assessment.getCourseId(), id -> new ArrayList<>()).add(assessment);
+        }
+        PreparedStatement stmt = statements.prepare(ADD_TO_GRADE_AGGREGATE);
+        try {
+            for (Map.Entry<String, List<entity.Assessment>> course : byCourse.entrySet()) {
+                GradeAggregate delta = GradeAggregate.of(course.getKey(), course.getValue());
+                stmt.setString(1, course.getKey());
+                stmt.setDouble(2, sign * delta.getTotalWeight());
+                stmt.setDouble(3, sign * delta.getGradedWeight());
+                stmt.setDouble(4, sign * delta.getWeightedScore());
+                stmt.setInt(5, sign * delta.getRemainingCount());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        } finally {
+            stmt.clearBatch();
+        }
+    }
+
+    /**
+     * Core functionalities
+     * findGradeAggregate(String courseId): Retrieves the grade totals of a course from
+     *     grade_aggregates, which every write keeps up to date, instead of adding up its assessments.
+     * @param courseId: the course
+     * @return a GradeAggregate, empty if the course has no assessments.
+     */
+    @Override
+    public GradeAggregate findGradeAggregate(String courseId) {
+        try {
+            return connectionProvider.read(statements -> {
+                PreparedStatement stmt = statements.prepare(FIND_GRADE_AGGREGATE);
+                stmt.setString(1, courseId);
+                try (ResultSet result = stmt.executeQuery()) {
+                    if (result.next()) {
+                        return new GradeAggregate(
+                                courseId,
+                                result.getDouble("total_weight"),
+                                result.getDouble("graded_weight"),
+                                result.getDouble("weighted_score"),
+                                Math.max(0, result.getInt("remaining_count"))
+                        );
+                    }
+                    return GradeAggregate.empty(courseId);
+                }
+            });
         } catch (Exception e) {
             System.out.println(e);
         }
+        return GradeAggregate.empty(courseId);
     }
 
     @Override
     public java.util.Optional<entity.Assessment> findById(String assessmentId) {
         try {
-            Statement stmt = connection.createStatement();
-            String getAssessment = "SELECT * FROM assessments WHERE assessment_id = '" + assessmentId + "'";
-            ResultSet result = stmt.executeQuery(getAssessment);
-            
-            if (result.next()) {
-                String courseId = result.getString("course_id");
-                String title = result.getString("title");
-                AssessmentType type = AssessmentType.valueOf(result.getString("type"));
-                double grade = result.getDouble("grade");
-                String startsAt = result.getString("starts_at");
-                String endsAt = result.getString("ends_at");
-                Long durationMinutes = result.getLong("duration_minutes");
-                Double weight = result.getDouble("weight");
-                String location = result.getString("location");
-                String notes = result.getString("notes");
-
-                entity.Assessment assessment = new entity.Assessment(
-                        assessmentId, courseId, title, type, grade,
-                        startsAt, endsAt, durationMinutes, weight, location, notes
-                );
-                return java.util.Optional.of(assessment);
-            }
+            return connectionProvider.read(statements -> findById(statements, assessmentId));
         } catch (Exception e) {
             System.out.println(e);
         }
@@ -123,33 +256,113 @@ public class Assessment implements AssessmentRepository {
     @Override
     public void update(entity.Assessment assessment) {
         try {
-            Statement stmt = connection.createStatement();
-            String updateAssessment = "UPDATE assessments SET " +
-                    "course_id = '" + assessment.getCourseId() + "', " +
-                    "title = '" + assessment.getTitle() + "', " +
-                    "type = '" + assessment.getType() + "', " +
-                    "grade = " + assessment.getGrade() + ", " +
-                    "starts_at = '" + assessment.getStartsAt() + "', " +
-                    "ends_at = '" + assessment.getEndsAt() + "', " +
-                    "duration_minutes = " + assessment.getDurationMinutes() + ", " +
-                    "weight = " + assessment.getWeight() + ", " +
-                    "location = '" + assessment.getLocation() + "', " +
-                    "notes = '" + assessment.getNotes() + "' " +
-                    "WHERE assessment_id = '" + assessment.getAssessmentId() + "'";
-            stmt.executeUpdate(updateAssessment);
+            connectionProvider.transaction(statements -> {
+                java.util.Optional<entity.Assessment> previous = findById(statements, assessment.getAssessmentId());
+                PreparedStatement stmt = statements.prepare(UPDATE);
+                stmt.setString(1, assessment.getCourseId());
+                stmt.setString(2, assessment.getTitle());
+                stmt.setString(3, assessment.getType().name());
+                stmt.setDouble(4, assessment.getGrade());
+                stmt.setString(5, assessment.getStartsAt());
+                stmt.setString(6, assessment.getEndsAt());
+                stmt.setObject(7, assessment.getDurationMinutes());
+                stmt.setObject(8, assessment.getWeight());
+                stmt.setString(9, assessment.getLocation());
+                stmt.setString(10, assessment.getNotes());
+                stmt.setObject(11, toEpochMillis(assessment.getStartsAtInstant()));
+                stmt.setObject(12, toEpochMillis(assessment.getEndsAtInstant()));
+                stmt.setString(13, assessment.getAssessmentId());
+                int updated = stmt.executeUpdate();
+                if (previous.isPresent()) {
+                    // The course may have changed, so the old values come out of the old course's totals
+                    addToGradeAggregates(statements, List.of(previous.get()), -1);
+                    addToGradeAggregates(statements, List.of(assessment), 1);
+                }
+                return updated;
+            });
         } catch (Exception e) {
-            System.out.println(e);
+            throw writeFailed("update assessment " + assessment.getAssessmentId(), e);
         }
     }
 
     @Override
     public void deleteById(String assessmentId) {
         try {
-            Statement stmt = connection.createStatement();
-            String deleteAssessment = "DELETE FROM assessments WHERE assessment_id = '" + assessmentId + "'";
-            stmt.executeUpdate(deleteAssessment);
+            connectionProvider.transaction(statements -> {
+                java.util.Optional<entity.Assessment> previous = findById(statements, assessmentId);
+                PreparedStatement stmt = statements.prepare(DELETE_BY_ID);
+                stmt.setString(1, assessmentId);
+                int deleted = stmt.executeUpdate();
+                if (previous.isPresent()) {
+                    addToGradeAggregates(statements, List.of(previous.get()), -1);
+                }
+                return deleted;
+            });
         } catch (Exception e) {
-            System.out.println(e);
+            throw writeFailed("delete assessment " + assessmentId, e);
+        }
+    }
+
+    /**
+     * Logs a failed write and wraps it to be rethrown, so callers such as
+     * {@link use_case.repository.CachingAssessmentRepository} never record a write that was rolled back.
+     */
+    private static IllegalStateException writeFailed(String action, Exception e) {
+        System.out.println(e);
+        return new IllegalStateException("Could not " + action + ": " + e.getMessage(), e);
+    }
+
+    private java.util.Optional<entity.Assessment> findById(StatementCache statements, String assessmentId)
+            throws SQLException {
+        PreparedStatement stmt = statements.prepare(FIND_BY_ID);
+        stmt.setString(1, assessmentId);
+        try (ResultSet result = stmt.executeQuery()) {
+            if (result.next()) {
+                return java.util.Optional.of(toAssessment(result));
+            }
+            return java.util.Optional.empty();
         }
     }
+
+    /**
+     * The instants come from the epoch columns, which were resolved once when the row was written,
+     * rather than from parsing the wall-clock text again in today's system time zone.
+     */
+    private entity.Assessment toAssessment(ResultSet result) throws SQLException {
+        String assessmentId = result.getString("assessment_id");
+        String courseIdFromDb = result.getString("course_id");
+        String title = result.getString("title");
+        AssessmentType type = AssessmentType.valueOf(result.getString("type"));
+        double grade = result.getDouble("grade");
+        String startsAt = result.getString("starts_at");
+        String endsAt = result.getString("ends_at");
+        Long durationMinutes = result.getLong("duration_minutes");
+        Double weight = result.getDouble("weight");
+        String location = result.getString("location");
+        String notes = result.getString("notes");
+
+        return new entity.Assessment(
+                assessmentId, courseIdFromDb, title,
+                type,
+                grade,
+                startsAt,
+                endsAt,
+                fromEpochMillis(result, "starts_at_epoch"),
+                fromEpochMillis(result, "ends_at_epoch"),
+                durationMinutes,
+                weight,
+                location,
+                notes
+        );
+    }
+
+    /** The value of an *_epoch column: milliseconds since the epoch, or null if there is no time. */
+    static Long toEpochMillis(Instant instant) {
+        return instant == null ? null : instant.toEpochMilli();
+    }
+
+    private static Instant fromEpochMillis(ResultSet result, String column) throws SQLException {
+        long millis = result.getLong(column);
+        return result.wasNull() ? null : Instant.ofEpochMilli(millis);
+    }
 }
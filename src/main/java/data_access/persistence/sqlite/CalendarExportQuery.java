@@ -0,0 +1,176 @@
+package data_access.persistence.sqlite;
+
+import com.google.gson.Gson;
+import entity.SourceKind;
+import use_case.dto.ScheduleEventSnapshot;
+import use_case.dto.ScheduledTaskSnapshot;
+import use_case.port.outgoing.ScheduleEventQueryPort;
+import use_case.port.outgoing.ScheduledTaskQueryPort;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The time-window queries behind calendar export. The window and the course ids are part of the
+ * SQL, so exporting the next two weeks reads only those two weeks instead of every row of the
+ * user, and times are compared as the *_epoch columns rather than parsed from text.
+ */
+public class CalendarExportQuery implements ScheduleEventQueryPort, ScheduledTaskQueryPort {
+
+    // Uses idx_schedule_events_user_starts_epoch; an open window end is bound as Long.MIN_VALUE/MAX_VALUE
+    static final String FIND_EVENTS =
+            "SELECT * FROM schedule_events WHERE user_id = ? AND starts_at_epoch BETWEEN ? AND ? " +
+            "ORDER BY starts_at_epoch";
+    // An assessment is due when it ends: at ends_at, or its duration (one hour by default) after it starts
+    private static final String DUE_EPOCH =
+            "COALESCE(a.ends_at_epoch, a.starts_at_epoch + COALESCE(a.duration_minutes, 60) * 60000)";
+    // Uses idx_assessments_course_id; the courses join keeps other users' courses out
+    static final String FIND_TASKS =
+            "SELECT a.assessment_id, a.course_id, a.title, a.weight, a.location, a.notes, a.starts_at_epoch, " +
+            DUE_EPOCH + " AS due_epoch FROM assessments a JOIN courses c ON c.course_id = a.course_id " +
+            "WHERE c.user_id = ? AND a.course_id IN (SELECT value FROM json_each(?)) " +
+            "AND " + DUE_EPOCH + " BETWEEN ? AND ? ORDER BY due_epoch";
+    /** Events whose end is missing or not a valid time are shown as the hour after their start. */
+    private static final long DEFAULT_EVENT_MILLIS = 60 * 60_000L;
+    /** Assessments with only a due date are shown as the half hour before it. */
+    private static final int DUE_DATE_ONLY_MINUTES = 30;
+
+    private static final Gson GSON = new Gson();
+
+    private final ConnectionProvider connectionProvider;
+
+    public CalendarExportQuery(ConnectionProvider connectionProvider) {
+        this.connectionProvider = Objects.requireNonNull(connectionProvider, "connectionProvider");
+    }
+
+    /**
+     * Core functionalities
+     * findScheduleEvents(String userId, List<String> courseIds, Optional<Instant> windowStart,
+     *     Optional<Instant> windowEnd): Retrieves the ScheduleEvents of a user that start within the
+     *     window, both ends included, in order of their start. Events belong to the user rather than
+     *     to a course, so every event of the user is returned whatever the selected courses.
+     * @param userId: the user
+     * @param courseIds: ignored
+     * @param windowStart: the earliest start, if any
+     * @param windowEnd: the latest start, if any
+     * @return a list of ScheduleEventSnapshot.
+     */
+    @Override
+    public List<ScheduleEventSnapshot> findScheduleEvents(String userId,
+                                                          List<String> courseIds,
+                                                          Optional<Instant> windowStart,
+                                                          Optional<Instant> windowEnd) {
+        List<ScheduleEventSnapshot> eventList = new ArrayList<>();
+
+        try {
+            connectionProvider.read(statements -> {
+                PreparedStatement stmt = statements.prepare(FIND_EVENTS);
+                stmt.setString(1, userId);
+                stmt.setLong(2, lowerBound(windowStart));
+                stmt.setLong(3, upperBound(windowEnd));
+                try (ResultSet result = stmt.executeQuery()) {
+                    while (result.next()) {
+                        long startsEpoch = result.getLong("starts_at_epoch");
+                        long endsEpoch = result.getLong("ends_at_epoch");
+                        if (result.wasNull()) {
+                            endsEpoch = startsEpoch + DEFAULT_EVENT_MILLIS;
+                        }
+                        eventList.add(new ScheduleEventSnapshot(
+                                result.getString("event_id"),
+                                userId,
+                                result.getString("title"),
+                                Instant.ofEpochMilli(startsEpoch),
+                                Instant.ofEpochMilli(endsEpoch),
+                                result.getString("location"),
+                                result.getString("notes"),
+                                SourceKind.valueOf(result.getString("source_kind")),
+                                result.getString("source_id")
+                        ));
+                    }
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            System.out.println(e);
+        }
+        return eventList;
+    }
+
+    /**
+     * Core functionalities
+     * findTasksForExport(String userId, List<String> courseIds, Optional<Instant> windowStart,
+     *     Optional<Instant> windowEnd): Retrieves the assessments of the user's courses that are due
+     *     within the window, both ends included, in order of their due time. The effort of each is
+     *     the minutes from its start to its due time.
+     * @param userId: the user
+     * @param courseIds: the courses; an empty list finds nothing
+     * @param windowStart: the earliest due time, if any
+     * @param windowEnd: the latest due time, if any
+     * @return a list of ScheduledTaskSnapshot.
+     */
+    @Override
+    public List<ScheduledTaskSnapshot> findTasksForExport(String userId,
+                                                          List<String> courseIds,
+                                                          Optional<Instant> windowStart,
+                                                          Optional<Instant> windowEnd) {
+        List<ScheduledTaskSnapshot> taskList = new ArrayList<>();
+        if (courseIds.isEmpty()) {
+            return taskList;
+        }
+
+        try {
+            connectionProvider.read(statements -> {
+                PreparedStatement stmt = statements.prepare(FIND_TASKS);
+                stmt.setString(1, userId);
+                stmt.setString(2, GSON.toJson(courseIds));
+                stmt.setLong(3, lowerBound(windowStart));
+                stmt.setLong(4, upperBound(windowEnd));
+                try (ResultSet result = stmt.executeQuery()) {
+                    while (result.next()) {
+                        taskList.add(toTask(result, userId));
+                    }
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            System.out.println(e);
+        }
+        return taskList;
+    }
+
+    private ScheduledTaskSnapshot toTask(ResultSet result, String userId) throws SQLException {
+        long dueEpoch = result.getLong("due_epoch");
+        long startsEpoch = result.getLong("starts_at_epoch");
+        int effortMinutes = result.wasNull()
+                ? DUE_DATE_ONLY_MINUTES
+                : (int) ((dueEpoch - startsEpoch) / 60_000L);
+        double weight = result.getDouble("weight");
+        Double weightOrNull = result.wasNull() ? null : weight;
+
+        return new ScheduledTaskSnapshot(
+                result.getString("assessment_id"),
+                userId,
+                result.getString("course_id"),
+                result.getString("title"),
+                Instant.ofEpochMilli(dueEpoch),
+                effortMinutes,
+                weightOrNull,
+                result.getString("location"),
+                result.getString("notes")
+        );
+    }
+
+    private static long lowerBound(Optional<Instant> windowStart) {
+        return windowStart.map(Instant::toEpochMilli).orElse(Long.MIN_VALUE);
+    }
+
+    private static long upperBound(Optional<Instant> windowEnd) {
+        return windowEnd.map(Instant::toEpochMilli).orElse(Long.MAX_VALUE);
+    }
+}
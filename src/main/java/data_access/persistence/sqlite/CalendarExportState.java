@@ -0,0 +1,113 @@
+package data_access.persistence.sqlite;
+
+import entity.ExportedEventState;
+import use_case.repository.CalendarExportStateRepository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+public class CalendarExportState implements CalendarExportStateRepository {
+
+    private static final String FIND_BY_USER_ID =
+            "SELECT event_id, content_hash, sequence FROM calendar_export_state WHERE user_id = ? AND scope = ?";
+    private static final String UPSERT =
+            "INSERT INTO calendar_export_state (user_id, scope, event_id, content_hash, sequence) " +
+            "VALUES (?, ?, ?, ?, ?) ON CONFLICT(user_id, scope, event_id) " +
+            "DO UPDATE SET content_hash = excluded.content_hash, sequence = excluded.sequence";
+    private static final String DELETE =
+            "DELETE FROM calendar_export_state WHERE user_id = ? AND scope = ? AND event_id = ?";
+
+    private final ConnectionProvider connectionProvider;
+
+    public CalendarExportState(ConnectionProvider connectionProvider) {
+        this.connectionProvider = Objects.requireNonNull(connectionProvider, "connectionProvider");
+    }
+
+    /**
+     * Core functionalities
+     * findByUserId(String userId, String scope): Retrieves the last exported state of each event
+     * in one of the user's export scopes.
+     *
+     * @param userId: the user
+     * @param scope: what was exported
+     * @return the states by event id, empty if nothing was exported yet.
+     */
+    @Override
+    public Map<String, ExportedEventState> findByUserId(String userId, String scope) {
+        Map<String, ExportedEventState> states = new HashMap<>();
+        try {
+            connectionProvider.read(statements -> {
+                PreparedStatement stmt = statements.prepare(FIND_BY_USER_ID);
+                stmt.setString(1, userId);
+                stmt.setString(2, scope);
+                try (ResultSet result = stmt.executeQuery()) {
+                    while (result.next()) {
+                        ExportedEventState state = new ExportedEventState(
+                                result.getString("event_id"),
+                                result.getString("content_hash"),
+                                result.getInt("sequence"));
+                        states.put(state.getEventId(), state);
+                    }
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            System.out.println(e);
+        }
+        return states;
+    }
+
+    /**
+     * Core functionalities
+     * saveExport(String userId, String scope, Collection<ExportedEventState> exported,
+     *            Collection<String> removedEventIds):
+     *     Upserts the exported states and deletes the removed ones in one transaction, each as a
+     *     single JDBC batch.
+     * @param (userId, scope, exported, removedEventIds)
+     */
+    @Override
+    public void saveExport(String userId, String scope, Collection<ExportedEventState> exported,
+                           Collection<String> removedEventIds) {
+        try {
+            connectionProvider.transaction(statements -> {
+                if (!exported.isEmpty()) {
+                    PreparedStatement stmt = statements.prepare(UPSERT);
+                    try {
+                        for (ExportedEventState state : exported) {
+                            stmt.setString(1, userId);
+                            stmt.setString(2, scope);
+                            stmt.setString(3, state.getEventId());
+                            stmt.setString(4, state.getContentHash());
+                            stmt.setInt(5, state.getSequence());
+                            stmt.addBatch();
+                        }
+                        stmt.executeBatch();
+                    } finally {
+                        stmt.clearBatch();
+                    }
+                }
+                if (!removedEventIds.isEmpty()) {
+                    PreparedStatement stmt = statements.prepare(DELETE);
+                    try {
+                        for (String eventId : removedEventIds) {
+                            stmt.setString(1, userId);
+                            stmt.setString(2, scope);
+                            stmt.setString(3, eventId);
+                            stmt.addBatch();
+                        }
+                        stmt.executeBatch();
+                    } finally {
+                        stmt.clearBatch();
+                    }
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            System.out.println(e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package data_access.persistence.sqlite;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Hands out SQLite connections to the repositories in this package.
+ *
+ * <p>Reads may run in parallel on pooled read-only connections, while every write goes through a
+ * single serialized writer connection. Callers never hold on to a {@link Connection}; they pass
+ * a unit of {@link Work} and the provider leases and returns the connection around it.
+ */
+public interface ConnectionProvider extends AutoCloseable {
+
+    /**
+     * Runs {@code work} on a read connection. If the calling thread is already inside
+     * {@link #write(Work)}, the writer connection is reused so uncommitted changes stay visible.
+     */
+    <T> T read(Work<T> work) throws SQLException;
+
+    /**
+     * Runs {@code work} on the writer connection while holding the write lock. Nested calls from
+     * the same thread re-enter the lock and share the connection.
+     */
+    <T> T write(Work<T> work) throws SQLException;
+
+    /**
+     * Runs {@code work} on the writer connection inside a single transaction. The transaction is
+     * committed when {@code work} returns and rolled back if it throws. A transaction started
+     * inside another one joins the outer transaction.
+     */
+    <T> T transaction(Work<T> work) throws SQLException;
+
+    @Override
+    void close();
+
+    /**
+     * A unit of JDBC work executed against a leased connection and its statement cache.
+     *
+     * @param <T> the result type
+     */
+    @FunctionalInterface
+    interface Work<T> {
+        T execute(StatementCache statements) throws SQLException;
+    }
+}
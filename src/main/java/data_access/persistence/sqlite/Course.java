@@ -1,18 +1,26 @@
 package data_access.persistence.sqlite;
 
-import entity.AssessmentType;
 import use_case.repository.CourseRepository;
-import app.Main;
 
-import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
-import java.sql.Statement;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 public class Course implements CourseRepository {
 
-    private final Connection connection = Main.getConnection();;
+    private static final String FIND_BY_USER_ID =
+            "SELECT * FROM courses WHERE user_id = ?";
+    private static final String INSERT =
+            "INSERT INTO courses (course_id, user_id, code, name, term, instructor) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final ConnectionProvider connectionProvider;
+
+    public Course(ConnectionProvider connectionProvider) {
+        this.connectionProvider = Objects.requireNonNull(connectionProvider, "connectionProvider");
+    }
 
     /**
      * Core functionalities
@@ -25,28 +33,31 @@ public class Course implements CourseRepository {
         List<entity.Course> courseList = new ArrayList<>();
 
         try {
-            Statement stmt = connection.createStatement();
-            String getCourse = "select * from courses WHERE user_id = '" + userId +
-                    "'";
-            ResultSet result = stmt.executeQuery(getCourse);
-            while (result.next()) {
-                String courseId = result.getString("course_id");
-                String userIdFromDb = result.getString("user_id");
-                String code = result.getString("code");
-                String name = result.getString("name");
-                String term = result.getString("term");
-                String instructor = result.getString("instructor");
+            connectionProvider.read(statements -> {
+                PreparedStatement stmt = statements.prepare(FIND_BY_USER_ID);
+                stmt.setString(1, userId);
+                try (ResultSet result = stmt.executeQuery()) {
+                    while (result.next()) {
+                        String courseId = result.getString("course_id");
+                        String userIdFromDb = result.getString("user_id");
+                        String code = result.getString("code");
+                        String name = result.getString("name");
+                        String term = result.getString("term");
+                        String instructor = result.getString("instructor");
 
-                entity.Course course = new entity.Course(
-                        courseId,
-                        userIdFromDb,
-                        code,
-                        name,
-                        term,
-                        instructor
-                );
-                courseList.add(course);
-            }
+                        entity.Course course = new entity.Course(
+                                courseId,
+                                userIdFromDb,
+                                code,
+                                name,
+                                term,
+                                instructor
+                        );
+                        courseList.add(course);
+                    }
+                }
+                return null;
+            });
         } catch (Exception e) {
             System.out.println(e);
         }
@@ -57,17 +68,20 @@ public class Course implements CourseRepository {
     @Override
     public void save(entity.Course course) {
         try {
-            Statement stmt = connection.createStatement();
-            String saveCourse = "INSERT INTO courses VALUES ('" +
-                    course.getCourseId() + "', '" +
-                    course.getUserId() + "', '" +
-                    course.getCode() + "', '" +
-                    course.getName() + "', '" +
-                    course.getTerm() + "', '" +
-                    course.getInstructor() + "')";
-            int x = stmt.executeUpdate(saveCourse);
+            connectionProvider.write(statements -> insert(statements, course));
         } catch (Exception e) {
             System.out.println(e);
         }
     }
-}
\ No newline at end of file
+
+    static int insert(StatementCache statements, entity.Course course) throws SQLException {
+        PreparedStatement stmt = statements.prepare(INSERT);
+        stmt.setString(1, course.getCourseId());
+        stmt.setString(2, course.getUserId());
+        stmt.setString(3, course.getCode());
+        stmt.setString(4, course.getName());
+        stmt.setString(5, course.getTerm());
+        stmt.setString(6, course.getInstructor());
+        return stmt.executeUpdate();
+    }
+}
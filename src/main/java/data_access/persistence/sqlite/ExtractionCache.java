@@ -0,0 +1,228 @@
+package data_access.persistence.sqlite;
+
+import com.google.gson.Gson;
+import use_case.dto.SyllabusParseResultData;
+import use_case.port.outgoing.AiExtractionDataAccessInterface;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.text.Normalizer;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Caches AI extraction results in the {@code ai_extraction_cache} table.
+ *
+ * <p>Wraps another {@link AiExtractionDataAccessInterface} and keys every result by a SHA-256 of
+ * the normalized syllabus text and the prompt version, so re-uploading the same syllabus returns
+ * the stored result without calling the model. Once the stored results exceed {@code maxBytes},
+ * the least recently used ones are evicted. A failing cache never fails the extraction; it just
+ * falls through to the delegate.
+ */
+public class ExtractionCache implements AiExtractionDataAccessInterface {
+    public static final long DEFAULT_MAX_BYTES = 8L * 1024 * 1024;
+
+    private static final String FIND =
+            "SELECT result_json FROM ai_extraction_cache WHERE cache_key = ?";
+    private static final String TOUCH =
+            "UPDATE ai_extraction_cache SET last_used_at = ? WHERE cache_key = ?";
+    private static final String UPSERT =
+            "INSERT INTO ai_extraction_cache " +
+            "(cache_key, prompt_version, result_json, size_bytes, created_at, last_used_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT(cache_key) DO UPDATE SET result_json = excluded.result_json, " +
+            "size_bytes = excluded.size_bytes, created_at = excluded.created_at, " +
+            "last_used_at = excluded.last_used_at";
+    // Keeps the most recently used entries whose running total fits in the budget
+    private static final String EVICT =
+            "DELETE FROM ai_extraction_cache WHERE cache_key IN (" +
+            "SELECT cache_key FROM (SELECT cache_key, " +
+            "SUM(size_bytes) OVER (ORDER BY last_used_at DESC, cache_key) AS running_bytes " +
+            "FROM ai_extraction_cache) WHERE running_bytes > ?)";
+    private static final String DELETE = "DELETE FROM ai_extraction_cache WHERE cache_key = ?";
+    private static final String DELETE_ALL = "DELETE FROM ai_extraction_cache";
+
+    private final AiExtractionDataAccessInterface delegate;
+    private final ConnectionProvider connectionProvider;
+    private final String promptVersion;
+    private final long maxBytes;
+    private final Clock clock;
+    private final Gson gson = new Gson();
+    private volatile boolean bypass;
+
+    public ExtractionCache(AiExtractionDataAccessInterface delegate,
+                           ConnectionProvider connectionProvider,
+                           String promptVersion) {
+        this(delegate, connectionProvider, promptVersion, DEFAULT_MAX_BYTES, Clock.systemUTC());
+    }
+
+    public ExtractionCache(AiExtractionDataAccessInterface delegate,
+                           ConnectionProvider connectionProvider,
+                           String promptVersion,
+                           long maxBytes) {
+        this(delegate, connectionProvider, promptVersion, maxBytes, Clock.systemUTC());
+    }
+
+    ExtractionCache(AiExtractionDataAccessInterface delegate,
+                    ConnectionProvider connectionProvider,
+                    String promptVersion,
+                    long maxBytes,
+                    Clock clock) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.connectionProvider = Objects.requireNonNull(connectionProvider, "connectionProvider");
+        this.promptVersion = Objects.requireNonNull(promptVersion, "promptVersion");
+        this.maxBytes = maxBytes;
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    /**
+     * Core functionalities
+     * extractStructuredData(String syllabusText): Returns the cached result for this text, or asks
+     *     the delegate and stores its result.
+     * @param syllabusText: the text extracted from the syllabus PDF
+     * @return the structured syllabus data.
+     */
+    @Override
+    public SyllabusParseResultData extractStructuredData(String syllabusText) {
+        return extractStructuredData(syllabusText, assessment -> { });
+    }
+
+    @Override
+    public SyllabusParseResultData extractStructuredData(String syllabusText,
+                                                         AssessmentListener listener) {
+        String key = cacheKey(syllabusText, promptVersion);
+        if (!bypass) {
+            SyllabusParseResultData cached = find(key);
+            if (cached != null) {
+                cached.getAssessments().forEach(listener::onAssessment);
+                return cached;
+            }
+        }
+
+        SyllabusParseResultData result = delegate.extractStructuredData(syllabusText, listener);
+        store(key, result);
+        return result;
+    }
+
+    /**
+     * While bypassed, every call goes to the delegate; its results still refresh the cache.
+     */
+    public void setBypass(boolean bypass) {
+        this.bypass = bypass;
+    }
+
+    public boolean isBypass() {
+        return bypass;
+    }
+
+    /**
+     * Core functionalities
+     * invalidate(String syllabusText): Drops the cached result for this text.
+     * @param syllabusText: the text extracted from the syllabus PDF
+     * @return null.
+     */
+    public void invalidate(String syllabusText) {
+        String key = cacheKey(syllabusText, promptVersion);
+        try {
+            connectionProvider.write(statements -> {
+                PreparedStatement stmt = statements.prepare(DELETE);
+                stmt.setString(1, key);
+                return stmt.executeUpdate();
+            });
+        } catch (Exception e) {
+            System.out.println(e);
+        }
+    }
+
+    public void invalidateAll() {
+        try {
+            connectionProvider.write(statements -> statements.prepare(DELETE_ALL).executeUpdate());
+        } catch (Exception e) {
+            System.out.println(e);
+        }
+    }
+
+    private SyllabusParseResultData find(String key) {
+        try {
+            String json = connectionProvider.read(statements -> {
+                PreparedStatement stmt = statements.prepare(FIND);
+                stmt.setString(1, key);
+                try (ResultSet result = stmt.executeQuery()) {
+                    return result.next() ? result.getString("result_json") : null;
+                }
+            });
+            if (json == null) {
+                return null;
+            }
+            SyllabusParseResultData cached = gson.fromJson(json, SyllabusParseResultData.class);
+            connectionProvider.write(statements -> {
+                PreparedStatement touch = statements.prepare(TOUCH);
+                touch.setLong(1, clock.millis());
+                touch.setString(2, key);
+                return touch.executeUpdate();
+            });
+            return cached;
+        } catch (Exception e) {
+            // An entry we cannot read is treated as missing; the next store replaces it
+            System.out.println(e);
+            return null;
+        }
+    }
+
+    private void store(String key, SyllabusParseResultData result) {
+        String json = gson.toJson(result);
+        long size = json.getBytes(StandardCharsets.UTF_8).length;
+        if (size > maxBytes) {
+            return;
+        }
+        Instant now = clock.instant();
+        try {
+            connectionProvider.transaction(statements -> {
+                PreparedStatement stmt = statements.prepare(UPSERT);
+                stmt.setString(1, key);
+                stmt.setString(2, promptVersion);
+                stmt.setString(3, json);
+                stmt.setLong(4, size);
+                stmt.setString(5, now.toString());
+                stmt.setLong(6, now.toEpochMilli());
+                stmt.executeUpdate();
+
+                PreparedStatement evict = statements.prepare(EVICT);
+                evict.setLong(1, maxBytes);
+                return evict.executeUpdate();
+            });
+        } catch (Exception e) {
+            System.out.println(e);
+        }
+    }
+
+    /**
+     * Hashes the syllabus text after normalizing away differences that do not change what the model
+     * sees: Unicode composition, line endings and runs of whitespace.
+     */
+    static String cacheKey(String syllabusText, String promptVersion) {
+        String normalized = Normalizer.normalize(syllabusText, Normalizer.Form.NFC)
+                .replaceAll("\\s+", " ")
+                .trim();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(promptVersion.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            byte[] hash = digest.digest(normalized.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
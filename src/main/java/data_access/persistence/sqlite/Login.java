@@ -1,13 +1,20 @@
 package data_access.persistence.sqlite;
 
 import java.sql.*;
+import java.util.Objects;
+
 import entity.User;
-import app.Main;
 import use_case.repository.LoginRepository;
 
 public class Login implements LoginRepository {
 
-    private final Connection connection = Main.getConnection();;
+    private static final String FIND_BY_EMAIL = "SELECT * FROM users WHERE email = ?";
+
+    private final ConnectionProvider connectionProvider;
+
+    public Login(ConnectionProvider connectionProvider) {
+        this.connectionProvider = Objects.requireNonNull(connectionProvider, "connectionProvider");
+    }
 
     /**
      * Core functionalities
@@ -18,19 +25,24 @@ public class Login implements LoginRepository {
 
     public User getUserByEmail(String email) throws SQLException {
         try {
-            Statement stmt = connection.createStatement();
-            String getUser = "select * from users WHERE email = '" + email +
-                    "'";
-            ResultSet result = stmt.executeQuery(getUser);
+            return connectionProvider.read(statements -> {
+                PreparedStatement stmt = statements.prepare(FIND_BY_EMAIL);
+                stmt.setString(1, email);
+                try (ResultSet result = stmt.executeQuery()) {
+                    if (!result.next()) {
+                        throw new SQLException("No user found for email " + email);
+                    }
 
-            String userId = result.getString("user_id");
-            String name = result.getString("name");
-            String timezone = result.getString("timezone");
-            String passwordHash = result.getString("password_hash");
+                    String userId = result.getString("user_id");
+                    String name = result.getString("name");
+                    String timezone = result.getString("timezone");
+                    String passwordHash = result.getString("password_hash");
 
-            return new User(userId, name, email, timezone, passwordHash);
+                    return new User(userId, name, email, timezone, passwordHash);
+                }
+            });
         } catch (Exception e) {
             throw(e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,149 @@
+package data_access.persistence.sqlite;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Brings the database schema up to date by applying the SQL scripts under
+ * {@code src/main/resources/db/migrations} that it has not seen yet.
+ *
+ * <p>Applied versions are recorded in {@code schema_version}, and each script runs in its own
+ * transaction together with its bookkeeping row, so running the migrations again is a no-op.
+ */
+public class MigrationRunner {
+    private static final Logger LOGGER = Logger.getLogger(MigrationRunner.class.getName());
+
+    /** Every migration script, in the order it must be applied. */
+    static final List<String> MIGRATIONS = List.of(
+            "V1__baseline_schema.sql",
+            "V2__secondary_indexes.sql",
+            "V3__ai_extraction_cache.sql",
+            "V4__calendar_export_state.sql",
+            "V5__epoch_time_columns.sql",
+            "V6__grade_aggregates.sql"
+    );
+
+    private static final String MIGRATIONS_PATH = "/db/migrations/";
+    private static final String CREATE_VERSION_TABLE =
+            "CREATE TABLE IF NOT EXISTS schema_version (" +
+            "version INTEGER PRIMARY KEY, description TEXT NOT NULL, applied_at TEXT NOT NULL)";
+    private static final String FIND_APPLIED = "SELECT version FROM schema_version";
+    private static final String INSERT_VERSION =
+            "INSERT INTO schema_version (version, description, applied_at) VALUES (?, ?, ?)";
+
+    private final ConnectionProvider connectionProvider;
+    private final List<String> migrations;
+
+    public MigrationRunner(ConnectionProvider connectionProvider) {
+        this(connectionProvider, MIGRATIONS);
+    }
+
+    MigrationRunner(ConnectionProvider connectionProvider, List<String> migrations) {
+        this.connectionProvider = Objects.requireNonNull(connectionProvider, "connectionProvider");
+        this.migrations = List.copyOf(migrations);
+    }
+
+    /**
+     * Core functionalities
+     * migrate(): Applies every pending migration in version order.
+     * @return the number of migrations applied by this call.
+     */
+    public int migrate() throws SQLException {
+        Set<Integer> applied = connectionProvider.write(statements -> {
+            try (Statement stmt = statements.getConnection().createStatement()) {
+                stmt.executeUpdate(CREATE_VERSION_TABLE);
+            }
+            Set<Integer> versions = new HashSet<>();
+            try (ResultSet result = statements.prepare(FIND_APPLIED).executeQuery()) {
+                while (result.next()) {
+                    versions.add(result.getInt("version"));
+                }
+            }
+            return versions;
+        });
+
+        int count = 0;
+        for (String fileName : migrations) {
+            int version = versionOf(fileName);
+            if (applied.contains(version)) {
+                continue;
+            }
+            List<String> sqlStatements = splitStatements(load(fileName));
+            connectionProvider.transaction(statements -> {
+                try (Statement stmt = statements.getConnection().createStatement()) {
+                    for (String sql : sqlStatements) {
+                        stmt.executeUpdate(sql);
+                    }
+                }
+                PreparedStatement insert = statements.prepare(INSERT_VERSION);
+                insert.setInt(1, version);
+                insert.setString(2, descriptionOf(fileName));
+                insert.setString(3, Instant.now().toString());
+                return insert.executeUpdate();
+            });
+            LOGGER.info("Applied migration " + fileName);
+            count++;
+        }
+        return count;
+    }
+
+    static int versionOf(String fileName) {
+        int separator = fileName.indexOf("__");
+        if (!fileName.startsWith("V") || separator < 2) {
+            throw new IllegalArgumentException("Migration name must look like V<version>__<description>.sql: "
+                    + fileName);
+        }
+        return Integer.parseInt(fileName.substring(1, separator));
+    }
+
+    static String descriptionOf(String fileName) {
+        String description = fileName.substring(fileName.indexOf("__") + 2);
+        if (description.endsWith(".sql")) {
+            description = description.substring(0, description.length() - 4);
+        }
+        return description.replace('_', ' ');
+    }
+
+    /**
+     * Splits a script into statements on {@code ;}, dropping {@code --} comment lines. The
+     * migrations are plain DDL, so semicolons inside literals or triggers are not supported.
+     */
+    static List<String> splitStatements(String script) {
+        StringBuilder withoutComments = new StringBuilder();
+        for (String line : script.split("\\R")) {
+            if (!line.trim().startsWith("--")) {
+                withoutComments.append(line).append('\n');
+            }
+        }
+        List<String> sqlStatements = new ArrayList<>();
+        for (String sql : withoutComments.toString().split(";")) {
+            if (!sql.isBlank()) {
+                sqlStatements.add(sql.trim());
+            }
+        }
+        return sqlStatements;
+    }
+
+    private static String load(String fileName) throws SQLException {
+        try (InputStream in = MigrationRunner.class.getResourceAsStream(MIGRATIONS_PATH + fileName)) {
+            if (in == null) {
+                throw new SQLException("Migration script not found on the classpath: " + fileName);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new SQLException("Could not read migration " + fileName, e);
+        }
+    }
+}
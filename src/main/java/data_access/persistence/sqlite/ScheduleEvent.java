@@ -1,19 +1,27 @@
 package data_access.persistence.sqlite;
 
-import entity.SourceKind;
 import entity.SourceKind;
 import use_case.repository.ScheduleEventRepository;
-import app.Main;
 
-import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
-import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 public class ScheduleEvent implements ScheduleEventRepository {
 
-    private final Connection connection = Main.getConnection();
+    private static final String FIND_BY_USER_ID =
+            "SELECT * FROM schedule_events WHERE user_id = ?";
+    private static final String INSERT =
+            "INSERT INTO schedule_events (event_id, user_id, title, starts_at, ends_at, location, notes, " +
+            "source_kind, source_id, starts_at_epoch, ends_at_epoch) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final ConnectionProvider connectionProvider;
+
+    public ScheduleEvent(ConnectionProvider connectionProvider) {
+        this.connectionProvider = Objects.requireNonNull(connectionProvider, "connectionProvider");
+    }
 
     /**
      * Core functionalities
@@ -28,33 +36,36 @@ public class ScheduleEvent implements ScheduleEventRepository {
         List<entity.ScheduleEvent> eventList = new ArrayList<>();
 
         try {
-            Statement stmt = connection.createStatement();
-            String getEvent = "select * from schedule_events WHERE user_id = '" + userId +
-                    "'";
-            ResultSet result = stmt.executeQuery(getEvent);
-            while (result.next()) {
-                String eventId = result.getString("event_id"); // Use a different var name
-                String title = result.getString("title");
-                String startsAt = result.getString("starts_at");
-                String endsAt = result.getString("ends_at");
-                String location = result.getString("location");
-                String notes = result.getString("notes");
-                SourceKind sourceKind = SourceKind.valueOf(result.getString("source_kind"));
-                String sourceId = result.getString("source_id");
+            connectionProvider.read(statements -> {
+                PreparedStatement stmt = statements.prepare(FIND_BY_USER_ID);
+                stmt.setString(1, userId);
+                try (ResultSet result = stmt.executeQuery()) {
+                    while (result.next()) {
+                        String eventId = result.getString("event_id"); // Use a different var name
+                        String title = result.getString("title");
+                        String startsAt = result.getString("starts_at");
+                        String endsAt = result.getString("ends_at");
+                        String location = result.getString("location");
+                        String notes = result.getString("notes");
+                        SourceKind sourceKind = SourceKind.valueOf(result.getString("source_kind"));
+                        String sourceId = result.getString("source_id");
 
-                entity.ScheduleEvent event = new entity.ScheduleEvent(
-                        eventId,
-                        userId,
-                        title,
-                        startsAt,
-                        endsAt,
-                        location,
-                        notes,
-                        sourceKind,
-                        sourceId
-                );
-                eventList.add(event);
-            }
+                        entity.ScheduleEvent event = new entity.ScheduleEvent(
+                                eventId,
+                                userId,
+                                title,
+                                startsAt,
+                                endsAt,
+                                location,
+                                notes,
+                                sourceKind,
+                                sourceId
+                        );
+                        eventList.add(event);
+                    }
+                }
+                return null;
+            });
         } catch (Exception e) {
             System.out.println(e);
         }
@@ -64,20 +75,23 @@ public class ScheduleEvent implements ScheduleEventRepository {
     @Override
     public void save(entity.ScheduleEvent event) {
         try {
-            Statement stmt = connection.createStatement();
-            String saveEvent = "INSERT INTO courses VALUES ('" +
-                    event.getEventId() + "', '" +
-                    event.getUserId() + "', '" +
-                    event.getTitle() + "', " +
-                    event.getStartsAt() + ", " +
-                    event.getEndsAt() + ", " +
-                    event.getLocation() + ", " +
-                    event.getNotes() + ", " +
-                    event.getSource() + ", " +
-                    event.getSourceId() + "')";
-            int x = stmt.executeUpdate(saveEvent);
+            connectionProvider.write(statements -> {
+                PreparedStatement stmt = statements.prepare(INSERT);
+                stmt.setString(1, event.getEventId());
+                stmt.setString(2, event.getUserId());
+                stmt.setString(3, event.getTitle());
+                stmt.setString(4, event.getStartsAt());
+                stmt.setString(5, event.getEndsAt());
+                stmt.setString(6, event.getLocation());
+                stmt.setString(7, event.getNotes());
+                stmt.setString(8, event.getSource().name());
+                stmt.setString(9, event.getSourceId());
+                stmt.setObject(10, Assessment.toEpochMillis(event.getStartsAtInstant()));
+                stmt.setObject(11, Assessment.toEpochMillis(event.getEndsAtInstant()));
+                return stmt.executeUpdate();
+            });
         } catch (Exception e) {
             System.out.println(e);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,20 @@
 package data_access.persistence.sqlite;
 
 import java.sql.*;
-import entity.User;
-import app.Main;
+import java.util.Objects;
+
 import use_case.repository.SignUpRepository;
 
 public class Signup implements SignUpRepository {
 
-    private final Connection connection = Main.getConnection();;
+    private static final String INSERT =
+            "INSERT INTO users (user_id, name, email, timezone, password_hash) VALUES (?, ?, ?, ?, ?)";
+
+    private final ConnectionProvider connectionProvider;
+
+    public Signup(ConnectionProvider connectionProvider) {
+        this.connectionProvider = Objects.requireNonNull(connectionProvider, "connectionProvider");
+    }
 
     /**
      * Core functionalities
@@ -18,12 +25,18 @@ public class Signup implements SignUpRepository {
      */
     public void saveUser(String userID, String name, String email, String timezone, String password) throws SQLException {
         try {
-            Statement stmt = connection.createStatement();
-            String storeUser = "insert into users values ('" +userID+ "', '" +name+ "', '" +email+ "', '" +timezone+ "', '"  + password + "')";
-            int x = stmt.executeUpdate(storeUser);
+            connectionProvider.write(statements -> {
+                PreparedStatement stmt = statements.prepare(INSERT);
+                stmt.setString(1, userID);
+                stmt.setString(2, name);
+                stmt.setString(3, email);
+                stmt.setString(4, timezone);
+                stmt.setString(5, password);
+                return stmt.executeUpdate();
+            });
         } catch (Exception e) {
             throw(e);
         }
     }
 
-}
\ No newline at end of file
+}
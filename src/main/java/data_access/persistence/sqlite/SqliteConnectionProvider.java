@@ -0,0 +1,193 @@
+package data_access.persistence.sqlite;
+
+import org.sqlite.SQLiteConfig;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link ConnectionProvider} backed by a bounded pool of read-only SQLite connections and a single
+ * writer connection, all opened in WAL mode so readers never block behind the writer. Every pooled
+ * connection keeps an LRU {@link StatementCache} for its lifetime.
+ */
+public class SqliteConnectionProvider implements ConnectionProvider {
+    public static final int DEFAULT_MAX_READERS = 4;
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 32;
+    private static final int BUSY_TIMEOUT_MILLIS = 5000;
+    private static final long ACQUIRE_TIMEOUT_SECONDS = 30;
+
+    private final String url;
+    private final int maxReaders;
+    private final int statementCacheSize;
+    private final BlockingQueue<StatementCache> idleReaders;
+    private final AtomicInteger openReaders = new AtomicInteger();
+    private final ThreadLocal<StatementCache> leasedReader = new ThreadLocal<>();
+    private final ReentrantLock writeLock = new ReentrantLock(true);
+    private final StatementCache writer;
+    private volatile boolean closed;
+
+    public SqliteConnectionProvider(String url) throws SQLException {
+        this(url, DEFAULT_MAX_READERS);
+    }
+
+    public SqliteConnectionProvider(String url, int maxReaders) throws SQLException {
+        this(url, maxReaders, DEFAULT_STATEMENT_CACHE_SIZE);
+    }
+
+    public SqliteConnectionProvider(String url, int maxReaders, int statementCacheSize)
+            throws SQLException {
+        if (maxReaders < 1) {
+            throw new IllegalArgumentException("maxReaders must be at least 1");
+        }
+        if (statementCacheSize < 1) {
+            throw new IllegalArgumentException("statementCacheSize must be at least 1");
+        }
+        this.url = Objects.requireNonNull(url, "url");
+        this.maxReaders = maxReaders;
+        this.statementCacheSize = statementCacheSize;
+        this.idleReaders = new ArrayBlockingQueue<>(maxReaders);
+        // The writer is opened first so the database is switched to WAL before any reader attaches
+        this.writer = open(false);
+    }
+
+    @Override
+    public <T> T read(Work<T> work) throws SQLException {
+        Objects.requireNonNull(work, "work");
+        ensureOpen();
+        if (writeLock.isHeldByCurrentThread()) {
+            return work.execute(writer);
+        }
+        StatementCache current = leasedReader.get();
+        if (current != null) {
+            return work.execute(current);
+        }
+
+        StatementCache reader = acquireReader();
+        leasedReader.set(reader);
+        try {
+            return work.execute(reader);
+        } finally {
+            leasedReader.remove();
+            releaseReader(reader);
+        }
+    }
+
+    @Override
+    public <T> T write(Work<T> work) throws SQLException {
+        Objects.requireNonNull(work, "work");
+        ensureOpen();
+        writeLock.lock();
+        try {
+            return work.execute(writer);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public <T> T transaction(Work<T> work) throws SQLException {
+        Objects.requireNonNull(work, "work");
+        return write(statements -> {
+            Connection connection = statements.getConnection();
+            if (!connection.getAutoCommit()) {
+                return work.execute(statements);
+            }
+            connection.setAutoCommit(false);
+            try {
+                T result = work.execute(statements);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                try {
+                    connection.rollback();
+                } catch (SQLException rollbackFailure) {
+                    e.addSuppressed(rollbackFailure);
+                }
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        StatementCache idle;
+        while ((idle = idleReaders.poll()) != null) {
+            idle.close();
+        }
+        writeLock.lock();
+        try {
+            writer.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private StatementCache acquireReader() throws SQLException {
+        StatementCache reader = idleReaders.poll();
+        if (reader != null) {
+            return reader;
+        }
+        if (openReaders.incrementAndGet() <= maxReaders) {
+            try {
+                return open(true);
+            } catch (SQLException e) {
+                openReaders.decrementAndGet();
+                throw e;
+            }
+        }
+        openReaders.decrementAndGet();
+
+        try {
+            reader = idleReaders.poll(ACQUIRE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a read connection", e);
+        }
+        if (reader == null) {
+            throw new SQLException("Timed out waiting for a read connection");
+        }
+        return reader;
+    }
+
+    private void releaseReader(StatementCache reader) {
+        boolean reusable;
+        try {
+            reusable = !closed && !reader.getConnection().isClosed();
+        } catch (SQLException e) {
+            reusable = false;
+        }
+        if (!reusable || !idleReaders.offer(reader)) {
+            openReaders.decrementAndGet();
+            reader.close();
+        }
+    }
+
+    private StatementCache open(boolean readOnly) throws SQLException {
+        SQLiteConfig config = new SQLiteConfig();
+        config.setBusyTimeout(BUSY_TIMEOUT_MILLIS);
+        if (readOnly) {
+            config.setReadOnly(true);
+        } else {
+            config.setJournalMode(SQLiteConfig.JournalMode.WAL);
+            config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        }
+        Connection connection = DriverManager.getConnection(url, config.toProperties());
+        return new StatementCache(connection, statementCacheSize);
+    }
+
+    private void ensureOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection provider is closed");
+        }
+    }
+}
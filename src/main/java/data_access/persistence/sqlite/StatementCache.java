@@ -0,0 +1,88 @@
+package data_access.persistence.sqlite;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Per-connection cache of compiled {@link PreparedStatement}s keyed by their SQL text.
+ *
+ * <p>Entries are evicted in least-recently-used order once {@code maxSize} is exceeded, and the
+ * evicted statement is closed. Callers must not close statements returned by {@link #prepare};
+ * they only close the {@link java.sql.ResultSet}s they open. A cache is only ever used by the
+ * thread currently leasing its connection, so it needs no locking of its own.
+ */
+public final class StatementCache implements AutoCloseable {
+    private final Connection connection;
+    private final LinkedHashMap<String, PreparedStatement> statements;
+
+    public StatementCache(Connection connection, int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be at least 1");
+        }
+        this.connection = Objects.requireNonNull(connection, "connection");
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() > maxSize) {
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the compiled statement for {@code sql}, preparing it on first use. Parameters left
+     * over from a previous call are cleared.
+     */
+    public PreparedStatement prepare(String sql) throws SQLException {
+        Objects.requireNonNull(sql, "sql");
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null || statement.isClosed()) {
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+        } else {
+            statement.clearParameters();
+        }
+        return statement;
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    int size() {
+        return statements.size();
+    }
+
+    /**
+     * Closes every cached statement and then the underlying connection.
+     */
+    @Override
+    public void close() {
+        Iterator<PreparedStatement> iterator = statements.values().iterator();
+        while (iterator.hasNext()) {
+            closeQuietly(iterator.next());
+            iterator.remove();
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // Nothing useful to do while shutting down
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            // The statement is being discarded either way
+        }
+    }
+}
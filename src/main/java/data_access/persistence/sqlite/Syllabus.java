@@ -1,17 +1,24 @@
 package data_access.persistence.sqlite;
-import entity.Assessment;
-import entity.User;
-import app.Main;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import use_case.repository.SyllabusRepository;
 
 
 public class Syllabus implements SyllabusRepository  {
 
-    private final Connection connection = Main.getConnection();
+    private static final String INSERT =
+            "INSERT INTO syllabi (syllabus_id, course_id, source_file_path) VALUES (?, ?, ?)";
+    private static final String FIND_BY_COURSE_ID =
+            "SELECT * FROM syllabi WHERE course_id = ?";
+
+    private final ConnectionProvider connectionProvider;
+
+    public Syllabus(ConnectionProvider connectionProvider) {
+        this.connectionProvider = Objects.requireNonNull(connectionProvider, "connectionProvider");
+    }
 
     /**
      * Core functionalities
@@ -22,15 +29,20 @@ public class Syllabus implements SyllabusRepository  {
     @Override
     public void save(entity.Syllabus syllabus) {
         try {
-            Statement stmt = connection.createStatement();
-            String saveSyllabus = "insert into syllabi values ('" + syllabus.getSyllabusId()+ "', '" + syllabus.getCourseId()
-                    + "', '" + syllabus.getSourceFilePath() + "')";
-            int x = stmt.executeUpdate(saveSyllabus);
+            connectionProvider.write(statements -> insert(statements, syllabus));
         } catch (Exception e) {
             System.out.println(e);
         }
     }
 
+    static int insert(StatementCache statements, entity.Syllabus syllabus) throws SQLException {
+        PreparedStatement stmt = statements.prepare(INSERT);
+        stmt.setString(1, syllabus.getSyllabusId());
+        stmt.setString(2, syllabus.getCourseId());
+        stmt.setString(3, syllabus.getSourceFilePath());
+        return stmt.executeUpdate();
+    }
+
     /**
      * Core functionalities
      * List<entity.Syllabus> findSyllabusByCourseID(String courseID):
@@ -43,18 +55,21 @@ public class Syllabus implements SyllabusRepository  {
         List<entity.Syllabus> syllabusList = new ArrayList<>();
 
         try {
-            Statement stmt = connection.createStatement();
-            String getSyllabus = "select * from syllabi WHERE course_id = '" + courseID +
-                    "'";
-            ResultSet result = stmt.executeQuery(getSyllabus);
-            while (result.next()) {
-                String syllabus_id = result.getString("syllabus_id");
-                String retrieved_course_id = result.getString("course_id"); // Use a different var name
-                String source_file_path = result.getString("source_file_path");
-
-                entity.Syllabus syllabus = new entity.Syllabus(syllabus_id, retrieved_course_id, source_file_path);
-                syllabusList.add(syllabus);
-            }
+            connectionProvider.read(statements -> {
+                PreparedStatement stmt = statements.prepare(FIND_BY_COURSE_ID);
+                stmt.setString(1, courseID);
+                try (ResultSet result = stmt.executeQuery()) {
+                    while (result.next()) {
+                        String syllabus_id = result.getString("syllabus_id");
+                        String retrieved_course_id = result.getString("course_id"); // Use a different var name
+                        String source_file_path = result.getString("source_file_path");
+
+                        entity.Syllabus syllabus = new entity.Syllabus(syllabus_id, retrieved_course_id, source_file_path);
+                        syllabusList.add(syllabus);
+                    }
+                }
+                return null;
+            });
         } catch (Exception e) {
             System.out.println(e);
         }
@@ -0,0 +1,37 @@
+package data_access.persistence.sqlite;
+
+import use_case.repository.SyllabusImportUnitOfWork;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Objects;
+
+public class SyllabusImport implements SyllabusImportUnitOfWork {
+
+    private final ConnectionProvider connectionProvider;
+
+    public SyllabusImport(ConnectionProvider connectionProvider) {
+        this.connectionProvider = Objects.requireNonNull(connectionProvider, "connectionProvider");
+    }
+
+    /**
+     * Core functionalities
+     * saveImport(Course course, Syllabus syllabus, Collection<Assessment> assessments):
+     *     Saves the course, the syllabus and all its assessments in one transaction.
+     *     Nothing is kept if any insert fails.
+     * @param (course, syllabus, assessments)
+     * @return null
+     */
+    @Override
+    public void saveImport(entity.Course course, entity.Syllabus syllabus,
+                           Collection<entity.Assessment> assessments) throws SQLException {
+        connectionProvider.transaction(statements -> {
+            Course.insert(statements, course);
+            Syllabus.insert(statements, syllabus);
+            if (!assessments.isEmpty()) {
+                Assessment.insertAll(statements, assessments);
+            }
+            return null;
+        });
+    }
+}
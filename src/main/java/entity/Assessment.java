@@ -5,6 +5,11 @@ import java.util.Objects;
 
 /**
  * Represents an assessment defined by the course syllabus.
+ *
+ * <p>{@code startsAt} and {@code endsAt} are kept as given, and also parsed once into instants.
+ * They are wall-clock times from the syllabus, so a trailing 'Z' does not mean UTC; see
+ * {@link #getEndsAtInstant()}. A stored assessment is restored with the instants it was saved
+ * with, so they do not move if the system time zone changes afterwards.
  */
 public final class Assessment {
     private final String assessmentId;
@@ -14,6 +19,8 @@ public final class Assessment {
     private final double grade;
     private final String startsAt;
     private final String endsAt;
+    private final Instant startsAtInstant;
+    private final Instant endsAtInstant;
     private final Long durationMinutes;
     private final Double weight;
     private final String location;
@@ -21,12 +28,25 @@ public final class Assessment {
 
     public Assessment(String assessmentId, String courseId, String title, AssessmentType type, double grade,
                       String startsAt, String endsAt, Long durationMinutes, Double weight, String location, String notes) {
+        this(assessmentId, courseId, title, type, grade, startsAt, endsAt,
+                Timestamps.parseWallClock(startsAt), Timestamps.parseWallClock(endsAt),
+                durationMinutes, weight, location, notes);
+    }
+
+    /**
+     * Restores an assessment whose timestamps were already resolved to instants when it was saved.
+     */
+    public Assessment(String assessmentId, String courseId, String title, AssessmentType type, double grade,
+                      String startsAt, String endsAt, Instant startsAtInstant, Instant endsAtInstant,
+                      Long durationMinutes, Double weight, String location, String notes) {
         this.assessmentId = Objects.requireNonNull(assessmentId, "assessmentId");
         this.courseId = Objects.requireNonNull(courseId, "courseId");
         this.title = Objects.requireNonNull(title, "title");
         this.type = Objects.requireNonNull(type, "type");
         this.startsAt = startsAt;
         this.endsAt = endsAt;
+        this.startsAtInstant = startsAtInstant;
+        this.endsAtInstant = endsAtInstant;
         this.durationMinutes = durationMinutes;
         this.weight = weight;
         this.location = location;
@@ -62,6 +82,23 @@ public final class Assessment {
         return endsAt;
     }
 
+    /**
+     * @return {@link #getStartsAt()} as an instant, or null if it is missing or not a date-time.
+     */
+    public Instant getStartsAtInstant() {
+        return startsAtInstant;
+    }
+
+    /**
+     * The due date as an instant, read as a wall-clock time in the system time zone: the
+     * extractor writes "due at 11:59 pm" as 23:59:00Z. Timestamps with an explicit offset are
+     * taken as they are.
+     * @return the instant, or null if the due date is missing or not a date-time.
+     */
+    public Instant getEndsAtInstant() {
+        return endsAtInstant;
+    }
+
     public Long getDurationMinutes() {
         return durationMinutes;
     }
@@ -0,0 +1,53 @@
+package entity;
+
+import java.util.Objects;
+
+/**
+ * What was last exported to a user's calendar for one event: a hash of its content and the
+ * iCalendar SEQUENCE number it was exported with.
+ */
+public final class ExportedEventState {
+    private final String eventId;
+    private final String contentHash;
+    private final int sequence;
+
+    public ExportedEventState(String eventId, String contentHash, int sequence) {
+        this.eventId = Objects.requireNonNull(eventId, "eventId");
+        this.contentHash = Objects.requireNonNull(contentHash, "contentHash");
+        if (sequence < 0) {
+            throw new IllegalArgumentException("sequence must not be negative");
+        }
+        this.sequence = sequence;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ExportedEventState)) {
+            return false;
+        }
+        ExportedEventState that = (ExportedEventState) o;
+        return sequence == that.sequence
+                && eventId.equals(that.eventId)
+                && contentHash.equals(that.contentHash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventId, contentHash, sequence);
+    }
+}
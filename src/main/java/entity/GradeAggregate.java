@@ -0,0 +1,93 @@
+package entity;
+
+import java.util.Objects;
+
+/**
+ * Running totals of one course's assessments, enough to project its grade without looking at
+ * every assessment: the sum of their weights, the weight and weighted score of the graded ones,
+ * and how many are not graded yet. An assessment counts as graded once its grade is 0 or more;
+ * a missing weight counts as 0.
+ */
+public final class GradeAggregate {
+    private final String courseId;
+    private final double totalWeight;
+    private final double gradedWeight;
+    private final double weightedScore;
+    private final int remainingCount;
+
+    public GradeAggregate(String courseId, double totalWeight, double gradedWeight, double weightedScore,
+                          int remainingCount) {
+        this.courseId = Objects.requireNonNull(courseId, "courseId");
+        if (remainingCount < 0) {
+            throw new IllegalArgumentException("remainingCount must not be negative");
+        }
+        this.totalWeight = totalWeight;
+        this.gradedWeight = gradedWeight;
+        this.weightedScore = weightedScore;
+        this.remainingCount = remainingCount;
+    }
+
+    /** The totals of a course without assessments. */
+    public static GradeAggregate empty(String courseId) {
+        return new GradeAggregate(courseId, 0.0, 0.0, 0.0, 0);
+    }
+
+    /** The totals of the assessments of {@code courseId}; assessments of other courses are ignored. */
+    public static GradeAggregate of(String courseId, Iterable<Assessment> assessments) {
+        GradeAggregate aggregate = empty(courseId);
+        for (Assessment assessment : assessments) {
+            if (courseId.equals(assessment.getCourseId())) {
+                aggregate = aggregate.plus(assessment);
+            }
+        }
+        return aggregate;
+    }
+
+    /** These totals with {@code assessment} added. */
+    public GradeAggregate plus(Assessment assessment) {
+        return add(assessment, 1);
+    }
+
+    /** These totals with {@code assessment}, which was added before, taken out again. */
+    public GradeAggregate minus(Assessment assessment) {
+        return add(assessment, -1);
+    }
+
+    private GradeAggregate add(Assessment assessment, int sign) {
+        double weight = weightOf(assessment);
+        if (isGraded(assessment)) {
+            return new GradeAggregate(courseId, totalWeight + sign * weight, gradedWeight + sign * weight,
+                    weightedScore + sign * weight * assessment.getGrade(), remainingCount);
+        }
+        return new GradeAggregate(courseId, totalWeight + sign * weight, gradedWeight, weightedScore,
+                Math.max(0, remainingCount + sign));
+    }
+
+    public static boolean isGraded(Assessment assessment) {
+        return assessment.getGrade() >= 0;
+    }
+
+    public static double weightOf(Assessment assessment) {
+        return assessment.getWeight() != null ? assessment.getWeight() : 0.0;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+
+    public double getGradedWeight() {
+        return gradedWeight;
+    }
+
+    public double getWeightedScore() {
+        return weightedScore;
+    }
+
+    public int getRemainingCount() {
+        return remainingCount;
+    }
+}
@@ -5,6 +5,9 @@ import java.util.Objects;
 
 /**
  * Calendar-based representation of tasks or assessments.
+ *
+ * <p>{@code startsAt} and {@code endsAt} are ISO-8601 instants, kept as given and also parsed
+ * once into {@link Instant}s for the code that compares or formats them.
  */
 public final class ScheduleEvent {
     private final String eventId;
@@ -12,6 +15,8 @@ public final class ScheduleEvent {
     private final String title;
     private final String startsAt;
     private final String endsAt;
+    private final Instant startsAtInstant;
+    private final Instant endsAtInstant;
     private final String location;
     private final String notes;
     private final SourceKind source;
@@ -25,6 +30,8 @@ public final class ScheduleEvent {
         this.title = Objects.requireNonNull(title, "title");
         this.startsAt = Objects.requireNonNull(startsAt, "startsAt");
         this.endsAt = Objects.requireNonNull(endsAt, "endsAt");
+        this.startsAtInstant = Timestamps.parseInstant(startsAt);
+        this.endsAtInstant = Timestamps.parseInstant(endsAt);
         this.location = location;
         this.notes = notes;
         this.source = Objects.requireNonNull(source, "source");
@@ -51,6 +58,20 @@ public final class ScheduleEvent {
         return endsAt;
     }
 
+    /**
+     * @return the start, or null if {@link #getStartsAt()} is not an ISO-8601 instant.
+     */
+    public Instant getStartsAtInstant() {
+        return startsAtInstant;
+    }
+
+    /**
+     * @return the end, or null if {@link #getEndsAt()} is not an ISO-8601 instant.
+     */
+    public Instant getEndsAtInstant() {
+        return endsAtInstant;
+    }
+
     public String getLocation() {
         return location;
     }
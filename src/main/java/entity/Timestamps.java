@@ -0,0 +1,50 @@
+package entity;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Parses the ISO-8601 timestamps that entities are created with, once, when the entity is
+ * created.
+ */
+final class Timestamps {
+    private Timestamps() {
+    }
+
+    /**
+     * @return the instant, or null if {@code iso} is blank or not an ISO-8601 instant.
+     */
+    static Instant parseInstant(String iso) {
+        if (iso == null || iso.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(iso);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads a wall-clock time in the system time zone. A trailing 'Z' is ignored: syllabus dates
+     * are written as, for example, 2025-10-15T23:59:00Z for "due at 11:59 pm", whatever the zone.
+     * Timestamps with an explicit offset are read as instants.
+     * @return the instant, or null if {@code iso} is blank or not an ISO-8601 date-time.
+     */
+    static Instant parseWallClock(String iso) {
+        if (iso == null || iso.isBlank()) {
+            return null;
+        }
+        try {
+            if (iso.endsWith("Z")) {
+                LocalDateTime local = LocalDateTime.parse(iso.substring(0, iso.length() - 1));
+                return local.atZone(ZoneId.systemDefault()).toInstant();
+            }
+            return Instant.parse(iso);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+}
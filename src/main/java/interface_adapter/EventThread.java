@@ -0,0 +1,25 @@
+package interface_adapter;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Hands presenter updates to the Swing event dispatch thread.
+ * Use cases now run on background threads, so presenters must not touch view models directly.
+ */
+public final class EventThread {
+
+    private EventThread() {
+    }
+
+    /**
+     * Runs {@code update} right away when already on the event thread, otherwise queues it with
+     * {@link SwingUtilities#invokeLater(Runnable)}.
+     */
+    public static void run(Runnable update) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            update.run();
+        } else {
+            SwingUtilities.invokeLater(update);
+        }
+    }
+}
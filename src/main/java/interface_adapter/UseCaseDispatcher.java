@@ -0,0 +1,226 @@
+package interface_adapter;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs use cases on a small pool of background threads so the Swing event thread never blocks on
+ * PDF parsing, AI calls or database work.
+ *
+ * <p>Every job is submitted under a key. While a job is in flight, submitting another job with the
+ * same key returns the running job's {@link Handle} instead of starting a duplicate, so double
+ * clicks and repeated navigation do not queue the same work twice. Jobs can report progress
+ * messages, which are delivered to the listener on the event thread.
+ *
+ * <p>Writes must not be dropped or reordered, so they go through {@link #enqueue(Job)} instead. It
+ * runs jobs one at a time, in submission order, on a separate thread.
+ */
+public class UseCaseDispatcher implements AutoCloseable {
+    public static final int DEFAULT_THREADS = 2;
+    private static final Logger LOGGER = Logger.getLogger(UseCaseDispatcher.class.getName());
+
+    private final ExecutorService executor;
+    private final ExecutorService serialExecutor;
+    private static final Progress NO_PROGRESS = new Progress() {
+        @Override
+        public void report(String message) {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return Thread.currentThread().isInterrupted();
+        }
+    };
+
+    private final ConcurrentMap<String, Handle> inFlight = new ConcurrentHashMap<>();
+
+    public UseCaseDispatcher() {
+        this(DEFAULT_THREADS);
+    }
+
+    public UseCaseDispatcher(int threads) {
+        this(Executors.newFixedThreadPool(threads, new WorkerThreadFactory("use-case-")),
+                Executors.newSingleThreadExecutor(new WorkerThreadFactory("use-case-writer-")));
+    }
+
+    public UseCaseDispatcher(ExecutorService executor, ExecutorService serialExecutor) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.serialExecutor = Objects.requireNonNull(serialExecutor, "serialExecutor");
+    }
+
+    public Handle submit(String key, Job job) {
+        return submit(key, job, message -> { });
+    }
+
+    /**
+     * Starts {@code job} in the background unless a job with the same key is still running, in
+     * which case that job's handle is returned and {@code job} is dropped.
+     */
+    public Handle submit(String key, Job job, ProgressListener listener) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(job, "job");
+        Objects.requireNonNull(listener, "listener");
+
+        Handle handle = new Handle(key);
+        Progress progress = new Progress() {
+            @Override
+            public void report(String message) {
+                if (!handle.isCancelled()) {
+                    EventThread.run(() -> listener.onProgress(message));
+                }
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return handle.isCancelled() || Thread.currentThread().isInterrupted();
+            }
+        };
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            job.run(progress);
+            return null;
+        }) {
+            @Override
+            protected void done() {
+                // Also runs for jobs cancelled before they started
+                inFlight.remove(key, handle);
+                reportFailure(key, this);
+            }
+        };
+        handle.future = task;
+
+        Handle existing = inFlight.putIfAbsent(key, handle);
+        if (existing != null) {
+            return existing;
+        }
+        executor.execute(task);
+        return handle;
+    }
+
+    /**
+     * Queues {@code job} behind every job enqueued before it. Nothing is de-duplicated.
+     */
+    public void enqueue(Job job) {
+        Objects.requireNonNull(job, "job");
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            job.run(NO_PROGRESS);
+            return null;
+        }) {
+            @Override
+            protected void done() {
+                reportFailure("write", this);
+            }
+        };
+        serialExecutor.execute(task);
+    }
+
+    /**
+     * Cancels the in-flight job registered under {@code key}, if any.
+     */
+    public boolean cancel(String key) {
+        Handle handle = inFlight.get(key);
+        return handle != null && handle.cancel();
+    }
+
+    public boolean isRunning(String key) {
+        return inFlight.containsKey(key);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        // Let queued writes finish; the thread is a daemon so it never holds up exit
+        serialExecutor.shutdown();
+    }
+
+    private static void reportFailure(String key, Future<Void> task) {
+        try {
+            task.get();
+        } catch (CancellationException | InterruptedException e) {
+            // Cancelled on purpose; nothing to report
+        } catch (ExecutionException e) {
+            // Use cases report their own errors through presenters; this only catches bugs
+            LOGGER.log(Level.SEVERE, "Background job " + key + " failed", e.getCause());
+        }
+    }
+
+    /**
+     * A unit of use-case work. Long-running jobs should check {@link Progress#isCancelled()}
+     * between stages; blocking calls are interrupted on cancellation.
+     */
+    @FunctionalInterface
+    public interface Job {
+        void run(Progress progress) throws Exception;
+    }
+
+    public interface Progress {
+        void report(String message);
+
+        boolean isCancelled();
+    }
+
+    /**
+     * Receives progress messages on the Swing event thread.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(String message);
+    }
+
+    /**
+     * Handle to a submitted job.
+     */
+    public static final class Handle {
+        private final String key;
+        private Future<Void> future;
+
+        private Handle(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Cancels the job, interrupting it if it is already running.
+         */
+        public boolean cancel() {
+            return future.cancel(true);
+        }
+
+        public boolean isCancelled() {
+            return future.isCancelled();
+        }
+
+        public boolean isDone() {
+            return future.isDone();
+        }
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private WorkerThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -2,30 +2,38 @@ package interface_adapter.calendar_export;
 
 import data_access.persistence.in_memory.InMemorySessionInfoDataAccessObject;
 import entity.Course;
+import interface_adapter.EventThread;
+import interface_adapter.UseCaseDispatcher;
 import use_case.dto.CalendarExportRequest;
+import use_case.dto.CalendarExportResponse;
 import use_case.service.CalendarExportService;
 import use_case.service.PreviewType;
 import use_case.repository.CourseRepository;
 
+import java.nio.file.Path;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.stream.Collectors;
 
-public class CalendarExportController implements view.CalendarExportView.Listener {
+public class CalendarExportController implements view.CalendarExportView.Listener,
+        CalendarExportPresenter.SaveListener {
     private final CalendarExportService calendarExportService;
     private final CourseRepository courseRepository;
     private final InMemorySessionInfoDataAccessObject sessionDB;
     private final CalendarExportPresenter presenter;
+    private final UseCaseDispatcher dispatcher;
     private view.CalendarExportView view;
 
     public CalendarExportController(CalendarExportService calendarExportService,
                                     CourseRepository courseRepository,
                                     InMemorySessionInfoDataAccessObject sessionDB,
-                                    CalendarExportPresenter presenter) {
+                                    CalendarExportPresenter presenter,
+                                    UseCaseDispatcher dispatcher) {
         this.calendarExportService = calendarExportService;
         this.courseRepository = courseRepository;
         this.sessionDB = sessionDB;
         this.presenter = presenter;
+        this.dispatcher = dispatcher;
     }
 
     public void setView(view.CalendarExportView view) {
@@ -34,6 +42,40 @@ public class CalendarExportController implements view.CalendarExportView.Listene
 
     @Override
     public void onPreviewRequested(String courseId, PreviewType previewType) {
+        dispatcher.submit("calendar-preview:" + courseId + ":" + previewType,
+                progress -> preview(courseId, previewType));
+    }
+
+    @Override
+    public void onExportRequested(String courseId, PreviewType previewType) {
+        dispatcher.submit("calendar-export:" + courseId + ":" + previewType,
+                progress -> export(courseId, previewType));
+    }
+
+    @Override
+    public void onExportToFileRequested(String courseId, PreviewType previewType, Path target) {
+        dispatcher.submit("calendar-export:" + courseId + ":" + previewType,
+                progress -> exportToFile(courseId, target));
+    }
+
+    @Override
+    public void onExportChangesRequested(String courseId, PreviewType previewType) {
+        dispatcher.submit("calendar-export-changes:" + courseId + ":" + previewType,
+                progress -> exportChanges(courseId));
+    }
+
+    @Override
+    public void onExportSaved(CalendarExportResponse response) {
+        // Queued in order, so a later export is never recorded before an earlier one
+        dispatcher.enqueue(progress -> calendarExportService.confirmExport(response));
+    }
+
+    @Override
+    public void onExportDiscarded(CalendarExportResponse response) {
+        calendarExportService.discardExport(response);
+    }
+
+    private void preview(String courseId, PreviewType previewType) {
         try {
             String userId = getUserId();
             List<String> courseIds = getCourseIds(userId, courseId);
@@ -52,15 +94,14 @@ public class CalendarExportController implements view.CalendarExportView.Listene
             List<String> previewLines = calendarExportService.generatePreviewTexts(request, previewType);
             presenter.presentPreview(previewLines);
             if (view != null) {
-                view.setPreviewLines(previewLines);
+                EventThread.run(() -> view.setPreviewLines(previewLines));
             }
         } catch (Exception e) {
             presenter.presentError("Failed to generate preview: " + e.getMessage());
         }
     }
 
-    @Override
-    public void onExportRequested(String courseId, PreviewType previewType) {
+    private void export(String courseId, PreviewType previewType) {
         try {
             String userId = getUserId();
             List<String> courseIds = getCourseIds(userId, courseId);
@@ -82,6 +123,47 @@ public class CalendarExportController implements view.CalendarExportView.Listene
         }
     }
 
+    private void exportToFile(String courseId, Path target) {
+        try {
+            String userId = getUserId();
+            CalendarExportRequest request = new CalendarExportRequest(
+                userId,
+                ZoneId.systemDefault().getId(),
+                getCourseIds(userId, courseId),
+                null,
+                null,
+                null,
+                "schedule"
+            );
+
+            int eventCount = calendarExportService.exportCalendarToFile(request, target);
+            if (eventCount > 0) {
+                presenter.presentSavedExport(target, eventCount);
+            }
+        } catch (Exception e) {
+            presenter.presentError("Failed to export calendar: " + e.getMessage());
+        }
+    }
+
+    private void exportChanges(String courseId) {
+        try {
+            String userId = getUserId();
+            CalendarExportRequest request = new CalendarExportRequest(
+                userId,
+                ZoneId.systemDefault().getId(),
+                getCourseIds(userId, courseId),
+                null,
+                null,
+                null,
+                "schedule"
+            );
+
+            calendarExportService.exportCalendarChanges(request);
+        } catch (Exception e) {
+            presenter.presentError("Failed to export calendar changes: " + e.getMessage());
+        }
+    }
+
     public List<String> loadCourses() {
         String userId = getUserId();
         List<Course> courses = courseRepository.findByUserId(userId);
@@ -1,5 +1,6 @@
 package interface_adapter.calendar_export;
 
+import interface_adapter.EventThread;
 import use_case.dto.CalendarExportResponse;
 import use_case.port.outgoing.CalendarExportOutputPort;
 
@@ -7,53 +8,91 @@ import javax.swing.*;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 public class CalendarExportPresenter implements CalendarExportOutputPort {
+    /** Told whether each presented export was saved, since only saved exports reach the calendar. */
+    public interface SaveListener {
+        void onExportSaved(CalendarExportResponse response);
+
+        void onExportDiscarded(CalendarExportResponse response);
+    }
+
     private final CalendarExportViewModel viewModel;
+    private SaveListener saveListener;
 
     public CalendarExportPresenter(CalendarExportViewModel viewModel) {
         this.viewModel = viewModel;
     }
 
+    public void setSaveListener(SaveListener saveListener) {
+        this.saveListener = saveListener;
+    }
+
     @Override
     public void presentExport(CalendarExportResponse response) {
-        // Save the file
-        JFileChooser fileChooser = new JFileChooser();
-        fileChooser.setSelectedFile(new File(response.getFilename()));
-        int result = fileChooser.showSaveDialog(null);
+        EventThread.run(() -> {
+            // Save the file
+            JFileChooser fileChooser = new JFileChooser();
+            fileChooser.setSelectedFile(new File(response.getFilename()));
+            int result = fileChooser.showSaveDialog(null);
         
-        if (result == JFileChooser.APPROVE_OPTION) {
-            File file = fileChooser.getSelectedFile();
-            try (FileOutputStream fos = new FileOutputStream(file)) {
-                fos.write(response.getPayload());
+            boolean saved = false;
+            if (result == JFileChooser.APPROVE_OPTION) {
+                File file = fileChooser.getSelectedFile();
+                try (FileOutputStream fos = new FileOutputStream(file)) {
+                    fos.write(response.getPayload());
+                    saved = true;
+                } catch (IOException e) {
+                    presentError("Failed to save file: " + e.getMessage());
+                }
+            }
+            if (saveListener != null) {
+                if (saved) {
+                    saveListener.onExportSaved(response);
+                } else {
+                    saveListener.onExportDiscarded(response);
+                }
+            }
+            if (saved) {
                 JOptionPane.showMessageDialog(null,
                     "Calendar exported successfully!\n" + response.getEventCount() + " events exported.",
                     "Export Successful",
                     JOptionPane.INFORMATION_MESSAGE);
-            } catch (IOException e) {
-                presentError("Failed to save file: " + e.getMessage());
             }
-        }
+        });
+    }
+
+    /** Reports an export that was written straight into {@code target}. */
+    public void presentSavedExport(Path target, int eventCount) {
+        EventThread.run(() -> JOptionPane.showMessageDialog(null,
+            "Calendar exported successfully!\n" + eventCount + " events exported to " + target.getFileName() + ".",
+            "Export Successful",
+            JOptionPane.INFORMATION_MESSAGE));
     }
 
     @Override
     public void presentError(String errorMessage) {
-        CalendarExportState state = viewModel.getState();
-        state.setError(errorMessage);
-        viewModel.setState(state);
-        viewModel.firePropertyChange();
+        EventThread.run(() -> {
+            CalendarExportState state = viewModel.getState();
+            state.setError(errorMessage);
+            viewModel.setState(state);
+            viewModel.firePropertyChange();
         
-        JOptionPane.showMessageDialog(null,
-            errorMessage,
-            "Export Error",
-            JOptionPane.ERROR_MESSAGE);
+            JOptionPane.showMessageDialog(null,
+                errorMessage,
+                "Export Error",
+                JOptionPane.ERROR_MESSAGE);
+        });
     }
 
     public void presentPreview(List<String> previewLines) {
-        CalendarExportState state = viewModel.getState();
-        state.setPreviewLines(previewLines);
-        viewModel.setState(state);
-        viewModel.firePropertyChange();
+        EventThread.run(() -> {
+            CalendarExportState state = viewModel.getState();
+            state.setPreviewLines(previewLines);
+            viewModel.setState(state);
+            viewModel.firePropertyChange();
+        });
     }
 }
@@ -1,16 +1,20 @@
 package interface_adapter.dashboard;
 
+import interface_adapter.UseCaseDispatcher;
 import use_case.port.incoming.LoadDashboardInputBoundary;
 
 public class DashboardController {
     private final LoadDashboardInputBoundary loadDashboardInteractor;
+    private final UseCaseDispatcher dispatcher;
 
-    public DashboardController(LoadDashboardInputBoundary loadDashboardInteractor) {
+    public DashboardController(LoadDashboardInputBoundary loadDashboardInteractor,
+                               UseCaseDispatcher dispatcher) {
         this.loadDashboardInteractor = loadDashboardInteractor;
+        this.dispatcher = dispatcher;
     }
 
     public void loadDashboard(String userId) {
-        loadDashboardInteractor.execute(userId);
+        dispatcher.submit("dashboard:" + userId, progress -> loadDashboardInteractor.execute(userId));
     }
 
     public void navigateToUploadCourse() {
@@ -1,5 +1,6 @@
 package interface_adapter.dashboard;
 
+import interface_adapter.EventThread;
 import interface_adapter.ViewManagerModel;
 import interface_adapter.syllabus_upload.SyllabusUploadState;
 import interface_adapter.syllabus_upload.SyllabusUploadViewModel;
@@ -26,47 +27,53 @@ public class DashboardPresenter implements LoadDashboardOutputBoundary {
 
     @Override
     public void presentDashboard(DashboardOutputData outputData) {
-        DashboardState state = dashboardViewModel.getState();
+        EventThread.run(() -> {
+            DashboardState state = dashboardViewModel.getState();
         
-        // Convert output data to display data
-        List<DashboardState.CourseDisplayData> courses = outputData.getCourses().stream()
-            .map(courseData -> new DashboardState.CourseDisplayData(
-                courseData.getCourseId(),
-                courseData.getCourseCode(),
-                courseData.getCourseName(),
-                courseData.getUpcomingAssessments().stream()
-                    .map(assessment -> new DashboardState.AssessmentDisplayData(
-                        assessment.getTitle(),
-                        assessment.getDueDate(),
-                        assessment.getType(),
-                        assessment.getWeight()
-                    ))
-                    .collect(Collectors.toList())
-            ))
-            .collect(Collectors.toList());
+            // Convert output data to display data
+            List<DashboardState.CourseDisplayData> courses = outputData.getCourses().stream()
+                .map(courseData -> new DashboardState.CourseDisplayData(
+                    courseData.getCourseId(),
+                    courseData.getCourseCode(),
+                    courseData.getCourseName(),
+                    courseData.getUpcomingAssessments().stream()
+                        .map(assessment -> new DashboardState.AssessmentDisplayData(
+                            assessment.getTitle(),
+                            assessment.getDueDate(),
+                            assessment.getType(),
+                            assessment.getWeight()
+                        ))
+                        .collect(Collectors.toList())
+                ))
+                .collect(Collectors.toList());
         
-        state.setCourses(courses);
-        state.setError(null);
-        dashboardViewModel.setState(state);
-        dashboardViewModel.firePropertyChange();
+            state.setCourses(courses);
+            state.setError(null);
+            dashboardViewModel.setState(state);
+            dashboardViewModel.firePropertyChange();
+        });
     }
 
     public void presentSyllabusUploadSuccess(SyllabusUploadOutputData outputData) {
-        SyllabusUploadState state = syllabusUploadViewModel.getState();
-        syllabusUploadViewModel.setState(state);
-        syllabusUploadViewModel.firePropertyChange();
+        EventThread.run(() -> {
+            SyllabusUploadState state = syllabusUploadViewModel.getState();
+            syllabusUploadViewModel.setState(state);
+            syllabusUploadViewModel.firePropertyChange();
         
-        // Navigate to dashboard
-        viewManagerModel.setState("dashboard");
-        viewManagerModel.firePropertyChange();
+            // Navigate to dashboard
+            viewManagerModel.setState("dashboard");
+            viewManagerModel.firePropertyChange();
+        });
     }
 
     @Override
     public void presentError(String errorMessage) {
-        DashboardState state = dashboardViewModel.getState();
-        state.setError(errorMessage);
-        state.setCourses(new ArrayList<>());
-        dashboardViewModel.setState(state);
-        dashboardViewModel.firePropertyChange();
+        EventThread.run(() -> {
+            DashboardState state = dashboardViewModel.getState();
+            state.setError(errorMessage);
+            state.setCourses(new ArrayList<>());
+            dashboardViewModel.setState(state);
+            dashboardViewModel.firePropertyChange();
+        });
     }
 }
\ No newline at end of file
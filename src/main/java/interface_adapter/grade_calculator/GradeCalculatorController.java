@@ -1,6 +1,7 @@
 package interface_adapter.grade_calculator;
 
 import entity.Assessment;
+import interface_adapter.UseCaseDispatcher;
 import use_case.dto.GradeCalculationInputData;
 import use_case.dto.GradeCalculationOutputData;
 import use_case.port.incoming.GradeCalculationUseCase;
@@ -16,20 +17,37 @@ public class GradeCalculatorController {
     private final CourseRepository courseRepository;
     private final SessionRepository sessionRepository;
     private final GradeCalculatorPresenter presenter;
+    private final UseCaseDispatcher dispatcher;
 
     public GradeCalculatorController(GradeCalculationUseCase gradeCalculationUseCase,
                                     AssessmentRepository assessmentRepository,
                                     CourseRepository courseRepository,
                                     SessionRepository sessionRepository,
-                                    GradeCalculatorPresenter presenter) {
+                                    GradeCalculatorPresenter presenter,
+                                    UseCaseDispatcher dispatcher) {
         this.gradeCalculationUseCase = gradeCalculationUseCase;
         this.assessmentRepository = assessmentRepository;
         this.courseRepository = courseRepository;
         this.sessionRepository = sessionRepository;
         this.presenter = presenter;
+        this.dispatcher = dispatcher;
     }
 
     public void loadCourse(String courseId) {
+        dispatcher.submit("grade-calculator-load:" + courseId, progress -> presentCourse(courseId));
+    }
+
+    public void calculateGrades(String courseId, double targetPercent) {
+        // Queued behind the grade edits, so results arrive in request order and the latest one wins
+        dispatcher.enqueue(progress -> calculate(courseId, targetPercent));
+    }
+
+    public void updateAssessmentGrade(String courseId, String assessmentId, Double grade) {
+        // Grade edits are queued in order so a later edit can never be overwritten by an earlier one
+        dispatcher.enqueue(progress -> updateGrade(courseId, assessmentId, grade));
+    }
+
+    private void presentCourse(String courseId) {
         try {
             String userId = getUserId();
             
@@ -50,16 +68,13 @@ public class GradeCalculatorController {
         }
     }
 
-    public void calculateGrades(String courseId, double targetPercent) {
+    private void calculate(String courseId, double targetPercent) {
         try {
             String userId = getUserId();
             
-            // Load all assessments for the course
-            List<Assessment> assessments = assessmentRepository.findByCourseId(courseId);
-            
-            // Create request
+            // No assessments: the use case reads the course's grade totals, which every edit keeps up to date
             GradeCalculationInputData request = new GradeCalculationInputData(
-                courseId, userId, targetPercent, assessments
+                courseId, userId, targetPercent, null
             );
             
             // Calculate
@@ -71,7 +86,7 @@ public class GradeCalculatorController {
         }
     }
 
-    public void updateAssessmentGrade(String courseId, String assessmentId, Double grade) {
+    private void updateGrade(String courseId, String assessmentId, Double grade) {
         try {
             // Find and update the assessment
             Assessment assessment = assessmentRepository.findById(assessmentId)
@@ -86,6 +101,8 @@ public class GradeCalculatorController {
                 grade != null ? grade : -1.0,
                 assessment.getStartsAt(),
                 assessment.getEndsAt(),
+                assessment.getStartsAtInstant(),
+                assessment.getEndsAtInstant(),
                 assessment.getDurationMinutes(),
                 assessment.getWeight(),
                 assessment.getLocation(),
@@ -95,7 +112,7 @@ public class GradeCalculatorController {
             assessmentRepository.update(updated);
             
             // Reload course to reflect changes
-            loadCourse(courseId);
+            presentCourse(courseId);
         } catch (Exception e) {
             presenter.presentError("Failed to update grade: " + e.getMessage());
         }
@@ -1,6 +1,7 @@
 package interface_adapter.grade_calculator;
 
 import entity.Assessment;
+import interface_adapter.EventThread;
 import use_case.dto.GradeCalculationOutputData;
 
 import java.util.ArrayList;
@@ -15,73 +16,79 @@ public class GradeCalculatorPresenter {
     }
 
     public void presentAssessments(String courseId, String courseName, List<Assessment> assessments) {
-        GradeCalculatorState state = viewModel.getState();
-        state.setCourseId(courseId);
-        state.setCourseName(courseName);
+        EventThread.run(() -> {
+            GradeCalculatorState state = viewModel.getState();
+            state.setCourseId(courseId);
+            state.setCourseName(courseName);
         
-        List<GradeCalculatorState.AssessmentGradeData> assessmentData = assessments.stream()
-            .map(a -> new GradeCalculatorState.AssessmentGradeData(
-                a.getAssessmentId(),
-                a.getTitle(),
-                a.getType().toString(),
-                a.getWeight() != null ? a.getWeight() : 0.0,
-                a.getGrade()
-            ))
-            .collect(Collectors.toList());
+            List<GradeCalculatorState.AssessmentGradeData> assessmentData = assessments.stream()
+                .map(a -> new GradeCalculatorState.AssessmentGradeData(
+                    a.getAssessmentId(),
+                    a.getTitle(),
+                    a.getType().toString(),
+                    a.getWeight() != null ? a.getWeight() : 0.0,
+                    a.getGrade()
+                ))
+                .collect(Collectors.toList());
         
-        state.setAssessments(assessmentData);
-        state.setError(null);
+            state.setAssessments(assessmentData);
+            state.setError(null);
         
-        viewModel.setState(state);
-        viewModel.firePropertyChange();
+            viewModel.setState(state);
+            viewModel.firePropertyChange();
+        });
     }
 
     public void presentCalculationResult(GradeCalculationOutputData response) {
-        GradeCalculatorState state = viewModel.getState();
+        EventThread.run(() -> {
+            GradeCalculatorState state = viewModel.getState();
         
-        // Extract summary values from response
-        double currentPercent = response.getProjectedPercent();
-        double bestCase = 0.0;
-        double worstCase = 0.0;
-        Double requiredAvg = null;
-        List<GradeCalculatorState.RequiredScoreData> requiredScores = new ArrayList<>();
+            // Extract summary values from response
+            double currentPercent = response.getProjectedPercent();
+            double bestCase = 0.0;
+            double worstCase = 0.0;
+            Double requiredAvg = null;
+            List<GradeCalculatorState.RequiredScoreData> requiredScores = new ArrayList<>();
         
-        for (Assessment assessment : response.getRequiredScores()) {
-            String title = assessment.getTitle();
-            double grade = assessment.getGrade();
-            double weight = assessment.getWeight() != null ? assessment.getWeight() : 0.0;
+            for (Assessment assessment : response.getRequiredScores()) {
+                String title = assessment.getTitle();
+                double grade = assessment.getGrade();
+                double weight = assessment.getWeight() != null ? assessment.getWeight() : 0.0;
             
-            if ("BEST_CASE_PERCENT".equals(title)) {
-                bestCase = grade;
-            } else if ("WORST_CASE_PERCENT".equals(title)) {
-                worstCase = grade;
-            } else if ("CURRENT_PERCENT".equals(title)) {
-                currentPercent = grade;
-            } else if ("REQUIRED_AVERAGE_REMAINING".equals(title)) {
-                requiredAvg = grade;
-            } else {
-                // Individual assessment required scores
-                requiredScores.add(new GradeCalculatorState.RequiredScoreData(title, grade, weight));
+                if ("BEST_CASE_PERCENT".equals(title)) {
+                    bestCase = grade;
+                } else if ("WORST_CASE_PERCENT".equals(title)) {
+                    worstCase = grade;
+                } else if ("CURRENT_PERCENT".equals(title)) {
+                    currentPercent = grade;
+                } else if ("REQUIRED_AVERAGE_REMAINING".equals(title)) {
+                    requiredAvg = grade;
+                } else {
+                    // Individual assessment required scores
+                    requiredScores.add(new GradeCalculatorState.RequiredScoreData(title, grade, weight));
+                }
             }
-        }
         
-        GradeCalculatorState.CalculationResult result = new GradeCalculatorState.CalculationResult(
-            currentPercent, bestCase, worstCase, requiredAvg, requiredScores
-        );
+            GradeCalculatorState.CalculationResult result = new GradeCalculatorState.CalculationResult(
+                currentPercent, bestCase, worstCase, requiredAvg, requiredScores
+            );
         
-        state.setResult(result);
-        state.setError(null);
+            state.setResult(result);
+            state.setError(null);
         
-        viewModel.setState(state);
-        viewModel.firePropertyChange();
+            viewModel.setState(state);
+            viewModel.firePropertyChange();
+        });
     }
 
     public void presentError(String errorMessage) {
-        GradeCalculatorState state = viewModel.getState();
-        state.setError(errorMessage);
-        state.setResult(null);
+        EventThread.run(() -> {
+            GradeCalculatorState state = viewModel.getState();
+            state.setError(errorMessage);
+            state.setResult(null);
         
-        viewModel.setState(state);
-        viewModel.firePropertyChange();
+            viewModel.setState(state);
+            viewModel.firePropertyChange();
+        });
     }
 }
@@ -0,0 +1,109 @@
+package interface_adapter.outbound.calendar;
+
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import net.fortuna.ical4j.model.TimeZone;
+import net.fortuna.ical4j.model.TimeZoneRegistry;
+import net.fortuna.ical4j.model.TimeZoneRegistryFactory;
+import use_case.util.TemporalResources;
+
+/**
+ * Bounded, least-recently-used cache of the iCal4j time zones that the calendar renderers
+ * write. Looking a zone up in a {@link TimeZoneRegistry} and turning its VTIMEZONE into text is
+ * far more expensive than rendering an event, so it is done once per zone rather than once per
+ * export.
+ */
+final class CalendarZones {
+    static final int DEFAULT_MAX_ZONES = 32;
+
+    private static final CalendarZones SHARED =
+            new CalendarZones(TimeZoneRegistryFactory.getInstance().createRegistry(), DEFAULT_MAX_ZONES);
+
+    private final TimeZoneRegistry timeZoneRegistry;
+    private final Map<String, Zone> zones;
+
+    /** One zone as the registry knows it, with its VTIMEZONE text built on first use. */
+    static final class Zone {
+        /** Null if the registry does not know the zone. */
+        final TimeZone timeZone;
+        /** The zone times are converted to: the registry zone's own id, or the requested one. */
+        final ZoneId zoneId;
+        private volatile String vTimeZone;
+        private volatile String foldedVTimeZone;
+
+        private Zone(TimeZone timeZone, ZoneId zoneId) {
+            this.timeZone = timeZone;
+            this.zoneId = zoneId;
+        }
+
+        /** The VTIMEZONE component as iCal4j writes it, before folding. */
+        String vTimeZone() {
+            String text = vTimeZone;
+            if (text == null) {
+                text = timeZone.getVTimeZone().toString();
+                vTimeZone = text;
+            }
+            return text;
+        }
+
+        /** The VTIMEZONE component folded at 75 octets, as {@link PlainIcsCalendarRenderer} writes it. */
+        String foldedVTimeZone() {
+            String text = foldedVTimeZone;
+            if (text == null) {
+                StringBuilder block = new StringBuilder();
+                for (String unfolded : vTimeZone().split("\r\n")) {
+                    PlainIcsCalendarRenderer.appendFolded(block, unfolded);
+                }
+                text = block.toString();
+                foldedVTimeZone = text;
+            }
+            return text;
+        }
+    }
+
+    /** The cache shared by renderers that use the default registry. */
+    static CalendarZones shared() {
+        return SHARED;
+    }
+
+    CalendarZones(TimeZoneRegistry timeZoneRegistry, int maxZones) {
+        this.timeZoneRegistry = Objects.requireNonNull(timeZoneRegistry, "timeZoneRegistry");
+        if (maxZones < 1) {
+            throw new IllegalArgumentException("maxZones must be positive");
+        }
+        this.zones = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Zone> eldest) {
+                return size() > maxZones;
+            }
+        };
+    }
+
+    /**
+     * @return the zone, looked up in the registry on first use.
+     */
+    Zone get(ZoneId zoneId) {
+        String id = zoneId.getId();
+        synchronized (zones) {
+            Zone zone = zones.get(id);
+            if (zone != null) {
+                return zone;
+            }
+        }
+        // Looked up outside the lock; two threads may both build the same zone, which is harmless
+        TimeZone timeZone = timeZoneRegistry.getTimeZone(id);
+        Zone zone = new Zone(timeZone, timeZone == null ? zoneId : TemporalResources.zone(timeZone.getID()));
+        synchronized (zones) {
+            Zone previous = zones.putIfAbsent(id, zone);
+            return previous == null ? zone : previous;
+        }
+    }
+
+    int size() {
+        synchronized (zones) {
+            return zones.size();
+        }
+    }
+}
@@ -3,26 +3,35 @@ package interface_adapter.outbound.calendar;
 import entity.ScheduleEvent;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import net.fortuna.ical4j.data.CalendarOutputter;
+import net.fortuna.ical4j.data.FoldingWriter;
 import net.fortuna.ical4j.model.Calendar;
-import net.fortuna.ical4j.model.TimeZone;
+import net.fortuna.ical4j.model.Property;
 import net.fortuna.ical4j.model.TimeZoneRegistry;
-import net.fortuna.ical4j.model.TimeZoneRegistryFactory;
 import net.fortuna.ical4j.model.component.VEvent;
 import net.fortuna.ical4j.model.property.Categories;
 import net.fortuna.ical4j.model.property.Description;
 import net.fortuna.ical4j.model.property.DtStamp;
 import net.fortuna.ical4j.model.property.Location;
 import net.fortuna.ical4j.model.property.ProdId;
+import net.fortuna.ical4j.model.property.Sequence;
 import net.fortuna.ical4j.model.property.Uid;
 import net.fortuna.ical4j.model.property.immutable.ImmutableCalScale;
+import net.fortuna.ical4j.model.property.immutable.ImmutableMethod;
+import net.fortuna.ical4j.model.property.immutable.ImmutableStatus;
 import net.fortuna.ical4j.model.property.immutable.ImmutableVersion;
 import net.fortuna.ical4j.validate.ValidationException;
 import use_case.dto.CalendarRenderRequest;
@@ -31,51 +40,59 @@ import use_case.port.outgoing.CalendarRenderPort;
 
 /**
  * Renders {@link ScheduleEvent} collections into standards-compliant ICS files using iCal4j.
+ *
+ * <p>Core functionalities:
+ * <ul>
+ *   <li>render: builds the whole calendar model, validates it and returns the file as bytes</li>
+ *   <li>renderTo: writes the same file to a stream one VEVENT at a time, folding lines as they
+ *       are written, so only one event is held in memory however many are exported</li>
+ *   <li>Time zones come from the shared {@link CalendarZones} cache, so each zone's VTIMEZONE
+ *       is looked up and written out once rather than on every render</li>
+ *   <li>Delta requests: the changed events are published with METHOD:PUBLISH, and deleted
+ *       events follow in a second calendar with METHOD:CANCEL</li>
+ * </ul>
  */
 public class IcsCalendarRenderer implements CalendarRenderPort {
     private static final String CONTENT_TYPE = "text/calendar";
+    private static final String BEGIN_CALENDAR = "BEGIN:VCALENDAR\r\n";
+    private static final String END_CALENDAR = "END:VCALENDAR\r\n";
+    private static final ZoneId UTC = ZoneId.of("UTC");
     private final Clock clock;
-    private final TimeZoneRegistry timeZoneRegistry;
+    private final CalendarZones zones;
 
     public IcsCalendarRenderer() {
-        this(Clock.systemUTC(), TimeZoneRegistryFactory.getInstance().createRegistry());
+        this(Clock.systemUTC(), CalendarZones.shared());
     }
 
     public IcsCalendarRenderer(Clock clock) {
-        this(clock, TimeZoneRegistryFactory.getInstance().createRegistry());
+        this(clock, CalendarZones.shared());
     }
 
     IcsCalendarRenderer(Clock clock, TimeZoneRegistry timeZoneRegistry) {
+        this(clock, new CalendarZones(timeZoneRegistry, CalendarZones.DEFAULT_MAX_ZONES));
+    }
+
+    private IcsCalendarRenderer(Clock clock, CalendarZones zones) {
         this.clock = Objects.requireNonNull(clock, "clock");
-        this.timeZoneRegistry = Objects.requireNonNull(timeZoneRegistry, "timeZoneRegistry");
+        this.zones = Objects.requireNonNull(zones, "zones");
     }
 
     @Override
     public CalendarRenderResult render(CalendarRenderRequest request) {
         Objects.requireNonNull(request, "request");
-        List<ScheduleEvent> events = request.getEvents();
-        if (events.isEmpty()) {
+        if (request.isEmpty()) {
             throw new IllegalArgumentException("Cannot render calendar without events");
         }
 
-        Calendar calendar = new Calendar();
-        calendar.add(new ProdId(request.getProductId()));
-        calendar.add(ImmutableVersion.VERSION_2_0);
-        calendar.add(ImmutableCalScale.GREGORIAN);
-
-        TimeZone timeZone = resolveTimeZone(request.getZoneId());
-        if (timeZone != null) {
-            calendar.add(timeZone.getVTimeZone());
-        }
-
-        for (ScheduleEvent event : events) {
-            calendar.add(toVEvent(event, timeZone));
-        }
-
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         CalendarOutputter outputter = new CalendarOutputter();
         try {
-            outputter.output(calendar, outputStream);
+            if (!request.getEvents().isEmpty()) {
+                outputter.output(eventCalendar(request), outputStream);
+            }
+            if (!request.getCancellations().isEmpty()) {
+                outputter.output(cancellationCalendar(request), outputStream);
+            }
         } catch (IOException | ValidationException e) {
             throw new IllegalStateException("Unable to render calendar to ICS", e);
         }
@@ -84,17 +101,99 @@ public class IcsCalendarRenderer implements CalendarRenderPort {
         return new CalendarRenderResult(outputStream.toByteArray(), filename, CONTENT_TYPE);
     }
 
-    private VEvent toVEvent(ScheduleEvent event, TimeZone timeZone) {
+    /**
+     * Streams the calendar to {@code out}; the bytes are the same as those of {@link #render}.
+     * The model is not validated as a whole, since it is never built as a whole.
+     */
+    @Override
+    public void renderTo(CalendarRenderRequest request, OutputStream out) throws IOException {
+        Objects.requireNonNull(request, "request");
+        Objects.requireNonNull(out, "out");
+        if (request.isEmpty()) {
+            throw new IllegalArgumentException("Cannot render calendar without events");
+        }
+
+        // Not closed: that would close the caller's stream
+        Writer writer = new FoldingWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8),
+                FoldingWriter.REDUCED_FOLD_LENGTH);
+        List<ScheduleEvent> events = request.getEvents();
+        if (!events.isEmpty()) {
+            writer.write(BEGIN_CALENDAR);
+            for (Property property : calendarProperties(request)) {
+                writer.write(property.toString());
+            }
+
+            CalendarZones.Zone zone = resolveTimeZone(request.getZoneId());
+            if (zone.timeZone != null) {
+                writer.write(zone.vTimeZone());
+            }
+            for (ScheduleEvent event : events) {
+                writer.write(toVEvent(event, zone.zoneId, request.getSequence(event.getEventId())).toString());
+            }
+            writer.write(END_CALENDAR);
+        }
+        if (!request.getCancellations().isEmpty()) {
+            // Cancellations carry no times, so there is nothing to gain from streaming them
+            writer.write(cancellationCalendar(request).toString());
+        }
+        writer.flush();
+    }
+
+    private Calendar eventCalendar(CalendarRenderRequest request) {
+        Calendar calendar = new Calendar();
+        for (Property property : calendarProperties(request)) {
+            calendar.add(property);
+        }
+
+        CalendarZones.Zone zone = resolveTimeZone(request.getZoneId());
+        if (zone.timeZone != null) {
+            calendar.add(zone.timeZone.getVTimeZone());
+        }
+
+        for (ScheduleEvent event : request.getEvents()) {
+            calendar.add(toVEvent(event, zone.zoneId, request.getSequence(event.getEventId())));
+        }
+        return calendar;
+    }
+
+    private Calendar cancellationCalendar(CalendarRenderRequest request) {
+        Calendar calendar = new Calendar();
+        calendar.add(new ProdId(request.getProductId()));
+        calendar.add(ImmutableVersion.VERSION_2_0);
+        calendar.add(ImmutableCalScale.GREGORIAN);
+        calendar.add(ImmutableMethod.CANCEL);
+        for (Map.Entry<String, Integer> cancellation : request.getCancellations().entrySet()) {
+            VEvent vEvent = new VEvent(false);
+            vEvent.add(new Uid(cancellation.getKey()));
+            vEvent.add(new DtStamp(clock.instant()));
+            vEvent.add(new Sequence(cancellation.getValue()));
+            vEvent.add(ImmutableStatus.VEVENT_CANCELLED);
+            calendar.add(vEvent);
+        }
+        return calendar;
+    }
+
+    private List<Property> calendarProperties(CalendarRenderRequest request) {
+        List<Property> properties = new ArrayList<>(List.of(
+                new ProdId(request.getProductId()), ImmutableVersion.VERSION_2_0, ImmutableCalScale.GREGORIAN));
+        if (request.isDelta()) {
+            properties.add(ImmutableMethod.PUBLISH);
+        }
+        return properties;
+    }
+
+    private VEvent toVEvent(ScheduleEvent event, ZoneId zoneId, Integer sequence) {
         Objects.requireNonNull(event, "event");
-        ZoneId zoneId = timeZone == null
-                ? ZoneId.of("UTC")
-                : ZoneId.of(timeZone.getID());
-        ZonedDateTime start = Instant.parse(event.getStartsAt()).atZone(zoneId);
-        ZonedDateTime end = Instant.parse(event.getEndsAt()).atZone(zoneId);
+        ZonedDateTime start = startOf(event).atZone(zoneId);
+        ZonedDateTime end = endOf(event).atZone(zoneId);
         VEvent vEvent = new VEvent(start, end, event.getTitle());
 
         vEvent.add(new Uid(event.getEventId()));
-        vEvent.add(new DtStamp(clock.instant()));
+        // The constructor stamps the wall-clock time; use the renderer's clock instead
+        vEvent.replace(new DtStamp(clock.instant()));
+        if (sequence != null) {
+            vEvent.add(new Sequence(sequence));
+        }
         if (event.getLocation() != null && !event.getLocation().isBlank()) {
             vEvent.add(new Location(event.getLocation()));
         }
@@ -105,15 +204,35 @@ public class IcsCalendarRenderer implements CalendarRenderPort {
         return vEvent;
     }
 
-    private TimeZone resolveTimeZone(ZoneId zoneId) {
-        TimeZone timeZone = timeZoneRegistry.getTimeZone(zoneId.getId());
-        if (timeZone == null) {
-            timeZone = timeZoneRegistry.getTimeZone("UTC");
+    /**
+     * Zones iCal4j does not know are written in UTC. If it does not know UTC either, times are
+     * written in UTC without a VTIMEZONE.
+     */
+    private CalendarZones.Zone resolveTimeZone(ZoneId zoneId) {
+        CalendarZones.Zone zone = zones.get(zoneId);
+        if (zone.timeZone == null) {
+            zone = zones.get(UTC);
+        }
+        return zone;
+    }
+
+    static Instant startOf(ScheduleEvent event) {
+        if (event.getStartsAtInstant() == null) {
+            throw new IllegalArgumentException("Event " + event.getEventId() + " has an invalid start: "
+                    + event.getStartsAt());
+        }
+        return event.getStartsAtInstant();
+    }
+
+    static Instant endOf(ScheduleEvent event) {
+        if (event.getEndsAtInstant() == null) {
+            throw new IllegalArgumentException("Event " + event.getEventId() + " has an invalid end: "
+                    + event.getEndsAt());
         }
-        return timeZone;
+        return event.getEndsAtInstant();
     }
 
-    private String sanitizeFilename(String hint) {
+    static String sanitizeFilename(String hint) {
         String sanitized = hint == null || hint.isBlank()
                 ? "schedule"
                 : hint.replaceAll("[^a-zA-Z0-9-_]", "_");
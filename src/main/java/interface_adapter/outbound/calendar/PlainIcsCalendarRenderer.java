@@ -0,0 +1,230 @@
+package interface_adapter.outbound.calendar;
+
+import entity.ScheduleEvent;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import net.fortuna.ical4j.model.TimeZoneRegistry;
+import use_case.dto.CalendarRenderRequest;
+import use_case.dto.CalendarRenderResult;
+import use_case.port.outgoing.CalendarRenderPort;
+
+/**
+ * Writes ICS files for {@link ScheduleEvent}s directly as text, without building an iCal4j
+ * model. Much cheaper than {@link IcsCalendarRenderer} for regenerating feeds.
+ *
+ * <p>Core functionalities:
+ * <ul>
+ *   <li>One VEVENT per event with UID, DTSTAMP, SEQUENCE, DTSTART, DTEND, SUMMARY, LOCATION,
+ *       DESCRIPTION and CATEGORIES, built in one reused buffer</li>
+ *   <li>Delta requests are written as METHOD:PUBLISH, followed by a METHOD:CANCEL calendar for
+ *       deleted events, like {@link IcsCalendarRenderer} does</li>
+ *   <li>TEXT values are escaped and content lines folded at 75 octets, as RFC 5545 requires</li>
+ *   <li>Times are local to the request's zone with its VTIMEZONE, which is formatted once per
+ *       zone and kept in the shared {@link CalendarZones} cache; zones iCal4j does not know, and
+ *       UTC itself, are written in UTC</li>
+ * </ul>
+ */
+public class PlainIcsCalendarRenderer implements CalendarRenderPort {
+    private static final String CONTENT_TYPE = "text/calendar";
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC_DATE_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final Clock clock;
+    private final CalendarZones zones;
+
+    public PlainIcsCalendarRenderer() {
+        this(Clock.systemUTC(), CalendarZones.shared());
+    }
+
+    public PlainIcsCalendarRenderer(Clock clock) {
+        this(clock, CalendarZones.shared());
+    }
+
+    PlainIcsCalendarRenderer(Clock clock, TimeZoneRegistry timeZoneRegistry) {
+        this(clock, new CalendarZones(timeZoneRegistry, CalendarZones.DEFAULT_MAX_ZONES));
+    }
+
+    private PlainIcsCalendarRenderer(Clock clock, CalendarZones zones) {
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.zones = Objects.requireNonNull(zones, "zones");
+    }
+
+    @Override
+    public CalendarRenderResult render(CalendarRenderRequest request) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            renderTo(request, outputStream);
+        } catch (IOException e) {
+            // A ByteArrayOutputStream does not throw
+            throw new UncheckedIOException(e);
+        }
+        String filename = IcsCalendarRenderer.sanitizeFilename(request.getFilenameHint()) + ".ics";
+        return new CalendarRenderResult(outputStream.toByteArray(), filename, CONTENT_TYPE);
+    }
+
+    @Override
+    public void renderTo(CalendarRenderRequest request, OutputStream out) throws IOException {
+        Objects.requireNonNull(request, "request");
+        Objects.requireNonNull(out, "out");
+        if (request.isEmpty()) {
+            throw new IllegalArgumentException("Cannot render calendar without events");
+        }
+
+        String dtStamp = UTC_DATE_TIME.format(clock.instant());
+        StringBuilder buffer = new StringBuilder(1024);
+        StringBuilder line = new StringBuilder(128);
+        List<ScheduleEvent> events = request.getEvents();
+        if (!events.isEmpty()) {
+            // Zones iCal4j does not know, and UTC itself, are written in UTC without a VTIMEZONE
+            ZoneId zoneId = request.getZoneId();
+            CalendarZones.Zone zone = zoneId.normalized().equals(ZoneOffset.UTC) ? null : zones.get(zoneId);
+            if (zone != null && zone.timeZone == null) {
+                zone = null;
+            }
+            appendCalendarStart(buffer, line, request, request.isDelta() ? "PUBLISH" : null);
+            if (zone != null) {
+                buffer.append(zone.foldedVTimeZone());
+            }
+            write(buffer, out);
+
+            for (ScheduleEvent event : events) {
+                Objects.requireNonNull(event, "event");
+                buffer.append("BEGIN:VEVENT").append(CRLF);
+                appendText(buffer, line, "UID", event.getEventId());
+                buffer.append("DTSTAMP:").append(dtStamp).append(CRLF);
+                Integer sequence = request.getSequence(event.getEventId());
+                if (sequence != null) {
+                    buffer.append("SEQUENCE:").append(sequence).append(CRLF);
+                }
+                appendDateTime(buffer, line, "DTSTART", IcsCalendarRenderer.startOf(event), zone);
+                appendDateTime(buffer, line, "DTEND", IcsCalendarRenderer.endOf(event), zone);
+                appendText(buffer, line, "SUMMARY", event.getTitle());
+                if (event.getLocation() != null && !event.getLocation().isBlank()) {
+                    appendText(buffer, line, "LOCATION", event.getLocation());
+                }
+                if (event.getNotes() != null && !event.getNotes().isBlank()) {
+                    appendText(buffer, line, "DESCRIPTION", event.getNotes());
+                }
+                appendText(buffer, line, "CATEGORIES", event.getSource().name());
+                buffer.append("END:VEVENT").append(CRLF);
+                write(buffer, out);
+            }
+
+            buffer.append("END:VCALENDAR").append(CRLF);
+            write(buffer, out);
+        }
+
+        if (!request.getCancellations().isEmpty()) {
+            appendCalendarStart(buffer, line, request, "CANCEL");
+            for (Map.Entry<String, Integer> cancellation : request.getCancellations().entrySet()) {
+                buffer.append("BEGIN:VEVENT").append(CRLF);
+                appendText(buffer, line, "UID", cancellation.getKey());
+                buffer.append("DTSTAMP:").append(dtStamp).append(CRLF);
+                buffer.append("SEQUENCE:").append(cancellation.getValue()).append(CRLF);
+                buffer.append("STATUS:CANCELLED").append(CRLF);
+                buffer.append("END:VEVENT").append(CRLF);
+                write(buffer, out);
+            }
+            buffer.append("END:VCALENDAR").append(CRLF);
+            write(buffer, out);
+        }
+        out.flush();
+    }
+
+    private static void appendCalendarStart(StringBuilder buffer, StringBuilder line, CalendarRenderRequest request,
+                                            String method) {
+        buffer.append("BEGIN:VCALENDAR").append(CRLF);
+        appendText(buffer, line, "PRODID", request.getProductId());
+        buffer.append("VERSION:2.0").append(CRLF);
+        buffer.append("CALSCALE:GREGORIAN").append(CRLF);
+        if (method != null) {
+            buffer.append("METHOD:").append(method).append(CRLF);
+        }
+    }
+
+    /** Writes the time in UTC if {@code zone} is null. */
+    private static void appendDateTime(StringBuilder buffer, StringBuilder line, String name, Instant instant,
+                                       CalendarZones.Zone zone) {
+        line.setLength(0);
+        if (zone == null) {
+            line.append(name).append(':').append(UTC_DATE_TIME.format(instant));
+        } else {
+            line.append(name).append(";TZID=").append(zone.timeZone.getID()).append(':')
+                    .append(LOCAL_DATE_TIME.format(instant.atZone(zone.zoneId)));
+        }
+        appendFolded(buffer, line);
+    }
+
+    private static void appendText(StringBuilder buffer, StringBuilder line, String name, String value) {
+        line.setLength(0);
+        line.append(name).append(':');
+        escapeText(line, value);
+        appendFolded(buffer, line);
+    }
+
+    /** RFC 5545 section 3.3.11: backslash, semicolon, comma and line breaks are escaped. */
+    static void escapeText(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                case ';':
+                case ',':
+                    out.append('\\').append(c);
+                    break;
+                case '\r':
+                    if (i + 1 < value.length() && value.charAt(i + 1) == '\n') {
+                        i++;
+                    }
+                    out.append("\\n");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                default:
+                    out.append(c);
+            }
+        }
+    }
+
+    /**
+     * Appends one content line and its CRLF, folded so that no physical line is longer than
+     * {@value #MAX_LINE_OCTETS} octets of UTF-8. Folds never split a character.
+     */
+    static void appendFolded(StringBuilder out, CharSequence contentLine) {
+        int octets = 0;
+        int i = 0;
+        while (i < contentLine.length()) {
+            char c = contentLine.charAt(i);
+            int chars = Character.isHighSurrogate(c) && i + 1 < contentLine.length() ? 2 : 1;
+            int charOctets = c < 0x80 ? 1 : c < 0x800 ? 2 : chars == 2 ? 4 : 3;
+            if (octets + charOctets > MAX_LINE_OCTETS) {
+                out.append(CRLF).append(' ');
+                octets = 1;
+            }
+            out.append(contentLine, i, i + chars);
+            octets += charOctets;
+            i += chars;
+        }
+        out.append(CRLF);
+    }
+
+    private static void write(StringBuilder buffer, OutputStream out) throws IOException {
+        out.write(buffer.toString().getBytes(StandardCharsets.UTF_8));
+        buffer.setLength(0);
+    }
+}
@@ -1,18 +1,77 @@
 package interface_adapter.syllabus_upload;
 
+import interface_adapter.UseCaseDispatcher;
+import use_case.port.incoming.BatchUploadSyllabusInputBoundary;
 import use_case.port.incoming.UploadSyllabusInputBoundary;
 import use_case.dto.SyllabusUploadInputData;
 
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
 public class SyllabusUploadController {
     private final UploadSyllabusInputBoundary pdfUploadUseCaseInteractor;
+    private final BatchUploadSyllabusInputBoundary batchUploadUseCaseInteractor;
+    private final UseCaseDispatcher dispatcher;
+
+    public SyllabusUploadController(UploadSyllabusInputBoundary pdfUploadUseCaseInteractor,
+                                    UseCaseDispatcher dispatcher) {
+        this(pdfUploadUseCaseInteractor, null, dispatcher);
+    }
 
-    public SyllabusUploadController(UploadSyllabusInputBoundary pdfUploadUseCaseInteractor) {
+    public SyllabusUploadController(UploadSyllabusInputBoundary pdfUploadUseCaseInteractor,
+                                    BatchUploadSyllabusInputBoundary batchUploadUseCaseInteractor,
+                                    UseCaseDispatcher dispatcher) {
         this.pdfUploadUseCaseInteractor = pdfUploadUseCaseInteractor;
+        this.batchUploadUseCaseInteractor = batchUploadUseCaseInteractor;
+        this.dispatcher = dispatcher;
     }
 
     public void extractAssessments(String userId, String filePath) {
+        extractAssessments(userId, filePath, message -> { });
+    }
+
+    /**
+     * Uploads the syllabus in the background. Uploading the same file again while it is still
+     * being processed does nothing.
+     */
+    public void extractAssessments(String userId, String filePath, UseCaseDispatcher.ProgressListener listener) {
         final SyllabusUploadInputData data = new SyllabusUploadInputData(userId, filePath);
 
-        pdfUploadUseCaseInteractor.execute(data); 
+        dispatcher.submit(jobKey(userId, filePath), progress -> {
+            progress.report("Processing " + Paths.get(filePath).getFileName() + "...");
+            pdfUploadUseCaseInteractor.execute(data);
+        }, listener);
+    }
+
+    /**
+     * Uploads several syllabi in the background, processing the files in parallel. A single file
+     * goes through {@link #extractAssessments(String, String, UseCaseDispatcher.ProgressListener)}.
+     */
+    public void extractAssessments(String userId, List<String> filePaths, UseCaseDispatcher.ProgressListener listener) {
+        if (filePaths.size() == 1 || batchUploadUseCaseInteractor == null) {
+            for (String filePath : filePaths) {
+                extractAssessments(userId, filePath, listener);
+            }
+            return;
+        }
+
+        final List<SyllabusUploadInputData> uploads = new ArrayList<>();
+        for (String filePath : filePaths) {
+            uploads.add(new SyllabusUploadInputData(userId, filePath));
+        }
+
+        dispatcher.submit(jobKey(userId, String.join("|", filePaths)), progress -> {
+            progress.report("Processing " + filePaths.size() + " syllabi...");
+            batchUploadUseCaseInteractor.execute(uploads);
+        }, listener);
+    }
+
+    public void cancelExtraction(String userId, String filePath) {
+        dispatcher.cancel(jobKey(userId, filePath));
+    }
+
+    private static String jobKey(String userId, String filePath) {
+        return "syllabus-upload:" + userId + ":" + filePath;
     }
 }
\ No newline at end of file
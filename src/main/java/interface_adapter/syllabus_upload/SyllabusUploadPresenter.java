@@ -1,10 +1,20 @@
 package interface_adapter.syllabus_upload;
 
+import interface_adapter.EventThread;
 import interface_adapter.ViewManagerModel;
+import use_case.dto.AssessmentDraftData;
+import use_case.dto.BatchSyllabusUploadOutputData;
+import use_case.port.outgoing.BatchSyllabusUploadOutputBoundary;
 import use_case.port.outgoing.SyllabusUploadOutputBoundary;
 import use_case.dto.SyllabusUploadOutputData;
 
-public class SyllabusUploadPresenter implements SyllabusUploadOutputBoundary {
+import java.nio.file.Paths;
+import java.util.Locale;
+
+public class SyllabusUploadPresenter implements SyllabusUploadOutputBoundary, BatchSyllabusUploadOutputBoundary {
+    /** Property fired when an assessment is added to the preview while the upload is still running. */
+    public static final String PREVIEW_PROPERTY = "preview";
+
     private final ViewManagerModel viewManagerModel;
     private final SyllabusUploadViewModel syllabusUploadViewModel;
 
@@ -16,21 +26,67 @@ public class SyllabusUploadPresenter implements SyllabusUploadOutputBoundary {
 
     @Override
     public void prepareSuccessView(SyllabusUploadOutputData outputData) {
-        // Update the state to show success
-        SyllabusUploadState state = syllabusUploadViewModel.getState();
-        state.setProcessing(false);
-        state.setError(null);
-        syllabusUploadViewModel.setState(state);
-        syllabusUploadViewModel.firePropertyChange();
+        EventThread.run(() -> {
+            // Update the state to show success
+            SyllabusUploadState state = syllabusUploadViewModel.getState();
+            state.setProcessing(false);
+            state.setError(null);
+            syllabusUploadViewModel.setState(state);
+            syllabusUploadViewModel.firePropertyChange();
+        });
     }
 
     @Override
     public void prepareFailView(String errorMessage) {
-        // Update the state to show the error
-        SyllabusUploadState state = syllabusUploadViewModel.getState();
-        state.setProcessing(false);
-        state.setError(errorMessage);
-        syllabusUploadViewModel.setState(state);
-        syllabusUploadViewModel.firePropertyChange();
+        EventThread.run(() -> {
+            // Update the state to show the error
+            SyllabusUploadState state = syllabusUploadViewModel.getState();
+            state.setProcessing(false);
+            state.setError(errorMessage);
+            syllabusUploadViewModel.setState(state);
+            syllabusUploadViewModel.firePropertyChange();
+        });
+    }
+
+    @Override
+    public void prepareAssessmentPreview(AssessmentDraftData assessment) {
+        EventThread.run(() -> {
+            SyllabusUploadState state = syllabusUploadViewModel.getState();
+            String weight = assessment.getWeight() == null
+                    ? "" : String.format(Locale.ROOT, " (%.1f%%)", assessment.getWeight() * 100);
+            state.addPreviewAssessment(assessment.getTitle() + weight);
+            syllabusUploadViewModel.setState(state);
+            syllabusUploadViewModel.firePropertyChange(PREVIEW_PROPERTY);
+        });
+    }
+
+    @Override
+    public void resetAssessmentPreview() {
+        EventThread.run(() -> {
+            SyllabusUploadState state = syllabusUploadViewModel.getState();
+            state.clearPreviewAssessments();
+            syllabusUploadViewModel.setState(state);
+            syllabusUploadViewModel.firePropertyChange(PREVIEW_PROPERTY);
+        });
+    }
+
+    @Override
+    public void prepareBatchView(BatchSyllabusUploadOutputData outputData) {
+        if (outputData.getFailedCount() == 0) {
+            prepareSuccessView(null);
+            return;
+        }
+
+        // Summarise every failed file in one message; the successful ones are already saved
+        StringBuilder message = new StringBuilder()
+                .append(outputData.getFailedCount()).append(" of ")
+                .append(outputData.getResults().size()).append(" syllabi failed:");
+        for (BatchSyllabusUploadOutputData.FileResult result : outputData.getResults()) {
+            if (!result.isSuccess()) {
+                message.append("\n").append(Paths.get(result.getSourceFilePath()).getFileName())
+                        .append(": ").append(result.getErrorMessage());
+            }
+        }
+        prepareFailView(message.toString());
     }
-}
\ No newline at end of file
+}
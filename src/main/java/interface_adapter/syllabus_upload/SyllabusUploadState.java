@@ -1,16 +1,28 @@
 package interface_adapter.syllabus_upload;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class SyllabusUploadState {
     private String filePath = "";
+    private List<String> filePaths = List.of();
     private String error = null;
     private boolean isProcessing = false;
+    private final List<String> previewAssessments = new ArrayList<>();
 
     public String getFilePath() { return filePath; }
     public void setFilePath(String filePath) { this.filePath = filePath; }
+
+    public List<String> getFilePaths() { return filePaths; }
+    public void setFilePaths(List<String> filePaths) { this.filePaths = List.copyOf(filePaths); }
     
     public String getError() { return error; }
     public void setError(String error) { this.error = error; }
     
     public boolean isProcessing() { return isProcessing; }
     public void setProcessing(boolean processing) { isProcessing = processing; }
-}
\ No newline at end of file
+
+    public List<String> getPreviewAssessments() { return List.copyOf(previewAssessments); }
+    public void addPreviewAssessment(String assessment) { previewAssessments.add(assessment); }
+    public void clearPreviewAssessments() { previewAssessments.clear(); }
+}
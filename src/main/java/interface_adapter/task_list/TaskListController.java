@@ -3,6 +3,7 @@ package interface_adapter.task_list;
 import entity.Assessment;
 import entity.AssessmentType;
 import entity.TaskStatus;
+import interface_adapter.UseCaseDispatcher;
 import use_case.dto.TaskCreationCommand;
 import use_case.dto.TaskUpdateCommand;
 import use_case.port.incoming.TaskEditingUseCase;
@@ -21,99 +22,112 @@ public class TaskListController {
     private final CourseRepository courseRepository;
     private final SessionRepository sessionRepository;
     private final TaskListPresenter presenter;
+    private final UseCaseDispatcher dispatcher;
 
     public TaskListController(TaskEditingUseCase taskEditingUseCase,
                              AssessmentRepository assessmentRepository,
                              CourseRepository courseRepository,
                              SessionRepository sessionRepository,
-                             TaskListPresenter presenter) {
+                             TaskListPresenter presenter,
+                             UseCaseDispatcher dispatcher) {
         this.taskEditingUseCase = taskEditingUseCase;
         this.assessmentRepository = assessmentRepository;
         this.courseRepository = courseRepository;
         this.sessionRepository = sessionRepository;
         this.presenter = presenter;
+        this.dispatcher = dispatcher;
     }
 
     public void loadTasks(String courseId) {
-        try {
-            // Get course name
-            entity.Course course = courseRepository.findByUserId(getUserId()).stream()
-                .filter(c -> c.getCourseId().equals(courseId))
-                .findFirst()
-                .orElse(null);
-            
-            String courseName = course != null ? course.getCode() + " - " + course.getName() : courseId;
-            
-            // Load assessments for this course
-            List<Assessment> assessments = assessmentRepository.findByCourseId(courseId);
-            
-            presenter.presentTasks(courseId, courseName, assessments);
-        } catch (Exception e) {
-            presenter.presentError("Failed to load tasks: " + e.getMessage());
-        }
+        dispatcher.submit("task-list:" + courseId, progress -> presentTasks(courseId));
     }
 
     public void createTask(String title, String dueDate, Integer durationMinutes, 
                           TaskStatus status, String notes) {
-        try {
-            String courseId = presenter.viewModel.getState().getCourseId();
-            
-            TaskCreationCommand command = new TaskCreationCommand(
-                getUserId(),
-                courseId,
-                null, // assessmentId - null for user-created tasks
-                title,
-                parseDate(dueDate),
-                durationMinutes,
-                null, // priority - not used in Assessment
-                status,
-                notes
-            );
-            
-            taskEditingUseCase.createTask(command);
-            presenter.presentTaskCreated();
-            
-            // Reload tasks
-            loadTasks(courseId);
-        } catch (Exception e) {
-            presenter.presentError("Failed to create task: " + e.getMessage());
-        }
+        // Read the selected course on the calling thread; edits are queued in order
+        String courseId = presenter.viewModel.getState().getCourseId();
+        dispatcher.enqueue(progress -> {
+            try {
+                TaskCreationCommand command = new TaskCreationCommand(
+                    getUserId(),
+                    courseId,
+                    null, // assessmentId - null for user-created tasks
+                    title,
+                    parseDate(dueDate),
+                    durationMinutes,
+                    null, // priority - not used in Assessment
+                    status,
+                    notes
+                );
+                
+                taskEditingUseCase.createTask(command);
+                presenter.presentTaskCreated();
+                
+                // Reload tasks
+                presentTasks(courseId);
+            } catch (Exception e) {
+                presenter.presentError("Failed to create task: " + e.getMessage());
+            }
+        });
     }
 
     public void deleteTask(String assessmentId) {
-        try {
-            taskEditingUseCase.deleteTask(assessmentId);
-            presenter.presentTaskDeleted();
-            
-            // Reload tasks
-            String courseId = presenter.viewModel.getState().getCourseId();
-            loadTasks(courseId);
-        } catch (Exception e) {
-            presenter.presentError("Failed to delete task: " + e.getMessage());
-        }
+        String courseId = presenter.viewModel.getState().getCourseId();
+        dispatcher.enqueue(progress -> {
+            try {
+                taskEditingUseCase.deleteTask(assessmentId);
+                presenter.presentTaskDeleted();
+                
+                // Reload tasks
+                presentTasks(courseId);
+            } catch (Exception e) {
+                presenter.presentError("Failed to delete task: " + e.getMessage());
+            }
+        });
     }
 
     public void updateTask(String assessmentId, String title, String dueDate, 
                           Integer durationMinutes, TaskStatus status, String notes) {
+        String courseId = presenter.viewModel.getState().getCourseId();
+        dispatcher.enqueue(progress -> {
+            try {
+                TaskUpdateCommand command = new TaskUpdateCommand(
+                    assessmentId,
+                    title,
+                    parseDate(dueDate),
+                    durationMinutes,
+                    null, // priority - not used
+                    status,
+                    notes
+                );
+                
+                taskEditingUseCase.updateTask(command);
+                presenter.presentTaskUpdated();
+                
+                // Reload tasks
+                presentTasks(courseId);
+            } catch (Exception e) {
+                presenter.presentError("Failed to update task: " + e.getMessage());
+            }
+        });
+    }
+
+    private void presentTasks(String courseId) {
         try {
-            TaskUpdateCommand command = new TaskUpdateCommand(
-                assessmentId,
-                title,
-                parseDate(dueDate),
-                durationMinutes,
-                null, // priority - not used
-                status,
-                notes
-            );
+            // Get course name
+            entity.Course course = courseRepository.findByUserId(getUserId()).stream()
+                .filter(c -> c.getCourseId().equals(courseId))
+                .findFirst()
+                .orElse(null);
             
-            taskEditingUseCase.updateTask(command);
-            presenter.presentTaskUpdated();
+            String courseName = course != null ? course.getCode() + " - " + course.getName() : courseId;
             
-            // Reload tasks
-            String courseId = presenter.viewModel.getState().getCourseId();
-            loadTasks(courseId);
+            // Load assessments for this course
+            List<Assessment> assessments = assessmentRepository.findByCourseId(courseId);
+            
+            presenter.presentTasks(courseId, courseName, assessments);
         } catch (Exception e) {
-            presenter.presentError("Failed to update task: " + e.getMessage());
+            presenter.presentError("Failed to load tasks: " + e.getMessage());
         }
     }
 
@@ -1,13 +1,15 @@
 package interface_adapter.task_list;
 
 import entity.Assessment;
-import java.time.Instant;
+import interface_adapter.EventThread;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public class TaskListPresenter {
+    private static final DateTimeFormatter DUE_DATE = DateTimeFormatter.ofPattern("MMM d, yyyy");
+
     public final TaskListViewModel viewModel;
 
     public TaskListPresenter(TaskListViewModel viewModel) {
@@ -15,47 +17,57 @@ public class TaskListPresenter {
     }
 
     public void presentTasks(String courseId, String courseName, List<Assessment> assessments) {
-        TaskListState state = viewModel.getState();
-        state.setCourseId(courseId);
-        state.setCourseName(courseName);
+        EventThread.run(() -> {
+            TaskListState state = viewModel.getState();
+            state.setCourseId(courseId);
+            state.setCourseName(courseName);
         
-        List<TaskListState.TaskData> taskDataList = assessments.stream()
-            .map(this::convertToTaskData)
-            .collect(Collectors.toList());
+            List<TaskListState.TaskData> taskDataList = assessments.stream()
+                .map(this::convertToTaskData)
+                .collect(Collectors.toList());
         
-        state.setTasks(taskDataList);
-        state.setError(null);
+            state.setTasks(taskDataList);
+            state.setError(null);
         
-        viewModel.setState(state);
-        viewModel.firePropertyChange();
+            viewModel.setState(state);
+            viewModel.firePropertyChange();
+        });
     }
 
     public void presentError(String errorMessage) {
-        TaskListState state = viewModel.getState();
-        state.setError(errorMessage);
-        state.setTasks(List.of());
+        EventThread.run(() -> {
+            TaskListState state = viewModel.getState();
+            state.setError(errorMessage);
+            state.setTasks(List.of());
         
-        viewModel.setState(state);
-        viewModel.firePropertyChange();
+            viewModel.setState(state);
+            viewModel.firePropertyChange();
+        });
     }
 
     public void presentTaskCreated() {
-        // Trigger reload by firing property change
-        viewModel.firePropertyChange();
+        EventThread.run(() -> {
+            // Trigger reload by firing property change
+            viewModel.firePropertyChange();
+        });
     }
 
     public void presentTaskDeleted() {
-        // Trigger reload by firing property change
-        viewModel.firePropertyChange();
+        EventThread.run(() -> {
+            // Trigger reload by firing property change
+            viewModel.firePropertyChange();
+        });
     }
 
     public void presentTaskUpdated() {
-        // Trigger reload by firing property change
-        viewModel.firePropertyChange();
+        EventThread.run(() -> {
+            // Trigger reload by firing property change
+            viewModel.firePropertyChange();
+        });
     }
 
     private TaskListState.TaskData convertToTaskData(Assessment assessment) {
-        String formattedDate = formatDate(assessment.getEndsAt());
+        String formattedDate = formatDate(assessment);
         String status = extractStatusFromNotes(assessment.getNotes());
         String cleanNotes = extractNotesWithoutStatus(assessment.getNotes());
         
@@ -69,24 +81,16 @@ public class TaskListPresenter {
         );
     }
 
-    private String formatDate(String isoDate) {
+    private String formatDate(Assessment assessment) {
+        String isoDate = assessment.getEndsAt();
         if (isoDate == null || isoDate.isEmpty() || "null".equals(isoDate)) {
             return "No due date";
         }
-        try {
-            // Try parsing as ISO instant first
-            Instant instant = Instant.parse(isoDate);
-            return DateTimeFormatter.ofPattern("MMM d, yyyy")
-                .withZone(ZoneId.systemDefault())
-                .format(instant);
-        } catch (Exception e) {
-            // Try parsing as date only
-            try {
-                return isoDate.substring(0, 10); // Just return YYYY-MM-DD
-            } catch (Exception ex) {
-                return isoDate;
-            }
+        if (assessment.getEndsAtInstant() != null) {
+            return DUE_DATE.format(assessment.getEndsAtInstant().atZone(ZoneId.systemDefault()));
         }
+        // Not a full timestamp; just return YYYY-MM-DD if it starts with one
+        return isoDate.length() >= 10 ? isoDate.substring(0, 10) : isoDate;
     }
 
     private String extractStatusFromNotes(String notes) {
@@ -0,0 +1,66 @@
+package use_case.dto;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Aggregate result of a batch syllabus upload: one entry per input file, in input order.
+ */
+public final class BatchSyllabusUploadOutputData {
+    private final List<FileResult> results;
+
+    public BatchSyllabusUploadOutputData(List<FileResult> results) {
+        this.results = Collections.unmodifiableList(Objects.requireNonNull(results, "results"));
+    }
+
+    public List<FileResult> getResults() {
+        return results;
+    }
+
+    public int getSucceededCount() {
+        return (int) results.stream().filter(FileResult::isSuccess).count();
+    }
+
+    public int getFailedCount() {
+        return results.size() - getSucceededCount();
+    }
+
+    public static final class FileResult {
+        private final String sourceFilePath;
+        private final SyllabusUploadOutputData output;
+        private final String errorMessage;
+
+        private FileResult(String sourceFilePath, SyllabusUploadOutputData output, String errorMessage) {
+            this.sourceFilePath = Objects.requireNonNull(sourceFilePath, "sourceFilePath");
+            this.output = output;
+            this.errorMessage = errorMessage;
+        }
+
+        public static FileResult success(String sourceFilePath, SyllabusUploadOutputData output) {
+            return new FileResult(sourceFilePath, Objects.requireNonNull(output, "output"), null);
+        }
+
+        public static FileResult failure(String sourceFilePath, String errorMessage) {
+            return new FileResult(sourceFilePath, null, Objects.requireNonNull(errorMessage, "errorMessage"));
+        }
+
+        public String getSourceFilePath() {
+            return sourceFilePath;
+        }
+
+        public boolean isSuccess() {
+            return output != null;
+        }
+
+        /** The upload result, or {@code null} if this file failed. */
+        public SyllabusUploadOutputData getOutput() {
+            return output;
+        }
+
+        /** Why this file failed, or {@code null} if it succeeded. */
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
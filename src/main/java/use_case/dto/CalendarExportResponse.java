@@ -13,15 +13,26 @@ public final class CalendarExportResponse {
     private final String mediaType;
     private final int eventCount;
     private final Instant generatedAt;
+    private final String exportId;
 
     public CalendarExportResponse(byte[] payload, String filename, String mediaType,
                                   int eventCount, Instant generatedAt) {
+        this(payload, filename, mediaType, eventCount, generatedAt, null);
+    }
+
+    /**
+     * @param exportId: identifies the export to confirm once the payload is saved, or null if
+     *                  there is nothing to confirm
+     */
+    public CalendarExportResponse(byte[] payload, String filename, String mediaType,
+                                  int eventCount, Instant generatedAt, String exportId) {
         this.payload = Arrays.copyOf(Objects.requireNonNull(payload, "payload"),
                 payload.length);
         this.filename = Objects.requireNonNull(filename, "filename");
         this.mediaType = Objects.requireNonNull(mediaType, "mediaType");
         this.eventCount = eventCount;
         this.generatedAt = Objects.requireNonNull(generatedAt, "generatedAt");
+        this.exportId = exportId;
     }
 
     public byte[] getPayload() {
@@ -43,4 +54,11 @@ public final class CalendarExportResponse {
     public Instant getGeneratedAt() {
         return generatedAt;
     }
+
+    /**
+     * @return the id to confirm the export with once it is saved, or null if there is none.
+     */
+    public String getExportId() {
+        return exportId;
+    }
 }
@@ -3,26 +3,56 @@ package use_case.dto;
 import entity.ScheduleEvent;
 import java.time.ZoneId;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * Command object describing how to render a collection of events into a calendar artifact.
+ *
+ * <p>A delta request carries only the events that changed since the last export, plus the ids
+ * of deleted events to cancel. Renderers publish the changes with METHOD:PUBLISH and the
+ * cancellations in a separate METHOD:CANCEL calendar. Many calendar clients import only the first
+ * calendar of a file, so exports meant to be imported send the two as separate requests.
  */
 public final class CalendarRenderRequest {
     private final String productId;
     private final ZoneId zoneId;
     private final String filenameHint;
     private final List<ScheduleEvent> events;
+    private final Map<String, Integer> sequences;
+    private final Map<String, Integer> cancellations;
+    private final boolean delta;
 
     public CalendarRenderRequest(String productId, ZoneId zoneId, String filenameHint,
                                  List<ScheduleEvent> events) {
+        this(productId, zoneId, filenameHint, events, Map.of(), Map.of(), false);
+    }
+
+    /**
+     * @param sequences: the SEQUENCE to write for each event, by event id; events without one
+     *                   are written without SEQUENCE
+     * @param cancellations: the SEQUENCE to cancel each deleted event with, by event id
+     * @param delta: whether {@code events} are only the changes since the last export
+     */
+    public CalendarRenderRequest(String productId, ZoneId zoneId, String filenameHint,
+                                 List<ScheduleEvent> events, Map<String, Integer> sequences,
+                                 Map<String, Integer> cancellations, boolean delta) {
         this.productId = Objects.requireNonNull(productId, "productId");
         this.zoneId = Objects.requireNonNull(zoneId, "zoneId");
         this.filenameHint = filenameHint == null || filenameHint.isBlank()
                 ? "schedule"
                 : filenameHint;
         this.events = List.copyOf(Objects.requireNonNull(events, "events"));
+        this.sequences = Map.copyOf(Objects.requireNonNull(sequences, "sequences"));
+        // Kept in order so that cancellations are written in a stable order
+        this.cancellations = Collections.unmodifiableMap(
+                new LinkedHashMap<>(Objects.requireNonNull(cancellations, "cancellations")));
+        if (!delta && !cancellations.isEmpty()) {
+            throw new IllegalArgumentException("Only delta requests can cancel events");
+        }
+        this.delta = delta;
     }
 
     public String getProductId() {
@@ -40,4 +70,26 @@ public final class CalendarRenderRequest {
     public List<ScheduleEvent> getEvents() {
         return Collections.unmodifiableList(events);
     }
+
+    /**
+     * @return the SEQUENCE for the event, or null if none should be written.
+     */
+    public Integer getSequence(String eventId) {
+        return sequences.get(eventId);
+    }
+
+    public Map<String, Integer> getCancellations() {
+        return cancellations;
+    }
+
+    public boolean isDelta() {
+        return delta;
+    }
+
+    /**
+     * @return true if there is nothing to render: no events and no cancellations.
+     */
+    public boolean isEmpty() {
+        return events.isEmpty() && cancellations.isEmpty();
+    }
 }
@@ -1,14 +1,27 @@
 package use_case.dto;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class SyllabusUploadOutputData {
     private final String courseName;
     private final int assessmentCount;
+    private final Map<String, Long> stageMillis;
 
     public SyllabusUploadOutputData(String courseName, int assessmentCount) {
+        this(courseName, assessmentCount, Map.of());
+    }
+
+    public SyllabusUploadOutputData(String courseName, int assessmentCount, Map<String, Long> stageMillis) {
         this.courseName = courseName;
         this.assessmentCount = assessmentCount;
+        this.stageMillis = Collections.unmodifiableMap(new LinkedHashMap<>(stageMillis));
     }
 
     public String getCourseName() { return courseName; }
     public int getAssessmentCount() { return assessmentCount; }
-}
\ No newline at end of file
+
+    /** Milliseconds spent in each pipeline stage (pdf, ai, persistence), in the order they ran. */
+    public Map<String, Long> getStageMillis() { return stageMillis; }
+}
@@ -0,0 +1,12 @@
+package use_case.port.incoming;
+
+import use_case.dto.SyllabusUploadInputData;
+
+import java.util.List;
+
+/**
+ * Handles ingesting several syllabus files at once, such as a whole term's courses.
+ */
+public interface BatchUploadSyllabusInputBoundary {
+    void execute(List<SyllabusUploadInputData> uploads);
+}
@@ -1,5 +1,6 @@
 package use_case.port.outgoing;
 
+import use_case.dto.AssessmentDraftData;
 import use_case.dto.SyllabusParseResultData;
 
 /**
@@ -7,4 +8,29 @@ import use_case.dto.SyllabusParseResultData;
  */
 public interface AiExtractionDataAccessInterface {
     SyllabusParseResultData extractStructuredData(String syllabusText);
+
+    /**
+     * Like {@link #extractStructuredData(String)}, but also hands each assessment to
+     * {@code listener} as soon as it is known, so callers can show progress while a slow
+     * provider is still generating. The assessments passed along are a preview; the returned
+     * result is authoritative. By default they are only emitted once the whole result is in.
+     */
+    default SyllabusParseResultData extractStructuredData(String syllabusText, AssessmentListener listener) {
+        SyllabusParseResultData result = extractStructuredData(syllabusText);
+        result.getAssessments().forEach(listener::onAssessment);
+        return result;
+    }
+
+    /** Receives the preview of a streamed extraction. */
+    @FunctionalInterface
+    interface AssessmentListener {
+        void onAssessment(AssessmentDraftData assessment);
+
+        /**
+         * Withdraws every assessment passed so far, e.g. when a streamed answer broke off and is
+         * being repaired. The assessments that stand are passed again afterwards.
+         */
+        default void onReset() {
+        }
+    }
 }
@@ -0,0 +1,11 @@
+package use_case.port.outgoing;
+
+import use_case.dto.BatchSyllabusUploadOutputData;
+
+public interface BatchSyllabusUploadOutputBoundary {
+
+    /**
+     * Called once the whole batch has finished, with a result for every file.
+     */
+    void prepareBatchView(BatchSyllabusUploadOutputData outputData);
+}
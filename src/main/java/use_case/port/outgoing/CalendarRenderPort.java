@@ -1,5 +1,7 @@
 package use_case.port.outgoing;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import use_case.dto.CalendarRenderRequest;
 import use_case.dto.CalendarRenderResult;
 
@@ -8,4 +10,14 @@ import use_case.dto.CalendarRenderResult;
  */
 public interface CalendarRenderPort {
     CalendarRenderResult render(CalendarRenderRequest request);
+
+    /**
+     * Writes the rendered calendar to {@code out}, which is flushed but left open.
+     * Renderers that can produce the artifact incrementally override this so that memory use
+     * does not grow with the number of events; the default renders it in memory first.
+     */
+    default void renderTo(CalendarRenderRequest request, OutputStream out) throws IOException {
+        out.write(render(request).getPayload());
+        out.flush();
+    }
 }
@@ -0,0 +1,47 @@
+package use_case.port.outgoing;
+
+import java.util.function.Supplier;
+
+/**
+ * Receives timings, counts and value distributions from the ingestion pipeline.
+ * Metric names are dot-separated and start with the stage that records them, e.g. {@code pdf.load}.
+ */
+public interface MetricsRegistry {
+    /** Discards everything; used wherever no registry is configured. */
+    MetricsRegistry NOOP = new MetricsRegistry() {
+        @Override
+        public void recordTime(String name, long nanos) {
+        }
+
+        @Override
+        public void increment(String name, long delta) {
+        }
+
+        @Override
+        public void recordValue(String name, long value) {
+        }
+    };
+
+    /** Adds one sample to the timer {@code name}. */
+    void recordTime(String name, long nanos);
+
+    /** Adds {@code delta} to the counter {@code name}. */
+    void increment(String name, long delta);
+
+    /** Adds one sample to the histogram {@code name}, e.g. a size in characters. */
+    void recordValue(String name, long value);
+
+    default void increment(String name) {
+        increment(name, 1);
+    }
+
+    /** Runs {@code work} and records how long it took, whether or not it succeeded. */
+    default <T> T time(String name, Supplier<T> work) {
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            recordTime(name, System.nanoTime() - start);
+        }
+    }
+}
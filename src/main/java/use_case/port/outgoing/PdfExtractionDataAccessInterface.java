@@ -1,8 +1,22 @@
 package use_case.port.outgoing;
 
+import java.util.function.Consumer;
+
 /**
  * Extracts text from PDF syllabus files.
  */
 public interface PdfExtractionDataAccessInterface {
     String extractText(String sourceFilePath);
+
+    /**
+     * Hands the text to {@code chunkConsumer} piece by piece, in page order, as soon as each piece
+     * is ready, so callers can start working before the whole document has been read. The pieces
+     * concatenated equal {@link #extractText(String)}. By default the whole text is one piece.
+     *
+     * <p>Not used by the upload interactors yet: the section filter and the AI prompt both need
+     * the whole text, so they call {@link #extractText(String)}, which joins the pieces.
+     */
+    default void streamText(String sourceFilePath, Consumer<String> chunkConsumer) {
+        chunkConsumer.accept(extractText(sourceFilePath));
+    }
 }
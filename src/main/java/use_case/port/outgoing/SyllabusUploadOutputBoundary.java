@@ -1,5 +1,6 @@
 package use_case.port.outgoing;
 
+import use_case.dto.AssessmentDraftData;
 import use_case.dto.SyllabusUploadOutputData;
 
 public interface SyllabusUploadOutputBoundary {
@@ -7,4 +8,12 @@ public interface SyllabusUploadOutputBoundary {
     void prepareSuccessView(SyllabusUploadOutputData outputData);
     
     void prepareFailView(String errorMessage);
-}
\ No newline at end of file
+
+    /** Shows an assessment found so far, before the upload has finished. */
+    default void prepareAssessmentPreview(AssessmentDraftData assessment) {
+    }
+
+    /** Clears the assessments previewed so far; the ones that stand are previewed again. */
+    default void resetAssessmentPreview() {
+    }
+}
@@ -1,15 +1,52 @@
 package use_case.repository;
 
 import entity.Assessment;
+import entity.GradeAggregate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
- * Persistence boundary for assessments.
+ * Persistence boundary for assessments. A save, update or delete that fails throws an unchecked
+ * exception instead of returning normally.
  */
 public interface AssessmentRepository {
     public List<Assessment> findByCourseId(String courseId);
     public void save(Assessment assessment);
+
+    /**
+     * Saves every assessment. Database-backed repositories write them as one batch in a single
+     * transaction; the default simply saves them one at a time.
+     */
+    public default void saveAll(Collection<Assessment> assessments) {
+        for (Assessment assessment : assessments) {
+            save(assessment);
+        }
+    }
+
+    /**
+     * Returns the assessments of every course in {@code courseIds}, in no particular order.
+     * Database-backed repositories answer this with a single query; the default looks the
+     * courses up one at a time.
+     */
+    public default List<Assessment> findByCourseIds(Collection<String> courseIds) {
+        List<Assessment> assessments = new ArrayList<>();
+        for (String courseId : courseIds) {
+            assessments.addAll(findByCourseId(courseId));
+        }
+        return assessments;
+    }
+
+    /**
+     * Returns the grade totals of one course. Repositories that keep them up to date on every
+     * save, update and delete answer this without reading the assessments; the default adds
+     * them up from {@link #findByCourseId}.
+     */
+    public default GradeAggregate findGradeAggregate(String courseId) {
+        return GradeAggregate.of(courseId, findByCourseId(courseId));
+    }
+
     public Optional<Assessment> findById(String assessmentId);
     public void update(Assessment assessment);
     public void deleteById(String assessmentId);
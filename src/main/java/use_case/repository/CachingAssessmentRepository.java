@@ -0,0 +1,294 @@
+package use_case.repository;
+
+import entity.Assessment;
+import entity.GradeAggregate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-through cache in front of any {@link AssessmentRepository}.
+ *
+ * <p>Assessments are cached per course as immutable snapshots. Writes always go to the delegate
+ * first and then patch the cached snapshot of the affected course, so a grade edit followed by a
+ * reload of the same course never goes back to the database. A write the delegate rejects with an
+ * exception leaves the snapshot untouched. Snapshots expire after {@code ttl}
+ * and the least recently used course is dropped once {@code maxCourses} are cached.
+ *
+ * <p>The cache only sees writes made through it. Code that writes assessments behind its back
+ * (for example a syllabus import into a new course) must call {@link #invalidate(String)} if that
+ * course may already be cached.
+ */
+public class CachingAssessmentRepository implements AssessmentRepository {
+    public static final int DEFAULT_MAX_COURSES = 64;
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    private final AssessmentRepository delegate;
+    private final int maxCourses;
+    private final Duration ttl;
+    private final Clock clock;
+    private final LinkedHashMap<String, Snapshot> snapshots;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    // Bumped on every write so a load that raced with a write does not install a stale snapshot
+    private long writeGeneration;
+
+    public CachingAssessmentRepository(AssessmentRepository delegate) {
+        this(delegate, DEFAULT_MAX_COURSES, DEFAULT_TTL);
+    }
+
+    public CachingAssessmentRepository(AssessmentRepository delegate, int maxCourses, Duration ttl) {
+        this(delegate, maxCourses, ttl, Clock.systemUTC());
+    }
+
+    CachingAssessmentRepository(AssessmentRepository delegate, int maxCourses, Duration ttl, Clock clock) {
+        if (maxCourses < 1) {
+            throw new IllegalArgumentException("maxCourses must be at least 1");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.maxCourses = maxCourses;
+        this.ttl = ttl;
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+                return size() > CachingAssessmentRepository.this.maxCourses;
+            }
+        };
+    }
+
+    @Override
+    public List<Assessment> findByCourseId(String courseId) {
+        Snapshot cached = freshSnapshot(courseId);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached.assessments;
+        }
+        misses.incrementAndGet();
+
+        long generation = currentGeneration();
+        List<Assessment> loaded = delegate.findByCourseId(courseId);
+        return install(courseId, loaded, generation).assessments;
+    }
+
+    @Override
+    public List<Assessment> findByCourseIds(Collection<String> courseIds) {
+        List<Assessment> result = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (String courseId : courseIds) {
+            Snapshot cached = freshSnapshot(courseId);
+            if (cached != null) {
+                hits.incrementAndGet();
+                result.addAll(cached.assessments);
+            } else {
+                misses.incrementAndGet();
+                missing.add(courseId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        long generation = currentGeneration();
+        Map<String, List<Assessment>> loaded = new LinkedHashMap<>();
+        for (String courseId : missing) {
+            loaded.put(courseId, new ArrayList<>());
+        }
+        for (Assessment assessment : delegate.findByCourseIds(missing)) {
+            loaded.computeIfAbsent(assessment.getCourseId(), id -> new ArrayList<>()).add(assessment);
+        }
+        for (Map.Entry<String, List<Assessment>> entry : loaded.entrySet()) {
+            result.addAll(install(entry.getKey(), entry.getValue(), generation).assessments);
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Assessment> findById(String assessmentId) {
+        synchronized (this) {
+            Instant now = clock.instant();
+            for (Snapshot snapshot : snapshots.values()) {
+                Assessment assessment = snapshot.byId.get(assessmentId);
+                if (assessment != null && !snapshot.isExpired(now, ttl)) {
+                    hits.incrementAndGet();
+                    return Optional.of(assessment);
+                }
+            }
+        }
+        misses.incrementAndGet();
+        return delegate.findById(assessmentId);
+    }
+
+    /**
+     * Each cached snapshot carries the totals of its course, so a cached course is answered
+     * without adding anything up; other courses are left to the delegate.
+     */
+    @Override
+    public GradeAggregate findGradeAggregate(String courseId) {
+        Snapshot cached = freshSnapshot(courseId);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached.aggregate;
+        }
+        misses.incrementAndGet();
+        return delegate.findGradeAggregate(courseId);
+    }
+
+    @Override
+    public void save(Assessment assessment) {
+        delegate.save(assessment);
+        synchronized (this) {
+            writeGeneration++;
+            put(assessment);
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<Assessment> assessments) {
+        delegate.saveAll(assessments);
+        synchronized (this) {
+            writeGeneration++;
+            for (Assessment assessment : assessments) {
+                put(assessment);
+            }
+        }
+    }
+
+    @Override
+    public void update(Assessment assessment) {
+        delegate.update(assessment);
+        synchronized (this) {
+            writeGeneration++;
+            // The course may have changed, so drop any copy cached under another course
+            remove(assessment.getAssessmentId(), assessment.getCourseId());
+            put(assessment);
+        }
+    }
+
+    @Override
+    public void deleteById(String assessmentId) {
+        delegate.deleteById(assessmentId);
+        synchronized (this) {
+            writeGeneration++;
+            remove(assessmentId, null);
+        }
+    }
+
+    /**
+     * Drops the cached snapshot of one course so the next read goes to the delegate.
+     */
+    public synchronized void invalidate(String courseId) {
+        writeGeneration++;
+        snapshots.remove(courseId);
+    }
+
+    public synchronized void invalidateAll() {
+        writeGeneration++;
+        snapshots.clear();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public synchronized int getCachedCourseCount() {
+        return snapshots.size();
+    }
+
+    private synchronized Snapshot freshSnapshot(String courseId) {
+        Snapshot snapshot = snapshots.get(courseId);
+        if (snapshot == null) {
+            return null;
+        }
+        if (snapshot.isExpired(clock.instant(), ttl)) {
+            snapshots.remove(courseId);
+            return null;
+        }
+        return snapshot;
+    }
+
+    private synchronized long currentGeneration() {
+        return writeGeneration;
+    }
+
+    private synchronized Snapshot install(String courseId, List<Assessment> assessments, long generation) {
+        Snapshot snapshot = new Snapshot(courseId, assessments, clock.instant());
+        if (generation == writeGeneration) {
+            snapshots.put(courseId, snapshot);
+        }
+        return snapshot;
+    }
+
+    // Callers hold the lock
+    private void put(Assessment assessment) {
+        Snapshot snapshot = snapshots.get(assessment.getCourseId());
+        if (snapshot == null) {
+            return;
+        }
+        List<Assessment> patched = new ArrayList<>(snapshot.assessments.size() + 1);
+        boolean replaced = false;
+        for (Assessment existing : snapshot.assessments) {
+            if (existing.getAssessmentId().equals(assessment.getAssessmentId())) {
+                patched.add(assessment);
+                replaced = true;
+            } else {
+                patched.add(existing);
+            }
+        }
+        if (!replaced) {
+            patched.add(assessment);
+        }
+        snapshots.put(assessment.getCourseId(), new Snapshot(assessment.getCourseId(), patched, snapshot.loadedAt));
+    }
+
+    // Callers hold the lock; keepCourseId, when not null, is left untouched
+    private void remove(String assessmentId, String keepCourseId) {
+        for (Map.Entry<String, Snapshot> entry : new ArrayList<>(snapshots.entrySet())) {
+            Snapshot snapshot = entry.getValue();
+            if (entry.getKey().equals(keepCourseId) || !snapshot.byId.containsKey(assessmentId)) {
+                continue;
+            }
+            List<Assessment> patched = new ArrayList<>(snapshot.assessments);
+            patched.removeIf(existing -> existing.getAssessmentId().equals(assessmentId));
+            snapshots.put(entry.getKey(), new Snapshot(entry.getKey(), patched, snapshot.loadedAt));
+        }
+    }
+
+    private static final class Snapshot {
+        private final List<Assessment> assessments;
+        private final Map<String, Assessment> byId;
+        private final GradeAggregate aggregate;
+        private final Instant loadedAt;
+
+        private Snapshot(String courseId, List<Assessment> assessments, Instant loadedAt) {
+            this.assessments = List.copyOf(assessments);
+            this.aggregate = GradeAggregate.of(courseId, this.assessments);
+            this.byId = new HashMap<>();
+            for (Assessment assessment : this.assessments) {
+                byId.put(assessment.getAssessmentId(), assessment);
+            }
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired(Instant now, Duration ttl) {
+            return !now.isBefore(loadedAt.plus(ttl));
+        }
+    }
+}
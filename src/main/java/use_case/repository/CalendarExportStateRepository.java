@@ -0,0 +1,24 @@
+package use_case.repository;
+
+import entity.ExportedEventState;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Remembers what has been exported to each user's calendar, so that later exports can send
+ * only what changed. Each user can have several export scopes (for example one per selection of
+ * courses), which are tracked separately.
+ */
+public interface CalendarExportStateRepository {
+    /**
+     * @return the last exported state of each event in the user's scope, by event id.
+     */
+    public Map<String, ExportedEventState> findByUserId(String userId, String scope);
+
+    /**
+     * Records one export: {@code exported} replaces the stored state of those events and
+     * {@code removedEventIds} are forgotten.
+     */
+    public void saveExport(String userId, String scope, Collection<ExportedEventState> exported,
+                           Collection<String> removedEventIds);
+}
@@ -1,12 +1,15 @@
 package use_case.repository;
 
 import entity.Assessment;
+import entity.GradeAggregate;
 import use_case.repository.AssessmentRepository;
 
 import java.util.*;
 
 public class InMemoryAssessmentRepository implements AssessmentRepository {
     private final Map<String, Assessment> assessments = new HashMap<>();
+    // Kept up to date by every write, so grade totals never need a scan
+    private final Map<String, GradeAggregate> aggregates = new HashMap<>();
 
     @Override
     public List<Assessment> findByCourseId(String courseId) {
@@ -21,7 +24,7 @@ public class InMemoryAssessmentRepository implements AssessmentRepository {
 
     @Override
     public void save(Assessment assessment) {
-        assessments.put(assessment.getAssessmentId(), assessment);
+        replace(assessments.put(assessment.getAssessmentId(), assessment), assessment);
         System.out.println("Saved assessment: " + assessment.getTitle() + 
                            " (Type: " + assessment.getType() + 
                            ", Weight: " + (assessment.getWeight() * 100) + "%)");
@@ -34,7 +37,7 @@ public class InMemoryAssessmentRepository implements AssessmentRepository {
 
     @Override
     public void update(Assessment assessment) {
-        assessments.put(assessment.getAssessmentId(), assessment);
+        replace(assessments.put(assessment.getAssessmentId(), assessment), assessment);
         System.out.println("Updated assessment: " + assessment.getTitle());
     }
 
@@ -42,8 +45,24 @@ public class InMemoryAssessmentRepository implements AssessmentRepository {
     public void deleteById(String assessmentId) {
         Assessment removed = assessments.remove(assessmentId);
         if (removed != null) {
+            replace(removed, null);
             System.out.println("Deleted assessment: " + removed.getTitle());
         }
     }
 
+    @Override
+    public GradeAggregate findGradeAggregate(String courseId) {
+        return aggregates.getOrDefault(courseId, GradeAggregate.empty(courseId));
+    }
+
+    /** Moves the grade totals from {@code previous} to {@code current}; either may be null. */
+    private void replace(Assessment previous, Assessment current) {
+        if (previous != null) {
+            aggregates.computeIfPresent(previous.getCourseId(), (courseId, aggregate) -> aggregate.minus(previous));
+        }
+        if (current != null) {
+            aggregates.merge(current.getCourseId(), GradeAggregate.empty(current.getCourseId()).plus(current),
+                    (aggregate, added) -> aggregate.plus(current));
+        }
+    }
 }
\ No newline at end of file
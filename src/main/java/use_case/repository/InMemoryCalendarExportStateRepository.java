@@ -0,0 +1,28 @@
+package use_case.repository;
+
+import entity.ExportedEventState;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+public class InMemoryCalendarExportStateRepository implements CalendarExportStateRepository {
+    private final Map<String, Map<String, ExportedEventState>> statesByScope = new HashMap<>();
+
+    @Override
+    public synchronized Map<String, ExportedEventState> findByUserId(String userId, String scope) {
+        return new HashMap<>(statesByScope.getOrDefault(userId + '\n' + scope, Map.of()));
+    }
+
+    @Override
+    public synchronized void saveExport(String userId, String scope, Collection<ExportedEventState> exported,
+                                        Collection<String> removedEventIds) {
+        Map<String, ExportedEventState> states = statesByScope.computeIfAbsent(userId + '\n' + scope, key -> new HashMap<>());
+        for (ExportedEventState state : exported) {
+            states.put(state.getEventId(), state);
+        }
+        for (String eventId : removedEventIds) {
+            states.remove(eventId);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package use_case.repository;
+
+import entity.Assessment;
+import entity.Course;
+import entity.Syllabus;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Persists everything produced by one syllabus upload: the course, its syllabus and the extracted
+ * assessments. Implementations backed by a database write all of it in a single transaction, so a
+ * failure part-way through leaves nothing behind.
+ */
+public interface SyllabusImportUnitOfWork {
+
+    void saveImport(Course course, Syllabus syllabus, Collection<Assessment> assessments)
+            throws SQLException;
+
+    /**
+     * Falls back to saving through the individual repositories one after another. This is not
+     * atomic; it exists for repositories that have no shared transaction, such as the in-memory ones.
+     */
+    static SyllabusImportUnitOfWork sequential(CourseRepository courseRepository,
+                                               SyllabusRepository syllabusRepository,
+                                               AssessmentRepository assessmentRepository) {
+        Objects.requireNonNull(courseRepository, "courseRepository");
+        Objects.requireNonNull(syllabusRepository, "syllabusRepository");
+        Objects.requireNonNull(assessmentRepository, "assessmentRepository");
+        return (course, syllabus, assessments) -> {
+            courseRepository.save(course);
+            syllabusRepository.save(syllabus);
+            assessmentRepository.saveAll(assessments);
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package use_case.service;
+
+import use_case.dto.BatchSyllabusUploadOutputData;
+import use_case.dto.BatchSyllabusUploadOutputData.FileResult;
+import use_case.dto.SyllabusParseResultData;
+import use_case.dto.SyllabusUploadInputData;
+import use_case.dto.SyllabusUploadOutputData;
+import use_case.port.incoming.BatchUploadSyllabusInputBoundary;
+import use_case.port.outgoing.AiExtractionDataAccessInterface;
+import use_case.port.outgoing.BatchSyllabusUploadOutputBoundary;
+import use_case.port.outgoing.MetricsRegistry;
+import use_case.port.outgoing.PdfExtractionDataAccessInterface;
+import use_case.repository.SyllabusImportUnitOfWork;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Ingests many syllabus files at once.
+ *
+ * <p>Each file flows through the same stages as {@link SyllabusUploadInteractor}, but the files
+ * overlap: PDF extraction runs on a CPU-sized pool, AI extraction on a separate pool whose size caps
+ * the number of concurrent AI calls, and persistence on a single writer thread. The whole batch
+ * therefore takes about as long as its slowest file. One file failing does not affect the others;
+ * every file gets its own entry in the aggregate result.
+ */
+public class BatchSyllabusUploadInteractor implements BatchUploadSyllabusInputBoundary {
+    public static final int DEFAULT_MAX_CONCURRENT_AI_CALLS = 4;
+
+    private final PdfExtractionDataAccessInterface pdfExtractionPort;
+    private final AiExtractionDataAccessInterface aiExtractionPort;
+    private final SyllabusImportUnitOfWork importUnitOfWork;
+    private final BatchSyllabusUploadOutputBoundary outputBoundary;
+    private final int extractionThreads;
+    private final int maxConcurrentAiCalls;
+    private final MetricsRegistry metrics;
+
+    public BatchSyllabusUploadInteractor(PdfExtractionDataAccessInterface pdfExtractionPort,
+                                         AiExtractionDataAccessInterface aiExtractionPort,
+                                         SyllabusImportUnitOfWork importUnitOfWork,
+                                         BatchSyllabusUploadOutputBoundary outputBoundary) {
+        this(pdfExtractionPort, aiExtractionPort, importUnitOfWork, outputBoundary,
+                Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_CONCURRENT_AI_CALLS);
+    }
+
+    public BatchSyllabusUploadInteractor(PdfExtractionDataAccessInterface pdfExtractionPort,
+                                         AiExtractionDataAccessInterface aiExtractionPort,
+                                         SyllabusImportUnitOfWork importUnitOfWork,
+                                         BatchSyllabusUploadOutputBoundary outputBoundary,
+                                         int extractionThreads,
+                                         int maxConcurrentAiCalls) {
+        this(pdfExtractionPort, aiExtractionPort, importUnitOfWork, outputBoundary,
+                extractionThreads, maxConcurrentAiCalls, MetricsRegistry.NOOP);
+    }
+
+    public BatchSyllabusUploadInteractor(PdfExtractionDataAccessInterface pdfExtractionPort,
+                                         AiExtractionDataAccessInterface aiExtractionPort,
+                                         SyllabusImportUnitOfWork importUnitOfWork,
+                                         BatchSyllabusUploadOutputBoundary outputBoundary,
+                                         int extractionThreads,
+                                         int maxConcurrentAiCalls,
+                                         MetricsRegistry metrics) {
+        if (extractionThreads < 1 || maxConcurrentAiCalls < 1) {
+            throw new IllegalArgumentException("extractionThreads and maxConcurrentAiCalls must be at least 1");
+        }
+        this.pdfExtractionPort = Objects.requireNonNull(pdfExtractionPort, "pdfExtractionPort");
+        this.aiExtractionPort = Objects.requireNonNull(aiExtractionPort, "aiExtractionPort");
+        this.importUnitOfWork = Objects.requireNonNull(importUnitOfWork, "importUnitOfWork");
+        this.outputBoundary = Objects.requireNonNull(outputBoundary, "outputBoundary");
+        this.extractionThreads = extractionThreads;
+        this.maxConcurrentAiCalls = maxConcurrentAiCalls;
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    @Override
+    public void execute(List<SyllabusUploadInputData> uploads) {
+        if (uploads.isEmpty()) {
+            outputBoundary.prepareBatchView(new BatchSyllabusUploadOutputData(List.of()));
+            return;
+        }
+
+        ExecutorService extractionPool = Executors.newFixedThreadPool(Math.min(extractionThreads, uploads.size()));
+        ExecutorService aiPool = Executors.newFixedThreadPool(Math.min(maxConcurrentAiCalls, uploads.size()));
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            List<CompletableFuture<FileResult>> pending = new ArrayList<>();
+            for (SyllabusUploadInputData data : uploads) {
+                StageClock clock = new StageClock(metrics);
+                pending.add(CompletableFuture
+                        .supplyAsync(() -> clock.time(StageClock.PDF,
+                                () -> pdfExtractionPort.extractText(data.getSourceFilePath())), extractionPool)
+                        .thenApplyAsync(rawText -> clock.time(StageClock.AI,
+                                () -> aiExtractionPort.extractStructuredData(rawText)), aiPool)
+                        .thenApplyAsync(parsedResult -> persist(data, parsedResult, clock), writer)
+                        .exceptionally(e -> {
+                            metrics.increment("upload.failed");
+                            return FileResult.failure(data.getSourceFilePath(),
+                                    "Failed to process syllabus: " + unwrap(e).getMessage());
+                        }));
+            }
+
+            List<FileResult> results = new ArrayList<>();
+            for (CompletableFuture<FileResult> result : pending) {
+                results.add(result.get());
+            }
+            outputBoundary.prepareBatchView(new BatchSyllabusUploadOutputData(results));
+        } catch (InterruptedException e) {
+            // The batch was cancelled; files already persisted stay, the rest are abandoned
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Every stage failure is turned into a FileResult above, so this is a bug
+            throw new IllegalStateException(unwrap(e));
+        } finally {
+            extractionPool.shutdownNow();
+            aiPool.shutdownNow();
+            writer.shutdownNow();
+        }
+    }
+
+    private FileResult persist(SyllabusUploadInputData data, SyllabusParseResultData parsedResult,
+                               StageClock clock) {
+        ParsedSyllabus entities = ParsedSyllabus.of(data, parsedResult);
+        long persistStart = System.nanoTime();
+        try {
+            importUnitOfWork.saveImport(entities.getCourse(), entities.getSyllabus(), entities.getAssessments());
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+        clock.finish(StageClock.PERSISTENCE, persistStart);
+        metrics.increment("upload.succeeded");
+        return FileResult.success(data.getSourceFilePath(), new SyllabusUploadOutputData(
+                parsedResult.getCourseName(),
+                entities.getAssessments().size(),
+                clock.getStageMillis()
+        ));
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        while ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e;
+    }
+}
@@ -1,45 +1,117 @@
 package use_case.service;
 
 import entity.Assessment;
+import entity.ExportedEventState;
 import entity.ScheduleEvent;
 import entity.SourceKind;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import use_case.dto.CalendarExportRequest;
 import use_case.dto.CalendarExportResponse;
 import use_case.dto.CalendarRenderRequest;
 import use_case.dto.CalendarRenderResult;
+import use_case.dto.ScheduleEventSnapshot;
+import use_case.dto.ScheduledTaskSnapshot;
 import use_case.port.incoming.CalendarExportUseCase;
 import use_case.port.outgoing.CalendarRenderPort;
+import use_case.port.outgoing.ScheduleEventQueryPort;
+import use_case.port.outgoing.ScheduledTaskQueryPort;
 import use_case.repository.AssessmentRepository;
+import use_case.repository.CalendarExportStateRepository;
+import use_case.repository.InMemoryCalendarExportStateRepository;
 import use_case.repository.ScheduleEventRepository;
+import use_case.util.TemporalResources;
 
 /**
  * Aggregates assessments and events before exporting them through a calendar renderer.
+ *
+ * <p>Every saved export records a hash of each event's content and its SEQUENCE number, per user
+ * and selection of courses, so that {@link #exportCalendarChanges} can send only the events that
+ * are new or changed since, and cancel the ones that were deleted. An export handed to the output
+ * port is recorded only once the output port confirms that it was saved ({@link #confirmExport}).
+ *
+ * <p>Given the query ports, the events are found by the store itself, which only returns what
+ * falls within the requested window. Otherwise every assessment of the courses and every event of
+ * the user are loaded from the repositories and filtered here.
  */
 public class CalendarExportService implements CalendarExportUseCase {
     private static final String DEFAULT_PRODUCT_ID = "-//MARBLE//Calendar Export//EN";
     private static final Duration DEFAULT_DURATION = Duration.ofHours(1);
+    private static final String PREVIEW_PATTERN = "yyyy-MM-dd HH:mm";
+    /** Enough for the save dialogs one user can have open at once. */
+    static final int MAX_PENDING_EXPORTS = 8;
 
     private final AssessmentRepository assessmentRepository;
     private final ScheduleEventRepository scheduleEventRepository;
     private final CalendarRenderPort calendarRenderPort;
     private final use_case.port.outgoing.CalendarExportOutputPort outputPort;
+    private final CalendarExportStateRepository exportStateRepository;
+    private final ScheduledTaskQueryPort taskQueryPort;
+    private final ScheduleEventQueryPort eventQueryPort;
+    /**
+     * Exports handed to the output port that are not saved yet, by export id, oldest first. An
+     * output port that never confirms or discards its exports only pushes out older ones.
+     */
+    private final Map<String, PendingExport> pendingExports = Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PendingExport> eldest) {
+                    return size() > MAX_PENDING_EXPORTS;
+                }
+            });
 
     public CalendarExportService(AssessmentRepository assessmentRepository,
                                  ScheduleEventRepository scheduleEventRepository,
                                  CalendarRenderPort calendarRenderPort,
                                  use_case.port.outgoing.CalendarExportOutputPort outputPort) {
+        this(assessmentRepository, scheduleEventRepository, calendarRenderPort, outputPort,
+                new InMemoryCalendarExportStateRepository());
+    }
+
+    public CalendarExportService(AssessmentRepository assessmentRepository,
+                                 ScheduleEventRepository scheduleEventRepository,
+                                 CalendarRenderPort calendarRenderPort,
+                                 use_case.port.outgoing.CalendarExportOutputPort outputPort,
+                                 CalendarExportStateRepository exportStateRepository) {
+        this(assessmentRepository, scheduleEventRepository, calendarRenderPort, outputPort,
+                exportStateRepository, null, null);
+    }
+
+    public CalendarExportService(AssessmentRepository assessmentRepository,
+                                 ScheduleEventRepository scheduleEventRepository,
+                                 CalendarRenderPort calendarRenderPort,
+                                 use_case.port.outgoing.CalendarExportOutputPort outputPort,
+                                 CalendarExportStateRepository exportStateRepository,
+                                 ScheduledTaskQueryPort taskQueryPort,
+                                 ScheduleEventQueryPort eventQueryPort) {
+        if ((taskQueryPort == null) != (eventQueryPort == null)) {
+            throw new IllegalArgumentException("taskQueryPort and eventQueryPort go together");
+        }
         this.assessmentRepository = Objects.requireNonNull(assessmentRepository,
                 "assessmentRepository");
         this.scheduleEventRepository = Objects.requireNonNull(scheduleEventRepository,
@@ -47,6 +119,10 @@ public class CalendarExportService implements CalendarExportUseCase {
         this.calendarRenderPort = Objects.requireNonNull(calendarRenderPort,
                 "calendarRenderPort");
         this.outputPort = Objects.requireNonNull(outputPort, "outputPort");
+        this.exportStateRepository = Objects.requireNonNull(exportStateRepository,
+                "exportStateRepository");
+        this.taskQueryPort = taskQueryPort;
+        this.eventQueryPort = eventQueryPort;
     }
 
     @Override
@@ -62,21 +138,17 @@ public class CalendarExportService implements CalendarExportUseCase {
                 return null;
             }
 
-            CalendarRenderRequest renderRequest = new CalendarRenderRequest(
-                    DEFAULT_PRODUCT_ID,
-                    zoneId,
-                    request.getFilenamePrefix(),
-                    events
-            );
-
-            CalendarRenderResult renderResult = calendarRenderPort.render(renderRequest);
+            ExportPlan plan = planExport(request, events);
+            CalendarRenderResult renderResult = calendarRenderPort.render(
+                    toRenderRequest(request, zoneId, events, plan));
 
             CalendarExportResponse response = new CalendarExportResponse(
                     renderResult.getPayload(),
                     renderResult.getFilename(),
                     renderResult.getContentType(),
                     events.size(),
-                    Instant.now()
+                    Instant.now(),
+                    holdExport(request, plan.states, List.of())
             );
             
             outputPort.presentExport(response);
@@ -87,6 +159,143 @@ public class CalendarExportService implements CalendarExportUseCase {
         }
     }
 
+    /**
+     * Streams the export straight into {@code target} instead of building it in memory first,
+     * for exports too large to hold as one byte array. The file is written next to the target and
+     * moved over it once complete, so a failed export leaves an existing file as it was. Failures
+     * go to the output port.
+     * @param request: what to export
+     * @param target: the file to write; it is replaced if it exists
+     * @return the number of events written, or 0 if nothing was exported.
+     */
+    public int exportCalendarToFile(CalendarExportRequest request, Path target) {
+        Objects.requireNonNull(request, "request");
+        Objects.requireNonNull(target, "target");
+
+        try {
+            ZoneId zoneId = parseZone(request.getTimezoneId());
+            List<ScheduleEvent> events = resolveEvents(request);
+
+            if (events.isEmpty()) {
+                outputPort.presentError("No exportable events were found for user " + request.getUserId());
+                return 0;
+            }
+
+            ExportPlan plan = planExport(request, events);
+            Path directory = target.toAbsolutePath().getParent();
+            Path partial = Files.createTempFile(directory, target.getFileName().toString(), ".part");
+            try {
+                try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.WRITE);
+                     OutputStream out = Channels.newOutputStream(channel)) {
+                    calendarRenderPort.renderTo(toRenderRequest(request, zoneId, events, plan), out);
+                }
+                Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(partial);
+            }
+            // Already saved, so there is nothing left to confirm
+            recordExport(request, plan);
+            return events.size();
+        } catch (Exception e) {
+            outputPort.presentError("Failed to export calendar: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Exports only what changed since the user's last export: new and changed events are
+     * published with a higher SEQUENCE, and events that were exported before but are gone now
+     * are cancelled. Importing the result on top of earlier exports brings a calendar up to date
+     * without duplicating anything. If nothing changed, the output port is told so instead.
+     *
+     * <p>The changes and the cancellations are presented as two files, since many calendar
+     * clients import only the first calendar of a file. Each counts towards the user's last
+     * export once it is passed to {@link #confirmExport}.
+     * @param request: what to export; it should cover the same courses as the earlier exports,
+     *               since exported events missing from it are cancelled
+     * @return the changes and then the cancellations, each only if there are any; empty if
+     *         nothing changed or the export failed.
+     */
+    public List<CalendarExportResponse> exportCalendarChanges(CalendarExportRequest request) {
+        Objects.requireNonNull(request, "request");
+
+        try {
+            ZoneId zoneId = parseZone(request.getTimezoneId());
+            List<ScheduleEvent> events = resolveEvents(request);
+            ExportPlan plan = planExport(request, events);
+
+            if (plan.changed.isEmpty() && plan.cancellations.isEmpty()) {
+                outputPort.presentError("The calendar is already up to date for user " + request.getUserId());
+                return List.of();
+            }
+
+            // Both are rendered before either is presented, so a failure presents neither
+            CalendarRenderResult changes = plan.changed.isEmpty() ? null : calendarRenderPort.render(
+                    new CalendarRenderRequest(DEFAULT_PRODUCT_ID, zoneId, request.getFilenamePrefix() + "-changes",
+                            plan.changed, plan.sequences, Map.of(), true));
+            CalendarRenderResult cancellations = plan.cancellations.isEmpty() ? null : calendarRenderPort.render(
+                    new CalendarRenderRequest(DEFAULT_PRODUCT_ID, zoneId,
+                            request.getFilenamePrefix() + "-cancellations", List.of(), Map.of(),
+                            plan.cancellations, true));
+
+            List<CalendarExportResponse> responses = new ArrayList<>();
+            if (changes != null) {
+                responses.add(toResponse(changes, plan.changed.size(),
+                        holdExport(request, plan.states, List.of())));
+            }
+            if (cancellations != null) {
+                responses.add(toResponse(cancellations, plan.cancellations.size(),
+                        holdExport(request, List.of(), plan.cancellations.keySet())));
+            }
+            for (CalendarExportResponse response : responses) {
+                outputPort.presentExport(response);
+            }
+            return responses;
+        } catch (Exception e) {
+            outputPort.presentError("Failed to export calendar changes: " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    private CalendarExportResponse toResponse(CalendarRenderResult renderResult, int eventCount, String exportId) {
+        return new CalendarExportResponse(
+                renderResult.getPayload(),
+                renderResult.getFilename(),
+                renderResult.getContentType(),
+                eventCount,
+                Instant.now(),
+                exportId
+        );
+    }
+
+    /**
+     * Records an export handed to the output port as being in the user's calendar, once its
+     * payload has been saved. Until then the next export still sees the earlier state, so an
+     * export the user never saved is sent again.
+     * @param response: the presented export
+     */
+    public void confirmExport(CalendarExportResponse response) {
+        PendingExport pending = takePending(response);
+        if (pending != null) {
+            exportStateRepository.saveExport(pending.userId, pending.scope, pending.states,
+                    pending.removedEventIds);
+        }
+    }
+
+    /**
+     * Forgets an export handed to the output port that was not saved.
+     * @param response: the presented export
+     */
+    public void discardExport(CalendarExportResponse response) {
+        takePending(response);
+    }
+
+    private PendingExport takePending(CalendarExportResponse response) {
+        Objects.requireNonNull(response, "response");
+        return response.getExportId() == null ? null : pendingExports.remove(response.getExportId());
+    }
+
     /**
      * Builds human-readable preview strings for the events that would be exported.
      * Intended for UI preview panes before generating the ICS file.
@@ -99,15 +308,136 @@ public class CalendarExportService implements CalendarExportUseCase {
         ZoneId zoneId = parseZone(request.getTimezoneId());
         List<ScheduleEvent> events = resolveEvents(request);
         List<ScheduleEvent> filtered = filterByType(events, previewType);
+        DateTimeFormatter formatter = TemporalResources.formatter(PREVIEW_PATTERN, zoneId);
 
         return filtered.stream()
-                .map(event -> formatPreviewLine(event, zoneId))
+                .map(event -> formatPreviewLine(event, formatter))
                 .collect(Collectors.toList());
     }
 
+    private CalendarRenderRequest toRenderRequest(CalendarExportRequest request, ZoneId zoneId,
+                                                  List<ScheduleEvent> events, ExportPlan plan) {
+        return new CalendarRenderRequest(
+                DEFAULT_PRODUCT_ID,
+                zoneId,
+                request.getFilenamePrefix(),
+                events,
+                plan.sequences,
+                Map.of(),
+                false
+        );
+    }
+
+    /** How the events being exported compare with what the user's calendar already has. */
+    private static final class ExportPlan {
+        /** New and changed events, in export order. */
+        final List<ScheduleEvent> changed = new ArrayList<>();
+        /** The SEQUENCE of every event being exported. */
+        final Map<String, Integer> sequences = new HashMap<>();
+        /** The states to store for the new and changed events. */
+        final List<ExportedEventState> states = new ArrayList<>();
+        /** Previously exported events that are gone, with the SEQUENCE to cancel them with. */
+        final Map<String, Integer> cancellations = new TreeMap<>();
+    }
+
+    private ExportPlan planExport(CalendarExportRequest request, List<ScheduleEvent> events) {
+        Map<String, ExportedEventState> exported = new HashMap<>(
+                exportStateRepository.findByUserId(request.getUserId(), exportScope(request)));
+        ExportPlan plan = new ExportPlan();
+        for (ScheduleEvent event : events) {
+            String hash = contentHash(event);
+            ExportedEventState previous = exported.remove(event.getEventId());
+            int sequence;
+            if (previous == null) {
+                sequence = 0;
+            } else if (!previous.getContentHash().equals(hash)) {
+                sequence = previous.getSequence() + 1;
+            } else {
+                plan.sequences.put(event.getEventId(), previous.getSequence());
+                continue;
+            }
+            plan.changed.add(event);
+            plan.sequences.put(event.getEventId(), sequence);
+            plan.states.add(new ExportedEventState(event.getEventId(), hash, sequence));
+        }
+        // Whatever is left was exported before and no longer exists
+        for (ExportedEventState gone : exported.values()) {
+            plan.cancellations.put(gone.getEventId(), gone.getSequence() + 1);
+        }
+        return plan;
+    }
+
+    /** What a presented export will record once it is confirmed. */
+    private static final class PendingExport {
+        final String userId;
+        final String scope;
+        final List<ExportedEventState> states;
+        final List<String> removedEventIds;
+
+        PendingExport(String userId, String scope, List<ExportedEventState> states,
+                      List<String> removedEventIds) {
+            this.userId = userId;
+            this.scope = scope;
+            this.states = states;
+            this.removedEventIds = removedEventIds;
+        }
+    }
+
+    /**
+     * A full export leaves the state of deleted events in place, since it does not cancel them;
+     * the next delta export does.
+     */
+    private void recordExport(CalendarExportRequest request, ExportPlan plan) {
+        exportStateRepository.saveExport(request.getUserId(), exportScope(request), plan.states, List.of());
+    }
+
+    /** Keeps what an export will record until it is confirmed. */
+    private String holdExport(CalendarExportRequest request, Collection<ExportedEventState> states,
+                              Collection<String> removedEventIds) {
+        String exportId = UUID.randomUUID().toString();
+        pendingExports.put(exportId, new PendingExport(request.getUserId(), exportScope(request),
+                List.copyOf(states), List.copyOf(removedEventIds)));
+        return exportId;
+    }
+
+    /**
+     * Exports of different courses or time windows are tracked separately; otherwise the events
+     * of one selection would be cancelled by a delta export of another.
+     */
+    private String exportScope(CalendarExportRequest request) {
+        List<String> courseIds = new ArrayList<>(request.getCourseIds());
+        courseIds.sort(null);
+        return String.join(",", courseIds)
+                + '|' + request.getWindowStart().map(Instant::toString).orElse("")
+                + '|' + request.getWindowEnd().map(Instant::toString).orElse("");
+    }
+
+    /** SHA-256 over every field that is written to the calendar. */
+    static String contentHash(ScheduleEvent event) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String field : new String[] {event.getTitle(), event.getStartsAt(), event.getEndsAt(),
+                    event.getLocation(), event.getNotes(), event.getSource().name()}) {
+                if (field != null) {
+                    digest.update(field.getBytes(StandardCharsets.UTF_8));
+                }
+                // Separates the fields, so that moving text from one field to the next changes the hash
+                digest.update((byte) 0);
+            }
+            byte[] hash = digest.digest();
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
     private ZoneId parseZone(String timezoneId) {
         try {
-            return ZoneId.of(timezoneId);
+            return TemporalResources.zone(timezoneId);
         } catch (DateTimeException ex) {
             throw new IllegalArgumentException("Unsupported timezone: " + timezoneId, ex);
         }
@@ -116,7 +446,15 @@ public class CalendarExportService implements CalendarExportUseCase {
     private List<ScheduleEvent> resolveEvents(CalendarExportRequest request) {
         List<ScheduleEvent> events = composeEvents(request.getEvents());
 
-        if (events.isEmpty()) {
+        if (events.isEmpty() && taskQueryPort != null) {
+            events = composeEvents(
+                    tasksToEvents(taskQueryPort.findTasksForExport(request.getUserId(), request.getCourseIds(),
+                            request.getWindowStart(), request.getWindowEnd())),
+                    // Schedule events belong to the user rather than to a course, so all of them are exported
+                    snapshotsToEvents(eventQueryPort.findScheduleEvents(request.getUserId(), List.of(),
+                            request.getWindowStart(), request.getWindowEnd()))
+            );
+        } else if (events.isEmpty()) {
             events = composeEvents(
                     assessmentsToEvents(loadAssessments(request), request.getUserId(),
                             request.getWindowStart(), request.getWindowEnd()),
@@ -146,8 +484,8 @@ public class CalendarExportService implements CalendarExportUseCase {
         List<ScheduleEvent> events = new ArrayList<>();
         for (Assessment assessment : assessments) {
             // For assessments, use endsAt (due date) as the primary timestamp if startsAt is null
-            Optional<Instant> startsAt = parseInstant(assessment.getStartsAt());
-            Optional<Instant> endsAt = parseInstant(assessment.getEndsAt());
+            Optional<Instant> startsAt = Optional.ofNullable(assessment.getStartsAtInstant());
+            Optional<Instant> endsAt = Optional.ofNullable(assessment.getEndsAtInstant());
             
             // Skip if neither startsAt nor endsAt (due date) is available
             if (startsAt.isEmpty() && endsAt.isEmpty()) {
@@ -192,14 +530,45 @@ public class CalendarExportService implements CalendarExportUseCase {
         return events;
     }
 
-    private String resolveEnd(Assessment assessment, Instant startsAt) {
-        if (assessment.getEndsAt() != null && !assessment.getEndsAt().isBlank()) {
-            return assessment.getEndsAt();
+    /** The tasks are already within the window; each ends when it is due. */
+    private List<ScheduleEvent> tasksToEvents(List<ScheduledTaskSnapshot> tasks) {
+        List<ScheduleEvent> events = new ArrayList<>();
+        for (ScheduledTaskSnapshot task : tasks) {
+            if (task.getDueAt() == null) {
+                continue;
+            }
+            long effortMinutes = task.getEstimatedEffortMins() != null ? task.getEstimatedEffortMins() : 30;
+            events.add(new ScheduleEvent(
+                    "assessment-" + task.getTaskId(),
+                    task.getUserId(),
+                    task.getTitle(),
+                    formatInstant(task.getDueAt().minus(Duration.ofMinutes(effortMinutes))),
+                    formatInstant(task.getDueAt()),
+                    task.getLocation(),
+                    enrichNotesWithWeight(task.getNotes(), task.getWeightPercent()),
+                    SourceKind.ASSESSMENT,
+                    task.getTaskId()
+            ));
         }
-        if (assessment.getDurationMinutes() != null) {
-            return formatInstant(startsAt.plus(Duration.ofMinutes(assessment.getDurationMinutes())));
+        return events;
+    }
+
+    private List<ScheduleEvent> snapshotsToEvents(List<ScheduleEventSnapshot> snapshots) {
+        List<ScheduleEvent> events = new ArrayList<>();
+        for (ScheduleEventSnapshot snapshot : snapshots) {
+            events.add(new ScheduleEvent(
+                    snapshot.getEventId(),
+                    snapshot.getUserId(),
+                    snapshot.getTitle(),
+                    formatInstant(snapshot.getStartsAt()),
+                    formatInstant(snapshot.getEndsAt()),
+                    snapshot.getLocation(),
+                    snapshot.getNotes(),
+                    snapshot.getSource(),
+                    snapshot.getSourceId()
+            ));
         }
-        return formatInstant(startsAt.plus(DEFAULT_DURATION));
+        return events;
     }
 
     private String enrichNotesWithWeight(String notes, Double weightPercent) {
@@ -218,11 +587,11 @@ public class CalendarExportService implements CalendarExportUseCase {
                                                      Optional<Instant> windowEnd) {
         List<ScheduleEvent> filtered = new ArrayList<>();
         for (ScheduleEvent event : events) {
-            Optional<Instant> startsAt = parseInstant(event.getStartsAt());
-            if (startsAt.isEmpty()) {
+            Instant startsAt = event.getStartsAtInstant();
+            if (startsAt == null) {
                 continue;
             }
-            if (withinWindow(startsAt.get(), windowStart, windowEnd)) {
+            if (withinWindow(startsAt, windowStart, windowEnd)) {
                 filtered.add(event);
             }
         }
@@ -246,15 +615,13 @@ public class CalendarExportService implements CalendarExportUseCase {
         return filtered;
     }
 
-    private String formatPreviewLine(ScheduleEvent event, ZoneId zoneId) {
-        java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern(
-                "yyyy-MM-dd HH:mm").withZone(zoneId);
-        String startText = parseInstant(event.getStartsAt())
-                .map(formatter::format)
-                .orElse(event.getStartsAt());
-        String endText = parseInstant(event.getEndsAt())
-                .map(formatter::format)
-                .orElse(event.getEndsAt());
+    private String formatPreviewLine(ScheduleEvent event, DateTimeFormatter formatter) {
+        String startText = event.getStartsAtInstant() == null
+                ? event.getStartsAt()
+                : formatter.format(event.getStartsAtInstant());
+        String endText = event.getEndsAtInstant() == null
+                ? event.getEndsAt()
+                : formatter.format(event.getEndsAtInstant());
 
         StringBuilder builder = new StringBuilder();
         builder.append(startText)
@@ -280,25 +647,6 @@ public class CalendarExportService implements CalendarExportUseCase {
         return windowEnd.isEmpty() || !instant.isAfter(windowEnd.get());
     }
 
-    private Optional<Instant> parseInstant(String isoString) {
-        if (isoString == null || isoString.isBlank()) {
-            return Optional.empty();
-        }
-        try {
-            // Parse the ISO string and interpret it as local time, not UTC
-            // This handles dates like "2025-10-15T23:59:00Z" by treating them as local time
-            if (isoString.endsWith("Z")) {
-                // Remove the Z and parse as LocalDateTime, then convert to Instant in system timezone
-                String withoutZ = isoString.substring(0, isoString.length() - 1);
-                java.time.LocalDateTime localDateTime = java.time.LocalDateTime.parse(withoutZ);
-                return Optional.of(localDateTime.atZone(ZoneId.systemDefault()).toInstant());
-            }
-            return Optional.of(Instant.parse(isoString));
-        } catch (DateTimeParseException ex) {
-            return Optional.empty();
-        }
-    }
-
     private String formatInstant(Instant instant) {
         return DateTimeFormatter.ISO_INSTANT.format(instant);
     }
@@ -2,22 +2,43 @@ package use_case.service;
 
 import entity.Assessment;
 import entity.AssessmentType;
+import entity.GradeAggregate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 import use_case.dto.GradeCalculationInputData;
 import use_case.dto.GradeCalculationOutputData;
 import use_case.port.incoming.GradeCalculationUseCase;
+import use_case.repository.AssessmentRepository;
 
 
 /**
  * Provides weighted grade projections for a course.
+ *
+ * <p>The projections only need the course's grade totals ({@link GradeAggregate}); the
+ * assessments themselves are gone through only to list a required score for each ungraded one.
  */
 public class GradeCalculationInteractor implements GradeCalculationUseCase {
+    /** Weight sums below this are rounding left over from adding and taking out weights. */
+    private static final double WEIGHT_EPSILON = 1e-9;
+
     private final List<Assessment> allAssessments;
+    private final AssessmentRepository assessmentRepository;
 
     public GradeCalculationInteractor(List<Assessment> allAssessments) {
         this.allAssessments = allAssessments;
+        this.assessmentRepository = null;
+    }
+
+    /**
+     * Reads the grade totals of the course from {@code assessmentRepository} when a request
+     * carries no assessments, and loads the assessments themselves only when a target needs a
+     * required score for each ungraded one.
+     */
+    public GradeCalculationInteractor(AssessmentRepository assessmentRepository) {
+        this.allAssessments = null;
+        this.assessmentRepository = Objects.requireNonNull(assessmentRepository, "assessmentRepository");
     }
 
     @Override
@@ -26,35 +47,30 @@ public class GradeCalculationInteractor implements GradeCalculationUseCase {
         String courseID = request.getCourseId();
         double targetPercent = request.getTargetPercent();
 
+        if (request.getAllAssessments() == null && assessmentRepository != null) {
+            return calculateTargets(courseID, targetPercent, assessmentRepository.findGradeAggregate(courseID),
+                    () -> assessmentRepository.findByCourseId(courseID));
+        }
+
         List<Assessment> assessments = request.getAllAssessments() != null
                 ? request.getAllAssessments()
                 : (allAssessments != null ? allAssessments : List.of());
-        List<Assessment> courseAssessments = new ArrayList<>();
-        for (Assessment assessment : assessments) {
-            if (courseID.equals(assessment.getCourseId())) {
-                courseAssessments.add(assessment);
-            }
-        }
-
-        double totalWeight = 0.0;
-        double completedWeight = 0.0;
-        double completedWeightedScore = 0.0;
-        List<Assessment> remainingAssessments = new ArrayList<>();
-
-        for (Assessment assessment : courseAssessments) {
-            double weight = assessment.getWeight() != null ? assessment.getWeight() : 0.0;
-            totalWeight += weight;
-
-            double grade = assessment.getGrade();
-            if (grade >= 0) {
-                completedWeight += weight;
-                completedWeightedScore += weight * grade;
-            } else {
-                remainingAssessments.add(assessment);
-            }
-        }
+        return calculateTargets(courseID, targetPercent, GradeAggregate.of(courseID, assessments),
+                () -> assessments);
+    }
 
-        double remainingWeight = totalWeight - completedWeight;
+    private GradeCalculationOutputData calculateTargets(String courseID, double targetPercent,
+                                                        GradeAggregate aggregate,
+                                                        Supplier<List<Assessment>> assessments) {
+        double totalWeight = aggregate.getTotalWeight();
+        double completedWeight = aggregate.getGradedWeight();
+        double completedWeightedScore = aggregate.getWeightedScore();
+
+        // Running totals drift by rounding as grades are entered, so with nothing left to grade the
+        // difference is taken as 0 rather than as a tiny weight to divide by
+        double remainingWeight = aggregate.getRemainingCount() > 0 && totalWeight - completedWeight > WEIGHT_EPSILON
+                ? totalWeight - completedWeight
+                : 0.0;
         double currentPercent = completedWeight > 0 ? completedWeightedScore / completedWeight : 0.0;
         double worstCasePercent = totalWeight > 0 ? completedWeightedScore / totalWeight : 0.0;
         double bestCasePercent = totalWeight > 0
@@ -77,8 +93,10 @@ public class GradeCalculationInteractor implements GradeCalculationUseCase {
         if (requiredAverageOnRemaining != null) {
             requiredScores.add(buildSummaryAssessment("required-average-" + courseID, courseID,
                     "REQUIRED_AVERAGE_REMAINING", requiredAverageOnRemaining, remainingWeight));
-            for (Assessment remaining : remainingAssessments) {
-                requiredScores.add(cloneWithGrade(remaining, requiredAverageOnRemaining));
+            for (Assessment assessment : assessments.get()) {
+                if (courseID.equals(assessment.getCourseId()) && !GradeAggregate.isGraded(assessment)) {
+                    requiredScores.add(cloneWithGrade(assessment, requiredAverageOnRemaining));
+                }
             }
         }
 
@@ -111,6 +129,8 @@ public class GradeCalculationInteractor implements GradeCalculationUseCase {
                 grade,
                 assessment.getStartsAt(),
                 assessment.getEndsAt(),
+                assessment.getStartsAtInstant(),
+                assessment.getEndsAtInstant(),
                 assessment.getDurationMinutes(),
                 assessment.getWeight(),
                 assessment.getLocation(),
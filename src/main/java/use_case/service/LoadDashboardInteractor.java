@@ -9,12 +9,17 @@ import use_case.repository.AssessmentRepository;
 import use_case.repository.CourseRepository;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 public class LoadDashboardInteractor implements LoadDashboardInputBoundary {
+    private static final DateTimeFormatter DUE_DATE = DateTimeFormatter.ofPattern("MMM d, yy");
+
     private final CourseRepository courseRepository;
     private final AssessmentRepository assessmentRepository;
     private final LoadDashboardOutputBoundary outputBoundary;
@@ -33,17 +38,25 @@ public class LoadDashboardInteractor implements LoadDashboardInputBoundary {
             // Fetch all courses for the user
             List<Course> courses = courseRepository.findByUserId(userId);
             
-            // For each course, get upcoming assessments
+            // Fetch the assessments of all those courses at once and group them by course
+            List<String> courseIds = courses.stream()
+                .map(Course::getCourseId)
+                .collect(Collectors.toList());
+            Map<String, List<Assessment>> assessmentsByCourse = assessmentRepository.findByCourseIds(courseIds)
+                .stream()
+                .collect(Collectors.groupingBy(Assessment::getCourseId));
+
             List<DashboardOutputData.CourseData> courseDataList = courses.stream()
                 .map(course -> {
-                    List<Assessment> assessments = assessmentRepository.findByCourseId(course.getCourseId());
+                    List<Assessment> assessments = assessmentsByCourse.getOrDefault(
+                        course.getCourseId(), Collections.emptyList());
                     
                     // Filter and format upcoming assessments
                     List<DashboardOutputData.AssessmentData> upcomingAssessments = assessments.stream()
                         .filter(this::isUpcoming)
                         .map(assessment -> new DashboardOutputData.AssessmentData(
                             assessment.getTitle(),
-                            formatDate(assessment.getEndsAt()),
+                            formatDate(assessment),
                             assessment.getType().toString(),
                             formatWeight(assessment.getWeight())
                         ))
@@ -71,14 +84,18 @@ public class LoadDashboardInteractor implements LoadDashboardInputBoundary {
         return true;
     }
 
-    private String formatDate(String isoDate) {
+    private String formatDate(Assessment assessment) {
+        String isoDate = assessment.getEndsAt();
         if (isoDate == null || isoDate.isEmpty()) {
             return "TBD";
         }
+        if (assessment.getEndsAtInstant() != null) {
+            return LocalDate.ofInstant(assessment.getEndsAtInstant(), ZoneId.systemDefault()).format(DUE_DATE);
+        }
         try {
-            // Parse ISO date and format for display
+            // Not a full timestamp; it may still start with a date
             LocalDate date = LocalDate.parse(isoDate.substring(0, 10));
-            return date.format(DateTimeFormatter.ofPattern("MMM d, yy"));
+            return date.format(DUE_DATE);
         } catch (Exception e) {
             return isoDate; // Return as-is if parsing fails
         }
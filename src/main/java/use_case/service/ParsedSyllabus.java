@@ -0,0 +1,82 @@
+package use_case.service;
+
+import entity.Assessment;
+import entity.Course;
+import entity.Syllabus;
+import use_case.dto.AssessmentDraftData;
+import use_case.dto.SyllabusParseResultData;
+import use_case.dto.SyllabusUploadInputData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The domain entities built from one parsed syllabus, ready to be persisted together.
+ * Shared by the single-file and batch upload interactors.
+ */
+final class ParsedSyllabus {
+    private final Course course;
+    private final Syllabus syllabus;
+    private final List<Assessment> assessments;
+
+    private ParsedSyllabus(Course course, Syllabus syllabus, List<Assessment> assessments) {
+        this.course = course;
+        this.syllabus = syllabus;
+        this.assessments = assessments;
+    }
+
+    static ParsedSyllabus of(SyllabusUploadInputData data, SyllabusParseResultData parsedResult) {
+        String courseId = UUID.randomUUID().toString();
+        Course course = new Course(
+            courseId,
+            data.getUserId(),
+            parsedResult.getCourseCode(),
+            parsedResult.getCourseName(),
+            parsedResult.getTerm(),
+            parsedResult.getInstructor()
+        );
+
+        String syllabusId = UUID.randomUUID().toString();
+        Syllabus syllabus = new Syllabus(
+                    syllabusId,
+                    courseId,
+                    data.getSourceFilePath()
+        );
+        return new ParsedSyllabus(course, syllabus,
+                draftAssessmentsToAssessments(parsedResult.getAssessments(), courseId));
+    }
+
+    Course getCourse() {
+        return course;
+    }
+
+    Syllabus getSyllabus() {
+        return syllabus;
+    }
+
+    List<Assessment> getAssessments() {
+        return assessments;
+    }
+
+    private static List<Assessment> draftAssessmentsToAssessments(List<AssessmentDraftData> drafts, String courseId) {
+        List<Assessment> assessments = new ArrayList<>();
+        for (AssessmentDraftData draft : drafts) {
+            Assessment assessment = new Assessment(
+                    UUID.randomUUID().toString(),
+                    courseId,
+                    draft.getTitle(),
+                    draft.getType(),
+                    -1.0, // grade placeholder
+                    null, // null for placeholder
+                    draft.getDueDateIso(), // endsAt is the due date
+                    0L,
+                    draft.getWeight(),
+                    "", // location placeholder
+                    "" // notes placeholder
+            );
+            assessments.add(assessment);
+        }
+        return assessments;
+    }
+}
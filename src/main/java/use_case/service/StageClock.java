@@ -0,0 +1,47 @@
+package use_case.service;
+
+import use_case.port.outgoing.MetricsRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times the stages of one upload, both for its output data and as {@code upload.<stage>} timers.
+ * Stages may run on different threads but not at the same time.
+ */
+final class StageClock {
+    static final String PDF = "pdf";
+    static final String AI = "ai";
+    static final String PERSISTENCE = "persistence";
+
+    private final MetricsRegistry metrics;
+    private final Map<String, Long> stageMillis = new LinkedHashMap<>();
+
+    StageClock(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    <T> T time(String stage, Supplier<T> work) {
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            finish(stage, start);
+        }
+    }
+
+    /** Records a stage that started at {@code startNanos} (from {@link System#nanoTime()}) and ends now. */
+    void finish(String stage, long startNanos) {
+        long nanos = System.nanoTime() - startNanos;
+        metrics.recordTime("upload." + stage, nanos);
+        synchronized (this) {
+            stageMillis.put(stage, TimeUnit.NANOSECONDS.toMillis(nanos));
+        }
+    }
+
+    synchronized Map<String, Long> getStageMillis() {
+        return new LinkedHashMap<>(stageMillis);
+    }
+}
@@ -7,19 +7,15 @@ import use_case.dto.SyllabusUploadOutputData;
 import use_case.port.incoming.UploadSyllabusInputBoundary;
 import use_case.port.outgoing.SyllabusUploadOutputBoundary;
 import use_case.port.outgoing.AiExtractionDataAccessInterface;
+import use_case.port.outgoing.AiExtractionDataAccessInterface.AssessmentListener;
+import use_case.port.outgoing.MetricsRegistry;
 import use_case.port.outgoing.PdfExtractionDataAccessInterface;
 import use_case.repository.AssessmentRepository;
 import use_case.repository.CourseRepository;
+import use_case.repository.SyllabusImportUnitOfWork;
 import use_case.repository.SyllabusRepository;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
-
-import entity.Assessment;
-import entity.Course;
-import entity.Syllabus;
 
 /**
  * Coordinates the ingestion pipeline from raw syllabus files to domain entities.
@@ -27,10 +23,9 @@ import entity.Syllabus;
 public class SyllabusUploadInteractor implements UploadSyllabusInputBoundary {
     private final PdfExtractionDataAccessInterface pdfExtractionPort;
     private final AiExtractionDataAccessInterface aiExtractionPort;
-    private final CourseRepository courseRepository;
-    private final SyllabusRepository syllabusRepository;
-    private final AssessmentRepository assessmentRepository;
+    private final SyllabusImportUnitOfWork importUnitOfWork;
     private final SyllabusUploadOutputBoundary outputBoundary;
+    private final MetricsRegistry metrics;
 
     public SyllabusUploadInteractor(PdfExtractionDataAccessInterface pdfExtractionPort,
                                  AiExtractionDataAccessInterface aiExtractionPort,
@@ -38,83 +33,73 @@ public class SyllabusUploadInteractor implements UploadSyllabusInputBoundary {
                                  SyllabusRepository syllabusRepository,
                                  AssessmentRepository assessmentRepository,
                                  SyllabusUploadOutputBoundary outputBoundary) {
+        this(pdfExtractionPort, aiExtractionPort,
+                SyllabusImportUnitOfWork.sequential(courseRepository, syllabusRepository, assessmentRepository),
+                outputBoundary);
+    }
+
+    public SyllabusUploadInteractor(PdfExtractionDataAccessInterface pdfExtractionPort,
+                                 AiExtractionDataAccessInterface aiExtractionPort,
+                                 SyllabusImportUnitOfWork importUnitOfWork,
+                                 SyllabusUploadOutputBoundary outputBoundary) {
+        this(pdfExtractionPort, aiExtractionPort, importUnitOfWork, outputBoundary, MetricsRegistry.NOOP);
+    }
+
+    public SyllabusUploadInteractor(PdfExtractionDataAccessInterface pdfExtractionPort,
+                                 AiExtractionDataAccessInterface aiExtractionPort,
+                                 SyllabusImportUnitOfWork importUnitOfWork,
+                                 SyllabusUploadOutputBoundary outputBoundary,
+                                 MetricsRegistry metrics) {
         this.pdfExtractionPort = Objects.requireNonNull(pdfExtractionPort, "pdfExtractionPort");
         this.aiExtractionPort = Objects.requireNonNull(aiExtractionPort, "aiExtractionPort");
-        this.courseRepository = Objects.requireNonNull(courseRepository, "courseRepository");
-        this.syllabusRepository = Objects.requireNonNull(syllabusRepository, "syllabusRepository");
-        this.assessmentRepository = Objects.requireNonNull(assessmentRepository, "assessmentRepository");
+        this.importUnitOfWork = Objects.requireNonNull(importUnitOfWork, "importUnitOfWork");
         this.outputBoundary = Objects.requireNonNull(outputBoundary, "outputBoundary");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
     }
 
     @Override
     public void execute(SyllabusUploadInputData data) {
+        StageClock clock = new StageClock(metrics);
         try {// Extract raw text from the PDF syllabus file
-            String rawText = pdfExtractionPort.extractText(data.getSourceFilePath());
+            String rawText = clock.time(StageClock.PDF, () -> pdfExtractionPort.extractText(data.getSourceFilePath()));
             
-            // Parse structured data using AI
-            SyllabusParseResultData parsedResult = aiExtractionPort.extractStructuredData(rawText);
+            // Parse structured data using AI, previewing assessments as they come in
+            SyllabusParseResultData parsedResult = clock.time(StageClock.AI,
+                    () -> aiExtractionPort.extractStructuredData(rawText, new AssessmentListener() {
+                        @Override
+                        public void onAssessment(AssessmentDraftData assessment) {
+                            outputBoundary.prepareAssessmentPreview(assessment);
+                        }
 
-            // Create entities
-            String courseId = UUID.randomUUID().toString();
-            Course course = new Course(
-                courseId,
-                data.getUserId(),
-                parsedResult.getCourseCode(),
-                parsedResult.getCourseName(),
-                parsedResult.getTerm(),
-                parsedResult.getInstructor()
-            );
+                        @Override
+                        public void onReset() {
+                            outputBoundary.resetAssessmentPreview();
+                        }
+                    }));
 
-            String syllabusId = UUID.randomUUID().toString();
-            Syllabus syllabus = new Syllabus(
-                        syllabusId,
-                        courseId,
-                        data.getSourceFilePath()
-            );
-            List<Assessment> assessments = draftAssessmentsToAssessments(parsedResult.getAssessments(), courseId);
+            // Create entities
+            ParsedSyllabus entities = ParsedSyllabus.of(data, parsedResult);
 
-            // Persist entities using the repositories
-            courseRepository.save(course);
-            syllabusRepository.save(syllabus);
-            for (Assessment a : assessments) {
-                assessmentRepository.save(a);
-            }
+            // Persist the course, syllabus and assessments together
+            long persistStart = System.nanoTime();
+            importUnitOfWork.saveImport(entities.getCourse(), entities.getSyllabus(), entities.getAssessments());
+            clock.finish(StageClock.PERSISTENCE, persistStart);
+            metrics.increment("upload.succeeded");
             
             // Tell the presenter we succeeded
             SyllabusUploadOutputData outputData = new SyllabusUploadOutputData(
                 parsedResult.getCourseName(),
-                assessments.size()
+                entities.getAssessments().size(),
+                clock.getStageMillis()
             );
             outputBoundary.prepareSuccessView(outputData);
 
         } catch (Exception e) {
+            metrics.increment("upload.failed");
             // Tell the presenter we failed
             outputBoundary.prepareFailView("Failed to process syllabus: " + e.getMessage());
         }
         
     }
 
-    private List<Assessment> draftAssessmentsToAssessments(List<AssessmentDraftData> drafts, String courseId) {
-        // Create a map from Component Name to Component ID
-        List<Assessment> assessments = new ArrayList<>();
-        for (AssessmentDraftData draft : drafts) {
-            Assessment assessment = new Assessment(
-                    UUID.randomUUID().toString(),
-                    courseId,
-                    draft.getTitle(),
-                    draft.getType(),
-                    -1.0, // grade placeholder
-                    null, // null for placeholder
-                    draft.getDueDateIso(), // endsAt is the due date
-                    0L,
-                    draft.getWeight(),
-                    "", // location placeholder
-                    "" // notes placeholder
-            );
-            assessments.add(assessment);
-        }
-        return assessments;
-    }
-
 }
-    
\ No newline at end of file
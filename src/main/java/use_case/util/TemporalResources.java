@@ -0,0 +1,68 @@
+package use_case.util;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of the immutable java.time objects that hot loops would otherwise rebuild for
+ * every item: {@link ZoneId}s by id and {@link DateTimeFormatter}s by pattern and zone. Both are
+ * thread-safe, so one instance of each is shared by the whole application.
+ *
+ * <p>Lookups of cached entries do not allocate. Each cache holds at most {@link #MAX_ENTRIES}
+ * entries; past that, lookups still work but their results are no longer cached.
+ */
+public final class TemporalResources {
+    static final int MAX_ENTRIES = 256;
+
+    private static final ConcurrentHashMap<String, ZoneId> ZONES = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, ConcurrentHashMap<ZoneId, DateTimeFormatter>> FORMATTERS =
+            new ConcurrentHashMap<>();
+
+    private TemporalResources() {
+    }
+
+    /**
+     * Same as {@link ZoneId#of(String)}, but returns the same instance for the same id.
+     * @param zoneId: a zone id such as "America/Toronto" or "UTC"
+     * @throws java.time.DateTimeException if the id is invalid or unknown
+     */
+    public static ZoneId zone(String zoneId) {
+        ZoneId zone = ZONES.get(zoneId);
+        if (zone != null) {
+            return zone;
+        }
+        zone = ZoneId.of(zoneId);
+        if (ZONES.size() < MAX_ENTRIES) {
+            ZoneId previous = ZONES.putIfAbsent(zoneId, zone);
+            return previous == null ? zone : previous;
+        }
+        return zone;
+    }
+
+    /**
+     * Same as {@code DateTimeFormatter.ofPattern(pattern).withZone(zone)}, built once per pattern
+     * and zone.
+     * @param pattern: a {@link DateTimeFormatter} pattern
+     * @param zone: the zone that formatted instants are shown in
+     */
+    public static DateTimeFormatter formatter(String pattern, ZoneId zone) {
+        ConcurrentHashMap<ZoneId, DateTimeFormatter> byZone = FORMATTERS.get(pattern);
+        if (byZone == null) {
+            if (FORMATTERS.size() >= MAX_ENTRIES) {
+                return DateTimeFormatter.ofPattern(pattern).withZone(zone);
+            }
+            byZone = FORMATTERS.computeIfAbsent(pattern, p -> new ConcurrentHashMap<>());
+        }
+        DateTimeFormatter formatter = byZone.get(zone);
+        if (formatter != null) {
+            return formatter;
+        }
+        formatter = DateTimeFormatter.ofPattern(pattern).withZone(zone);
+        if (byZone.size() < MAX_ENTRIES) {
+            DateTimeFormatter previous = byZone.putIfAbsent(zone, formatter);
+            return previous == null ? formatter : previous;
+        }
+        return formatter;
+    }
+}
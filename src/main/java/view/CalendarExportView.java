@@ -6,6 +6,8 @@ import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.io.File;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import javax.swing.BorderFactory;
@@ -13,6 +15,7 @@ import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.JButton;
 import javax.swing.JComboBox;
+import javax.swing.JFileChooser;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
@@ -29,6 +32,22 @@ public class CalendarExportView extends JPanel implements ActionListener {
         void onPreviewRequested(String courseId, PreviewType previewType);
 
         void onExportRequested(String courseId, PreviewType previewType);
+
+        /**
+         * Exports into a file the user has already chosen. Listeners that cannot write files
+         * fall back to an export that asks where to save it.
+         */
+        default void onExportToFileRequested(String courseId, PreviewType previewType, Path target) {
+            onExportRequested(courseId, previewType);
+        }
+
+        /**
+         * Exports only what changed since the last export. Listeners that do not track exports
+         * fall back to a full export.
+         */
+        default void onExportChangesRequested(String courseId, PreviewType previewType) {
+            onExportRequested(courseId, previewType);
+        }
     }
 
     private final String viewName = "calendar_export";
@@ -37,6 +56,7 @@ public class CalendarExportView extends JPanel implements ActionListener {
     private final JComboBox<String> typeSelector;
     private final JTextArea previewArea;
     private final JButton exportButton;
+    private final JButton exportChangesButton;
     private final JButton backButton;
     private final ViewManagerModel viewManagerModel;
     private Listener listener;
@@ -101,6 +121,17 @@ public class CalendarExportView extends JPanel implements ActionListener {
 
         add(Box.createRigidArea(new Dimension(0, 10)));
 
+        // Export only what changed since the last export
+        exportChangesButton = new JButton("Export Changes");
+        exportChangesButton.setPreferredSize(new Dimension(160, 40));
+        exportChangesButton.setMaximumSize(new Dimension(160, 40));
+        exportChangesButton.setAlignmentX(Component.CENTER_ALIGNMENT);
+        exportChangesButton.setToolTipText("Saves changed events, and deleted events as a second file; import both");
+        exportChangesButton.addActionListener(this);
+        add(exportChangesButton);
+
+        add(Box.createRigidArea(new Dimension(0, 10)));
+
         // Back to Dashboard button
         backButton = new JButton("Back to Dashboard");
         backButton.setPreferredSize(new Dimension(160, 40));
@@ -138,7 +169,15 @@ public class CalendarExportView extends JPanel implements ActionListener {
         Object selectedType = typeSelector.getSelectedItem();
         PreviewType previewType = mapPreviewType(selectedType == null ? null : (String) selectedType);
         if (source == exportButton) {
-            listener.onExportRequested(selectedCourse, previewType);
+            // Chosen before exporting, so the calendar can be written straight into the file
+            JFileChooser fileChooser = new JFileChooser();
+            fileChooser.setSelectedFile(new File("schedule.ics"));
+            if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
+                listener.onExportToFileRequested(selectedCourse, previewType,
+                        fileChooser.getSelectedFile().toPath());
+            }
+        } else if (source == exportChangesButton) {
+            listener.onExportChangesRequested(selectedCourse, previewType);
         } else {
             listener.onPreviewRequested(selectedCourse, previewType);
         }
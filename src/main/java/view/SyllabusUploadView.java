@@ -3,6 +3,7 @@ package view;
 import entity.Session;
 import interface_adapter.ViewManagerModel;
 import interface_adapter.syllabus_upload.SyllabusUploadController;
+import interface_adapter.syllabus_upload.SyllabusUploadPresenter;
 import interface_adapter.syllabus_upload.SyllabusUploadState;
 import interface_adapter.syllabus_upload.SyllabusUploadViewModel;
 import use_case.repository.SessionRepository;
@@ -13,6 +14,9 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * The View for the Syllabus Upload Use Case.
@@ -30,6 +34,7 @@ public class SyllabusUploadView extends JPanel implements ActionListener, Proper
     private final JButton extractButton;
     private final JButton backButton;
     private final JLabel errorLabel;
+    private final JTextArea previewArea = new JTextArea(6, 30);
 
     public SyllabusUploadView(SyllabusUploadViewModel syllabusUploadViewModel,
                              ViewManagerModel viewManagerModel,
@@ -58,14 +63,24 @@ public class SyllabusUploadView extends JPanel implements ActionListener, Proper
                 JFileChooser fileChooser = new JFileChooser();
                 fileChooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter(
                         "PDF files", "pdf"));
+                fileChooser.setMultiSelectionEnabled(true);
                 int returnValue = fileChooser.showOpenDialog(SyllabusUploadView.this);
                 if (returnValue == JFileChooser.APPROVE_OPTION) {
-                    String filePath = fileChooser.getSelectedFile().getAbsolutePath();
-                    filePathField.setText(filePath);
+                    List<String> filePaths = new ArrayList<>();
+                    for (File file : fileChooser.getSelectedFiles()) {
+                        filePaths.add(file.getAbsolutePath());
+                    }
+                    if (filePaths.isEmpty()) {
+                        filePaths.add(fileChooser.getSelectedFile().getAbsolutePath());
+                    }
+                    filePathField.setText(filePaths.size() == 1
+                            ? filePaths.get(0)
+                            : filePaths.size() + " files selected");
                     
                     // Update state
                     final SyllabusUploadState currentState = syllabusUploadViewModel.getState();
-                    currentState.setFilePath(filePath);
+                    currentState.setFilePath(filePaths.get(0));
+                    currentState.setFilePaths(filePaths);
                     syllabusUploadViewModel.setState(currentState);
                 }
             }
@@ -88,10 +103,6 @@ public class SyllabusUploadView extends JPanel implements ActionListener, Proper
                     return;
                 }
                 
-                // Set processing state
-                currentState.setProcessing(true);
-                syllabusUploadViewModel.setState(currentState);
-                
                 // Get userId from session
                 String userId = getUserIdFromSession();
                 if (userId == null) {
@@ -102,8 +113,21 @@ public class SyllabusUploadView extends JPanel implements ActionListener, Proper
                     return;
                 }
 
-                // Execute the use case
-                syllabusUploadController.extractAssessments(userId, filePath);
+                // Set processing state so the buttons are disabled while the upload runs
+                currentState.setProcessing(true);
+                currentState.setError(null);
+                currentState.clearPreviewAssessments();
+                previewArea.setText("");
+                syllabusUploadViewModel.setState(currentState);
+                syllabusUploadViewModel.firePropertyChange();
+
+                // Execute the use case in the background
+                List<String> filePaths = currentState.getFilePaths();
+                if (filePaths.size() > 1) {
+                    syllabusUploadController.extractAssessments(userId, filePaths, extractButton::setText);
+                } else {
+                    syllabusUploadController.extractAssessments(userId, filePath, extractButton::setText);
+                }
             }
         });
 
@@ -123,6 +147,12 @@ public class SyllabusUploadView extends JPanel implements ActionListener, Proper
         errorLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         errorLabel.setForeground(Color.RED);
 
+        // Assessments found so far, filled in while the upload is still running
+        previewArea.setEditable(false);
+        final JScrollPane previewScrollPane = new JScrollPane(previewArea);
+        previewScrollPane.setMaximumSize(new Dimension(500, 120));
+        previewScrollPane.setAlignmentX(Component.CENTER_ALIGNMENT);
+
         // Layout
         this.setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
         
@@ -138,6 +168,8 @@ public class SyllabusUploadView extends JPanel implements ActionListener, Proper
         this.add(backButton);
         this.add(Box.createVerticalStrut(10));
         this.add(errorLabel);
+        this.add(Box.createVerticalStrut(10));
+        this.add(previewScrollPane);
         this.add(Box.createVerticalStrut(30));
     }
 
@@ -149,6 +181,10 @@ public class SyllabusUploadView extends JPanel implements ActionListener, Proper
     @Override
     public void propertyChange(PropertyChangeEvent evt) {
         final SyllabusUploadState state = (SyllabusUploadState) evt.getNewValue();
+        if (SyllabusUploadPresenter.PREVIEW_PROPERTY.equals(evt.getPropertyName())) {
+            previewArea.setText(String.join("\n", state.getPreviewAssessments()));
+            return;
+        }
         
         // Handle error display
         if (state.getError() != null) {
@@ -179,8 +215,11 @@ public class SyllabusUploadView extends JPanel implements ActionListener, Proper
                         JOptionPane.INFORMATION_MESSAGE);
                 // Clear the file path for next upload
                 filePathField.setText("");
+                previewArea.setText("");
                 final SyllabusUploadState currentState = syllabusUploadViewModel.getState();
                 currentState.setFilePath("");
+                currentState.setFilePaths(List.of());
+                currentState.clearPreviewAssessments();
                 syllabusUploadViewModel.setState(currentState);
                 
                 // Navigate back to dashboard
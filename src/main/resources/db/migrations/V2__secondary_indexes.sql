@@ -0,0 +1,14 @@
+-- One index per WHERE clause issued by data_access.persistence.sqlite.
+-- users.email and every primary key are already covered by SQLite's automatic indexes.
+
+-- Course.findByUserId
+CREATE INDEX IF NOT EXISTS idx_courses_user_id ON courses(user_id);
+
+-- Syllabus.findSyllabusByCourseID
+CREATE INDEX IF NOT EXISTS idx_syllabi_course_id ON syllabi(course_id);
+
+-- Assessment.findByCourseId / findByCourseIds
+CREATE INDEX IF NOT EXISTS idx_assessments_course_id ON assessments(course_id);
+
+-- ScheduleEvent.findByUserId; starts_at keeps the rows in calendar order for export
+CREATE INDEX IF NOT EXISTS idx_schedule_events_user_starts ON schedule_events(user_id, starts_at);
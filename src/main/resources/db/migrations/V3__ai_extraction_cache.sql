@@ -0,0 +1,13 @@
+-- Gemini extraction results keyed by a hash of the normalized syllabus text and the prompt version.
+-- Read and written by data_access.persistence.sqlite.ExtractionCache.
+CREATE TABLE IF NOT EXISTS ai_extraction_cache (
+    cache_key TEXT PRIMARY KEY,
+    prompt_version TEXT NOT NULL,
+    result_json TEXT NOT NULL,
+    size_bytes INTEGER NOT NULL,
+    created_at TEXT NOT NULL,
+    last_used_at INTEGER NOT NULL
+);
+
+-- Eviction drops the least recently used entries first
+CREATE INDEX IF NOT EXISTS idx_ai_extraction_cache_last_used ON ai_extraction_cache(last_used_at);
@@ -0,0 +1,12 @@
+-- What was last exported to each user's calendar, per export scope (the selected courses and time window),
+-- used to export only new, changed and deleted events.
+-- Read and written by data_access.persistence.sqlite.CalendarExportState.
+CREATE TABLE IF NOT EXISTS calendar_export_state (
+    user_id TEXT NOT NULL,
+    scope TEXT NOT NULL,
+    event_id TEXT NOT NULL,
+    content_hash TEXT NOT NULL,
+    sequence INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, scope, event_id),
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
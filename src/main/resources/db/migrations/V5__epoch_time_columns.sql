@@ -0,0 +1,26 @@
+-- Epoch-millisecond copies of the ISO-8601 start and end columns, so that time-window queries compare
+-- integers and can use an index. The TEXT columns are kept as written; the repositories fill in both.
+ALTER TABLE assessments ADD COLUMN starts_at_epoch INTEGER;
+ALTER TABLE assessments ADD COLUMN ends_at_epoch INTEGER;
+ALTER TABLE schedule_events ADD COLUMN starts_at_epoch INTEGER;
+ALTER TABLE schedule_events ADD COLUMN ends_at_epoch INTEGER;
+
+-- Assessment times are wall-clock times from the syllabus: a trailing Z means local time (see entity.Assessment)
+UPDATE assessments SET
+    starts_at_epoch = CASE
+        WHEN starts_at GLOB '????-??-??T??:??:??*Z' THEN strftime('%s', substr(starts_at, 1, 19), 'utc') * 1000
+        WHEN starts_at GLOB '????-??-??T??:??:??*' THEN strftime('%s', starts_at) * 1000
+    END,
+    ends_at_epoch = CASE
+        WHEN ends_at GLOB '????-??-??T??:??:??*Z' THEN strftime('%s', substr(ends_at, 1, 19), 'utc') * 1000
+        WHEN ends_at GLOB '????-??-??T??:??:??*' THEN strftime('%s', ends_at) * 1000
+    END;
+
+-- Schedule event times are instants
+UPDATE schedule_events SET
+    starts_at_epoch = CASE WHEN starts_at GLOB '????-??-??T??:??:??*' THEN strftime('%s', starts_at) * 1000 END,
+    ends_at_epoch = CASE WHEN ends_at GLOB '????-??-??T??:??:??*' THEN strftime('%s', ends_at) * 1000 END;
+
+-- Time-window queries by user. Assessments need no new index: idx_assessments_course_id already narrows
+-- them to one course, which has few enough rows to filter by time directly.
+CREATE INDEX IF NOT EXISTS idx_schedule_events_user_starts_epoch ON schedule_events(user_id, starts_at_epoch);
@@ -0,0 +1,20 @@
+-- Running grade totals per course, so grade projections do not add up every assessment each time.
+-- Kept up to date by every write of data_access.persistence.sqlite.Assessment.
+CREATE TABLE IF NOT EXISTS grade_aggregates (
+    course_id TEXT PRIMARY KEY,
+    total_weight REAL NOT NULL DEFAULT 0,
+    graded_weight REAL NOT NULL DEFAULT 0,
+    weighted_score REAL NOT NULL DEFAULT 0,
+    remaining_count INTEGER NOT NULL DEFAULT 0,
+    FOREIGN KEY (course_id) REFERENCES courses(course_id) ON DELETE CASCADE
+);
+
+-- A missing grade or weight reads as 0, as the repository reads it; a grade below 0 means not graded yet
+INSERT OR REPLACE INTO grade_aggregates (course_id, total_weight, graded_weight, weighted_score, remaining_count)
+SELECT course_id,
+       SUM(COALESCE(weight, 0)),
+       SUM(CASE WHEN COALESCE(grade, 0) >= 0 THEN COALESCE(weight, 0) ELSE 0 END),
+       SUM(CASE WHEN COALESCE(grade, 0) >= 0 THEN COALESCE(weight, 0) * COALESCE(grade, 0) ELSE 0 END),
+       SUM(CASE WHEN COALESCE(grade, 0) >= 0 THEN 0 ELSE 1 END)
+FROM assessments
+GROUP BY course_id;
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.Test;
 import data_access.parser.pdf.PdfExtractorDataAccessObject;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,4 +25,23 @@ public class PdfExtractorTest {
         // Print for manual verification
         System.out.println("Extracted: " + result.substring(0, Math.min(10000, result.length())) + "...");
     }
+
+    @Test
+    void streamText_pageChunks_matchWholeDocumentInOrder() {
+        String samplePdfPath = "src/test/resources/sample-syllabus-STA237.pdf";
+        String whole = new PdfExtractorDataAccessObject(Integer.MAX_VALUE, 1, 1024 * 1024).extractText(samplePdfPath);
+
+        List<String> chunks = new ArrayList<>();
+        new PdfExtractorDataAccessObject(1, 4, 1024 * 1024).streamText(samplePdfPath, chunks::add);
+
+        assertTrue(chunks.size() > 1);
+        assertEquals(whole, String.join("", chunks));
+    }
+
+    @Test
+    void extractText_missingFile_throws() {
+        PdfExtractorDataAccessObject extractor = new PdfExtractorDataAccessObject();
+
+        assertThrows(RuntimeException.class, () -> extractor.extractText("src/test/resources/missing.pdf"));
+    }
 }
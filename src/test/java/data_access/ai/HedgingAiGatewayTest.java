@@ -0,0 +1,89 @@
+package data_access.ai;
+
+import data_access.metrics.InMemoryMetricsRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HedgingAiGatewayTest {
+
+    /** Answers each call with the next scripted future. */
+    private static class ScriptedGateway implements AiGateway {
+        private final List<Supplier<CompletableFuture<String>>> script = new ArrayList<>();
+        private int calls;
+
+        @Override
+        public synchronized CompletableFuture<String> generate(String prompt) {
+            return script.get(Math.min(calls++, script.size() - 1)).get();
+        }
+
+        @Override
+        public String getModel() {
+            return "scripted";
+        }
+    }
+
+    private static Supplier<CompletableFuture<String>> answerAfter(long millis, String text) {
+        return () -> CompletableFuture.supplyAsync(() -> text,
+                CompletableFuture.delayedExecutor(millis, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void generate_beforeEnoughSamples_doesNotHedge() {
+        ScriptedGateway delegate = new ScriptedGateway();
+        delegate.script.add(answerAfter(1, "only"));
+        HedgingAiGateway gateway = new HedgingAiGateway(delegate, 0.95, 10, 5);
+
+        assertEquals("only", gateway.generate("p").join());
+        assertNull(gateway.getHedgeDeadline());
+        assertEquals(0, gateway.getHedgedCalls());
+        assertEquals(1, delegate.calls);
+    }
+
+    @Test
+    void generate_slowCall_isAnsweredByHedge() {
+        ScriptedGateway delegate = new ScriptedGateway();
+        for (int i = 0; i < 5; i++) {
+            delegate.script.add(answerAfter(5, "fast"));
+        }
+        delegate.script.add(CompletableFuture::new);   // never answers
+        delegate.script.add(answerAfter(5, "hedged"));
+        InMemoryMetricsRegistry metrics = new InMemoryMetricsRegistry();
+        HedgingAiGateway gateway = new HedgingAiGateway(delegate, 0.95, 10, 5, metrics);
+        for (int i = 0; i < 5; i++) {
+            gateway.generate("warm-up").join();
+        }
+        Duration deadline = gateway.getHedgeDeadline();
+        assertNotNull(deadline);
+
+        assertEquals("hedged", gateway.generate("p").orTimeout(5, TimeUnit.SECONDS).join());
+        assertEquals(1, gateway.getHedgedCalls());
+        assertEquals(1L, metrics.snapshot().getCounters().get("ai.hedged"));
+        assertEquals(7, delegate.calls);
+    }
+
+    @Test
+    void generate_failureBeforeDeadline_failsWithoutHedging() {
+        ScriptedGateway delegate = new ScriptedGateway();
+        for (int i = 0; i < 5; i++) {
+            delegate.script.add(answerAfter(50, "slow"));
+        }
+        delegate.script.add(() -> CompletableFuture.failedFuture(new IllegalStateException("400")));
+        HedgingAiGateway gateway = new HedgingAiGateway(delegate, 0.95, 10, 5);
+        for (int i = 0; i < 5; i++) {
+            gateway.generate("warm-up").join();
+        }
+
+        CompletableFuture<String> failed = gateway.generate("p");
+
+        assertThrows(Exception.class, failed::join);
+        assertEquals(0, gateway.getHedgedCalls());
+    }
+}
@@ -0,0 +1,197 @@
+package data_access.ai.gemini;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeminiHttpClientTest {
+    private HttpServer server;
+    private URI uri;
+    private final Deque<Integer> statuses = new ArrayDeque<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile long responseDelayMillis;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/generate", exchange -> {
+            requests.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(responseDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Integer status;
+            synchronized (statuses) {
+                status = statuses.isEmpty() ? 200 : statuses.poll();
+            }
+            byte[] body = ("status " + status).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/generate");
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private GeminiHttpClient client(Duration requestTimeout, CircuitBreaker breaker) {
+        return new GeminiHttpClient(Duration.ofSeconds(2), requestTimeout, 3,
+                Duration.ofMillis(1), Duration.ofMillis(5), breaker);
+    }
+
+    @Test
+    void postJson_retriesTransientStatus() {
+        statuses.add(503);
+        statuses.add(429);
+
+        String body = GeminiHttpClient.await(client(Duration.ofSeconds(2), new CircuitBreaker()).postJson(uri, "{}"));
+
+        assertEquals("status 200", body);
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    void postJson_doesNotRetryClientError() {
+        statuses.add(400);
+
+        GeminiApiException e = assertThrows(GeminiApiException.class,
+                () -> GeminiHttpClient.await(client(Duration.ofSeconds(2), new CircuitBreaker()).postJson(uri, "{}")));
+
+        assertEquals(400, e.getStatusCode());
+        assertFalse(e.isRetryable());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void postJson_hungRequestTimesOut() {
+        responseDelayMillis = 1000;
+
+        GeminiApiException e = assertThrows(GeminiApiException.class,
+                () -> GeminiHttpClient.await(client(Duration.ofMillis(100), new CircuitBreaker()).postJson(uri, "{}")));
+
+        assertEquals(GeminiApiException.NO_RESPONSE, e.getStatusCode());
+    }
+
+    @Test
+    void postJson_openCircuitFailsWithoutCallingServer() {
+        statuses.add(500);
+        statuses.add(500);
+        statuses.add(500);
+        CircuitBreaker breaker = new CircuitBreaker(3, Duration.ofMinutes(1));
+        GeminiHttpClient client = client(Duration.ofSeconds(2), breaker);
+
+        assertThrows(GeminiApiException.class, () -> GeminiHttpClient.await(client.postJson(uri, "{}")));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        assertThrows(GeminiApiException.class, () -> GeminiHttpClient.await(client.postJson(uri, "{}")));
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    void postJsonForLines_stalledBodyFailsAfterTheDeadline() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        server.createContext("/stall", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write("data: first\n".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        URI stall = uri.resolve("/stall");
+        GeminiHttpClient client = client(Duration.ofMillis(300), new CircuitBreaker());
+
+        try (Stream<String> lines = GeminiHttpClient.await(client.postJsonForLines(stall, "{}", Map.of()))) {
+            Iterator<String> iterator = lines.iterator();
+            assertEquals("data: first", iterator.next());
+            long start = System.nanoTime();
+            assertThrows(UncheckedIOException.class, iterator::hasNext);
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(3));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void backoff_staysWithinCap() {
+        GeminiHttpClient client = new GeminiHttpClient(Duration.ofSeconds(1), Duration.ofSeconds(1), 3,
+                Duration.ofMillis(100), Duration.ofMillis(300), new CircuitBreaker());
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(client.backoff(1).toMillis() <= 100);
+            assertTrue(client.backoff(10).toMillis() <= 300);
+        }
+    }
+
+    @Test
+    void circuitBreaker_halfOpensAfterOpenDuration() {
+        MutableClock clock = new MutableClock();
+        CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofSeconds(30), clock);
+
+        breaker.onFailure();
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+        assertFalse(breaker.tryAcquire());
+
+        clock.advance(Duration.ofSeconds(30));
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire(), "only one trial call while half-open");
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-09-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package data_access.ai.gemini;
+
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpServer;
+import entity.AssessmentType;
+import org.junit.jupiter.api.Test;
+import use_case.dto.SyllabusParseResultData;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeminiResponseRepairTest {
+    private static final String ASSIGNMENT = "{\"title\": \"Assignment 1\", \"type\": \"ASSIGNMENT\", \"weight\": 0.2, \"dueDateIso\": null}";
+    private static final String MIDTERM = "{\"title\": \"Midterm\", \"type\": \"TEST\", \"weight\": 0.3, \"dueDateIso\": null}";
+
+    private final Gson gson = new Gson();
+    private final GeminiResponseRepair repair = new GeminiResponseRepair(gson);
+
+    @Test
+    void repair_completeAnswerInCodeFence_isIntact() {
+        GeminiResponseRepair.Repaired repaired = repair.repair("```json\n{\"courseCode\": \"CSC207\", "
+                + "\"courseName\": \"Software Design\", \"assessments\": [" + ASSIGNMENT + "]}\n```");
+
+        assertTrue(repaired.isIntact());
+        assertEquals("CSC207", repaired.getResult().getCourseCode());
+        assertEquals(1, repaired.getResult().getAssessments().size());
+    }
+
+    @Test
+    void repair_truncatedAnswer_keepsCompleteAssessmentsAndDropsBrokenOne() {
+        GeminiResponseRepair.Repaired repaired = repair.repair("{\"courseCode\": \"CSC207\", "
+                + "\"courseName\": \"Software Design\", \"assessments\": [" + ASSIGNMENT + ", " + MIDTERM
+                + ", {\"title\": \"Final Ex");
+
+        assertFalse(repaired.isIntact());
+        SyllabusParseResultData result = repaired.getResult();
+        assertEquals("Software Design", result.getCourseName());
+        assertEquals(2, result.getAssessments().size());
+        assertEquals(AssessmentType.TEST, result.getAssessments().get(1).getType());
+    }
+
+    @Test
+    void repair_unreadableAssessment_isDroppedAndReported() {
+        GeminiResponseRepair.Repaired repaired = repair.repair("{\"courseCode\": \"CSC207\", \"assessments\": ["
+                + ASSIGNMENT + ", {\"title\": \"Quiz\", \"type\": \"QUIZ\", \"weight\": \"5%\"}, " + MIDTERM + ",]}");
+
+        assertFalse(repaired.isIntact());
+        assertEquals(2, repaired.getResult().getAssessments().size());
+        assertNull(repaired.getResult().getCourseName());
+    }
+
+    @Test
+    void truncateToLastCompleteValue_closesOpenBrackets() {
+        assertEquals("{\"a\": \"x\"}", GeminiResponseRepair.truncateToLastCompleteValue("{\"a\": \"x\", \"b\": \"y"));
+        assertEquals("{\"a\": [{\"b\": 1}]}",
+                GeminiResponseRepair.truncateToLastCompleteValue("{\"a\": [{\"b\": 1}, {\"b\": \"}, ]"));
+        assertNull(GeminiResponseRepair.truncateToLastCompleteValue("{\"a\": \"unterminated"));
+        assertNull(repair.repair("Sorry, I cannot help with that."));
+    }
+
+    @Test
+    void extract_truncatedResponse_reRequestsOnlyMissingParts() throws IOException {
+        List<String> prompts = new ArrayList<>();
+        List<String> answers = List.of(
+                "{\"courseCode\": \"CSC207\", \"assessments\": [" + ASSIGNMENT + ", {\"title\": \"Midt",
+                "{\"courseCode\": \"CSC207\", \"courseName\": \"Software Design\", \"assessments\": ["
+                        + ASSIGNMENT + ", " + MIDTERM + "]}");
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/models/test", exchange -> {
+            String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            String answer;
+            synchronized (prompts) {
+                prompts.add(gson.fromJson(request, Map.class).toString());
+                answer = answers.get(Math.min(prompts.size(), answers.size()) - 1);
+            }
+            byte[] body = gson.toJson(Map.of("candidates", List.of(Map.of("content",
+                    Map.of("parts", List.of(Map.of("text", answer))))))).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        try {
+            GeminiHttpClient client = new GeminiHttpClient(Duration.ofSeconds(2), Duration.ofSeconds(5), 1,
+                    Duration.ofMillis(1), Duration.ofMillis(1), new CircuitBreaker());
+            AiExtractorDataAccessObject dao = new AiExtractorDataAccessObject(new GeminiGateway(
+                    "http://127.0.0.1:" + server.getAddress().getPort(), "test", "key", client));
+
+            SyllabusParseResultData result = dao.extractStructuredData("CSC207 Software Design syllabus");
+
+            assertEquals(2, prompts.size());
+            assertTrue(prompts.get(1).contains("with these keys: courseCode, courseName, assessments"));
+            assertTrue(prompts.get(1).contains("leaving out these already extracted items: [\"Assignment 1\"]"));
+            assertEquals("Software Design", result.getCourseName());
+            assertEquals(2, result.getAssessments().size());
+            assertEquals("Midterm", result.getAssessments().get(1).getTitle());
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package data_access.ai.gemini;
+
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpServer;
+import data_access.ai.AiGateway;
+import entity.AssessmentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import use_case.dto.AssessmentDraftData;
+import use_case.dto.SyllabusParseResultData;
+import use_case.port.outgoing.AiExtractionDataAccessInterface;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeminiStreamParserTest {
+    private static final String MODEL_TEXT = "```json\n{\"courseCode\": \"CSC207\", \"courseName\": \"Software Design\","
+            + " \"term\": \"Fall 2025\", \"instructor\": null, \"assessments\": ["
+            + "{\"title\": \"Assignment 1\", \"type\": \"ASSIGNMENT\", \"weight\": 0.1, \"dueDateIso\": \"2025-10-03T23:59:00Z\", \"notes\": \"\"},"
+            + "{\"title\": \"Final Exam\", \"type\": \"EXAM\", \"weight\": 0.4, \"dueDateIso\": null, \"notes\": \"\"}"
+            + "]}\n```";
+
+    private final Gson gson = new Gson();
+    private HttpServer server;
+    private final CountDownLatch firstAssessmentSeen = new CountDownLatch(1);
+    private volatile boolean streamedRestAfterFirstAssessment;
+    private volatile String requestUri;
+    private volatile String apiKeyHeader;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/models/test", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            requestUri = exchange.getRequestURI().toString();
+            apiKeyHeader = exchange.getRequestHeaders().getFirst("x-goog-api-key");
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                int split = MODEL_TEXT.indexOf("{\"title\": \"Final");
+                for (String fragment : split(MODEL_TEXT.substring(0, split), 17)) {
+                    out.write(event(fragment));
+                }
+                out.flush();
+                try {
+                    streamedRestAfterFirstAssessment = firstAssessmentSeen.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                out.write(event(MODEL_TEXT.substring(split)));
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void extract_streaming_emitsAssessmentsBeforeResponseEnds() {
+        GeminiHttpClient client = new GeminiHttpClient(Duration.ofSeconds(2), Duration.ofSeconds(10), 1,
+                Duration.ofMillis(1), Duration.ofMillis(1), new CircuitBreaker());
+        AiExtractorDataAccessObject dao = new AiExtractorDataAccessObject(new GeminiGateway(
+                "http://127.0.0.1:" + server.getAddress().getPort(), "test", "key", client));
+        List<String> seen = new ArrayList<>();
+
+        SyllabusParseResultData result = dao.extractStructuredData("syllabus", assessment -> {
+            seen.add(assessment.getTitle());
+            firstAssessmentSeen.countDown();
+        });
+
+        assertTrue(requestUri.endsWith("/models/test:streamGenerateContent?alt=sse"));
+        assertEquals("key", apiKeyHeader);
+        assertTrue(streamedRestAfterFirstAssessment);
+        assertEquals(List.of("Assignment 1", "Final Exam"), seen);
+        assertEquals("CSC207", result.getCourseCode());
+        assertEquals("Fall 2025", result.getTerm());
+        assertNull(result.getInstructor());
+        AssessmentDraftData exam = result.getAssessments().get(1);
+        assertEquals(AssessmentType.EXAM, exam.getType());
+        assertEquals(0.4, exam.getWeight(), 0.0001);
+        assertNull(exam.getDueDateIso());
+    }
+
+    @Test
+    void extract_streamBreaksOff_repairsWhatArrivedAndResetsThePreview() {
+        int split = MODEL_TEXT.indexOf("{\"title\": \"Final");
+        List<String> prompts = new ArrayList<>();
+        AiGateway gateway = new AiGateway() {
+            @Override
+            public CompletableFuture<String> generate(String prompt) {
+                prompts.add(prompt);
+                return CompletableFuture.completedFuture("{\"assessments\": [{\"title\": \"Final Exam\","
+                        + " \"type\": \"EXAM\", \"weight\": 0.4, \"dueDateIso\": null, \"notes\": \"\"}]}");
+            }
+
+            @Override
+            public CompletableFuture<Stream<String>> generateStream(String prompt) {
+                Iterator<String> fragments = List.of(MODEL_TEXT.substring(0, split)).iterator();
+                Stream<String> brokenOff = Stream.generate(() -> {
+                    if (fragments.hasNext()) {
+                        return fragments.next();
+                    }
+                    throw new UncheckedIOException(new IOException("closed"));
+                });
+                return CompletableFuture.completedFuture(brokenOff);
+            }
+
+            @Override
+            public String getModel() {
+                return "test";
+            }
+        };
+        List<String> events = new ArrayList<>();
+
+        SyllabusParseResultData result = new AiExtractorDataAccessObject(gateway).extractStructuredData("syllabus",
+                new AiExtractionDataAccessInterface.AssessmentListener() {
+                    @Override
+                    public void onAssessment(AssessmentDraftData assessment) {
+                        events.add(assessment.getTitle());
+                    }
+
+                    @Override
+                    public void onReset() {
+                        events.add("reset");
+                    }
+                });
+
+        assertEquals(1, prompts.size());
+        assertTrue(prompts.get(0).startsWith("Part of this syllabus has already been extracted"));
+        assertTrue(prompts.get(0).contains("[\"Assignment 1\"]"));
+        assertEquals(List.of("Assignment 1", "reset", "Assignment 1", "Final Exam"), events);
+        assertEquals("CSC207", result.getCourseCode());
+        assertEquals(2, result.getAssessments().size());
+    }
+
+    @Test
+    void parse_readsFragmentsSplitAnywhere() throws IOException {
+        Stream<String> fragments = Stream.of("Here you go:\n```json\n{\"courseCode\": \"MAT",
+                "237\", \"assessments\": [{\"title\": \"Quiz 1\",",
+                " \"type\": \"QUIZ\", \"weight\": 0.05}], \"extra\": {\"a\": [1, 2]}}\n```");
+
+        SyllabusParseResultData result = new GeminiStreamParser(gson).parse(fragments, assessment -> { });
+
+        assertEquals("MAT237", result.getCourseCode());
+        assertNull(result.getCourseName());
+        assertEquals(1, result.getAssessments().size());
+        assertEquals(AssessmentType.QUIZ, result.getAssessments().get(0).getType());
+    }
+
+    private byte[] event(String text) {
+        Map<String, Object> chunk = Map.of("candidates", List.of(
+                Map.of("content", Map.of("parts", List.of(Map.of("text", text)), "role", "model"))));
+        return ("data: " + gson.toJson(chunk) + "\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> split(String text, int size) {
+        List<String> pieces = new ArrayList<>();
+        for (int i = 0; i < text.length(); i += size) {
+            pieces.add(text.substring(i, Math.min(text.length(), i + size)));
+        }
+        return pieces;
+    }
+}
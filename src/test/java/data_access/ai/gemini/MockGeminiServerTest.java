@@ -0,0 +1,78 @@
+package data_access.ai.gemini;
+
+import org.junit.jupiter.api.Test;
+import use_case.dto.SyllabusParseResultData;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MockGeminiServerTest {
+    private static final String MODEL_TEXT = "{\"courseCode\": \"STA237\", \"courseName\": \"Probability\","
+            + " \"term\": \"Fall 2025\", \"instructor\": null, \"assessments\": ["
+            + "{\"title\": \"Quiz 1\", \"type\": \"QUIZ\", \"weight\": 0.1, \"dueDateIso\": null},"
+            + "{\"title\": \"Final Exam\", \"type\": \"EXAM\", \"weight\": 0.9, \"dueDateIso\": null}]}";
+
+    private static GeminiHttpClient client(int maxAttempts) {
+        return new GeminiHttpClient(Duration.ofSeconds(2), Duration.ofSeconds(5), maxAttempts,
+                Duration.ofMillis(1), Duration.ofMillis(5), new CircuitBreaker(100, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void extract_againstMockWithLatency_worksOfflineForPlainAndStreamingCalls() throws IOException {
+        try (MockGeminiServer server = new MockGeminiServer(List.of(MockGeminiServer.responseFor(MODEL_TEXT)))
+                .setLatency(Duration.ofMillis(20), Duration.ofMillis(10))
+                .start(0)) {
+            AiExtractorDataAccessObject extractor = new AiExtractorDataAccessObject(
+                    new GeminiGateway(server.getBaseUrl(), "mock-model", "unused", client(1)));
+            List<String> streamed = new ArrayList<>();
+
+            long start = System.nanoTime();
+            SyllabusParseResultData plain = extractor.extractStructuredData("syllabus");
+            assertTrue(System.nanoTime() - start >= Duration.ofMillis(20).toNanos());
+            SyllabusParseResultData fromStream = extractor.extractStructuredData("syllabus",
+                    assessment -> streamed.add(assessment.getTitle()));
+
+            assertEquals("STA237", plain.getCourseCode());
+            assertEquals(2, plain.getAssessments().size());
+            assertEquals("Probability", fromStream.getCourseName());
+            assertEquals(List.of("Quiz 1", "Final Exam"), streamed);
+            assertEquals("mock-model/1", extractor.getPromptVersion());
+            assertEquals(2, server.getRequestCount());
+        }
+    }
+
+    @Test
+    void extract_injectedFailures_areRetriedByTheClient() throws IOException {
+        try (MockGeminiServer server = new MockGeminiServer(List.of(MockGeminiServer.responseFor(MODEL_TEXT)))
+                .setFailureRate(0.5, 503)
+                .start(0)) {
+            AiExtractorDataAccessObject extractor = new AiExtractorDataAccessObject(
+                    new GeminiGateway(server.getBaseUrl(), "mock-model", "unused", client(20)));
+
+            for (int i = 0; i < 5; i++) {
+                assertEquals("STA237", extractor.extractStructuredData("syllabus").getCourseCode());
+            }
+            assertTrue(server.getRequestCount() >= 5);
+        }
+    }
+
+    @Test
+    void server_allRequestsFailing_surfacesStatus() throws IOException {
+        try (MockGeminiServer server = new MockGeminiServer(List.of(MockGeminiServer.responseFor(MODEL_TEXT)))
+                .setFailureRate(1.0, 429)
+                .start(0)) {
+            AiExtractorDataAccessObject extractor = new AiExtractorDataAccessObject(
+                    new GeminiGateway(server.getBaseUrl(), "mock-model", "unused", client(2)));
+
+            GeminiApiException e = assertThrows(GeminiApiException.class,
+                    () -> extractor.extractStructuredData("syllabus"));
+
+            assertEquals(429, e.getStatusCode());
+            assertEquals(2, server.getRequestCount());
+        }
+    }
+}
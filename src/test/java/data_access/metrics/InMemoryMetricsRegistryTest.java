@@ -0,0 +1,90 @@
+package data_access.metrics;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryMetricsRegistryTest {
+
+    @Test
+    void snapshot_summarisesCountersTimersAndHistograms() {
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+        registry.increment("ai.retries");
+        registry.increment("ai.retries", 2);
+        for (int millis = 1; millis <= 100; millis++) {
+            registry.recordTime("ai.round_trip", millis * 1_000_000L);
+        }
+        registry.recordValue("pdf.pages", 3);
+        registry.recordValue("pdf.pages", 9);
+
+        MetricsSnapshot snapshot = registry.snapshot();
+
+        assertEquals(3L, snapshot.getCounters().get("ai.retries"));
+        MetricsSnapshot.Stats roundTrip = snapshot.getTimers().get("ai.round_trip");
+        assertEquals(100, roundTrip.getCount());
+        assertEquals(1.0, roundTrip.getMin());
+        assertEquals(100.0, roundTrip.getMax());
+        assertEquals(50.0, roundTrip.getP50());
+        assertEquals(95.0, roundTrip.getP95());
+        assertEquals(50.5, roundTrip.getMean(), 1e-9);
+        MetricsSnapshot.Stats pages = snapshot.getHistograms().get("pdf.pages");
+        assertEquals(2, pages.getCount());
+        assertEquals(6.0, pages.getMean(), 1e-9);
+    }
+
+    @Test
+    void percentiles_coverOnlyTheMostRecentSamples() {
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+        for (int i = 0; i < InMemoryMetricsRegistry.RESERVOIR_SIZE; i++) {
+            registry.recordValue("ai.prompt.chars", 1_000_000);
+        }
+        for (int i = 0; i < InMemoryMetricsRegistry.RESERVOIR_SIZE; i++) {
+            registry.recordValue("ai.prompt.chars", 10);
+        }
+
+        MetricsSnapshot.Stats stats = registry.snapshot().getHistograms().get("ai.prompt.chars");
+
+        assertEquals(2L * InMemoryMetricsRegistry.RESERVOIR_SIZE, stats.getCount());
+        assertEquals(1_000_000.0, stats.getMax());
+        assertEquals(10.0, stats.getP99());
+    }
+
+    @Test
+    void time_recordsEvenWhenTheWorkFails() {
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+        assertThrows(IllegalStateException.class, () -> registry.time("ai.parse", () -> {
+            throw new IllegalStateException("bad json");
+        }));
+
+        assertEquals(1, registry.snapshot().getTimers().get("ai.parse").getCount());
+    }
+
+    @Test
+    void exporters_writeJsonFileAndLogLines() throws Exception {
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+        registry.increment("upload.succeeded");
+        registry.recordTime("upload.ai", 2_000_000L);
+        MetricsSnapshot snapshot = registry.snapshot();
+        Path file = Files.createTempDirectory("metrics").resolve("run.json");
+
+        new JsonMetricsExporter(file).export(snapshot);
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        new LogMetricsExporter(new PrintStream(log, true, StandardCharsets.UTF_8)).export(snapshot);
+
+        JsonObject json = JsonParser.parseString(Files.readString(file)).getAsJsonObject();
+        assertEquals(1, json.getAsJsonObject("counters").get("upload.succeeded").getAsLong());
+        assertEquals(2.0, json.getAsJsonObject("timers").getAsJsonObject("upload.ai").get("max").getAsDouble());
+        String lines = log.toString(StandardCharsets.UTF_8);
+        assertTrue(lines.contains("upload.succeeded"));
+        assertTrue(lines.contains("upload.ai"));
+    }
+}
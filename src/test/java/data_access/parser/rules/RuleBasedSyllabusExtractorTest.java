@@ -0,0 +1,113 @@
+package data_access.parser.rules;
+
+import data_access.metrics.InMemoryMetricsRegistry;
+import entity.AssessmentType;
+import org.junit.jupiter.api.Test;
+import use_case.dto.AssessmentDraftData;
+import use_case.dto.SyllabusParseResultData;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RuleBasedSyllabusExtractorTest {
+    private static final String TEMPLATED_SYLLABUS = String.join("\n",
+            "CSC207H1F - Software Design",
+            "Fall 2025",
+            "Instructor: Paul Gries",
+            "Welcome to the course.",
+            "Grading Scheme",
+            "Assessment | Weight | Due",
+            "Assignment 1 | 10% | Oct 3",
+            "Assignment 2 | 10% | Nov 7",
+            "Quizzes (4) | 5% each | Sep 19, Oct 10, Oct 31, Nov 21",
+            "Midterm Test | 20% | Oct 24",
+            "Final Exam | 40% | Dec 15",
+            "",
+            "Academic Integrity",
+            "All work must be your own; see 100% of the policy online.");
+
+    private final RuleBasedSyllabusExtractor extractor = new RuleBasedSyllabusExtractor();
+
+    @Test
+    void extract_templatedSyllabus_isConfidentAndComplete() {
+        RuleBasedSyllabusExtractor.Extraction extraction = extractor.extract(TEMPLATED_SYLLABUS);
+        SyllabusParseResultData result = extraction.getResult();
+
+        assertEquals(1.0, extraction.getConfidence(), 0.0001);
+        assertEquals("CSC207H1F", result.getCourseCode());
+        assertEquals("Software Design", result.getCourseName());
+        assertEquals("Fall 2025", result.getTerm());
+        assertEquals("Paul Gries", result.getInstructor());
+
+        List<AssessmentDraftData> assessments = result.getAssessments();
+        assertEquals(8, assessments.size());
+        assertEquals("Assignment 1", assessments.get(0).getTitle());
+        assertEquals(AssessmentType.ASSIGNMENT, assessments.get(0).getType());
+        assertEquals(0.1, assessments.get(0).getWeight(), 0.0001);
+        assertEquals("2025-10-03T23:59:00Z", assessments.get(0).getDueDateIso());
+        assertEquals("Quizzes 3", assessments.get(4).getTitle());
+        assertEquals(AssessmentType.QUIZ, assessments.get(4).getType());
+        assertEquals(0.05, assessments.get(4).getWeight(), 0.0001);
+        assertEquals("2025-10-31T23:59:00Z", assessments.get(4).getDueDateIso());
+        assertEquals(AssessmentType.TEST, assessments.get(6).getType());
+        assertEquals("Final Exam", assessments.get(7).getTitle());
+        assertEquals(AssessmentType.EXAM, assessments.get(7).getType());
+        assertEquals("2025-12-15T23:59:00Z", assessments.get(7).getDueDateIso());
+    }
+
+    @Test
+    void extract_weightsNotAddingUp_lowersConfidence() {
+        String text = TEMPLATED_SYLLABUS.replace("Final Exam | 40% | Dec 15", "Final Exam | 30% | Dec 15");
+
+        assertTrue(extractor.extract(text).getConfidence() < CompositeSyllabusExtractor.DEFAULT_MIN_CONFIDENCE);
+    }
+
+    @Test
+    void extract_noGradingScheme_hasZeroConfidence() {
+        RuleBasedSyllabusExtractor.Extraction extraction =
+                extractor.extract("CSC207 Software Design\nWe will talk about design patterns.");
+
+        assertEquals(0.0, extraction.getConfidence(), 0.0001);
+        assertThrows(RuntimeException.class,
+                () -> extractor.extractStructuredData("CSC207 Software Design\nNo grades here."));
+    }
+
+    @Test
+    void toIso_fallTermRollsWinterMonthsIntoNextYear() {
+        assertEquals("2026-01-16T23:59:00Z", RuleBasedSyllabusExtractor.toIso("Jan. 16", 2025, true));
+        assertEquals("2025-12-02T23:59:00Z", RuleBasedSyllabusExtractor.toIso("December 2", 2025, true));
+        assertEquals("2026-03-01T23:59:00Z", RuleBasedSyllabusExtractor.toIso("2026-03-01", 2025, true));
+        assertNull(RuleBasedSyllabusExtractor.toIso("Feb 30", 2025, false));
+    }
+
+    @Test
+    void composite_usesRulesWhenConfidentAndFallsBackOtherwise() {
+        int[] fallbackCalls = {0};
+        SyllabusParseResultData fromFallback = new SyllabusParseResultData("MAT237", "Calculus", null, null, List.of());
+        CompositeSyllabusExtractor composite = new CompositeSyllabusExtractor(text -> {
+            fallbackCalls[0]++;
+            return fromFallback;
+        });
+
+        assertEquals("CSC207H1F", composite.extractStructuredData(TEMPLATED_SYLLABUS).getCourseCode());
+        assertEquals(0, fallbackCalls[0]);
+
+        assertSame(fromFallback, composite.extractStructuredData("Some syllabus without a grading table"));
+        assertEquals(1, fallbackCalls[0]);
+    }
+
+    @Test
+    void composite_countsWhichExtractorAnswered() {
+        InMemoryMetricsRegistry metrics = new InMemoryMetricsRegistry();
+        CompositeSyllabusExtractor composite = new CompositeSyllabusExtractor(
+                text -> new SyllabusParseResultData("MAT237", "Calculus", null, null, List.of()), metrics);
+
+        composite.extractStructuredData(TEMPLATED_SYLLABUS);
+        composite.extractStructuredData("Some syllabus without a grading table");
+        composite.extractStructuredData("Another syllabus without a grading table");
+
+        assertEquals(1L, metrics.snapshot().getCounters().get("parse.local"));
+        assertEquals(2L, metrics.snapshot().getCounters().get("parse.fallback"));
+    }
+}
@@ -0,0 +1,93 @@
+package data_access.parser.section;
+
+import data_access.metrics.InMemoryMetricsRegistry;
+import data_access.metrics.MetricsSnapshot;
+import data_access.parser.pdf.PdfExtractorDataAccessObject;
+import org.junit.jupiter.api.Test;
+import use_case.dto.SyllabusParseResultData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SyllabusSectionFilterTest {
+    private final SyllabusSectionFilter filter = new SyllabusSectionFilter();
+
+    @Test
+    void filter_sampleSyllabus_keepsGradingSchemeAndDropsPolicies() {
+        String text = new PdfExtractorDataAccessObject().extractText("src/test/resources/sample-syllabus-STA237.pdf");
+
+        SyllabusSectionFilter.Result result = filter.filter(text);
+
+        assertTrue(result.getReduction() >= 0.6, "reduction was " + result.getReduction());
+        assertTrue(result.getText().startsWith("STA 237 - Probability, Statistics, and Data Analysis I Syllabus"));
+        assertTrue(result.getText().contains("Final Exam 40% Scheduled by FAS"));
+        assertTrue(result.getText().contains("Tues/Thurs LEC: Oct. 24, 5:10 - 6:40 PM*"));
+        assertFalse(result.getText().contains("Accessibility Services"));
+    }
+
+    @Test
+    void filter_keepsHeaderAndInstructorBlocks() {
+        String text = String.join("\n",
+                "CSC207 Software Design",
+                "Fall 2025",
+                "Welcome to the course! We hope you enjoy it.",
+                "This paragraph talks about the history of software design at length",
+                "and has nothing to do with grades.",
+                "Instructor: Prof. Shorser",
+                "Grading Scheme:",
+                "Assignment 1 10% due Oct 3",
+                "Midterm 30% Nov 7",
+                "Final Exam 60%",
+                "Academic Integrity: Do your own work on every assignment.",
+                "Copying from others is an offence and will be reported.",
+                "Collaboration is allowed only where stated.",
+                "Plagiarism checks are run on all submissions.");
+
+        String kept = filter.filter(text).getText();
+
+        assertTrue(kept.contains("CSC207 Software Design"));
+        assertTrue(kept.contains("Instructor: Prof. Shorser"));
+        assertTrue(kept.contains("Assignment 1 10% due Oct 3"));
+        assertTrue(kept.contains("Final Exam 60%"));
+        assertFalse(kept.contains("history of software design"));
+        assertFalse(kept.contains("Plagiarism"));
+    }
+
+    @Test
+    void filter_withoutGradingScheme_returnsOriginalText() {
+        String text = "Course Overview\nWe will study many interesting things.\nSee you in class.";
+
+        SyllabusSectionFilter.Result result = filter.filter(text);
+
+        assertEquals(text, result.getText());
+        assertEquals(0.0, result.getReduction(), 0.0001);
+    }
+
+    @Test
+    void extractor_sendsFilteredTextAndCountsTokens() {
+        List<String> sent = new ArrayList<>();
+        InMemoryMetricsRegistry metrics = new InMemoryMetricsRegistry();
+        SectionFilteringExtractor extractor = new SectionFilteringExtractor(text -> {
+            sent.add(text);
+            return new SyllabusParseResultData("CSC207", "Software Design", null, null, List.of());
+        }, metrics);
+        String text = "CSC207\nLong introduction without grades that goes on and on.\n"
+                + "Weekly Readings\nChapter one of the book and then chapter two.\n"
+                + "Grading\nMidterm 40% Oct 20\nFinal 60%";
+
+        extractor.extractStructuredData(text);
+
+        assertEquals(1, sent.size());
+        assertTrue(sent.get(0).contains("Midterm 40% Oct 20"));
+        assertFalse(sent.get(0).contains("Chapter one"));
+        assertEquals(SyllabusSectionFilter.estimateTokens(text), extractor.getOriginalTokens());
+        assertTrue(extractor.getSentTokens() < extractor.getOriginalTokens());
+        MetricsSnapshot.Stats original = metrics.snapshot().getHistograms().get("ai.prompt.tokens.original");
+        MetricsSnapshot.Stats kept = metrics.snapshot().getHistograms().get("ai.prompt.tokens.kept");
+        assertEquals(1, original.getCount());
+        assertEquals(extractor.getOriginalTokens(), (long) original.getSum());
+        assertEquals(extractor.getSentTokens(), (long) kept.getSum());
+    }
+}
@@ -0,0 +1,119 @@
+package data_access.persistence.sqlite;
+
+import entity.AssessmentType;
+import entity.GradeAggregate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AssessmentTest {
+    private Path dbFile;
+    private SqliteConnectionProvider provider;
+    private Assessment repository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dbFile = Files.createTempFile("assessment", ".db");
+        provider = new SqliteConnectionProvider("jdbc:sqlite:" + dbFile);
+        new MigrationRunner(provider).migrate();
+        repository = new Assessment(provider);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        provider.close();
+        Files.deleteIfExists(dbFile);
+        Files.deleteIfExists(Path.of(dbFile + "-wal"));
+        Files.deleteIfExists(Path.of(dbFile + "-shm"));
+    }
+
+    @Test
+    void gradeAggregatesFollowEveryWrite() {
+        repository.saveAll(List.of(
+                assessment("midterm", "course-1", -1, 0.4),
+                assessment("final", "course-1", -1, 0.5),
+                assessment("essay", "course-2", 85, 1.0)));
+        repository.save(assessment("quiz", "course-1", 100, 0.1));
+        repository.update(assessment("midterm", "course-1", 70, 0.4));
+        // Moving an assessment to another course moves its share of the totals too
+        repository.update(assessment("final", "course-2", -1, 0.5));
+        repository.deleteById("essay");
+        repository.update(assessment("missing", "course-1", 50, 0.2));
+        repository.deleteById("missing");
+
+        assertMatchesAssessments("course-1");
+        assertMatchesAssessments("course-2");
+        GradeAggregate first = repository.findGradeAggregate("course-1");
+        assertEquals(0.5, first.getGradedWeight(), 1e-9);
+        assertEquals(38.0, first.getWeightedScore(), 1e-9);
+        assertEquals(0, first.getRemainingCount());
+        assertEquals(1, repository.findGradeAggregate("course-2").getRemainingCount());
+        assertEquals(0.0, repository.findGradeAggregate("course-3").getTotalWeight());
+    }
+
+    @Test
+    void failedWritesThrowAndLeaveTheTotalsAlone() {
+        repository.save(assessment("midterm", "course-1", -1, 0.4));
+
+        assertThrows(IllegalStateException.class,
+                () -> repository.saveAll(List.of(assessment("quiz", "course-1", -1, 0.1),
+                        assessment("midterm", "course-1", 90, 0.4))));
+
+        assertEquals(1, repository.findByCourseId("course-1").size());
+        assertMatchesAssessments("course-1");
+        assertEquals(0.4, repository.findGradeAggregate("course-1").getTotalWeight(), 1e-9);
+    }
+
+    @Test
+    void syllabusImportsCountTowardsTheTotals() throws Exception {
+        new SyllabusImport(provider).saveImport(
+                new entity.Course("course-1", "user-1", "CSC207", "Software Design", "Winter 2026", "Prof. A"),
+                new entity.Syllabus("syllabus-1", "course-1", "/tmp/csc207.pdf"),
+                List.of(assessment("a1", "course-1", -1, 0.6), assessment("a2", "course-1", -1, 0.4)));
+
+        assertMatchesAssessments("course-1");
+        assertEquals(2, repository.findGradeAggregate("course-1").getRemainingCount());
+    }
+
+    @Test
+    void dueDatesReadBackAsTheInstantsTheyWereSavedAs() {
+        TimeZone zone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Toronto"));
+            entity.Assessment saved = assessment("final", "course-1", -1, 0.5);
+            repository.save(saved);
+
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            entity.Assessment loaded = repository.findById("final").orElseThrow();
+
+            assertEquals("2026-03-10T23:59:00Z", loaded.getEndsAt());
+            assertEquals(saved.getEndsAtInstant(), loaded.getEndsAtInstant());
+            assertEquals(Instant.parse("2026-03-11T03:59:00Z"), loaded.getEndsAtInstant());
+            assertNull(loaded.getStartsAtInstant());
+        } finally {
+            TimeZone.setDefault(zone);
+        }
+    }
+
+    private void assertMatchesAssessments(String courseId) {
+        GradeAggregate kept = repository.findGradeAggregate(courseId);
+        GradeAggregate added = GradeAggregate.of(courseId, repository.findByCourseId(courseId));
+        assertEquals(added.getTotalWeight(), kept.getTotalWeight(), 1e-9);
+        assertEquals(added.getGradedWeight(), kept.getGradedWeight(), 1e-9);
+        assertEquals(added.getWeightedScore(), kept.getWeightedScore(), 1e-9);
+        assertEquals(added.getRemainingCount(), kept.getRemainingCount());
+    }
+
+    private static entity.Assessment assessment(String id, String courseId, double grade, double weight) {
+        return new entity.Assessment(id, courseId, id, AssessmentType.TEST, grade, null, "2026-03-10T23:59:00Z",
+                null, weight, null, null);
+    }
+}
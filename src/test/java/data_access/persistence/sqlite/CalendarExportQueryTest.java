@@ -0,0 +1,150 @@
+package data_access.persistence.sqlite;
+
+import entity.AssessmentType;
+import entity.SourceKind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import use_case.dto.ScheduleEventSnapshot;
+import use_case.dto.ScheduledTaskSnapshot;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalendarExportQueryTest {
+    private static final Optional<Instant> MARCH_START = Optional.of(Instant.parse("2026-03-01T00:00:00Z"));
+    private static final Optional<Instant> MARCH_END = Optional.of(Instant.parse("2026-03-31T00:00:00Z"));
+
+    private Path dbFile;
+    private SqliteConnectionProvider provider;
+    private CalendarExportQuery query;
+    private entity.Assessment timedExam;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dbFile = Files.createTempFile("calendar-export-query", ".db");
+        provider = new SqliteConnectionProvider("jdbc:sqlite:" + dbFile);
+        new MigrationRunner(provider).migrate();
+        query = new CalendarExportQuery(provider);
+
+        Course courses = new Course(provider);
+        courses.save(new entity.Course("course-1", "user-1", "CSC207", "Software Design", "Winter 2026", "Prof. A"));
+        courses.save(new entity.Course("course-2", "user-1", "MAT237", "Calculus", "Winter 2026", "Prof. B"));
+        courses.save(new entity.Course("course-3", "user-2", "PHL100", "Philosophy", "Winter 2026", "Prof. C"));
+
+        timedExam = assessment("exam", "course-1", "2026-03-10T15:00:00Z", null, 90L, 0.3);
+        Assessment assessments = new Assessment(provider);
+        assessments.saveAll(List.of(
+                assessment("quiz", "course-1", null, "2026-01-10T23:59:00Z", null, 0.1),
+                timedExam,
+                assessment("essay", "course-2", null, "2026-03-12T23:59:00Z", null, null),
+                assessment("final", "course-2", "2026-04-20T09:00:00Z", "2026-04-20T12:00:00Z", null, 0.5)));
+        assessments.save(assessment("other", "course-3", null, "2026-03-15T23:59:00Z", null, 0.2));
+
+        ScheduleEvent events = new ScheduleEvent(provider);
+        events.save(event("event-exam", "user-1", "2026-03-10T15:00:00Z", SourceKind.ASSESSMENT, "exam"));
+        events.save(event("event-study", "user-1", "2026-03-20T18:00:00Z", SourceKind.TASK, "task-1"));
+        events.save(event("event-may", "user-1", "2026-05-01T18:00:00Z", SourceKind.TASK, "task-2"));
+        events.save(event("event-other", "user-2", "2026-03-20T18:00:00Z", SourceKind.TASK, "task-3"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        provider.close();
+        Files.deleteIfExists(dbFile);
+        Files.deleteIfExists(Path.of(dbFile + "-wal"));
+        Files.deleteIfExists(Path.of(dbFile + "-shm"));
+    }
+
+    @Test
+    void findTasksForExport_returnsTheUsersTasksDueInTheWindow() {
+        List<ScheduledTaskSnapshot> tasks = query.findTasksForExport("user-1", List.of("course-1", "course-2"),
+                MARCH_START, MARCH_END);
+
+        assertEquals(List.of("exam", "essay"), tasks.stream()
+                .map(ScheduledTaskSnapshot::getTaskId).collect(Collectors.toList()));
+        ScheduledTaskSnapshot exam = tasks.get(0);
+        assertEquals(timedExam.getStartsAtInstant().plus(Duration.ofMinutes(90)), exam.getDueAt());
+        assertEquals(90, exam.getEstimatedEffortMins());
+        assertEquals(0.3, exam.getWeightPercent());
+        assertEquals("course-1", exam.getCourseId());
+        ScheduledTaskSnapshot essay = tasks.get(1);
+        assertEquals(30, essay.getEstimatedEffortMins());
+        assertNull(essay.getWeightPercent());
+    }
+
+    @Test
+    void findTasksForExport_ignoresOtherUsersCoursesAndEmptySelections() {
+        assertTrue(query.findTasksForExport("user-2", List.of("course-1"), Optional.empty(), Optional.empty())
+                .isEmpty());
+        assertTrue(query.findTasksForExport("user-1", List.of(), Optional.empty(), Optional.empty()).isEmpty());
+        assertEquals(4, query.findTasksForExport("user-1", List.of("course-1", "course-2"),
+                Optional.empty(), Optional.empty()).size());
+    }
+
+    @Test
+    void findScheduleEvents_returnsTheUsersEventsStartingInTheWindow() {
+        List<ScheduleEventSnapshot> events = query.findScheduleEvents("user-1", List.of(), MARCH_START, MARCH_END);
+
+        assertEquals(List.of("event-exam", "event-study"), events.stream()
+                .map(ScheduleEventSnapshot::getEventId).collect(Collectors.toList()));
+        ScheduleEventSnapshot exam = events.get(0);
+        assertEquals(Instant.parse("2026-03-10T15:00:00Z"), exam.getStartsAt());
+        assertEquals(Instant.parse("2026-03-10T16:00:00Z"), exam.getEndsAt());
+        assertEquals(SourceKind.ASSESSMENT, exam.getSource());
+        assertEquals(3, query.findScheduleEvents("user-1", List.of(), Optional.empty(), Optional.empty()).size());
+    }
+
+    @Test
+    void findScheduleEvents_keepsEventsWithoutAValidEndAsOneHourLong() {
+        new ScheduleEvent(provider).save(new entity.ScheduleEvent("event-open", "user-1", "Office hours",
+                "2026-03-25T14:00:00Z", "TBD", null, null, SourceKind.TASK, "task-4"));
+
+        List<ScheduleEventSnapshot> events = query.findScheduleEvents("user-1", List.of("course-1"),
+                MARCH_START, MARCH_END);
+
+        assertEquals(List.of("event-exam", "event-study", "event-open"), events.stream()
+                .map(ScheduleEventSnapshot::getEventId).collect(Collectors.toList()));
+        assertEquals(Instant.parse("2026-03-25T15:00:00Z"), events.get(2).getEndsAt());
+    }
+
+    @Test
+    void windowQueriesUseTheirIndexes() throws Exception {
+        assertTrue(plan(CalendarExportQuery.FIND_EVENTS).contains("idx_schedule_events_user_starts_epoch"));
+        assertTrue(plan(CalendarExportQuery.FIND_TASKS).contains("idx_assessments_course_id")
+                || plan(CalendarExportQuery.FIND_TASKS).contains("idx_courses_user_id"));
+    }
+
+    private String plan(String sql) throws Exception {
+        return provider.read(statements -> {
+            StringBuilder detail = new StringBuilder();
+            try (ResultSet result = statements.prepare("EXPLAIN QUERY PLAN " + sql).executeQuery()) {
+                while (result.next()) {
+                    detail.append(result.getString("detail")).append('\n');
+                }
+            }
+            return detail.toString();
+        });
+    }
+
+    private static entity.Assessment assessment(String id, String courseId, String startsAt, String endsAt,
+                                                Long durationMinutes, Double weight) {
+        return new entity.Assessment(id, courseId, id, AssessmentType.TEST, -1, startsAt, endsAt,
+                durationMinutes, weight, "Room 1", null);
+    }
+
+    private static entity.ScheduleEvent event(String id, String userId, String startsAt, SourceKind source,
+                                              String sourceId) {
+        Instant start = Instant.parse(startsAt);
+        return new entity.ScheduleEvent(id, userId, id, startsAt, start.plus(Duration.ofHours(1)).toString(),
+                null, null, source, sourceId);
+    }
+}
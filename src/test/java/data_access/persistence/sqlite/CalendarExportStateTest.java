@@ -0,0 +1,56 @@
+package data_access.persistence.sqlite;
+
+import entity.ExportedEventState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalendarExportStateTest {
+    private Path dbFile;
+    private SqliteConnectionProvider provider;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dbFile = Files.createTempFile("calendar-export-state", ".db");
+        provider = new SqliteConnectionProvider("jdbc:sqlite:" + dbFile);
+        new MigrationRunner(provider).migrate();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        provider.close();
+        Files.deleteIfExists(dbFile);
+        Files.deleteIfExists(Path.of(dbFile + "-wal"));
+        Files.deleteIfExists(Path.of(dbFile + "-shm"));
+    }
+
+    @Test
+    void saveExportUpsertsAndForgetsRemovedEvents() {
+        CalendarExportState repository = new CalendarExportState(provider);
+        repository.saveExport("user-1", "course-1||", List.of(
+                new ExportedEventState("event-1", "aaa", 0),
+                new ExportedEventState("event-2", "bbb", 0)), List.of());
+
+        repository.saveExport("user-1", "course-1||", List.of(new ExportedEventState("event-1", "ccc", 1)),
+                List.of("event-2"));
+
+        Map<String, ExportedEventState> states = repository.findByUserId("user-1", "course-1||");
+        assertEquals(Map.of("event-1", new ExportedEventState("event-1", "ccc", 1)), states);
+    }
+
+    @Test
+    void scopesAndUsersAreKeptApart() {
+        CalendarExportState repository = new CalendarExportState(provider);
+        repository.saveExport("user-1", "course-1||", List.of(new ExportedEventState("event-1", "aaa", 0)), List.of());
+
+        assertTrue(repository.findByUserId("user-1", "course-2||").isEmpty());
+        assertTrue(repository.findByUserId("user-2", "course-1||").isEmpty());
+    }
+}
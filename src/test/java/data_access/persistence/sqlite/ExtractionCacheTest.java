@@ -0,0 +1,127 @@
+package data_access.persistence.sqlite;
+
+import entity.AssessmentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import use_case.dto.AssessmentDraftData;
+import use_case.dto.SyllabusParseResultData;
+import use_case.port.outgoing.AiExtractionDataAccessInterface;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExtractionCacheTest {
+    private Path dbFile;
+    private SqliteConnectionProvider provider;
+    private CountingExtractor delegate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dbFile = Files.createTempFile("extraction-cache", ".db");
+        provider = new SqliteConnectionProvider("jdbc:sqlite:" + dbFile);
+        new MigrationRunner(provider).migrate();
+        delegate = new CountingExtractor();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        provider.close();
+        Files.deleteIfExists(dbFile);
+        Files.deleteIfExists(Path.of(dbFile + "-wal"));
+        Files.deleteIfExists(Path.of(dbFile + "-shm"));
+    }
+
+    @Test
+    void sameTextIsOnlyExtractedOnce() {
+        ExtractionCache cache = new ExtractionCache(delegate, provider, "v1");
+
+        SyllabusParseResultData first = cache.extractStructuredData("CSC207 Software Design\nMidterm 30%");
+        SyllabusParseResultData second = cache.extractStructuredData("  CSC207 Software Design\r\n\tMidterm   30%  ");
+
+        assertEquals(1, delegate.calls);
+        assertEquals(first.getCourseCode(), second.getCourseCode());
+        assertEquals(1, second.getAssessments().size());
+        assertEquals(AssessmentType.EXAM, second.getAssessments().get(0).getType());
+        assertEquals(0.3, second.getAssessments().get(0).getWeight(), 0.0001);
+    }
+
+    @Test
+    void newPromptVersionMisses() {
+        new ExtractionCache(delegate, provider, "v1").extractStructuredData("CSC207");
+        new ExtractionCache(delegate, provider, "v2").extractStructuredData("CSC207");
+
+        assertEquals(2, delegate.calls);
+    }
+
+    @Test
+    void bypassAndInvalidateGoBackToTheDelegate() {
+        ExtractionCache cache = new ExtractionCache(delegate, provider, "v1");
+        cache.extractStructuredData("CSC207");
+
+        cache.setBypass(true);
+        cache.extractStructuredData("CSC207");
+        assertEquals(2, delegate.calls);
+
+        cache.setBypass(false);
+        cache.invalidate("CSC207");
+        cache.extractStructuredData("CSC207");
+        assertEquals(3, delegate.calls);
+
+        cache.extractStructuredData("CSC207");
+        assertEquals(3, delegate.calls);
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesAreEvictedOverTheBudget() throws Exception {
+        long entrySize = new com.google.gson.Gson().toJson(delegate.extractStructuredData("A")).length();
+        delegate.calls = 0;
+        ExtractionCache cache = new ExtractionCache(delegate, provider, "v1", entrySize * 2);
+
+        cache.extractStructuredData("A");
+        cache.extractStructuredData("B");
+        Thread.sleep(5);
+        cache.extractStructuredData("A"); // hit, A is now the most recently used
+        Thread.sleep(5);
+        cache.extractStructuredData("C"); // evicts B
+
+        assertEquals(3, delegate.calls);
+        assertEquals(2, rowCount());
+        cache.extractStructuredData("A");
+        assertEquals(3, delegate.calls);
+        cache.extractStructuredData("B");
+        assertEquals(4, delegate.calls);
+    }
+
+    @Test
+    void cacheKeyIgnoresWhitespaceButNotCase() {
+        assertEquals(ExtractionCache.cacheKey("a  b\nc", "v1"), ExtractionCache.cacheKey(" a b c ", "v1"));
+        assertNotEquals(ExtractionCache.cacheKey("a b c", "v1"), ExtractionCache.cacheKey("A B C", "v1"));
+        assertNotEquals(ExtractionCache.cacheKey("a b c", "v1"), ExtractionCache.cacheKey("a b c", "v2"));
+    }
+
+    private int rowCount() throws Exception {
+        return provider.read(statements -> {
+            try (ResultSet result = statements.prepare("SELECT COUNT(*) FROM ai_extraction_cache").executeQuery()) {
+                result.next();
+                return result.getInt(1);
+            }
+        });
+    }
+
+    // Every result has the same size so the byte budget maps to a number of entries
+    private static final class CountingExtractor implements AiExtractionDataAccessInterface {
+        int calls;
+
+        @Override
+        public SyllabusParseResultData extractStructuredData(String syllabusText) {
+            calls++;
+            return new SyllabusParseResultData("CSC207", "Software Design", "Fall 2025", "Prof. Shorser",
+                    List.of(new AssessmentDraftData("Midterm", AssessmentType.EXAM, "2025-10-20T14:00:00Z", 0.3)));
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package data_access.persistence.sqlite;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MigrationRunnerTest {
+
+    @Test
+    void migrate_freshDatabase_createsTablesAndIndexesOnce() throws Exception {
+        Path dbFile = Files.createTempFile("migration-runner", ".db");
+        try (SqliteConnectionProvider provider = new SqliteConnectionProvider("jdbc:sqlite:" + dbFile)) {
+            MigrationRunner runner = new MigrationRunner(provider);
+
+            assertEquals(MigrationRunner.MIGRATIONS.size(), runner.migrate());
+            assertEquals(0, runner.migrate(), "second run should be a no-op");
+
+            List<String> indexes = names(provider, "index");
+            assertTrue(indexes.contains("idx_courses_user_id"));
+            assertTrue(indexes.contains("idx_syllabi_course_id"));
+            assertTrue(indexes.contains("idx_assessments_course_id"));
+            assertTrue(indexes.contains("idx_schedule_events_user_starts"));
+            assertTrue(indexes.contains("idx_schedule_events_user_starts_epoch"));
+            assertTrue(names(provider, "table").containsAll(
+                    Arrays.asList("users", "courses", "syllabi", "assessments", "schedule_events", "grade_aggregates",
+                            "schema_version")));
+        } finally {
+            deleteDatabase(dbFile);
+        }
+    }
+
+    @Test
+    void migrate_databaseCreatedFromSchemaSql_appliesEveryMigration() throws Exception {
+        Path dbFile = Files.createTempFile("migration-runner", ".db");
+        String schema;
+        try (InputStream in = MigrationRunnerTest.class.getResourceAsStream("/db/schema.sql")) {
+            schema = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        try (SqliteConnectionProvider provider = new SqliteConnectionProvider("jdbc:sqlite:" + dbFile)) {
+            provider.write(statements -> {
+                for (String sql : MigrationRunner.splitStatements(schema)) {
+                    statements.prepare(sql).execute();
+                }
+                return null;
+            });
+
+            assertEquals(MigrationRunner.MIGRATIONS.size(), new MigrationRunner(provider).migrate());
+
+            assertTrue(names(provider, "index").contains("idx_schedule_events_user_starts_epoch"));
+            assertTrue(names(provider, "table").containsAll(
+                    Arrays.asList("ai_extraction_cache", "calendar_export_state", "grade_aggregates")));
+            provider.write(statements -> statements.prepare(
+                    "INSERT INTO users (user_id, name, email, password_hash) VALUES ('u1', 'Ada', 'ada@example.com', 'x')")
+                    .executeUpdate());
+            provider.write(statements -> statements.prepare(
+                    "INSERT INTO schedule_events (event_id, user_id, title, starts_at, starts_at_epoch, source_kind) " +
+                    "VALUES ('e1', 'u1', 'Lab', '2026-03-10T15:00:00Z', 1, 'TASK')").executeUpdate());
+            assertEquals(1L, epoch(provider, "SELECT starts_at_epoch FROM schedule_events WHERE event_id = 'e1'"));
+        } finally {
+            deleteDatabase(dbFile);
+        }
+    }
+
+    @Test
+    void migrate_assessmentLookupUsesIndex() throws Exception {
+        Path dbFile = Files.createTempFile("migration-runner", ".db");
+        try (SqliteConnectionProvider provider = new SqliteConnectionProvider("jdbc:sqlite:" + dbFile)) {
+            new MigrationRunner(provider).migrate();
+
+            String plan = provider.read(statements -> {
+                StringBuilder detail = new StringBuilder();
+                try (ResultSet result = statements.prepare(
+                        "EXPLAIN QUERY PLAN SELECT * FROM assessments WHERE course_id = ?").executeQuery()) {
+                    while (result.next()) {
+                        detail.append(result.getString("detail"));
+                    }
+                }
+                return detail.toString();
+            });
+            assertTrue(plan.contains("idx_assessments_course_id"), plan);
+        } finally {
+            deleteDatabase(dbFile);
+        }
+    }
+
+    @Test
+    void migrate_backfillsEpochColumnsOfExistingRows() throws Exception {
+        Path dbFile = Files.createTempFile("migration-runner", ".db");
+        try (SqliteConnectionProvider provider = new SqliteConnectionProvider("jdbc:sqlite:" + dbFile)) {
+            new MigrationRunner(provider, MigrationRunner.MIGRATIONS.subList(0, 4)).migrate();
+            provider.write(statements -> statements.prepare(
+                    "INSERT INTO assessments (assessment_id, course_id, title, type, starts_at, ends_at) VALUES " +
+                    "('a1', 'c1', 'Midterm', 'EXAM', '2026-03-10T15:00:00+01:00', '2025-10-15T23:59:00Z'), " +
+                    "('a2', 'c1', 'Essay', 'ASSIGNMENT', NULL, 'sometime in March')").executeUpdate());
+            provider.write(statements -> statements.prepare(
+                    "INSERT INTO schedule_events (event_id, user_id, title, starts_at, ends_at, source_kind, source_id) " +
+                    "VALUES ('e1', 'u1', 'Lab', '2026-03-10T15:00:00Z', '2026-03-10T16:30:00Z', 'TASK', 't1')")
+                    .executeUpdate());
+
+            new MigrationRunner(provider).migrate();
+
+            assertEquals(Instant.parse("2026-03-10T14:00:00Z").toEpochMilli(),
+                    epoch(provider, "SELECT starts_at_epoch FROM assessments WHERE assessment_id = 'a1'"));
+            // Assessment due dates are wall-clock times, whatever their suffix
+            assertEquals(LocalDateTime.parse("2025-10-15T23:59:00").atZone(ZoneId.systemDefault()).toInstant()
+                            .toEpochMilli(),
+                    epoch(provider, "SELECT ends_at_epoch FROM assessments WHERE assessment_id = 'a1'"));
+            assertNull(epoch(provider, "SELECT ends_at_epoch FROM assessments WHERE assessment_id = 'a2'"));
+            assertEquals(Instant.parse("2026-03-10T16:30:00Z").toEpochMilli(),
+                    epoch(provider, "SELECT ends_at_epoch FROM schedule_events WHERE event_id = 'e1'"));
+        } finally {
+            deleteDatabase(dbFile);
+        }
+    }
+
+    @Test
+    void migrate_backfillsGradeAggregatesOfExistingCourses() throws Exception {
+        Path dbFile = Files.createTempFile("migration-runner", ".db");
+        try (SqliteConnectionProvider provider = new SqliteConnectionProvider("jdbc:sqlite:" + dbFile)) {
+            new MigrationRunner(provider, MigrationRunner.MIGRATIONS.subList(0, 5)).migrate();
+            provider.write(statements -> statements.prepare(
+                    "INSERT INTO assessments (assessment_id, course_id, title, type, grade, weight) VALUES " +
+                    "('a1', 'c1', 'Midterm', 'EXAM', 80, 0.4), " +
+                    "('a2', 'c1', 'Final', 'EXAM', -1, 0.5), " +
+                    "('a3', 'c1', 'Participation', 'OTHER', -1, NULL), " +
+                    "('b1', 'c2', 'Essay', 'ASSIGNMENT', 90, 1)").executeUpdate());
+
+            new MigrationRunner(provider).migrate();
+
+            entity.GradeAggregate first = new Assessment(provider).findGradeAggregate("c1");
+            assertEquals(0.9, first.getTotalWeight(), 1e-9);
+            assertEquals(0.4, first.getGradedWeight(), 1e-9);
+            assertEquals(32.0, first.getWeightedScore(), 1e-9);
+            assertEquals(2, first.getRemainingCount());
+            assertEquals(90.0, new Assessment(provider).findGradeAggregate("c2").getWeightedScore(), 1e-9);
+        } finally {
+            deleteDatabase(dbFile);
+        }
+    }
+
+    private static Long epoch(ConnectionProvider provider, String sql) throws SQLException {
+        return provider.read(statements -> {
+            try (ResultSet result = statements.prepare(sql).executeQuery()) {
+                result.next();
+                long value = result.getLong(1);
+                return result.wasNull() ? null : value;
+            }
+        });
+    }
+
+    @Test
+    void splitStatements_dropsCommentsAndBlankStatements() {
+        List<String> statements = MigrationRunner.splitStatements(
+                "-- header\nCREATE TABLE a (x TEXT);\n\n  -- note\nCREATE INDEX i ON a(x);\n");
+
+        assertEquals(Arrays.asList("CREATE TABLE a (x TEXT)", "CREATE INDEX i ON a(x)"), statements);
+    }
+
+    @Test
+    void versionOf_rejectsBadNames() {
+        assertEquals(12, MigrationRunner.versionOf("V12__add_things.sql"));
+        assertEquals("add things", MigrationRunner.descriptionOf("V12__add_things.sql"));
+        assertThrows(IllegalArgumentException.class, () -> MigrationRunner.versionOf("add_things.sql"));
+    }
+
+    private static List<String> names(ConnectionProvider provider, String type) throws SQLException {
+        return provider.read(statements -> {
+            List<String> names = new ArrayList<>();
+            var stmt = statements.prepare("SELECT name FROM sqlite_master WHERE type = ?");
+            stmt.setString(1, type);
+            try (ResultSet result = stmt.executeQuery()) {
+                while (result.next()) {
+                    names.add(result.getString("name"));
+                }
+            }
+            return names;
+        });
+    }
+
+    private static void deleteDatabase(Path dbFile) throws Exception {
+        Files.deleteIfExists(dbFile);
+        Files.deleteIfExists(Path.of(dbFile + "-wal"));
+        Files.deleteIfExists(Path.of(dbFile + "-shm"));
+    }
+}
@@ -0,0 +1,114 @@
+package interface_adapter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UseCaseDispatcherTest {
+    private final UseCaseDispatcher dispatcher = new UseCaseDispatcher(2);
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.close();
+    }
+
+    @Test
+    void sameKeyWhileInFlightIsDeduplicated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        UseCaseDispatcher.Handle first = dispatcher.submit("dashboard:U1", progress -> {
+            runs.incrementAndGet();
+            release.await();
+        });
+        UseCaseDispatcher.Handle second = dispatcher.submit("dashboard:U1", progress -> runs.incrementAndGet());
+
+        assertSame(first, second);
+        assertTrue(dispatcher.isRunning("dashboard:U1"));
+        release.countDown();
+        awaitDone(first);
+        assertEquals(1, runs.get());
+        assertFalse(dispatcher.isRunning("dashboard:U1"));
+
+        awaitDone(dispatcher.submit("dashboard:U1", progress -> runs.incrementAndGet()));
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void cancelInterruptsTheRunningJob() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        UseCaseDispatcher.Handle handle = dispatcher.submit("upload", progress -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertTrue(dispatcher.cancel("upload"));
+        assertTrue(handle.isCancelled());
+        awaitDone(handle);
+        for (int i = 0; i < 50 && !interrupted.get(); i++) {
+            Thread.sleep(20);
+        }
+        assertTrue(interrupted.get());
+    }
+
+    @Test
+    void progressIsDeliveredOnTheEventThread() throws Exception {
+        CountDownLatch delivered = new CountDownLatch(2);
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        AtomicBoolean allOnEventThread = new AtomicBoolean(true);
+
+        dispatcher.submit("upload", progress -> {
+            progress.report("Reading PDF");
+            progress.report("Saving");
+        }, message -> {
+            allOnEventThread.compareAndSet(true, SwingUtilities.isEventDispatchThread());
+            messages.add(message);
+            delivered.countDown();
+        });
+
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("Reading PDF", "Saving"), messages);
+        assertTrue(allOnEventThread.get());
+    }
+
+    @Test
+    void enqueuedJobsRunOneAtATimeInOrder() throws Exception {
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            int value = i;
+            dispatcher.enqueue(progress -> {
+                Thread.sleep(5 - value);
+                order.add(value);
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(0, 1, 2, 3, 4), order);
+    }
+
+    private static void awaitDone(UseCaseDispatcher.Handle handle) throws InterruptedException {
+        for (int i = 0; i < 250 && !handle.isDone(); i++) {
+            Thread.sleep(20);
+        }
+        assertTrue(handle.isDone());
+    }
+}
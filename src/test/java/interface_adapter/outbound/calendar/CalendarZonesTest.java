@@ -0,0 +1,94 @@
+package interface_adapter.outbound.calendar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.Map;
+import net.fortuna.ical4j.model.TimeZone;
+import net.fortuna.ical4j.model.TimeZoneRegistry;
+import net.fortuna.ical4j.model.TimeZoneRegistryFactory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CalendarZones}.
+ */
+class CalendarZonesTest {
+
+    @Test
+    void looksEachZoneUpOnceAndEvictsTheLeastRecentlyUsed() {
+        CountingRegistry registry = new CountingRegistry();
+        CalendarZones zones = new CalendarZones(registry, 2);
+
+        CalendarZones.Zone toronto = zones.get(ZoneId.of("America/Toronto"));
+        zones.get(ZoneId.of("Europe/Paris"));
+        assertSame(toronto, zones.get(ZoneId.of("America/Toronto")));
+        zones.get(ZoneId.of("Asia/Tokyo"));
+        zones.get(ZoneId.of("America/Toronto"));
+        zones.get(ZoneId.of("Europe/Paris"));
+
+        // Paris was the least recently used when Tokyo came in, so only it was looked up twice
+        assertEquals(4, registry.lookups);
+        assertEquals(2, zones.size());
+        assertEquals("America/Toronto", toronto.zoneId.getId());
+        assertTrue(toronto.vTimeZone().startsWith("BEGIN:VTIMEZONE"));
+        assertSame(toronto.vTimeZone(), toronto.vTimeZone());
+    }
+
+    @Test
+    void unknownZonesAreCachedWithoutATimeZone() {
+        CountingRegistry registry = new CountingRegistry();
+        CalendarZones zones = new CalendarZones(registry, 2);
+
+        CalendarZones.Zone zone = zones.get(ZoneId.of("GMT+05:30"));
+        zones.get(ZoneId.of("GMT+05:30"));
+
+        assertNull(zone.timeZone);
+        assertEquals(ZoneId.of("GMT+05:30"), zone.zoneId);
+        assertEquals(1, registry.lookups);
+    }
+
+    private static final class CountingRegistry implements TimeZoneRegistry {
+        private final TimeZoneRegistry delegate = TimeZoneRegistryFactory.getInstance().createRegistry();
+        private int lookups;
+
+        @Override
+        public void register(TimeZone timezone) {
+            delegate.register(timezone);
+        }
+
+        @Override
+        public void register(TimeZone timezone, boolean update) {
+            delegate.register(timezone, update);
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+        }
+
+        @Override
+        public TimeZone getTimeZone(String id) {
+            lookups++;
+            return delegate.getTimeZone(id);
+        }
+
+        @Override
+        public Map<String, ZoneRules> getZoneRules() {
+            return delegate.getZoneRules();
+        }
+
+        @Override
+        public ZoneId getZoneId(String tzId) {
+            return delegate.getZoneId(tzId);
+        }
+
+        @Override
+        public String getTzId(String zoneId) {
+            return delegate.getTzId(zoneId);
+        }
+    }
+}
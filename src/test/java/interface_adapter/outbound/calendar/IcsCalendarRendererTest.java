@@ -1,5 +1,6 @@
 package interface_adapter.outbound.calendar;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -7,19 +8,25 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import entity.ScheduleEvent;
 import entity.SourceKind;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import net.fortuna.ical4j.data.CalendarBuilder;
 import net.fortuna.ical4j.model.Calendar;
 import net.fortuna.ical4j.model.Component;
+import net.fortuna.ical4j.model.Property;
 import net.fortuna.ical4j.model.component.VEvent;
 import net.fortuna.ical4j.model.property.Description;
 import net.fortuna.ical4j.model.property.Location;
 import net.fortuna.ical4j.model.property.Summary;
+import net.fortuna.ical4j.model.property.Uid;
 import org.junit.jupiter.api.Test;
 import use_case.dto.CalendarRenderRequest;
 
@@ -86,6 +93,78 @@ class IcsCalendarRendererTest {
         assertThrows(IllegalArgumentException.class, () -> renderer.render(renderRequest));
     }
 
+    @Test
+    void renderToStreamsTheSameBytesAsRender() throws Exception {
+        Clock clock = Clock.fixed(Instant.parse("2026-02-01T12:00:00Z"), ZoneId.of("UTC"));
+        IcsCalendarRenderer renderer = new IcsCalendarRenderer(clock);
+        List<ScheduleEvent> events = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            events.add(new ScheduleEvent(
+                    "event-" + i,
+                    "user-7",
+                    "Lecture " + i + ", with a title long enough that it has to be folded onto a second line",
+                    "2026-03-10T15:00:00Z",
+                    "2026-03-10T16:00:00Z",
+                    "BA 2135; room \\ " + i,
+                    "Line one\nline two",
+                    SourceKind.TASK,
+                    "task-" + i
+            ));
+        }
+        CalendarRenderRequest renderRequest = new CalendarRenderRequest(
+                "-//MARBLE//Calendar Export//EN",
+                ZoneId.of("America/Toronto"),
+                "Lectures",
+                events
+        );
+
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        renderer.renderTo(renderRequest, streamed);
+
+        assertArrayEquals(renderer.render(renderRequest).getPayload(), streamed.toByteArray());
+        Calendar calendar = new CalendarBuilder().build(new ByteArrayInputStream(streamed.toByteArray()));
+        assertEquals(50, calendar.getComponents(Component.VEVENT).size());
+        for (String line : streamed.toString(StandardCharsets.UTF_8).split("\r\n")) {
+            assertTrue(line.length() <= 75, "Line not folded: " + line);
+        }
+    }
+
+    @Test
+    void deltaRequestsPublishChangesAndCancelDeletedEventsInASecondCalendar() throws Exception {
+        Clock clock = Clock.fixed(Instant.parse("2026-02-01T12:00:00Z"), ZoneId.of("UTC"));
+        IcsCalendarRenderer renderer = new IcsCalendarRenderer(clock);
+        ScheduleEvent moved = new ScheduleEvent("event-1", "user-7", "Lab", "2026-03-10T15:00:00Z",
+                "2026-03-10T16:00:00Z", "BA 2270", null, SourceKind.TASK, "task-1");
+        CalendarRenderRequest request = new CalendarRenderRequest("-//MARBLE//Calendar Export//EN",
+                ZoneId.of("America/Toronto"), "Changes", List.of(moved), Map.of("event-1", 2),
+                Map.of("event-2", 4), true);
+
+        byte[] payload = renderer.render(request).getPayload();
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        renderer.renderTo(request, streamed);
+
+        assertArrayEquals(payload, streamed.toByteArray());
+        String[] calendars = new String(payload, StandardCharsets.UTF_8).split("(?<=END:VCALENDAR\r\n)");
+        assertEquals(2, calendars.length);
+
+        Calendar published = parse(calendars[0]);
+        assertEquals("PUBLISH", published.getProperty(Property.METHOD).map(Property::getValue).orElseThrow());
+        VEvent publishedEvent = (VEvent) published.getComponents(Component.VEVENT).get(0);
+        assertEquals("2", publishedEvent.getProperty(Property.SEQUENCE).map(Property::getValue).orElseThrow());
+
+        Calendar cancelled = parse(calendars[1]);
+        assertEquals("CANCEL", cancelled.getProperty(Property.METHOD).map(Property::getValue).orElseThrow());
+        List<VEvent> cancelledEvents = cancelled.getComponents(Component.VEVENT);
+        assertEquals(1, cancelledEvents.size());
+        assertEquals("event-2", cancelledEvents.get(0).getUid().map(Uid::getValue).orElseThrow());
+        assertEquals("4", cancelledEvents.get(0).getProperty(Property.SEQUENCE).map(Property::getValue).orElseThrow());
+        assertEquals("CANCELLED", cancelledEvents.get(0).getProperty(Property.STATUS).map(Property::getValue).orElseThrow());
+    }
+
+    private static Calendar parse(String ics) throws Exception {
+        return new CalendarBuilder().build(new ByteArrayInputStream(ics.getBytes(StandardCharsets.UTF_8)));
+    }
+
     @Test
     void writesFixtureFileForManualInspection() throws Exception {
         Clock clock = Clock.fixed(Instant.parse("2026-02-01T12:00:00Z"), ZoneId.of("UTC"));
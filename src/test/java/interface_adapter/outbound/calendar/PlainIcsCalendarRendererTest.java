@@ -0,0 +1,160 @@
+package interface_adapter.outbound.calendar;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import entity.ScheduleEvent;
+import entity.SourceKind;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.Temporal;
+import java.util.List;
+import java.util.Map;
+import net.fortuna.ical4j.data.CalendarBuilder;
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.Component;
+import net.fortuna.ical4j.model.Property;
+import net.fortuna.ical4j.model.component.VEvent;
+import net.fortuna.ical4j.model.property.Categories;
+import net.fortuna.ical4j.model.property.Description;
+import net.fortuna.ical4j.model.property.DtEnd;
+import net.fortuna.ical4j.model.property.DtStart;
+import net.fortuna.ical4j.model.property.Location;
+import net.fortuna.ical4j.model.property.Summary;
+import net.fortuna.ical4j.model.property.Uid;
+import org.junit.jupiter.api.Test;
+import use_case.dto.CalendarRenderRequest;
+import use_case.dto.CalendarRenderResult;
+
+/**
+ * Round-trip tests for {@link PlainIcsCalendarRenderer}: everything it writes is read back with
+ * iCal4j's parser.
+ */
+class PlainIcsCalendarRendererTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-02-01T12:00:00Z"), ZoneId.of("UTC"));
+
+    private static final ScheduleEvent AWKWARD_EVENT = new ScheduleEvent(
+            "event-1,a;b",
+            "user-7",
+            "Midterm; part 1, \"review\" \\ — naïve café résumé, followed by enough text to be folded "
+                    + "more than once ✓✓✓✓✓✓✓✓✓✓✓✓✓✓✓✓✓✓✓✓✓✓✓✓✓✓✓✓✓✓ 🎓🎓🎓🎓🎓🎓🎓🎓🎓🎓🎓🎓🎓🎓",
+            "2026-03-10T15:00:00Z",
+            "2026-03-10T16:30:00Z",
+            "BA 1130, St. George",
+            "Line one\nline two\r\nline three",
+            SourceKind.ASSESSMENT,
+            "assessment-9"
+    );
+
+    private static CalendarRenderRequest requestFor(ZoneId zoneId, List<ScheduleEvent> events) {
+        return new CalendarRenderRequest("-//MARBLE//Calendar Export//EN", zoneId, "My Calendar", events);
+    }
+
+    private static VEvent onlyEvent(byte[] payload) throws Exception {
+        Calendar calendar = new CalendarBuilder().build(new ByteArrayInputStream(payload));
+        List<VEvent> events = calendar.getComponents(Component.VEVENT);
+        assertEquals(1, events.size());
+        return events.get(0);
+    }
+
+    private static Instant instantOf(Temporal temporal) {
+        return Instant.from(temporal);
+    }
+
+    @Test
+    void roundTripsEscapedAndFoldedTextThroughIcal4j() throws Exception {
+        PlainIcsCalendarRenderer renderer = new PlainIcsCalendarRenderer(CLOCK);
+
+        CalendarRenderResult result = renderer.render(requestFor(ZoneId.of("America/Toronto"), List.of(AWKWARD_EVENT)));
+
+        assertEquals("my_calendar.ics", result.getFilename());
+        assertEquals("text/calendar", result.getContentType());
+        VEvent event = onlyEvent(result.getPayload());
+        assertEquals(AWKWARD_EVENT.getTitle(), event.getSummary().map(Summary::getValue).orElseThrow());
+        assertEquals(AWKWARD_EVENT.getLocation(), event.getLocation().map(Location::getValue).orElseThrow());
+        assertEquals("Line one\nline two\nline three",
+                event.getDescription().map(Description::getValue).orElseThrow());
+        assertEquals("event-1,a;b", event.getUid().map(Uid::getValue).orElseThrow());
+        assertEquals("ASSESSMENT", event.getProperty("CATEGORIES").map(p -> ((Categories) p).getValue()).orElseThrow());
+        assertEquals(Instant.parse("2026-03-10T15:00:00Z"),
+                instantOf(event.getDateTimeStart().map(DtStart::getDate).orElseThrow()));
+        assertEquals(Instant.parse("2026-03-10T16:30:00Z"),
+                instantOf(event.getDateTimeEnd().map(DtEnd::getDate).orElseThrow()));
+    }
+
+    @Test
+    void foldsLinesAtSeventyFiveOctetsWithoutSplittingCharacters() {
+        PlainIcsCalendarRenderer renderer = new PlainIcsCalendarRenderer(CLOCK);
+
+        byte[] payload = renderer.render(requestFor(ZoneId.of("America/Toronto"), List.of(AWKWARD_EVENT))).getPayload();
+
+        String text = new String(payload, StandardCharsets.UTF_8);
+        assertFalse(text.contains("�"), "A fold split a character");
+        assertTrue(text.endsWith("END:VCALENDAR\r\n"));
+        for (String line : text.split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, "Line too long: " + line);
+        }
+        assertTrue(text.contains("DTSTART;TZID=America/Toronto:20260310T110000\r\n"));
+        assertTrue(text.contains("DTSTAMP:20260201T120000Z\r\n"));
+    }
+
+    @Test
+    void writesUtcTimesWithoutVTimeZone() throws Exception {
+        PlainIcsCalendarRenderer renderer = new PlainIcsCalendarRenderer(CLOCK);
+
+        byte[] payload = renderer.render(requestFor(ZoneId.of("UTC"), List.of(AWKWARD_EVENT))).getPayload();
+
+        String text = new String(payload, StandardCharsets.UTF_8);
+        assertFalse(text.contains("BEGIN:VTIMEZONE"));
+        assertTrue(text.contains("DTSTART:20260310T150000Z\r\n"));
+        VEvent event = onlyEvent(payload);
+        assertEquals(Instant.parse("2026-03-10T15:00:00Z"),
+                instantOf(event.getDateTimeStart().map(DtStart::getDate).orElseThrow()));
+    }
+
+    @Test
+    void renderToStreamsTheSameBytesAsRenderAndReusesTheZone() throws Exception {
+        PlainIcsCalendarRenderer renderer = new PlainIcsCalendarRenderer(CLOCK);
+        CalendarRenderRequest request = requestFor(ZoneId.of("Europe/Paris"), List.of(AWKWARD_EVENT, AWKWARD_EVENT));
+
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        renderer.renderTo(request, first);
+        byte[] second = renderer.render(request).getPayload();
+
+        assertArrayEquals(first.toByteArray(), second);
+        Calendar calendar = new CalendarBuilder().build(new ByteArrayInputStream(second));
+        assertEquals(2, calendar.getComponents(Component.VEVENT).size());
+        assertEquals(1, calendar.getComponents(Component.VTIMEZONE).size());
+    }
+
+    @Test
+    void cancellationOnlyDeltaWritesJustTheCancelCalendar() throws Exception {
+        PlainIcsCalendarRenderer renderer = new PlainIcsCalendarRenderer(CLOCK);
+        CalendarRenderRequest request = new CalendarRenderRequest("-//MARBLE//Calendar Export//EN",
+                ZoneId.of("America/Toronto"), "Changes", List.of(), Map.of(), Map.of("event-1,a;b", 3), true);
+
+        byte[] payload = renderer.render(request).getPayload();
+
+        Calendar calendar = new CalendarBuilder().build(new ByteArrayInputStream(payload));
+        assertEquals("CANCEL", calendar.getProperty(Property.METHOD).map(Property::getValue).orElseThrow());
+        VEvent event = onlyEvent(payload);
+        assertEquals("event-1,a;b", event.getUid().map(Uid::getValue).orElseThrow());
+        assertEquals("3", event.getProperty(Property.SEQUENCE).map(Property::getValue).orElseThrow());
+        assertEquals("CANCELLED", event.getProperty(Property.STATUS).map(Property::getValue).orElseThrow());
+        assertFalse(new String(payload, StandardCharsets.UTF_8).contains("BEGIN:VTIMEZONE"));
+    }
+
+    @Test
+    void rejectsEmptyEventCollections() {
+        PlainIcsCalendarRenderer renderer = new PlainIcsCalendarRenderer(CLOCK);
+
+        assertThrows(IllegalArgumentException.class, () -> renderer.render(requestFor(ZoneId.of("UTC"), List.of())));
+    }
+}
@@ -0,0 +1,217 @@
+package use_case.repository;
+
+import entity.Assessment;
+import entity.AssessmentType;
+import entity.GradeAggregate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingAssessmentRepositoryTest {
+    private CountingRepository delegate;
+    private MutableClock clock;
+    private CachingAssessmentRepository cache;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingRepository();
+        delegate.save(assessment("A1", "C1", "Midterm", -1.0));
+        delegate.save(assessment("A2", "C1", "Final", -1.0));
+        delegate.save(assessment("B1", "C2", "Essay", -1.0));
+        clock = new MutableClock(Instant.parse("2025-09-01T00:00:00Z"));
+        cache = new CachingAssessmentRepository(delegate, 2, Duration.ofMinutes(5), clock);
+    }
+
+    @Test
+    void repeatedReadsOfACourseHitTheCache() {
+        assertEquals(2, cache.findByCourseId("C1").size());
+        assertEquals(2, cache.findByCourseId("C1").size());
+
+        assertEquals(1, delegate.courseLookups);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertThrows(UnsupportedOperationException.class,
+                () -> cache.findByCourseId("C1").add(assessment("X", "C1", "X", -1.0)));
+    }
+
+    @Test
+    void updatePatchesTheCachedCourseInsteadOfReloading() {
+        cache.findByCourseId("C1");
+
+        Assessment graded = cache.findById("A1").orElseThrow();
+        cache.update(assessment(graded.getAssessmentId(), "C1", graded.getTitle(), 87.5));
+
+        List<Assessment> reloaded = cache.findByCourseId("C1");
+        assertEquals(1, delegate.courseLookups);
+        assertEquals(0, delegate.idLookups);
+        assertEquals(87.5, reloaded.get(0).getGrade(), 0.0001);
+        assertEquals(87.5, delegate.findById("A1").orElseThrow().getGrade(), 0.0001);
+    }
+
+    @Test
+    void failedWriteLeavesTheSnapshotAlone() {
+        cache.findByCourseId("C1");
+        delegate.failWrites = true;
+
+        assertThrows(IllegalStateException.class,
+                () -> cache.update(assessment("A1", "C1", "Midterm", 87.5)));
+        assertThrows(IllegalStateException.class, () -> cache.deleteById("A2"));
+
+        List<Assessment> cached = cache.findByCourseId("C1");
+        assertEquals(Arrays.asList("A1", "A2"), ids(cached));
+        assertEquals(-1.0, cached.get(0).getGrade(), 0.0001);
+        assertEquals(1, delegate.courseLookups);
+    }
+
+    @Test
+    void saveAndDeleteAreReflectedInTheSnapshot() {
+        cache.findByCourseId("C1");
+
+        cache.save(assessment("A3", "C1", "Quiz", -1.0));
+        cache.deleteById("A2");
+
+        assertEquals(Arrays.asList("A1", "A3"), ids(cache.findByCourseId("C1")));
+        assertEquals(1, delegate.courseLookups);
+    }
+
+    @Test
+    void snapshotsExpireAfterTheTtl() {
+        cache.findByCourseId("C1");
+        clock.advance(Duration.ofMinutes(5));
+
+        cache.findByCourseId("C1");
+
+        assertEquals(2, delegate.courseLookups);
+    }
+
+    @Test
+    void leastRecentlyUsedCourseIsEvicted() {
+        delegate.save(assessment("D1", "C3", "Lab", -1.0));
+        cache.findByCourseId("C1");
+        cache.findByCourseId("C2");
+        cache.findByCourseId("C1");
+        cache.findByCourseId("C3");
+
+        assertEquals(2, cache.getCachedCourseCount());
+        cache.findByCourseId("C1");
+        assertEquals(3, delegate.courseLookups);
+        cache.findByCourseId("C2");
+        assertEquals(4, delegate.courseLookups);
+    }
+
+    @Test
+    void findByCourseIdsOnlyLoadsMissingCourses() {
+        cache.findByCourseId("C1");
+
+        List<Assessment> all = cache.findByCourseIds(Arrays.asList("C1", "C2"));
+
+        assertEquals(3, all.size());
+        assertEquals(2, delegate.courseLookups); // C1 earlier, C2 through the default batch lookup
+        assertEquals(1, cache.findByCourseId("C2").size());
+        assertEquals(2, delegate.courseLookups);
+    }
+
+    @Test
+    void gradeTotalsFollowWritesWithoutReloading() {
+        cache.findByCourseId("C1");
+
+        cache.update(assessment("A1", "C1", "Midterm", 80.0));
+        cache.save(assessment("A3", "C1", "Quiz", 100.0));
+        cache.deleteById("A2");
+
+        GradeAggregate cached = cache.findGradeAggregate("C1");
+        assertEquals(0.5, cached.getTotalWeight(), 1e-9);
+        assertEquals(0.5, cached.getGradedWeight(), 1e-9);
+        assertEquals(45.0, cached.getWeightedScore(), 1e-9);
+        assertEquals(0, cached.getRemainingCount());
+        assertEquals(1, delegate.courseLookups);
+        // The in-memory delegate keeps its own totals up to date on every write
+        GradeAggregate kept = delegate.findGradeAggregate("C1");
+        assertEquals(45.0, kept.getWeightedScore(), 1e-9);
+        assertEquals(1, delegate.findGradeAggregate("C2").getRemainingCount());
+        assertEquals(1, delegate.courseLookups);
+    }
+
+    private static Assessment assessment(String id, String courseId, String title, double grade) {
+        return new Assessment(id, courseId, title, AssessmentType.TEST, grade,
+                null, "2025-10-01T10:00:00Z", 60L, 0.25, "", "");
+    }
+
+    private static List<String> ids(List<Assessment> assessments) {
+        return assessments.stream().map(Assessment::getAssessmentId).collect(java.util.stream.Collectors.toList());
+    }
+
+    private static final class CountingRepository extends InMemoryAssessmentRepository {
+        int courseLookups;
+        int idLookups;
+        boolean failWrites;
+
+        @Override
+        public List<Assessment> findByCourseId(String courseId) {
+            courseLookups++;
+            List<Assessment> result = super.findByCourseId(courseId);
+            result.sort(java.util.Comparator.comparing(Assessment::getAssessmentId));
+            return result;
+        }
+
+        @Override
+        public java.util.Optional<Assessment> findById(String assessmentId) {
+            idLookups++;
+            return super.findById(assessmentId);
+        }
+
+        @Override
+        public void update(Assessment assessment) {
+            checkWritable();
+            super.update(assessment);
+        }
+
+        @Override
+        public void deleteById(String assessmentId) {
+            checkWritable();
+            super.deleteById(assessmentId);
+        }
+
+        private void checkWritable() {
+            if (failWrites) {
+                throw new IllegalStateException("write failed");
+            }
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package use_case.service;
+
+import entity.AssessmentType;
+import org.junit.jupiter.api.Test;
+import use_case.dto.AssessmentDraftData;
+import use_case.dto.BatchSyllabusUploadOutputData;
+import use_case.dto.SyllabusParseResultData;
+import use_case.dto.SyllabusUploadInputData;
+import use_case.port.outgoing.AiExtractionDataAccessInterface;
+import use_case.port.outgoing.PdfExtractionDataAccessInterface;
+import use_case.repository.SyllabusImportUnitOfWork;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSyllabusUploadInteractorTest {
+    private final List<BatchSyllabusUploadOutputData> presented = new ArrayList<>();
+    private final List<String> savedCourses = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void eachFileGetsItsOwnResultInInputOrder() {
+        PdfExtractionDataAccessInterface pdf = path -> {
+            if (path.contains("broken")) {
+                throw new IllegalStateException("Unreadable PDF");
+            }
+            return path;
+        };
+        AiExtractionDataAccessInterface ai = text -> parseResult(text);
+        SyllabusImportUnitOfWork unitOfWork = (course, syllabus, assessments) -> savedCourses.add(course.getName());
+
+        new BatchSyllabusUploadInteractor(pdf, ai, unitOfWork, presented::add, 2, 2)
+                .execute(uploads("a.pdf", "broken.pdf", "c.pdf"));
+
+        assertEquals(1, presented.size());
+        BatchSyllabusUploadOutputData output = presented.get(0);
+        assertEquals(2, output.getSucceededCount());
+        assertEquals(1, output.getFailedCount());
+
+        List<BatchSyllabusUploadOutputData.FileResult> results = output.getResults();
+        assertEquals("a.pdf", results.get(0).getSourceFilePath());
+        assertEquals("a.pdf", results.get(0).getOutput().getCourseName());
+        assertEquals(1, results.get(0).getOutput().getAssessmentCount());
+        assertEquals("broken.pdf", results.get(1).getSourceFilePath());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("Failed to process syllabus: Unreadable PDF", results.get(1).getErrorMessage());
+        assertTrue(results.get(2).isSuccess());
+        assertEquals(2, savedCourses.size());
+    }
+
+    @Test
+    void saveFailureOnlyFailsThatFile() {
+        SyllabusImportUnitOfWork unitOfWork = (course, syllabus, assessments) -> {
+            if (course.getName().equals("b.pdf")) {
+                throw new java.sql.SQLException("disk full");
+            }
+            savedCourses.add(course.getName());
+        };
+
+        new BatchSyllabusUploadInteractor(path -> path, BatchSyllabusUploadInteractorTest::parseResult,
+                unitOfWork, presented::add, 2, 2)
+                .execute(uploads("a.pdf", "b.pdf"));
+
+        BatchSyllabusUploadOutputData output = presented.get(0);
+        assertTrue(output.getResults().get(0).isSuccess());
+        assertEquals("Failed to process syllabus: disk full", output.getResults().get(1).getErrorMessage());
+        assertEquals(List.of("a.pdf"), savedCourses);
+    }
+
+    @Test
+    void aiCallsOverlapUpToTheLimitAndSavesNeverDo() {
+        AtomicInteger activeAiCalls = new AtomicInteger();
+        AtomicInteger maxActiveAiCalls = new AtomicInteger();
+        AtomicInteger activeSaves = new AtomicInteger();
+        AtomicInteger maxActiveSaves = new AtomicInteger();
+
+        AiExtractionDataAccessInterface ai = text -> {
+            maxActiveAiCalls.accumulateAndGet(activeAiCalls.incrementAndGet(), Math::max);
+            sleep(100);
+            activeAiCalls.decrementAndGet();
+            return parseResult(text);
+        };
+        SyllabusImportUnitOfWork unitOfWork = (course, syllabus, assessments) -> {
+            maxActiveSaves.accumulateAndGet(activeSaves.incrementAndGet(), Math::max);
+            sleep(10);
+            activeSaves.decrementAndGet();
+        };
+
+        new BatchSyllabusUploadInteractor(path -> path, ai, unitOfWork, presented::add, 4, 2)
+                .execute(uploads("a.pdf", "b.pdf", "c.pdf", "d.pdf", "e.pdf", "f.pdf"));
+
+        assertEquals(6, presented.get(0).getSucceededCount());
+        assertEquals(2, maxActiveAiCalls.get());
+        assertEquals(1, maxActiveSaves.get());
+    }
+
+    @Test
+    void emptyBatchPresentsAnEmptyResult() {
+        new BatchSyllabusUploadInteractor(path -> path, BatchSyllabusUploadInteractorTest::parseResult,
+                (course, syllabus, assessments) -> { }, presented::add)
+                .execute(List.of());
+
+        assertEquals(0, presented.get(0).getResults().size());
+    }
+
+    private static List<SyllabusUploadInputData> uploads(String... paths) {
+        List<SyllabusUploadInputData> uploads = new ArrayList<>();
+        for (String path : paths) {
+            uploads.add(new SyllabusUploadInputData("user123", path));
+        }
+        return uploads;
+    }
+
+    // The course name echoes the extracted text, which echoes the file path
+    private static SyllabusParseResultData parseResult(String text) {
+        return new SyllabusParseResultData("CSC207", text, "Fall 2025", "Prof. Shorser", List.of(
+                new AssessmentDraftData("Midterm", AssessmentType.EXAM, "2025-10-20T14:00:00Z", 30.0)));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
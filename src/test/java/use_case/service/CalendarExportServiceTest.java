@@ -10,11 +10,17 @@ import entity.Assessment;
 import entity.ScheduleEvent;
 import entity.SourceKind;
 import entity.AssessmentType;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,8 +28,13 @@ import use_case.dto.CalendarExportRequest;
 import use_case.dto.CalendarExportResponse;
 import use_case.dto.CalendarRenderRequest;
 import use_case.dto.CalendarRenderResult;
+import use_case.dto.ScheduleEventSnapshot;
+import use_case.dto.ScheduledTaskSnapshot;
 import use_case.port.outgoing.CalendarRenderPort;
+import use_case.port.outgoing.ScheduleEventQueryPort;
+import use_case.port.outgoing.ScheduledTaskQueryPort;
 import use_case.repository.AssessmentRepository;
+import use_case.repository.InMemoryCalendarExportStateRepository;
 import use_case.repository.ScheduleEventRepository;
 
 /**
@@ -126,6 +137,225 @@ class CalendarExportServiceTest {
         assertFalse(scheduleEventRepository.wasCalled());
     }
 
+    @Test
+    void exportCalendarToFileStreamsIntoTheTarget() throws Exception {
+        ScheduleEvent event = new ScheduleEvent(
+                "event-1",
+                "user-22",
+                "Design Review",
+                "2026-03-01T15:00:00Z",
+                "2026-03-01T16:00:00Z",
+                "BA 3155",
+                "Bring diagrams",
+                SourceKind.ASSESSMENT,
+                "assessment-42"
+        );
+        CalendarExportRequest request = new CalendarExportRequest(
+                "user-22",
+                "UTC",
+                List.of(),
+                null,
+                null,
+                List.of(event),
+                "Deliverables"
+        );
+        Path target = Files.createTempFile("export", ".ics");
+        Files.writeString(target, "an older, longer export that must be replaced entirely");
+
+        int written = service.exportCalendarToFile(request, target);
+
+        assertEquals(1, written);
+        assertEquals("BEGIN:VCALENDAR", Files.readString(target));
+        assertEquals("Design Review", renderPort.lastRequest.getEvents().get(0).getTitle());
+        assertEquals("", outputPort.lastError);
+    }
+
+    @Test
+    void exportCalendarToFileReportsRendererFailures() throws Exception {
+        renderPort.fail = true;
+        CalendarExportRequest request = new CalendarExportRequest(
+                "user-22",
+                "UTC",
+                List.of(),
+                null,
+                null,
+                List.of(new ScheduleEvent("event-1", "user-22", "Demo", "2026-03-05T19:00:00Z",
+                        "2026-03-05T20:30:00Z", null, null, SourceKind.ASSESSMENT, "assessment-43")),
+                "Deliverables"
+        );
+
+        Path directory = Files.createTempDirectory("export");
+        Path target = directory.resolve("schedule.ics");
+        Files.writeString(target, "the previous export");
+
+        int written = service.exportCalendarToFile(request, target);
+
+        assertEquals(0, written);
+        assertEquals("Failed to export calendar: Renderer failure", outputPort.lastError);
+        // The half-written calendar never replaced the previous one
+        assertEquals("the previous export", Files.readString(target));
+        try (var files = Files.list(directory)) {
+            assertEquals(List.of(target), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void exportChangesSendsOnlyNewAndChangedEventsAndCancelsDeletedOnes() {
+        service = new CalendarExportService(assessmentRepository, scheduleEventRepository, renderPort, outputPort,
+                new InMemoryCalendarExportStateRepository());
+        ScheduleEvent lecture = deltaEvent("event-1", "Lecture", "MY 150");
+        ScheduleEvent lab = deltaEvent("event-2", "Lab", "BA 3185");
+        ScheduleEvent tutorial = deltaEvent("event-3", "Tutorial", "SS 1069");
+        service.confirmExport(service.exportCalendar(deltaRequest(List.of(lecture, lab, tutorial))));
+        assertEquals(Integer.valueOf(0), renderPort.lastRequest.getSequence("event-1"));
+        assertFalse(renderPort.lastRequest.isDelta());
+
+        ScheduleEvent movedLab = deltaEvent("event-2", "Lab", "BA 2270");
+        ScheduleEvent quiz = deltaEvent("event-4", "Quiz", "EX 100");
+        List<CalendarExportResponse> responses = service.exportCalendarChanges(
+                deltaRequest(List.of(lecture, movedLab, quiz)));
+
+        // The cancellations are a file of their own
+        CalendarRenderRequest delta = renderPort.requests.get(renderPort.requests.size() - 2);
+        assertTrue(delta.isDelta());
+        assertEquals("Term-changes", delta.getFilenameHint());
+        assertEquals(List.of("event-2", "event-4"), delta.getEvents().stream()
+                .map(ScheduleEvent::getEventId)
+                .collect(Collectors.toList()));
+        assertEquals(Integer.valueOf(1), delta.getSequence("event-2"));
+        assertEquals(Integer.valueOf(0), delta.getSequence("event-4"));
+        assertTrue(delta.getCancellations().isEmpty());
+        CalendarRenderRequest cancellations = renderPort.lastRequest;
+        assertEquals("Term-cancellations", cancellations.getFilenameHint());
+        assertTrue(cancellations.getEvents().isEmpty());
+        assertEquals(Map.of("event-3", 1), cancellations.getCancellations());
+        assertEquals(2, responses.size());
+        assertEquals(2, responses.get(0).getEventCount());
+        assertEquals(1, responses.get(1).getEventCount());
+        assertEquals(responses.get(1), outputPort.lastResponse);
+        assertEquals("", outputPort.lastError);
+        responses.forEach(service::confirmExport);
+
+        assertTrue(service.exportCalendarChanges(deltaRequest(List.of(lecture, movedLab, quiz))).isEmpty());
+        assertEquals("The calendar is already up to date for user user-5", outputPort.lastError);
+    }
+
+    @Test
+    void queryPortsReplaceTheRepositoriesAndReceiveTheWindow() {
+        Instant windowStart = Instant.parse("2026-03-01T00:00:00Z");
+        Instant windowEnd = Instant.parse("2026-03-15T00:00:00Z");
+        StubQueryPorts queryPorts = new StubQueryPorts();
+        queryPorts.tasks.add(new ScheduledTaskSnapshot("exam-1", "user-3", "course-1", "Midterm",
+                Instant.parse("2026-03-10T16:30:00Z"), 90, 0.25, "EX 100", null));
+        queryPorts.events.add(new ScheduleEventSnapshot("event-1", "user-3", "Study group",
+                Instant.parse("2026-03-11T18:00:00Z"), Instant.parse("2026-03-11T19:00:00Z"), null, null,
+                SourceKind.TASK, "task-1"));
+        service = new CalendarExportService(assessmentRepository, scheduleEventRepository, renderPort, outputPort,
+                new InMemoryCalendarExportStateRepository(), queryPorts, queryPorts);
+
+        CalendarExportResponse response = service.exportCalendar(new CalendarExportRequest(
+                "user-3", "UTC", List.of("course-1"), windowStart, windowEnd, List.of(), "Next two weeks"));
+
+        assertEquals(2, response.getEventCount());
+        assertFalse(assessmentRepository.wasCalled());
+        assertFalse(scheduleEventRepository.wasCalled());
+        assertEquals(List.of("course-1"), queryPorts.taskCourseIds);
+        assertEquals(List.of(), queryPorts.eventCourseIds);
+        assertEquals(Optional.of(windowStart), queryPorts.windowStart);
+        assertEquals(Optional.of(windowEnd), queryPorts.windowEnd);
+        ScheduleEvent exam = renderPort.lastRequest.getEvents().get(0);
+        assertEquals("assessment-exam-1", exam.getEventId());
+        assertEquals("2026-03-10T15:00:00Z", exam.getStartsAt());
+        assertEquals("2026-03-10T16:30:00Z", exam.getEndsAt());
+        assertEquals(SourceKind.ASSESSMENT, exam.getSource());
+        assertTrue(exam.getNotes().startsWith("Weight: 0"));
+        assertEquals("event-1", renderPort.lastRequest.getEvents().get(1).getEventId());
+    }
+
+    @Test
+    void exportChangesLeavesTheStoredStateAloneWhenRenderingFails() {
+        ScheduleEvent lecture = deltaEvent("event-1", "Lecture", "MY 150");
+        service.confirmExport(service.exportCalendar(deltaRequest(List.of(lecture))));
+
+        renderPort.fail = true;
+        assertTrue(service.exportCalendarChanges(
+                deltaRequest(List.of(deltaEvent("event-1", "Lecture", "MY 330")))).isEmpty());
+        assertEquals("Failed to export calendar changes: Renderer failure", outputPort.lastError);
+
+        renderPort.fail = false;
+        service.exportCalendarChanges(deltaRequest(List.of(deltaEvent("event-1", "Lecture", "MY 330"))));
+        assertEquals(Integer.valueOf(1), renderPort.lastRequest.getSequence("event-1"));
+    }
+
+    @Test
+    void exportChangesTracksEachCourseSelectionSeparately() {
+        ScheduleEvent lecture = deltaEvent("event-1", "Lecture", "MY 150");
+        service.confirmExport(service.exportCalendar(deltaRequest(List.of(lecture))));
+
+        CalendarExportRequest otherCourse = new CalendarExportRequest("user-5", "UTC", List.of("course-2"),
+                null, null, List.of(deltaEvent("event-9", "Seminar", "UC 161")), "Term");
+        service.exportCalendarChanges(otherCourse);
+
+        assertTrue(renderPort.lastRequest.getCancellations().isEmpty());
+        assertEquals(1, renderPort.lastRequest.getEvents().size());
+    }
+
+    @Test
+    void exportsAreRecordedOnlyOnceTheirSaveIsConfirmed() {
+        ScheduleEvent lecture = deltaEvent("event-1", "Lecture", "MY 150");
+        CalendarExportResponse unsaved = service.exportCalendar(deltaRequest(List.of(lecture)));
+        service.discardExport(unsaved);
+        // A discarded export can no longer be confirmed
+        service.confirmExport(unsaved);
+
+        List<CalendarExportResponse> changes = service.exportCalendarChanges(deltaRequest(List.of(lecture)));
+        assertEquals(List.of(lecture), renderPort.lastRequest.getEvents());
+        assertEquals(Integer.valueOf(0), renderPort.lastRequest.getSequence("event-1"));
+
+        changes.forEach(service::confirmExport);
+        assertTrue(service.exportCalendarChanges(deltaRequest(List.of(lecture))).isEmpty());
+    }
+
+    @Test
+    void unconfirmedExportsAreForgottenOldestFirst() {
+        ScheduleEvent lecture = deltaEvent("event-1", "Lecture", "MY 150");
+        CalendarExportResponse oldest = service.exportCalendar(deltaRequest(List.of(lecture)));
+        for (int i = 0; i < CalendarExportService.MAX_PENDING_EXPORTS; i++) {
+            service.exportCalendar(deltaRequest(List.of(lecture)));
+        }
+
+        service.confirmExport(oldest);
+
+        assertEquals(1, service.exportCalendarChanges(deltaRequest(List.of(lecture))).size());
+    }
+
+    @Test
+    void cancellationsStayPendingUntilTheirOwnFileIsSaved() {
+        ScheduleEvent lecture = deltaEvent("event-1", "Lecture", "MY 150");
+        ScheduleEvent lab = deltaEvent("event-2", "Lab", "BA 3185");
+        service.confirmExport(service.exportCalendar(deltaRequest(List.of(lecture, lab))));
+
+        ScheduleEvent movedLecture = deltaEvent("event-1", "Lecture", "MY 330");
+        List<CalendarExportResponse> responses = service.exportCalendarChanges(
+                deltaRequest(List.of(movedLecture)));
+        service.confirmExport(responses.get(0));
+        service.discardExport(responses.get(1));
+
+        List<CalendarExportResponse> retry = service.exportCalendarChanges(deltaRequest(List.of(movedLecture)));
+        assertEquals(1, retry.size());
+        assertTrue(renderPort.lastRequest.getEvents().isEmpty());
+        assertEquals(Map.of("event-2", 1), renderPort.lastRequest.getCancellations());
+    }
+
+    private static ScheduleEvent deltaEvent(String eventId, String title, String location) {
+        return new ScheduleEvent(eventId, "user-5", title, "2026-03-02T14:00:00Z", "2026-03-02T15:00:00Z",
+                location, null, SourceKind.TASK, "task-" + eventId);
+    }
+
+    private static CalendarExportRequest deltaRequest(List<ScheduleEvent> events) {
+        return new CalendarExportRequest("user-5", "UTC", List.of("course-1"), null, null, events, "Term");
+    }
+
     @Test
     void loadsAssessmentsAndEventsWhenRequestHasNoEvents() {
         Assessment assessment = new Assessment(
@@ -565,38 +795,6 @@ class CalendarExportServiceTest {
 
     @Test
     void helperMethodsCoverage() throws Exception {
-        // resolveEnd branches
-        Method resolveEnd = CalendarExportService.class.getDeclaredMethod("resolveEnd", Assessment.class, Instant.class);
-        resolveEnd.setAccessible(true);
-        Assessment withEnds = new Assessment("a1", "c1", "title", AssessmentType.EXAM, 0.0,
-                "2026-01-01T00:00:00Z", "2026-01-02T00:00:00Z", null, null, null, null);
-        String end1 = (String) resolveEnd.invoke(service, withEnds, Instant.parse("2026-01-01T00:00:00Z"));
-        assertEquals("2026-01-02T00:00:00Z", end1);
-
-        Assessment withDuration = new Assessment("a2", "c1", "title", AssessmentType.EXAM, 0.0,
-                "2026-01-01T00:00:00Z", null, 90L, null, null, null);
-        String end2 = (String) resolveEnd.invoke(service, withDuration, Instant.parse("2026-01-01T00:00:00Z"));
-        assertTrue(end2.contains("T01:30:00Z") || end2.contains("T01:30:00"), "Should add duration to start");
-
-        Assessment withDefault = new Assessment("a3", "c1", "title", AssessmentType.EXAM, 0.0,
-                "2026-01-01T00:00:00Z", null, null, null, null, null);
-        String end3 = (String) resolveEnd.invoke(service, withDefault, Instant.parse("2026-01-01T00:00:00Z"));
-        assertTrue(end3.contains("T01:00:00Z") || end3.contains("T01:00:00"), "Should default to +1h");
-
-        Assessment withBlankEnds = new Assessment("a4", "c1", "title", AssessmentType.EXAM, 0.0,
-                "2026-01-01T00:00:00Z", "", null, null, null, null);
-        String end4 = (String) resolveEnd.invoke(service, withBlankEnds, Instant.parse("2026-01-01T00:00:00Z"));
-        assertTrue(end4.contains("T01:00:00Z") || end4.contains("T01:00:00"), "Blank endsAt should default");
-
-        // parseInstant branches
-        Method parseInstant = CalendarExportService.class.getDeclaredMethod("parseInstant", String.class);
-        parseInstant.setAccessible(true);
-        assertTrue(((java.util.Optional<?>) parseInstant.invoke(service, (Object) null)).isEmpty());
-        assertTrue(((java.util.Optional<?>) parseInstant.invoke(service, "")).isEmpty());
-        assertTrue(((java.util.Optional<?>) parseInstant.invoke(service, "not-a-date")).isEmpty());
-        assertTrue(((java.util.Optional<?>) parseInstant.invoke(service, "2026-02-01T10:00:00Z")).isPresent());
-        assertTrue(((java.util.Optional<?>) parseInstant.invoke(service, "2026-02-01T10:00:00+01:00")).isPresent());
-
         // withinWindow branches
         Method withinWindow = CalendarExportService.class.getDeclaredMethod("withinWindow", Instant.class, java.util.Optional.class, java.util.Optional.class);
         withinWindow.setAccessible(true);
@@ -740,18 +938,57 @@ class CalendarExportServiceTest {
         }
     }
 
+    private static final class StubQueryPorts implements ScheduledTaskQueryPort, ScheduleEventQueryPort {
+        private final List<ScheduledTaskSnapshot> tasks = new ArrayList<>();
+        private final List<ScheduleEventSnapshot> events = new ArrayList<>();
+        private List<String> taskCourseIds;
+        private List<String> eventCourseIds;
+        private Optional<Instant> windowStart;
+        private Optional<Instant> windowEnd;
+
+        @Override
+        public List<ScheduledTaskSnapshot> findTasksForExport(String userId, List<String> courseIds,
+                                                              Optional<Instant> windowStart,
+                                                              Optional<Instant> windowEnd) {
+            this.taskCourseIds = courseIds;
+            this.windowStart = windowStart;
+            this.windowEnd = windowEnd;
+            return tasks;
+        }
+
+        @Override
+        public List<ScheduleEventSnapshot> findScheduleEvents(String userId, List<String> courseIds,
+                                                              Optional<Instant> windowStart,
+                                                              Optional<Instant> windowEnd) {
+            this.eventCourseIds = courseIds;
+            return events;
+        }
+    }
+
     private static final class RecordingRenderPort implements CalendarRenderPort {
+        private final List<CalendarRenderRequest> requests = new ArrayList<>();
         private CalendarRenderRequest lastRequest;
         private boolean fail;
 
         @Override
         public CalendarRenderResult render(CalendarRenderRequest request) {
+            this.requests.add(request);
             this.lastRequest = request;
             if (fail) {
                 throw new IllegalStateException("Renderer failure");
             }
             return new CalendarRenderResult("BEGIN:VCALENDAR".getBytes(), "test.ics", "text/calendar");
         }
+
+        @Override
+        public void renderTo(CalendarRenderRequest request, OutputStream out) throws IOException {
+            if (fail) {
+                this.lastRequest = request;
+                out.write("BEGIN:VCAL".getBytes());
+                throw new IllegalStateException("Renderer failure");
+            }
+            CalendarRenderPort.super.renderTo(request, out);
+        }
     }
 
     private static final class CapturingOutputPort implements use_case.port.outgoing.CalendarExportOutputPort {
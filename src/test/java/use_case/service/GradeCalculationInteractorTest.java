@@ -9,6 +9,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 import use_case.dto.GradeCalculationInputData;
 import use_case.dto.GradeCalculationOutputData;
+import use_case.repository.InMemoryAssessmentRepository;
 
 class GradeCalculationInteractorTest {
 
@@ -106,13 +107,73 @@ class GradeCalculationInteractorTest {
         assertTrue(requiredAverage < 0.0);
     }
 
+    @Test
+    void readsTheRepositoryTotalsWhenTheRequestHasNoAssessments() {
+        List<Assessment> assessments = List.of(
+                assessment("a1", 0.3, 70),
+                assessment("a2", 0.4, -1),
+                assessment("a3", 0.3, -1)
+        );
+        CountingRepository repository = new CountingRepository();
+        assessments.forEach(repository::save);
+        repository.update(assessment("a1", 0.3, 75));
+        GradeCalculationInteractor service = new GradeCalculationInteractor(repository);
+
+        GradeCalculationOutputData noTarget = service.calculateTargets(
+                new GradeCalculationInputData("CSC207", "user-1", 0, null));
+        GradeCalculationOutputData withTarget = service.calculateTargets(
+                new GradeCalculationInputData("CSC207", "user-1", 80, null));
+
+        assertEquals(75.0, noTarget.getProjectedPercent(), 1e-9);
+        assertEquals(3, noTarget.getRequiredScores().size());
+        List<Assessment> expected = calculate(List.of(
+                assessment("a1", 0.3, 75), assessment("a2", 0.4, -1), assessment("a3", 0.3, -1)), 80)
+                .getRequiredScores();
+        assertEquals(expected.size(), withTarget.getRequiredScores().size());
+        assertEquals(expected.get(3).getGrade(), withTarget.getRequiredScores().get(3).getGrade(), 1e-9);
+        // Only the target needed the ungraded assessments themselves
+        assertEquals(1, repository.courseLookups);
+    }
+
+    @Test
+    void noRequiredAverageOnceEveryAssessmentIsGradedInAnyOrder() {
+        InMemoryAssessmentRepository repository = new InMemoryAssessmentRepository();
+        repository.save(assessment("a1", 0.1, -1));
+        repository.save(assessment("a2", 0.2, -1));
+        repository.save(assessment("a3", 0.3, -1));
+        // Graded in the reverse order, the graded weight rounds differently from the total weight
+        repository.update(assessment("a3", 0.3, 90));
+        repository.update(assessment("a2", 0.2, 80));
+        repository.update(assessment("a1", 0.1, 70));
+        GradeCalculationInteractor service = new GradeCalculationInteractor(repository);
+
+        GradeCalculationOutputData response = service.calculateTargets(
+                new GradeCalculationInputData("CSC207", "user-1", 80, null));
+
+        double expectedPercent = (0.1 * 70 + 0.2 * 80 + 0.3 * 90) / 0.6;
+        assertEquals(3, response.getRequiredScores().size());
+        assertEquals(expectedPercent, response.getRequiredScores().get(0).getGrade(), 1e-9);
+        assertEquals(expectedPercent, response.getRequiredScores().get(1).getGrade(), 1e-9);
+        assertEquals(expectedPercent, response.getProjectedPercent(), 1e-9);
+    }
+
+    private static final class CountingRepository extends InMemoryAssessmentRepository {
+        int courseLookups;
+
+        @Override
+        public List<Assessment> findByCourseId(String courseId) {
+            courseLookups++;
+            return super.findByCourseId(courseId);
+        }
+    }
+
     private GradeCalculationOutputData calculate(List<Assessment> assessments, double targetPercent) {
         GradeCalculationInteractor service = new GradeCalculationInteractor(assessments);
         GradeCalculationInputData request = new GradeCalculationInputData("CSC207", "user-1", targetPercent, assessments);
         return service.calculateTargets(request);
     }
 
-    private Assessment assessment(String id, double weight, double grade) {
+    private static Assessment assessment(String id, double weight, double grade) {
         return new Assessment(
                 id,
                 "CSC207",
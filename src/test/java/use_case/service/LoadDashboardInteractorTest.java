@@ -100,6 +100,65 @@ class LoadDashboardInteractorTest { // package-private to align with style
         assertEquals("OTHER", byTitle.get("Empty Date").getType());
     }
 
+    // All courses are loaded with one findByCourseIds call and regrouped per course
+    @Test
+    void execute_loadsAssessmentsForAllCoursesAtOnce() {
+        CourseRepository courseRepo = new CourseRepository() {
+            @Override
+            public List<Course> findByUserId(String userId) { return Arrays.asList(
+                    new Course("C1", userId, "MAT101", "Calculus", null, null),
+                    new Course("C2", userId, "CSC207", "Software Design", null, null),
+                    new Course("C3", userId, "HIS101", "History", null, null)); }
+            @Override
+            public void save(Course course) { /* no-op test stub */ }
+        };
+        List<Collection<String>> batchCalls = new ArrayList<>();
+        AssessmentRepository assessmentRepo = new AssessmentRepository() {
+            @Override
+            public List<Assessment> findByCourseId(String courseId) {
+                throw new AssertionError("dashboard should not query course by course");
+            }
+            @Override
+            public List<Assessment> findByCourseIds(Collection<String> courseIds) {
+                batchCalls.add(courseIds);
+                return Arrays.asList(
+                        new Assessment("A1", "C2", "Phase 1", AssessmentType.PROJECT, 0.0,
+                                null, null, null, null, null, null),
+                        new Assessment("A2", "C1", "Midterm", AssessmentType.TEST, 0.0,
+                                null, null, null, null, null, null),
+                        new Assessment("A3", "C2", "Phase 2", AssessmentType.PROJECT, 0.0,
+                                null, null, null, null, null, null)
+                );
+            }
+            @Override
+            public void save(Assessment assessment) { /* no-op test stub */ }
+            @Override
+            public java.util.Optional<Assessment> findById(String id) { return java.util.Optional.empty(); }
+            @Override
+            public void update(Assessment assessment) { /* no-op test stub */ }
+            @Override
+            public void deleteById(String id) { /* no-op test stub */ }
+        };
+        CapturingPresenter presenter = new CapturingPresenter();
+
+        new LoadDashboardInteractor(courseRepo, assessmentRepo, presenter).execute("U1");
+
+        assertNull(presenter.errorMessage);
+        assertEquals(1, batchCalls.size());
+        assertEquals(Arrays.asList("C1", "C2", "C3"), new ArrayList<>(batchCalls.get(0)));
+        List<DashboardOutputData.CourseData> courses = presenter.outputData.getCourses();
+        assertEquals(3, courses.size());
+        assertEquals(Collections.singletonList("Midterm"), titles(courses.get(0)));
+        assertEquals(Arrays.asList("Phase 1", "Phase 2"), titles(courses.get(1)));
+        assertTrue(courses.get(2).getUpcomingAssessments().isEmpty());
+    }
+
+    private static List<String> titles(DashboardOutputData.CourseData courseData) {
+        return courseData.getUpcomingAssessments().stream()
+                .map(DashboardOutputData.AssessmentData::getTitle)
+                .collect(Collectors.toList());
+    }
+
     // Error path test (repository throws -> presentError invoked)
     @Test
     void execute_error_repositoryThrows() {
@@ -11,6 +11,7 @@ import use_case.dto.SyllabusParseResultData;
 import use_case.dto.SyllabusUploadInputData;
 import use_case.dto.SyllabusUploadOutputData;
 import use_case.port.outgoing.AiExtractionDataAccessInterface;
+import use_case.port.outgoing.MetricsRegistry;
 import use_case.port.outgoing.PdfExtractionDataAccessInterface;
 import use_case.port.outgoing.SyllabusUploadOutputBoundary;
 import use_case.repository.AssessmentRepository;
@@ -106,6 +107,42 @@ public class SyllabusUploadInteractorTest {
         assertEquals(3, savedAssessments.size());
     }
 
+    @Test
+    void testStageTimingsAreReportedAndRecorded() {
+        aiExtractor.setMockResult(new SyllabusParseResultData(
+            "CSC207",
+            "Software Design",
+            "Fall 2025",
+            "Prof. Shorser",
+            Arrays.asList(new AssessmentDraftData("Quiz 1", AssessmentType.QUIZ, "2025-01-15T23:59:00Z", 10.0))
+        ));
+        List<String> recorded = new ArrayList<>();
+        MetricsRegistry metrics = new MetricsRegistry() {
+            @Override
+            public void recordTime(String name, long nanos) { recorded.add(name); }
+
+            @Override
+            public void increment(String name, long delta) { recorded.add(name); }
+
+            @Override
+            public void recordValue(String name, long value) { recorded.add(name); }
+        };
+        interactor = new SyllabusUploadInteractor(
+                pdfExtractor,
+                aiExtractor,
+                (course, syllabus, assessments) -> { },
+                presenter,
+                metrics
+        );
+
+        interactor.execute(new SyllabusUploadInputData("user123", "/path/to/syllabus.pdf"));
+
+        assertTrue(presenter.isSuccess());
+        assertEquals(List.of("pdf", "ai", "persistence"),
+                new ArrayList<>(presenter.getOutputData().getStageMillis().keySet()));
+        assertEquals(List.of("upload.pdf", "upload.ai", "upload.persistence", "upload.succeeded"), recorded);
+    }
+
     @Test
     void testFailureWhenPdfExtractionThrowsException() {
         String userId = "user999";
@@ -126,6 +163,28 @@ public class SyllabusUploadInteractorTest {
         assertEquals(0, assessmentRepository.getSavedAssessments().size());
     }
 
+    @Test
+    void testFailureWhenImportUnitOfWorkThrowsException() {
+        aiExtractor.setMockResult(new SyllabusParseResultData(
+            "CSC207",
+            "Software Design",
+            "Fall 2025",
+            "Prof. Shorser",
+            Arrays.asList(new AssessmentDraftData("Quiz 1", AssessmentType.QUIZ, "2025-01-15T23:59:00Z", 10.0))
+        ));
+        interactor = new SyllabusUploadInteractor(
+                pdfExtractor,
+                aiExtractor,
+                (course, syllabus, assessments) -> { throw new java.sql.SQLException("disk I/O error"); },
+                presenter
+        );
+
+        interactor.execute(new SyllabusUploadInputData("user123", "/path/to/syllabus.pdf"));
+
+        assertFalse(presenter.isSuccess());
+        assertTrue(presenter.getErrorMessage().contains("disk I/O error"));
+    }
+
     // ---- Mocks (trimmed to what is needed by the minimal tests) ----
 
     private static class MockPdfExtractor implements PdfExtractionDataAccessInterface {
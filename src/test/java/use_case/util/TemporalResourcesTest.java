@@ -0,0 +1,29 @@
+package use_case.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TemporalResourcesTest {
+
+    @Test
+    void zonesAndFormattersAreBuiltOncePerKey() {
+        ZoneId toronto = TemporalResources.zone("America/Toronto");
+
+        assertSame(toronto, TemporalResources.zone("America/Toronto"));
+        DateTimeFormatter formatter = TemporalResources.formatter("yyyy-MM-dd HH:mm", toronto);
+        assertSame(formatter, TemporalResources.formatter("yyyy-MM-dd HH:mm", toronto));
+        assertNotSame(formatter, TemporalResources.formatter("yyyy-MM-dd HH:mm", TemporalResources.zone("UTC")));
+        assertEquals("2026-03-10 11:00", formatter.format(Instant.parse("2026-03-10T15:00:00Z")));
+    }
+
+    @Test
+    void unknownZonesStillFail() {
+        assertThrows(DateTimeException.class, () -> TemporalResources.zone("Mars/Olympus_Mons"));
+    }
+}